@@ -14,6 +14,8 @@
  */
 package com.amazonaws;
 
+import com.amazonaws.internal.StackTraceDeferral;
+
 /**
  * Extension of AmazonClientException that represents an error response returned
  * by an Amazon web service. Receiving an exception of this type indicates that
@@ -217,6 +219,18 @@ public class AmazonServiceException extends AmazonClientException {
         return statusCode;
     }
 
+    /**
+     * Skips capturing the stack trace while the HTTP client is unmarshalling
+     * an error response; the client fills it in if it throws this exception.
+     *
+     * @see com.amazonaws.internal.StackTraceDeferral
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (StackTraceDeferral.isDeferred()) return this;
+        return super.fillInStackTrace();
+    }
+
     /**
      * Returns a string summary of the details of this exception including the
      * HTTP status code, AWS request ID, AWS error code and error message.
@@ -99,6 +99,12 @@ public class ClientConfiguration {
      */
     private int socketReceiveBufferSizeHint = 0;
 
+    /**
+     * Whether the response metadata of executed requests is kept for
+     * retrieval through the clients' getCachedResponseMetadata methods.
+     */
+    private boolean cacheResponseMetadata = true;
+
 
     public ClientConfiguration() {}
 
@@ -118,6 +124,7 @@ public class ClientConfiguration {
 
         this.socketReceiveBufferSizeHint = other.socketReceiveBufferSizeHint;
         this.socketSendBufferSizeHint    = other.socketSendBufferSizeHint;
+        this.cacheResponseMetadata       = other.cacheResponseMetadata;
     }
 
     /**
@@ -713,4 +720,44 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns whether the response metadata of recently executed requests is
+     * cached for diagnostic purposes. The cached metadata is available
+     * through the clients' getCachedResponseMetadata methods.
+     *
+     * @return True if response metadata is cached.
+     */
+    public boolean isCacheResponseMetadata() {
+        return cacheResponseMetadata;
+    }
+
+    /**
+     * Sets whether the response metadata of recently executed requests is
+     * cached for diagnostic purposes. Applications that never call the
+     * clients' getCachedResponseMetadata methods can disable the cache to
+     * avoid its per-request bookkeeping. Enabled by default.
+     *
+     * @param cacheResponseMetadata
+     *            Whether response metadata is cached.
+     */
+    public void setCacheResponseMetadata(boolean cacheResponseMetadata) {
+        this.cacheResponseMetadata = cacheResponseMetadata;
+    }
+
+    /**
+     * Sets whether the response metadata of recently executed requests is
+     * cached for diagnostic purposes, and returns the updated
+     * ClientConfiguration object so that additional method calls may be
+     * chained together.
+     *
+     * @param cacheResponseMetadata
+     *            Whether response metadata is cached.
+     *
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withCacheResponseMetadata(boolean cacheResponseMetadata) {
+        setCacheResponseMetadata(cacheResponseMetadata);
+        return this;
+    }
+
 }
@@ -21,7 +21,9 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.SimpleTimeZone;
 
 import org.apache.commons.logging.Log;
@@ -58,6 +60,45 @@ public class AWS4Signer extends AbstractAWSSigner {
 
     private static final Log log = LogFactory.getLog(AWS4Signer.class);
 
+    /** Maximum number of derived signing keys kept in the signing key cache */
+    private static final int MAX_SIGNING_KEY_CACHE_SIZE = 300;
+
+    /**
+     * Cache of derived signing keys, keyed by access key, date stamp, region
+     * and service. A signing key only changes once a day for a given scope, so
+     * the four chained HMAC derivations are skipped for all but the first
+     * request signed in each scope. Access is synchronized on the cache
+     * itself; the least recently used key is evicted once the cache is full.
+     */
+    private static final Map<String, SigningKey> signingKeyCache =
+        new LinkedHashMap<String, SigningKey>(MAX_SIGNING_KEY_CACHE_SIZE, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SigningKey> eldest) {
+                return size() > MAX_SIGNING_KEY_CACHE_SIZE;
+            }
+        };
+
+    /** SimpleDateFormat isn't thread-safe, so each thread keeps its own */
+    private static final ThreadLocal<SimpleDateFormat> dateStampFormat = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd");
+            format.setTimeZone(new SimpleTimeZone(0, "UTC"));
+            return format;
+        }
+    };
+
+    private static final ThreadLocal<SimpleDateFormat> dateTimeFormat = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd'T'HHmmss'Z'");
+            format.setTimeZone(new SimpleTimeZone(0, "UTC"));
+            return format;
+        }
+    };
+
 
     /* (non-Javadoc)
      * @see com.amazonaws.auth.Signer#sign(com.amazonaws.Request, com.amazonaws.auth.AWSCredentials)
@@ -73,12 +114,6 @@ public class AWS4Signer extends AbstractAWSSigner {
             addSessionCredentials(request, (AWSSessionCredentials) sanitizedCredentials);
         }
 
-        SimpleDateFormat dateStampFormat = new SimpleDateFormat("yyyyMMdd");
-        dateStampFormat.setTimeZone(new SimpleTimeZone(0, "UTC"));
-
-        SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyyMMdd'T'HHmmss'Z'");
-        dateTimeFormat.setTimeZone(new SimpleTimeZone(0, "UTC"));
-
         String regionName  = extractRegionName(request.getEndpoint());
         String serviceName = extractServiceName(request.getEndpoint());
 
@@ -93,8 +128,8 @@ public class AWS4Signer extends AbstractAWSSigner {
         Date date = getSignatureDate(request.getTimeOffset());
         if (overriddenDate != null) date = overriddenDate;
 
-        String dateTime  = dateTimeFormat.format(date);
-        String dateStamp = dateStampFormat.format(date);
+        String dateTime  = dateTimeFormat.get().format(date);
+        String dateStamp = dateStampFormat.get().format(date);
 
         InputStream payloadStream = getBinaryRequestPayloadStream(request);
         payloadStream.mark(-1);
@@ -127,12 +162,7 @@ public class AWS4Signer extends AbstractAWSSigner {
                         BinaryUtils.toHex(hash(canonicalRequest));
         log.debug("AWS4 String to Sign: '\"" + stringToSign + "\"");
 
-        // AWS4 uses a series of derived keys, formed by hashing different pieces of data
-        byte[] kSecret  = ("AWS4" + sanitizedCredentials.getAWSSecretKey()).getBytes();
-        byte[] kDate    = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
-        byte[] kRegion  = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
-        byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
-        byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+        byte[] kSigning = getSigningKey(sanitizedCredentials, dateStamp, regionName, serviceName);
 
         byte[] signature = sign(stringToSign.getBytes(), kSigning, SigningAlgorithm.HmacSHA256);
 
@@ -151,6 +181,52 @@ public class AWS4Signer extends AbstractAWSSigner {
         request.addHeader("Authorization", authorizationHeader);
     }
 
+    /**
+     * Returns the signing key for the specified credentials and scope, from
+     * the signing key cache if it has already been derived.
+     */
+    private byte[] getSigningKey(AWSCredentials credentials, String dateStamp, String regionName, String serviceName) {
+        String secretKey = credentials.getAWSSecretKey();
+        String cacheKey = credentials.getAWSAccessKeyId() + "/" + dateStamp + "/" + regionName + "/" + serviceName;
+
+        SigningKey signingKey;
+        synchronized (signingKeyCache) {
+            signingKey = signingKeyCache.get(cacheKey);
+        }
+
+        // The secret key is compared too, so rotated secrets are never signed with a stale key
+        if (signingKey != null && signingKey.secretKey.equals(secretKey)) {
+            return signingKey.key;
+        }
+
+        // AWS4 uses a series of derived keys, formed by hashing different pieces of data
+        byte[] kSecret  = ("AWS4" + secretKey).getBytes();
+        byte[] kDate    = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
+        byte[] kRegion  = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
+        byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
+        byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+
+        if (secretKey != null) {
+            synchronized (signingKeyCache) {
+                signingKeyCache.put(cacheKey, new SigningKey(secretKey, kSigning));
+            }
+        }
+        return kSigning;
+    }
+
+    /**
+     * A derived signing key along with the secret key it was derived from.
+     */
+    private static final class SigningKey {
+        private final String secretKey;
+        private final byte[] key;
+
+        SigningKey(String secretKey, byte[] key) {
+            this.secretKey = secretKey;
+            this.key = key;
+        }
+    }
+
     /**
      * Sets the service name that this signer should use when calculating
      * request signatures. This can almost always be determined directly from
@@ -51,6 +51,8 @@ import com.amazonaws.ResponseMetadata;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.internal.CustomBackoffStrategy;
+import com.amazonaws.internal.StackTraceDeferral;
+import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.CountingInputStream;
@@ -81,8 +83,11 @@ public class AmazonHttpClient {
     /** Client configuration options, such as proxy settings, max retries, etc. */
     private final ClientConfiguration config;
 
-    /** Cache of metadata for recently executed requests for diagnostic purposes */
-    private final ResponseMetadataCache responseMetadataCache = new ResponseMetadataCache(50);
+    /**
+     * Cache of metadata for recently executed requests for diagnostic purposes;
+     * null if disabled in the client configuration
+     */
+    private final ResponseMetadataCache responseMetadataCache;
 
     private static final Random random = new Random();
 
@@ -116,6 +121,7 @@ public class AmazonHttpClient {
     public AmazonHttpClient(ClientConfiguration clientConfiguration) {
         this.config = clientConfiguration;
         this.httpClient = httpClientFactory.createHttpClient(config);
+        this.responseMetadataCache = config.isCacheResponseMetadata() ? new ResponseMetadataCache(50) : null;
     }
 
     /**
@@ -133,7 +139,7 @@ public class AmazonHttpClient {
      *         if there is no response metadata available for the request.
      */
     public ResponseMetadata getResponseMetadataForRequest(AmazonWebServiceRequest request) {
-        return responseMetadataCache.get(request);
+        return responseMetadataCache == null ? null : responseMetadataCache.get(request);
     }
 
     /**
@@ -196,15 +202,38 @@ public class AmazonHttpClient {
                     handler.afterResponse(request, t, timingInfo);
                 } catch (ClassCastException cce) {}
             }
+            collectMetrics(request, executionContext);
             return t;
+        } catch (DeferredRetryException dre) {
+            // Not a failure; the request will be resumed by its RetryScheduler
+            throw dre;
         } catch (AmazonClientException e) {
             for (RequestHandler handler : requestHandlers) {
                 handler.afterError(request, e);
             }
+            collectMetrics(request, executionContext);
             throw e;
         }
     }
 
+    /**
+     * Hands the metrics of a completed request to the registered
+     * RequestMetricCollector, if any. Collector failures never fail the
+     * request.
+     */
+    private void collectMetrics(Request<?> request, ExecutionContext executionContext) {
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        RequestMetricCollector collector = awsRequestMetrics.getRequestMetricCollector();
+        if (collector == null) {
+            return;
+        }
+        try {
+            collector.collectMetrics(request, awsRequestMetrics);
+        } catch (RuntimeException e) {
+            log.warn("Unable to collect request metrics", e);
+        }
+    }
+
     /**
      * Internal method to execute the HTTP method given.
      *
@@ -235,10 +264,18 @@ public class AmazonHttpClient {
         // Apply whatever request options we know how to handle, such as user-agent.
         applyRequestData(request);
 
-        int retryCount = 0;
+        /*
+         * If this request is running under a RetryScheduler, pick up from the
+         * attempt where it left off, and hand any further back-offs back to
+         * the scheduler instead of sleeping in this thread.
+         */
+        RetryScheduler.RetryState retryState = RetryScheduler.claimRetryState();
+        boolean deferRetries = retryState != null;
+
+        int retryCount = deferRetries ? retryState.getRetryCount() : 0;
         URI redirectedURI = null;
         HttpEntity entity = null;
-        AmazonServiceException exception = null;
+        AmazonServiceException exception = deferRetries ? retryState.getPreviousException() : null;
 
         // Make a copy of the original request params and headers so that we can
         // permute it in this loop and start over with the original every time.
@@ -248,7 +285,7 @@ public class AmazonHttpClient {
         originalHeaders.putAll(request.getHeaders());
 
         while (true) {
-            awsRequestMetrics.setCounter(Field.AttemptCount.name(), retryCount+1);
+            awsRequestMetrics.setCounter(Field.AttemptCount, retryCount+1);
             if ( retryCount > 0 ) {
                 request.setParameters(originalParameters);
                 request.setHeaders(originalHeaders);
@@ -261,9 +298,9 @@ public class AmazonHttpClient {
             try {
                 // Sign the request if a signer was provided
                 if (executionContext.getSigner() != null && executionContext.getCredentials() != null) {
-                    awsRequestMetrics.startEvent(Field.RequestSigningTime.name());
+                    awsRequestMetrics.startEvent(Field.RequestSigningTime);
                     executionContext.getSigner().sign(request, executionContext.getCredentials());
-                    awsRequestMetrics.endEvent(Field.RequestSigningTime.name());
+                    awsRequestMetrics.endEvent(Field.RequestSigningTime);
                 }
 
                  if (requestLog.isDebugEnabled()) {
@@ -280,10 +317,10 @@ public class AmazonHttpClient {
                     httpRequest.setURI(redirectedURI);
                 }
 
-                if ( retryCount > 0 ) {
-                    awsRequestMetrics.startEvent(Field.RetryPauseTime.name());
+                if ( retryCount > 0 && !deferRetries ) {
+                    awsRequestMetrics.startEvent(Field.RetryPauseTime);
                     pauseExponentially(retryCount, exception, executionContext.getCustomBackoffStrategy());
-                    awsRequestMetrics.endEvent(Field.RetryPauseTime.name());
+                    awsRequestMetrics.endEvent(Field.RetryPauseTime);
                 }
 
                 if ( entity != null ) {
@@ -302,9 +339,9 @@ public class AmazonHttpClient {
 
                 exception = null;
 
-                awsRequestMetrics.startEvent(Field.HttpRequestTime.name());
+                awsRequestMetrics.startEvent(Field.HttpRequestTime);
                 response = httpClient.execute(httpRequest);
-                awsRequestMetrics.endEvent(Field.HttpRequestTime.name());
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
 
 
                 if (isRequestSuccessful(response)) {
@@ -341,9 +378,13 @@ public class AmazonHttpClient {
                     awsRequestMetrics.addProperty(Field.StatusCode.name(), exception.getStatusCode());
 
                     if (!shouldRetry(httpRequest, exception, retryCount)) {
+                        exception.fillInStackTrace();
                         throw exception;
                     }
                     resetRequestAfterError(request, exception);
+                    if (deferRetries) {
+                        throw deferRetry(retryCount + 1, exception, executionContext.getCustomBackoffStrategy());
+                    }
                 }
             } catch (IOException ioe) {
                 log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
@@ -354,6 +395,9 @@ public class AmazonHttpClient {
                     throw new AmazonClientException("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
                 }
                 resetRequestAfterError(request, ioe);
+                if (deferRetries) {
+                    throw deferRetry(retryCount + 1, exception, executionContext.getCustomBackoffStrategy());
+                }
             } finally {
                 retryCount++;
 
@@ -554,9 +598,9 @@ public class AmazonHttpClient {
             }
 
             AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
-            awsRequestMetrics.startEvent(Field.ResponseProcessingTime.name());
+            awsRequestMetrics.startEvent(Field.ResponseProcessingTime);
             AmazonWebServiceResponse<? extends T> awsResponse = responseHandler.handle(httpResponse);
-            awsRequestMetrics.endEvent(Field.ResponseProcessingTime.name());
+            awsRequestMetrics.endEvent(Field.ResponseProcessingTime);
             if (countingInputStream != null) {
                 awsRequestMetrics.setCounter(Field.BytesProcessed.name(), countingInputStream.getByteCount());
             }
@@ -565,7 +609,9 @@ public class AmazonHttpClient {
             if (awsResponse == null)
                 throw new RuntimeException("Unable to unmarshall response metadata");
 
-            responseMetadataCache.add(request.getOriginalRequest(), awsResponse.getResponseMetadata());
+            if (responseMetadataCache != null) {
+                responseMetadataCache.add(request.getOriginalRequest(), awsResponse.getResponseMetadata());
+            }
 
             if (requestLog.isDebugEnabled()) {
                 requestLog.debug("Received successful response: " + apacheHttpResponse.getStatusLine().getStatusCode()
@@ -611,6 +657,7 @@ public class AmazonHttpClient {
         }
 
         AmazonServiceException exception = null;
+        StackTraceDeferral.begin();
         try {
             exception = errorResponseHandler.handle(response);
             requestLog.debug("Received error response: " + exception.toString());
@@ -633,11 +680,12 @@ public class AmazonHttpClient {
                 String errorMessage = "Unable to unmarshall error response (" + e.getMessage() + ")";
                 throw new AmazonClientException(errorMessage, e);
             }
+        } finally {
+            StackTraceDeferral.end();
         }
 
         exception.setStatusCode(status);
         exception.setServiceName(request.getServiceName());
-        exception.fillInStackTrace();
         return exception;
     }
 
@@ -683,18 +731,7 @@ public class AmazonHttpClient {
      *            Exception information for the previous attempt, if any.
      */
     private void pauseExponentially(int retries, AmazonServiceException previousException, CustomBackoffStrategy backoffStrategy) {
-        long delay = 0;
-        if (backoffStrategy != null) {
-            delay = backoffStrategy.getBackoffPeriod(retries);
-        } else {
-            long scaleFactor = 300;
-            if ( isThrottlingException(previousException) ) {
-                scaleFactor = 500 + random.nextInt(100);
-            }
-            delay = (long) (Math.pow(2, retries) * scaleFactor);
-        }
-
-        delay = Math.min(delay, MAX_BACKOFF_IN_MILLISECONDS);
+        long delay = computeBackoffDelay(retries, previousException, backoffStrategy);
         if (log.isDebugEnabled()) {
             log.debug("Retriable error detected, " +
                     "will retry in " + delay + "ms, attempt number: " + retries);
@@ -708,6 +745,49 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Creates the exception that hands a retry back to the RetryScheduler the
+     * current request is running under, so that the back-off is waited out
+     * without holding this thread.
+     *
+     * @param retries
+     *            The retry count the next attempt will start from.
+     * @param previousException
+     *            Exception information for the previous attempt, if any.
+     */
+    private DeferredRetryException deferRetry(int retries, AmazonServiceException previousException, CustomBackoffStrategy backoffStrategy) {
+        long delay = computeBackoffDelay(retries, previousException, backoffStrategy);
+        if (log.isDebugEnabled()) {
+            log.debug("Retriable error detected, " +
+                    "will schedule retry in " + delay + "ms, attempt number: " + retries);
+        }
+        return new DeferredRetryException(delay, retries, previousException);
+    }
+
+    /**
+     * Returns the exponential back-off delay, in milliseconds, before the
+     * specified retry attempt.
+     *
+     * @param retries
+     *            Current retry count.
+     * @param previousException
+     *            Exception information for the previous attempt, if any.
+     */
+    private long computeBackoffDelay(int retries, AmazonServiceException previousException, CustomBackoffStrategy backoffStrategy) {
+        long delay = 0;
+        if (backoffStrategy != null) {
+            delay = backoffStrategy.getBackoffPeriod(retries);
+        } else {
+            long scaleFactor = 300;
+            if ( isThrottlingException(previousException) ) {
+                scaleFactor = 500 + random.nextInt(100);
+            }
+            delay = (long) (Math.pow(2, retries) * scaleFactor);
+        }
+
+        return Math.min(delay, MAX_BACKOFF_IN_MILLISECONDS);
+    }
+
     /**
      * Returns true if the specified exception is a throttling error.
      *
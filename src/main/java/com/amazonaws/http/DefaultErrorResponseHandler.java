@@ -14,7 +14,15 @@
  */
 package com.amazonaws.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLStreamException;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
@@ -22,7 +30,10 @@ import org.xml.sax.SAXParseException;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.transform.LegacyErrorUnmarshaller;
+import com.amazonaws.transform.StandardErrorUnmarshaller;
 import com.amazonaws.transform.Unmarshaller;
+import com.amazonaws.transform.XmlErrorResponse;
 import com.amazonaws.util.XpathUtils;
 
 /**
@@ -33,6 +44,12 @@ import com.amazonaws.util.XpathUtils;
  * unmarshaller is found that can unmarshall the error response, a generic
  * AmazonServiceException is created and populated with the AWS error response
  * information (error message, AWS error code, AWS request ID, etc).
+ * <p>
+ * Error responses are first read in a single streaming pass. The unmarshaller
+ * that accepts an error code is remembered the first time that error code is
+ * seen, so later responses with the same error code go straight to it, and
+ * standard and legacy error unmarshallers create their exception from the
+ * streamed fields without building a DOM tree.
  */
 public class DefaultErrorResponseHandler
         implements HttpResponseHandler<AmazonServiceException> {
@@ -43,6 +60,16 @@ public class DefaultErrorResponseHandler
      */
     private List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList;
 
+    /** Upper bound on the number of remembered error codes. */
+    private static final int MAX_REMEMBERED_ERROR_CODES = 1024;
+
+    /**
+     * The first unmarshaller in the list to accept an error response, by the
+     * root element and error code of that error response.
+     */
+    private final Map<String, Unmarshaller<AmazonServiceException, Node>> unmarshallerByErrorCode =
+        new ConcurrentHashMap<String, Unmarshaller<AmazonServiceException, Node>>();
+
     /**
      * Constructs a new DefaultErrorResponseHandler that will handle error
      * responses from Amazon services using the specified list of unmarshallers.
@@ -63,9 +90,45 @@ public class DefaultErrorResponseHandler
      */
     public AmazonServiceException handle(HttpResponse errorResponse)
             throws Exception {
+        if (errorResponse.getContent() == null) {
+            return unmarshallDocument(errorResponse, errorResponse.getContent(), null);
+        }
+
+        byte[] content = readContent(errorResponse.getContent());
+        XmlErrorResponse fields;
+        try {
+            fields = XmlErrorResponse.parse(content);
+        } catch (XMLStreamException e) {
+            // Not well formed; the DOM parser reports the problem
+            return unmarshallDocument(errorResponse, new ByteArrayInputStream(content), null);
+        }
+
+        String errorCodeKey = fields.getRootElementName() + "#" + errorCode(fields);
+        Unmarshaller<AmazonServiceException, Node> unmarshaller = unmarshallerByErrorCode.get(errorCodeKey);
+        if (unmarshaller != null) {
+            AmazonServiceException ase = unmarshallFields(unmarshaller, fields);
+            if (ase == null) {
+                ase = unmarshaller.unmarshall(XpathUtils.documentFrom(new ByteArrayInputStream(content)));
+            }
+            if (ase != null) {
+                ase.setStatusCode(errorResponse.getStatusCode());
+                return ase;
+            }
+        }
+
+        return unmarshallDocument(errorResponse, new ByteArrayInputStream(content), errorCodeKey);
+    }
+
+    /**
+     * Unmarshalls the error response from its DOM tree with the first
+     * unmarshaller in the list that accepts it, and remembers that
+     * unmarshaller under the specified key, if any.
+     */
+    private AmazonServiceException unmarshallDocument(HttpResponse errorResponse,
+            InputStream content, String errorCodeKey) throws Exception {
         Document document;
         try {
-            document = XpathUtils.documentFrom(errorResponse.getContent());
+            document = XpathUtils.documentFrom(content);
         } catch (SAXParseException e) {
             AmazonServiceException exception =
                 new AmazonServiceException(String.format("Unable to unmarshall error response (%s)", e.getMessage()), e);
@@ -86,6 +149,9 @@ public class DefaultErrorResponseHandler
         for (Unmarshaller<AmazonServiceException, Node> unmarshaller : unmarshallerList) {
             AmazonServiceException ase = unmarshaller.unmarshall(document);
             if (ase != null) {
+                if (errorCodeKey != null && unmarshallerByErrorCode.size() < MAX_REMEMBERED_ERROR_CODES) {
+                    unmarshallerByErrorCode.put(errorCodeKey, unmarshaller);
+                }
                 ase.setStatusCode(errorResponse.getStatusCode());
                 return ase;
             }
@@ -94,6 +160,44 @@ public class DefaultErrorResponseHandler
         throw new AmazonClientException("Unable to unmarshall error response from service");
     }
 
+    /**
+     * Unmarshalls the streamed error response fields with the specified
+     * unmarshaller, or returns null if it needs the DOM tree.
+     */
+    private static AmazonServiceException unmarshallFields(
+            Unmarshaller<AmazonServiceException, Node> unmarshaller, XmlErrorResponse fields) throws Exception {
+        if (unmarshaller instanceof StandardErrorUnmarshaller) {
+            return ((StandardErrorUnmarshaller)unmarshaller).unmarshall(fields);
+        } else if (unmarshaller instanceof LegacyErrorUnmarshaller) {
+            return ((LegacyErrorUnmarshaller)unmarshaller).unmarshall(fields);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the error code of a standard or legacy error response, which is
+     * what the unmarshallers in the list choose between error responses by.
+     */
+    private static String errorCode(XmlErrorResponse fields) {
+        String errorCode = fields.get("ErrorResponse/Error/Code");
+        if (errorCode == null) errorCode = fields.get("Response/Errors/Error/Code");
+        return errorCode;
+    }
+
+    private static byte[] readContent(InputStream content) throws IOException {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return bytes.toByteArray();
+        } finally {
+            content.close();
+        }
+    }
+
     /**
      * Since this response handler completely consumes all the data from the
      * underlying HTTP connection during the handle method, we don't need to
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+
+/**
+ * Thrown by {@link AmazonHttpClient} instead of sleeping through a retry
+ * back-off when the current request is being executed under a
+ * {@link RetryScheduler}. The scheduler catches this exception, waits out the
+ * back-off delay without holding a thread, and then re-runs the request
+ * starting from the recorded retry count.
+ * <p>
+ * Callers outside of a {@link RetryScheduler} never see this exception. Code
+ * that runs inside a scheduled task and catches generic exceptions (ex: to
+ * notify an {@link com.amazonaws.handlers.AsyncHandler}) must let it
+ * propagate untouched.
+ */
+public class DeferredRetryException extends AmazonClientException {
+    private static final long serialVersionUID = 1L;
+
+    /** The back-off delay, in milliseconds, before the next attempt */
+    private final long delay;
+
+    /** The retry count the next attempt should start from */
+    private final int retryCount;
+
+    /** The service error that triggered the retry, if any */
+    private final AmazonServiceException previousException;
+
+    DeferredRetryException(long delay, int retryCount, AmazonServiceException previousException) {
+        super("Retry deferred for " + delay + "ms, attempt number: " + retryCount);
+        this.delay = delay;
+        this.retryCount = retryCount;
+        this.previousException = previousException;
+    }
+
+    /**
+     * Returns the back-off delay, in milliseconds, to wait before the next
+     * attempt is started.
+     *
+     * @return The back-off delay, in milliseconds.
+     */
+    public long getDelay() {
+        return delay;
+    }
+
+    /**
+     * Returns the retry count the next attempt should start from.
+     *
+     * @return The retry count the next attempt should start from.
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    /**
+     * Returns the service error that caused the request to be retried, or
+     * null if the failure was not a service error (ex: an I/O error).
+     *
+     * @return The service error that caused the request to be retried.
+     */
+    public AmazonServiceException getPreviousException() {
+        return previousException;
+    }
+
+    /**
+     * Stack traces are never looked at for deferred retries, so skip the cost
+     * of capturing one.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -14,11 +14,16 @@
  */
 package com.amazonaws.http;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
@@ -26,6 +31,16 @@ import com.amazonaws.AmazonServiceException.ErrorType;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.util.json.JSONObject;
 
+/**
+ * Implementation of HttpResponseHandler that handles only JSON error responses
+ * from Amazon Web Services.
+ * <p>
+ * Error responses that are flat JSON objects of strings, which is what
+ * services return, are read with a streaming parser. The unmarshaller that
+ * accepts an error code is remembered the first time that error code is seen,
+ * so later responses with the same error code go straight to it instead of
+ * trying each unmarshaller in turn.
+ */
 public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServiceException> {
 
     /**
@@ -34,19 +49,35 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
      */
     private List<Unmarshaller<AmazonServiceException, JSONObject>> unmarshallerList;
 
+    /** Upper bound on the number of remembered error codes. */
+    private static final int MAX_REMEMBERED_ERROR_CODES = 1024;
+
+    /**
+     * The first unmarshaller in the list to accept an error response, by the
+     * error code fields of that error response.
+     */
+    private final Map<String, Unmarshaller<AmazonServiceException, JSONObject>> unmarshallerByErrorCode =
+        new ConcurrentHashMap<String, Unmarshaller<AmazonServiceException, JSONObject>>();
+
+    /** Shared factory for creating JSON parsers */
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
     public JsonErrorResponseHandler(List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers) {
         this.unmarshallerList = exceptionUnmarshallers;
     }
 
     public AmazonServiceException handle(HttpResponse response) throws Exception {
-        String streamContents = readStreamContents(response.getContent());
-        JSONObject jsonErrorMessage;
-        try {
-            String s = streamContents;
-            if (s.length() == 0 || s.trim().length() == 0) s = "{}";
-            jsonErrorMessage = new JSONObject(s);
-        } catch (Exception e) {
-            throw new AmazonClientException("Unable to parse error response: '" + streamContents + "'", e);
+        byte[] content = readStreamContents(response.getContent());
+        JSONObject jsonErrorMessage = parseFlatObject(content);
+        if (jsonErrorMessage == null) {
+            String streamContents = new String(content, "UTF-8");
+            try {
+                String s = streamContents;
+                if (s.length() == 0 || s.trim().length() == 0) s = "{}";
+                jsonErrorMessage = new JSONObject(s);
+            } catch (Exception e) {
+                throw new AmazonClientException("Unable to parse error response: '" + streamContents + "'", e);
+            }
         }
 
         AmazonServiceException ase = runErrorUnmarshallers(response, jsonErrorMessage);
@@ -75,11 +106,26 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
          * use from all the possible exceptions this operation can throw.
          * Currently we rely on the unmarshallers to return null if they can't
          * unmarshall the response, but we might need something a little more
-         * sophisticated in the future.
+         * sophisticated in the future. The unmarshallers choose by the error
+         * code fields alone, so the one found for an error code is
+         * remembered.
          */
+        String errorCodeKey = json.opt("__type") + "#" + json.opt("code");
+        Unmarshaller<AmazonServiceException, JSONObject> remembered = unmarshallerByErrorCode.get(errorCodeKey);
+        if (remembered != null) {
+            AmazonServiceException ase = remembered.unmarshall(json);
+            if (ase != null) {
+                ase.setStatusCode(errorResponse.getStatusCode());
+                return ase;
+            }
+        }
+
         for (Unmarshaller<AmazonServiceException, JSONObject> unmarshaller : unmarshallerList) {
             AmazonServiceException ase = unmarshaller.unmarshall(json);
             if (ase != null) {
+                if (unmarshallerByErrorCode.size() < MAX_REMEMBERED_ERROR_CODES) {
+                    unmarshallerByErrorCode.put(errorCodeKey, unmarshaller);
+                }
                 ase.setStatusCode(errorResponse.getStatusCode());
                 return ase;
             }
@@ -88,21 +134,50 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
         return null;
     }
 
+    /**
+     * Reads an error response that is a flat JSON object of string values, or
+     * is empty, in one streaming pass. Returns null for anything else (ex:
+     * nested values, numbers, malformed content), which is left to the
+     * complete JSON parser.
+     */
+    private static JSONObject parseFlatObject(byte[] content) {
+        JSONObject json = new JSONObject();
+        try {
+            JsonParser parser = jsonFactory.createJsonParser(content);
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null) return json;
+                if (token != JsonToken.START_OBJECT) return null;
+
+                while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    if (parser.nextToken() != JsonToken.VALUE_STRING || json.has(name)) return null;
+                    json.put(name, parser.getText());
+                }
+                if (token != JsonToken.END_OBJECT || parser.nextToken() != null) return null;
+            } finally {
+                parser.close();
+            }
+        } catch (Exception e) {
+            return null;
+        }
+        return json;
+    }
+
     public boolean needsConnectionLeftOpen() {
         return false;
     }
 
-    private String readStreamContents(final InputStream stream) {
+    private byte[] readStreamContents(final InputStream stream) {
         try {
-            BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
-            StringBuilder sb = new StringBuilder();
-            while (true) {
-                String line = reader.readLine();
-                if (line == null) break;
-                sb.append(line);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+            byte[] buffer = new byte[512];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
             }
 
-            return sb.toString();
+            return bytes.toByteArray();
         } catch (Exception e) {
             try {stream.close();} catch (Exception ex) {}
             throw new AmazonClientException("Unable to read error response: " + e.getMessage(), e);
@@ -24,6 +24,8 @@ import org.apache.http.entity.BasicHttpEntity;
 import org.apache.http.entity.InputStreamEntity;
 
 import com.amazonaws.Request;
+import com.amazonaws.util.ByteArrayContentInputStream;
+import com.amazonaws.util.WritableContent;
 
 /**
  * Custom implementation of {@link RequestEntity} that delegates to an
@@ -122,7 +124,9 @@ class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
     /**
      * Resets the underlying InputStream if this isn't the first attempt to
      * write out the request, otherwise simply delegates to
-     * InputStreamRequestEntity to write out the data.
+     * InputStreamRequestEntity to write out the data. Content already held in
+     * a byte array is written out from that array directly, and
+     * {@link WritableContent} of known length writes itself out.
      * <p>
      * If an error is encountered the first time we try to write the request
      * entity, we remember the original exception, and report that as the root
@@ -137,7 +141,13 @@ class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
             if (!firstAttempt && isRepeatable()) content.reset();
 
             firstAttempt = false;
-            inputStreamRequestEntity.writeTo(output);
+            if (content instanceof ByteArrayContentInputStream) {
+                ((ByteArrayContentInputStream)content).writeRemainingTo(output);
+            } else if (content instanceof WritableContent && getContentLength() >= 0) {
+                ((WritableContent)content).writeContentTo(output, getContentLength());
+            } else {
+                inputStreamRequestEntity.writeTo(output);
+            }
         } catch (IOException ioe) {
             if (originalException == null) originalException = ioe;
             throw originalException;
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+
+/**
+ * Runs asynchronous service calls so that retry back-offs don't hold a
+ * thread. Normally {@link AmazonHttpClient} sleeps in the calling thread
+ * between retries; for calls submitted through this class the back-off is
+ * handed to a shared {@link ScheduledExecutorService} instead, and the call is
+ * re-submitted to its executor once the delay has expired.
+ * <p>
+ * Only the first service request made by a submitted task is retried this
+ * way; any further requests made by the same task fall back to the normal
+ * blocking back-off. Because the task is re-run from the start for each
+ * deferred retry, it should do nothing but make a single service call, which
+ * is how all of the <code>*Async</code> client methods are implemented.
+ * <p>
+ * Instances of {@code RetryScheduler} are thread-safe and can be shared by
+ * any number of clients. Shutting down the underlying scheduled executor is
+ * the caller's responsibility.
+ */
+public class RetryScheduler {
+
+    /**
+     * Retry state handed from a scheduled task to the first
+     * {@link AmazonHttpClient} request it executes.
+     */
+    private static final ThreadLocal<RetryState> pendingRetryState = new ThreadLocal<RetryState>();
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new retry scheduler that waits out retry back-offs on the
+     * specified scheduled executor.
+     *
+     * @param scheduler
+     *            The scheduled executor used to time retry back-offs. It is
+     *            only used to re-submit tasks, so a single thread is enough
+     *            for any number of clients.
+     */
+    public RetryScheduler(ScheduledExecutorService scheduler) {
+        if (scheduler == null) throw new IllegalArgumentException("Scheduled executor must not be null");
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns the scheduled executor used to time retry back-offs.
+     *
+     * @return The scheduled executor used to time retry back-offs.
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Submits the specified task to the specified executor. If the service
+     * request made by the task has to be retried, the task is re-submitted to
+     * the same executor after the back-off delay, and the returned future
+     * completes when the final attempt does.
+     *
+     * @param executor
+     *            The executor that runs each attempt of the task.
+     * @param callable
+     *            The task making the service call.
+     *
+     * @return A future for the result of the service call.
+     */
+    public <T> Future<T> submit(ExecutorService executor, Callable<T> callable) {
+        RetryingFuture<T> future = new RetryingFuture<T>(executor, callable);
+        future.submitAttempt();
+        return future;
+    }
+
+    /**
+     * Claims the retry state for the request about to be executed on the
+     * current thread, if that thread is running a task submitted through a
+     * retry scheduler. The state is cleared as soon as it's claimed, so only
+     * the first request made by a task can defer its retries.
+     *
+     * @return The retry state to resume from, or null if retries should use
+     *         the normal blocking back-off.
+     */
+    static RetryState claimRetryState() {
+        RetryState retryState = pendingRetryState.get();
+        if (retryState != null) pendingRetryState.remove();
+        return retryState;
+    }
+
+    /**
+     * Where a deferred request should pick up again.
+     */
+    static final class RetryState {
+        private final int retryCount;
+        private final AmazonServiceException previousException;
+
+        RetryState(int retryCount, AmazonServiceException previousException) {
+            this.retryCount = retryCount;
+            this.previousException = previousException;
+        }
+
+        int getRetryCount() {
+            return retryCount;
+        }
+
+        AmazonServiceException getPreviousException() {
+            return previousException;
+        }
+    }
+
+    /**
+     * Future for a task whose attempts are run on an executor and whose
+     * back-offs are timed on the shared scheduler.
+     */
+    private final class RetryingFuture<T> implements Future<T>, Runnable {
+        private final ExecutorService executor;
+        private final Callable<T> callable;
+
+        private final CountDownLatch doneLatch = new CountDownLatch(1);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        private volatile RetryState retryState = new RetryState(0, null);
+        private volatile Future<?> currentAttempt;
+        private volatile boolean cancelled;
+        private volatile T result;
+        private volatile Throwable failure;
+
+        RetryingFuture(ExecutorService executor, Callable<T> callable) {
+            this.executor = executor;
+            this.callable = callable;
+        }
+
+        void submitAttempt() {
+            try {
+                currentAttempt = executor.submit(this);
+            } catch (RejectedExecutionException ree) {
+                complete(null, ree);
+            }
+        }
+
+        public void run() {
+            if (isDone()) return;
+
+            pendingRetryState.set(retryState);
+            try {
+                complete(callable.call(), null);
+            } catch (DeferredRetryException dre) {
+                retryState = new RetryState(dre.getRetryCount(), dre.getPreviousException());
+                scheduleRetry(dre.getDelay());
+            } catch (Throwable t) {
+                complete(null, t);
+            } finally {
+                pendingRetryState.remove();
+            }
+        }
+
+        private void scheduleRetry(long delay) {
+            if (isDone()) return;
+            try {
+                currentAttempt = scheduler.schedule(new Runnable() {
+                    public void run() {
+                        submitAttempt();
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ree) {
+                complete(null, new AmazonClientException("Unable to schedule request retry", ree));
+            }
+        }
+
+        private boolean complete(T result, Throwable failure) {
+            if (!completed.compareAndSet(false, true)) return false;
+            this.result = result;
+            this.failure = failure;
+            doneLatch.countDown();
+            return true;
+        }
+
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!completed.compareAndSet(false, true)) return false;
+            cancelled = true;
+            doneLatch.countDown();
+
+            Future<?> attempt = currentAttempt;
+            if (attempt != null) attempt.cancel(mayInterruptIfRunning);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public boolean isDone() {
+            return completed.get();
+        }
+
+        public T get() throws InterruptedException, ExecutionException {
+            doneLatch.await();
+            return getResult();
+        }
+
+        public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if (!doneLatch.await(timeout, unit)) throw new TimeoutException();
+            return getResult();
+        }
+
+        private T getResult() throws ExecutionException {
+            if (cancelled) throw new CancellationException();
+            if (failure != null) throw new ExecutionException(failure);
+            return result;
+        }
+    }
+}
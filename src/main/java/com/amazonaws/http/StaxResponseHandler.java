@@ -16,6 +16,9 @@ package com.amazonaws.http;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import javax.xml.stream.XMLEventReader;
@@ -27,6 +30,7 @@ import org.apache.commons.logging.LogFactory;
 import com.amazonaws.AmazonWebServiceResponse;
 import com.amazonaws.ResponseMetadata;
 import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.StaxUnmarshallerContext.MetadataExpression;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.transform.VoidStaxUnmarshaller;
 
@@ -49,6 +53,16 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
     /** Shared factory for creating XML event readers */
     private static XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
 
+    /**
+     * Metadata expressions registered with every unmarshaller context. They
+     * are compiled once and shared, since clients create a new response
+     * handler for each request.
+     */
+    private static final List<MetadataExpression> DEFAULT_METADATA_EXPRESSIONS =
+            Collections.unmodifiableList(Arrays.asList(
+                    new MetadataExpression("ResponseMetadata/RequestId", 2, ResponseMetadata.AWS_REQUEST_ID),
+                    new MetadataExpression("requestId", 2, ResponseMetadata.AWS_REQUEST_ID)));
+
 
     /**
      * Constructs a new response handler that will use the specified StAX
@@ -86,8 +100,7 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
         try {
             AmazonWebServiceResponse<T> awsResponse = new AmazonWebServiceResponse<T>();
             StaxUnmarshallerContext unmarshallerContext = new StaxUnmarshallerContext(eventReader, response.getHeaders());
-            unmarshallerContext.registerMetadataExpression("ResponseMetadata/RequestId", 2, ResponseMetadata.AWS_REQUEST_ID);
-            unmarshallerContext.registerMetadataExpression("requestId", 2, ResponseMetadata.AWS_REQUEST_ID);
+            unmarshallerContext.registerMetadataExpressions(DEFAULT_METADATA_EXPRESSIONS);
             registerAdditionalMetadataExpressions(unmarshallerContext);
 
             T result = responseUnmarshaller.unmarshall(unmarshallerContext);
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+/**
+ * Lets the HTTP client unmarshall service exceptions without capturing a stack
+ * trace for each of them. Most error responses under load are throttling
+ * errors that are retried and never seen by the caller, so the HTTP client
+ * only fills in the stack trace of the service exception it actually throws.
+ * <p>
+ * While deferral is on for the current thread,
+ * {@link com.amazonaws.AmazonServiceException#fillInStackTrace()} does nothing.
+ */
+public final class StackTraceDeferral {
+
+    private static final ThreadLocal<Boolean> deferred = new ThreadLocal<Boolean>();
+
+    private StackTraceDeferral() {}
+
+    /**
+     * Starts deferring service exception stack traces on the current thread.
+     * Must be followed by {@link #end()} in a finally block.
+     */
+    public static void begin() {
+        deferred.set(Boolean.TRUE);
+    }
+
+    /**
+     * Stops deferring service exception stack traces on the current thread.
+     */
+    public static void end() {
+        deferred.remove();
+    }
+
+    /**
+     * Returns true if service exception stack traces are currently deferred on
+     * this thread.
+     *
+     * @return True if service exception stack traces are deferred.
+     */
+    public static boolean isDeferred() {
+        return deferred.get() != null;
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+/**
+ * Request metric collector that aggregates the latencies and attempt counts
+ * of requests into a {@link Histogram} per service, operation and metric.
+ * <p>
+ * Collecting the metrics of a request is a couple of concurrent map lookups
+ * and lock-free histogram updates; operation names are only derived when the
+ * histograms are exported. Usage:
+ *
+ * <pre>
+ * AggregatingRequestMetricCollector collector = new AggregatingRequestMetricCollector();
+ * AwsSdkMetrics.setRequestMetricCollector(collector);
+ * ...
+ * collector.exportSnapshots(exporter, true);
+ * </pre>
+ */
+public class AggregatingRequestMetricCollector implements RequestMetricCollector {
+
+    /** The metrics aggregated for each operation. */
+    private static final Field[] COLLECTED_METRICS = {
+        Field.HttpRequestTime,
+        Field.RequestSigningTime,
+        Field.ResponseProcessingTime,
+        Field.RetryPauseTime,
+        Field.AttemptCount,
+    };
+
+    /** The histograms of one operation, indexed like COLLECTED_METRICS. */
+    private static final class OperationMetrics {
+
+        private final Histogram[] histograms = new Histogram[COLLECTED_METRICS.length];
+
+        OperationMetrics() {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new Histogram();
+            }
+        }
+    }
+
+    /** Histograms keyed by service name and original request class. */
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, OperationMetrics>> metricsByService =
+            new ConcurrentHashMap<String, ConcurrentMap<Class<?>, OperationMetrics>>();
+
+    @Override
+    public void collectMetrics(Request<?> request, AWSRequestMetrics metrics) {
+        OperationMetrics operationMetrics = getOperationMetrics(request);
+        for (int i = 0; i < COLLECTED_METRICS.length; i++) {
+            long value = metrics.getMetric(COLLECTED_METRICS[i]);
+            if (value >= 0) {
+                operationMetrics.histograms[i].record(value);
+            }
+        }
+    }
+
+    private OperationMetrics getOperationMetrics(Request<?> request) {
+        String serviceName = request.getServiceName();
+        if (serviceName == null) {
+            serviceName = "Unknown";
+        }
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        Class<?> operation = originalRequest == null ? AmazonWebServiceRequest.class : originalRequest.getClass();
+
+        ConcurrentMap<Class<?>, OperationMetrics> operations = metricsByService.get(serviceName);
+        if (operations == null) {
+            operations = new ConcurrentHashMap<Class<?>, OperationMetrics>();
+            ConcurrentMap<Class<?>, OperationMetrics> existing = metricsByService.putIfAbsent(serviceName, operations);
+            if (existing != null) {
+                operations = existing;
+            }
+        }
+        OperationMetrics operationMetrics = operations.get(operation);
+        if (operationMetrics == null) {
+            operationMetrics = new OperationMetrics();
+            OperationMetrics existing = operations.putIfAbsent(operation, operationMetrics);
+            if (existing != null) {
+                operationMetrics = existing;
+            }
+        }
+        return operationMetrics;
+    }
+
+    /**
+     * Returns a snapshot of the histogram of one metric, or null if no
+     * request of the given operation has completed.
+     *
+     * @param serviceName
+     *            The name of the service, such as "AmazonEC2".
+     * @param requestClass
+     *            The request class of the operation, such as
+     *            DescribeInstancesRequest.class.
+     * @param metric
+     *            One of HttpRequestTime, RequestSigningTime,
+     *            ResponseProcessingTime, RetryPauseTime or AttemptCount.
+     */
+    public HistogramSnapshot getSnapshot(String serviceName, Class<? extends AmazonWebServiceRequest> requestClass, Field metric) {
+        Map<Class<?>, OperationMetrics> operations = metricsByService.get(serviceName);
+        if (operations == null) {
+            return null;
+        }
+        OperationMetrics operationMetrics = operations.get(requestClass);
+        if (operationMetrics == null) {
+            return null;
+        }
+        for (int i = 0; i < COLLECTED_METRICS.length; i++) {
+            if (COLLECTED_METRICS[i] == metric) {
+                return operationMetrics.histograms[i].snapshot();
+            }
+        }
+        throw new IllegalArgumentException("Metric is not aggregated: " + metric);
+    }
+
+    /**
+     * Passes a snapshot of every non-empty histogram to the given exporter.
+     *
+     * @param exporter
+     *            The exporter to publish the snapshots with.
+     * @param reset
+     *            Whether to start a new aggregation interval, so that each
+     *            export covers only the requests completed since the previous
+     *            one.
+     */
+    public void exportSnapshots(RequestMetricsExporter exporter, boolean reset) {
+        for (Map.Entry<String, ConcurrentMap<Class<?>, OperationMetrics>> service : metricsByService.entrySet()) {
+            for (Map.Entry<Class<?>, OperationMetrics> operation : service.getValue().entrySet()) {
+                String operationName = getOperationName(operation.getKey());
+                Histogram[] histograms = operation.getValue().histograms;
+                for (int i = 0; i < histograms.length; i++) {
+                    HistogramSnapshot snapshot = reset ? histograms[i].snapshotAndReset() : histograms[i].snapshot();
+                    if (snapshot.getCount() > 0) {
+                        exporter.export(service.getKey(), operationName, COLLECTED_METRICS[i], snapshot);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String getOperationName(Class<?> requestClass) {
+        String name = requestClass.getSimpleName();
+        if (name.endsWith("Request") && name.length() > "Request".length()) {
+            name = name.substring(0, name.length() - "Request".length());
+        }
+        return name;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+/**
+ * Registry of the {@link RequestMetricCollector} used by all clients.
+ * Metrics collection is disabled until a collector is registered, and has no
+ * cost apart from a volatile read per request while disabled.
+ */
+public final class AwsSdkMetrics {
+
+    private static volatile RequestMetricCollector requestMetricCollector;
+
+    private AwsSdkMetrics() {}
+
+    /**
+     * Returns the registered request metric collector, or null if metrics
+     * collection is disabled.
+     */
+    public static RequestMetricCollector getRequestMetricCollector() {
+        return requestMetricCollector;
+    }
+
+    /**
+     * Registers the collector that receives the metrics of all requests
+     * started from now on. Pass null to disable metrics collection.
+     *
+     * @param collector
+     *            The collector to register, or null.
+     */
+    public static void setRequestMetricCollector(RequestMetricCollector collector) {
+        requestMetricCollector = collector;
+    }
+}
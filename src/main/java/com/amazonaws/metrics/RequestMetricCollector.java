@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import com.amazonaws.Request;
+import com.amazonaws.util.AWSRequestMetrics;
+
+/**
+ * Receives the client side metrics of every request executed by the client
+ * runtime once the request completes, successfully or not. Collectors are
+ * registered with {@link AwsSdkMetrics} and are called concurrently from all
+ * threads executing requests, so implementations must be thread safe and
+ * should be cheap.
+ *
+ * @see AggregatingRequestMetricCollector
+ */
+public interface RequestMetricCollector {
+
+    /**
+     * Collects the metrics of a completed request.
+     *
+     * @param request
+     *            The low level request the metrics were recorded for.
+     * @param metrics
+     *            The metrics recorded for the request; use
+     *            {@link AWSRequestMetrics#getMetric(com.amazonaws.util.AWSRequestMetrics.Field)}
+     *            to read them.
+     */
+    public void collectMetrics(Request<?> request, AWSRequestMetrics metrics);
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+/**
+ * Hook for publishing the histograms aggregated by an
+ * {@link AggregatingRequestMetricCollector}, for example to a monitoring
+ * system or a log.
+ *
+ * @see AggregatingRequestMetricCollector#exportSnapshots(RequestMetricsExporter, boolean)
+ */
+public interface RequestMetricsExporter {
+
+    /**
+     * Exports the histogram of one metric of one operation.
+     *
+     * @param serviceName
+     *            The name of the service, such as "AmazonEC2".
+     * @param operationName
+     *            The name of the operation, such as "DescribeInstances".
+     * @param metric
+     *            The metric. Timings are in nanoseconds.
+     * @param snapshot
+     *            The aggregated values of the metric.
+     */
+    public void export(String serviceName, String operationName, Field metric, HistogramSnapshot snapshot);
+
+}
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -66,6 +68,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -255,6 +259,41 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -298,7 +337,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
+        return submit(new Callable<DescribeAutoScalingGroupsResult>() {
             public DescribeAutoScalingGroupsResult call() throws Exception {
                 return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
 		    }
@@ -343,11 +382,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
             final AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
+        return submit(new Callable<DescribeAutoScalingGroupsResult>() {
             public DescribeAutoScalingGroupsResult call() throws Exception {
             	DescribeAutoScalingGroupsResult result;
                 try {
             		result = describeAutoScalingGroups(describeAutoScalingGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -390,7 +431,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> enableMetricsCollectionAsync(final EnableMetricsCollectionRequest enableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 enableMetricsCollection(enableMetricsCollectionRequest);
                 return null;
@@ -437,10 +478,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnableMetricsCollectionRequest enableMetricsCollectionRequest,
             final AsyncHandler<EnableMetricsCollectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		enableMetricsCollection(enableMetricsCollectionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -473,7 +516,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 resumeProcesses(resumeProcessesRequest);
                 return null;
@@ -510,10 +553,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ResumeProcessesRequest resumeProcessesRequest,
             final AsyncHandler<ResumeProcessesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		resumeProcesses(resumeProcessesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -552,7 +597,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteLaunchConfigurationAsync(final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
                 return null;
@@ -595,10 +640,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
             final AsyncHandler<DeleteLaunchConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -633,7 +680,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribePoliciesResult> describePoliciesAsync(final DescribePoliciesRequest describePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
+        return submit(new Callable<DescribePoliciesResult>() {
             public DescribePoliciesResult call() throws Exception {
                 return describePolicies(describePoliciesRequest);
 		    }
@@ -671,11 +718,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribePoliciesRequest describePoliciesRequest,
             final AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
+        return submit(new Callable<DescribePoliciesResult>() {
             public DescribePoliciesResult call() throws Exception {
             	DescribePoliciesResult result;
                 try {
             		result = describePolicies(describePoliciesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -710,7 +759,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
+        return submit(new Callable<DescribeScalingProcessTypesResult>() {
             public DescribeScalingProcessTypesResult call() throws Exception {
                 return describeScalingProcessTypes(describeScalingProcessTypesRequest);
 		    }
@@ -748,11 +797,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
             final AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
+        return submit(new Callable<DescribeScalingProcessTypesResult>() {
             public DescribeScalingProcessTypesResult call() throws Exception {
             	DescribeScalingProcessTypesResult result;
                 try {
             		result = describeScalingProcessTypes(describeScalingProcessTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -793,7 +844,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createAutoScalingGroupAsync(final CreateAutoScalingGroupRequest createAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createAutoScalingGroup(createAutoScalingGroupRequest);
                 return null;
@@ -838,10 +889,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
             final AsyncHandler<CreateAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createAutoScalingGroup(createAutoScalingGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -887,7 +940,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(final DescribeScalingActivitiesRequest describeScalingActivitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
+        return submit(new Callable<DescribeScalingActivitiesResult>() {
             public DescribeScalingActivitiesResult call() throws Exception {
                 return describeScalingActivities(describeScalingActivitiesRequest);
 		    }
@@ -936,11 +989,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
             final AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
+        return submit(new Callable<DescribeScalingActivitiesResult>() {
             public DescribeScalingActivitiesResult call() throws Exception {
             	DescribeScalingActivitiesResult result;
                 try {
             		result = describeScalingActivities(describeScalingActivitiesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -975,7 +1030,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
+        return submit(new Callable<DescribeNotificationConfigurationsResult>() {
             public DescribeNotificationConfigurationsResult call() throws Exception {
                 return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
 		    }
@@ -1013,11 +1068,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest,
             final AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
+        return submit(new Callable<DescribeNotificationConfigurationsResult>() {
             public DescribeNotificationConfigurationsResult call() throws Exception {
             	DescribeNotificationConfigurationsResult result;
                 try {
             		result = describeNotificationConfigurations(describeNotificationConfigurationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1051,7 +1108,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
+        return submit(new Callable<DescribeTerminationPolicyTypesResult>() {
             public DescribeTerminationPolicyTypesResult call() throws Exception {
                 return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
 		    }
@@ -1088,11 +1145,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest,
             final AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
+        return submit(new Callable<DescribeTerminationPolicyTypesResult>() {
             public DescribeTerminationPolicyTypesResult call() throws Exception {
             	DescribeTerminationPolicyTypesResult result;
                 try {
             		result = describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1136,7 +1195,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return submit(new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
                 return describeTags(describeTagsRequest);
 		    }
@@ -1183,11 +1242,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return submit(new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
             	DescribeTagsResult result;
                 try {
             		result = describeTags(describeTagsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1220,7 +1281,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 executePolicy(executePolicyRequest);
                 return null;
@@ -1257,10 +1318,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExecutePolicyRequest executePolicyRequest,
             final AsyncHandler<ExecutePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		executePolicy(executePolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1292,7 +1355,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTags(deleteTagsRequest);
                 return null;
@@ -1328,10 +1391,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteTags(deleteTagsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1366,7 +1431,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<PutScalingPolicyResult> putScalingPolicyAsync(final PutScalingPolicyRequest putScalingPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
+        return submit(new Callable<PutScalingPolicyResult>() {
             public PutScalingPolicyResult call() throws Exception {
                 return putScalingPolicy(putScalingPolicyRequest);
 		    }
@@ -1404,11 +1469,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScalingPolicyRequest putScalingPolicyRequest,
             final AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
+        return submit(new Callable<PutScalingPolicyResult>() {
             public PutScalingPolicyResult call() throws Exception {
             	PutScalingPolicyResult result;
                 try {
             		result = putScalingPolicy(putScalingPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1448,7 +1515,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putNotificationConfigurationAsync(final PutNotificationConfigurationRequest putNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 putNotificationConfiguration(putNotificationConfigurationRequest);
                 return null;
@@ -1492,10 +1559,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutNotificationConfigurationRequest putNotificationConfigurationRequest,
             final AsyncHandler<PutNotificationConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		putNotificationConfiguration(putNotificationConfigurationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1527,7 +1596,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deletePolicy(deletePolicyRequest);
                 return null;
@@ -1563,10 +1632,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeletePolicyRequest deletePolicyRequest,
             final AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deletePolicy(deletePolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1600,7 +1671,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteNotificationConfigurationAsync(final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
                 return null;
@@ -1638,10 +1709,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest,
             final AsyncHandler<DeleteNotificationConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1676,7 +1749,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteScheduledActionAsync(final DeleteScheduledActionRequest deleteScheduledActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteScheduledAction(deleteScheduledActionRequest);
                 return null;
@@ -1715,10 +1788,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteScheduledActionRequest deleteScheduledActionRequest,
             final AsyncHandler<DeleteScheduledActionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteScheduledAction(deleteScheduledActionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1750,7 +1825,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setInstanceHealthAsync(final SetInstanceHealthRequest setInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setInstanceHealth(setInstanceHealthRequest);
                 return null;
@@ -1786,10 +1861,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceHealthRequest setInstanceHealthRequest,
             final AsyncHandler<SetInstanceHealthRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setInstanceHealth(setInstanceHealthRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1824,7 +1901,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
+        return submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
             public DescribeAutoScalingNotificationTypesResult call() throws Exception {
                 return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
 		    }
@@ -1862,11 +1939,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest,
             final AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
+        return submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
             public DescribeAutoScalingNotificationTypesResult call() throws Exception {
             	DescribeAutoScalingNotificationTypesResult result;
                 try {
             		result = describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1905,7 +1984,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createOrUpdateTagsAsync(final CreateOrUpdateTagsRequest createOrUpdateTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createOrUpdateTags(createOrUpdateTagsRequest);
                 return null;
@@ -1948,10 +2027,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateOrUpdateTagsRequest createOrUpdateTagsRequest,
             final AsyncHandler<CreateOrUpdateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createOrUpdateTags(createOrUpdateTagsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1996,7 +2077,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> suspendProcessesAsync(final SuspendProcessesRequest suspendProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 suspendProcesses(suspendProcessesRequest);
                 return null;
@@ -2045,10 +2126,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SuspendProcessesRequest suspendProcessesRequest,
             final AsyncHandler<SuspendProcessesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		suspendProcesses(suspendProcessesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2090,7 +2173,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
+        return submit(new Callable<DescribeAutoScalingInstancesResult>() {
             public DescribeAutoScalingInstancesResult call() throws Exception {
                 return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
 		    }
@@ -2135,11 +2218,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
             final AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
+        return submit(new Callable<DescribeAutoScalingInstancesResult>() {
             public DescribeAutoScalingInstancesResult call() throws Exception {
             	DescribeAutoScalingInstancesResult result;
                 try {
             		result = describeAutoScalingInstances(describeAutoScalingInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2187,7 +2272,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createLaunchConfigurationAsync(final CreateLaunchConfigurationRequest createLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createLaunchConfiguration(createLaunchConfigurationRequest);
                 return null;
@@ -2239,10 +2324,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
             final AsyncHandler<CreateLaunchConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createLaunchConfiguration(createLaunchConfigurationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2282,7 +2369,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteAutoScalingGroupAsync(final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
                 return null;
@@ -2326,10 +2413,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
             final AsyncHandler<DeleteAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2366,7 +2455,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> disableMetricsCollectionAsync(final DisableMetricsCollectionRequest disableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 disableMetricsCollection(disableMetricsCollectionRequest);
                 return null;
@@ -2407,10 +2496,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DisableMetricsCollectionRequest disableMetricsCollectionRequest,
             final AsyncHandler<DisableMetricsCollectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		disableMetricsCollection(disableMetricsCollectionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2468,7 +2559,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> updateAutoScalingGroupAsync(final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateAutoScalingGroup(updateAutoScalingGroupRequest);
                 return null;
@@ -2530,10 +2621,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
             final AsyncHandler<UpdateAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateAutoScalingGroup(updateAutoScalingGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2572,7 +2665,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
+        return submit(new Callable<DescribeLaunchConfigurationsResult>() {
             public DescribeLaunchConfigurationsResult call() throws Exception {
                 return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
 		    }
@@ -2614,11 +2707,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
             final AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
+        return submit(new Callable<DescribeLaunchConfigurationsResult>() {
             public DescribeLaunchConfigurationsResult call() throws Exception {
             	DescribeLaunchConfigurationsResult result;
                 try {
             		result = describeLaunchConfigurations(describeLaunchConfigurationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2653,7 +2748,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
+        return submit(new Callable<DescribeAdjustmentTypesResult>() {
             public DescribeAdjustmentTypesResult call() throws Exception {
                 return describeAdjustmentTypes(describeAdjustmentTypesRequest);
 		    }
@@ -2691,11 +2786,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
             final AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
+        return submit(new Callable<DescribeAdjustmentTypesResult>() {
             public DescribeAdjustmentTypesResult call() throws Exception {
             	DescribeAdjustmentTypesResult result;
                 try {
             		result = describeAdjustmentTypes(describeAdjustmentTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2731,7 +2828,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(final DescribeScheduledActionsRequest describeScheduledActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
+        return submit(new Callable<DescribeScheduledActionsResult>() {
             public DescribeScheduledActionsResult call() throws Exception {
                 return describeScheduledActions(describeScheduledActionsRequest);
 		    }
@@ -2770,11 +2867,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScheduledActionsRequest describeScheduledActionsRequest,
             final AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
+        return submit(new Callable<DescribeScheduledActionsResult>() {
             public DescribeScheduledActionsResult call() throws Exception {
             	DescribeScheduledActionsResult result;
                 try {
             		result = describeScheduledActions(describeScheduledActionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2810,7 +2909,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putScheduledUpdateGroupActionAsync(final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
                 return null;
@@ -2850,10 +2949,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
             final AsyncHandler<PutScheduledUpdateGroupActionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2888,7 +2989,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
+        return submit(new Callable<DescribeMetricCollectionTypesResult>() {
             public DescribeMetricCollectionTypesResult call() throws Exception {
                 return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
 		    }
@@ -2926,11 +3027,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
             final AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
+        return submit(new Callable<DescribeMetricCollectionTypesResult>() {
             public DescribeMetricCollectionTypesResult call() throws Exception {
             	DescribeMetricCollectionTypesResult result;
                 try {
             		result = describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2993,7 +3096,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setDesiredCapacityAsync(final SetDesiredCapacityRequest setDesiredCapacityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setDesiredCapacity(setDesiredCapacityRequest);
                 return null;
@@ -3060,10 +3163,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetDesiredCapacityRequest setDesiredCapacityRequest,
             final AsyncHandler<SetDesiredCapacityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setDesiredCapacity(setDesiredCapacityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3102,7 +3207,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
+        return submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
             public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
                 return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
 		    }
@@ -3144,11 +3249,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
             final AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
+        return submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
             public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
             	TerminateInstanceInAutoScalingGroupResult result;
                 try {
             		result = terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
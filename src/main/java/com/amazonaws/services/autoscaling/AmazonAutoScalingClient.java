@@ -76,6 +76,10 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers
             = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /** Error response handler shared by all requests to this client. */
+    private final DefaultErrorResponseHandler errorResponseHandler
+            = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -1705,7 +1709,6 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
         executionContext.setCredentials(credentials);
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -61,6 +63,8 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -250,6 +254,41 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -283,7 +322,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ValidateTemplateResult> validateTemplateAsync(final ValidateTemplateRequest validateTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateTemplateResult>() {
+        return submit(new Callable<ValidateTemplateResult>() {
             public ValidateTemplateResult call() throws Exception {
                 return validateTemplate(validateTemplateRequest);
 		    }
@@ -318,11 +357,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ValidateTemplateRequest validateTemplateRequest,
             final AsyncHandler<ValidateTemplateRequest, ValidateTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateTemplateResult>() {
+        return submit(new Callable<ValidateTemplateResult>() {
             public ValidateTemplateResult call() throws Exception {
             	ValidateTemplateResult result;
                 try {
             		result = validateTemplate(validateTemplateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -355,7 +396,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStacksResult> describeStacksAsync(final DescribeStacksRequest describeStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
+        return submit(new Callable<DescribeStacksResult>() {
             public DescribeStacksResult call() throws Exception {
                 return describeStacks(describeStacksRequest);
 		    }
@@ -391,11 +432,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStacksRequest describeStacksRequest,
             final AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
+        return submit(new Callable<DescribeStacksResult>() {
             public DescribeStacksResult call() throws Exception {
             	DescribeStacksResult result;
                 try {
             		result = describeStacks(describeStacksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -436,7 +479,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
+        return submit(new Callable<GetTemplateResult>() {
             public GetTemplateResult call() throws Exception {
                 return getTemplate(getTemplateRequest);
 		    }
@@ -480,11 +523,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetTemplateRequest getTemplateRequest,
             final AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
+        return submit(new Callable<GetTemplateResult>() {
             public GetTemplateResult call() throws Exception {
             	GetTemplateResult result;
                 try {
             		result = getTemplate(getTemplateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -521,7 +566,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ListStacksResult> listStacksAsync(final ListStacksRequest listStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStacksResult>() {
+        return submit(new Callable<ListStacksResult>() {
             public ListStacksResult call() throws Exception {
                 return listStacks(listStacksRequest);
 		    }
@@ -561,11 +606,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStacksRequest listStacksRequest,
             final AsyncHandler<ListStacksRequest, ListStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStacksResult>() {
+        return submit(new Callable<ListStacksResult>() {
             public ListStacksResult call() throws Exception {
             	ListStacksResult result;
                 try {
             		result = listStacks(listStacksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -603,7 +650,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<CreateStackResult> createStackAsync(final CreateStackRequest createStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
+        return submit(new Callable<CreateStackResult>() {
             public CreateStackResult call() throws Exception {
                 return createStack(createStackRequest);
 		    }
@@ -644,11 +691,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CreateStackRequest createStackRequest,
             final AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
+        return submit(new Callable<CreateStackResult>() {
             public CreateStackResult call() throws Exception {
             	CreateStackResult result;
                 try {
             		result = createStack(createStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -684,7 +733,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<EstimateTemplateCostResult> estimateTemplateCostAsync(final EstimateTemplateCostRequest estimateTemplateCostRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EstimateTemplateCostResult>() {
+        return submit(new Callable<EstimateTemplateCostResult>() {
             public EstimateTemplateCostResult call() throws Exception {
                 return estimateTemplateCost(estimateTemplateCostRequest);
 		    }
@@ -723,11 +772,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final EstimateTemplateCostRequest estimateTemplateCostRequest,
             final AsyncHandler<EstimateTemplateCostRequest, EstimateTemplateCostResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EstimateTemplateCostResult>() {
+        return submit(new Callable<EstimateTemplateCostResult>() {
             public EstimateTemplateCostResult call() throws Exception {
             	EstimateTemplateCostResult result;
                 try {
             		result = estimateTemplateCost(estimateTemplateCostRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -771,7 +822,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackEventsResult> describeStackEventsAsync(final DescribeStackEventsRequest describeStackEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackEventsResult>() {
+        return submit(new Callable<DescribeStackEventsResult>() {
             public DescribeStackEventsResult call() throws Exception {
                 return describeStackEvents(describeStackEventsRequest);
 		    }
@@ -818,11 +869,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackEventsRequest describeStackEventsRequest,
             final AsyncHandler<DescribeStackEventsRequest, DescribeStackEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackEventsResult>() {
+        return submit(new Callable<DescribeStackEventsResult>() {
             public DescribeStackEventsResult call() throws Exception {
             	DescribeStackEventsResult result;
                 try {
             		result = describeStackEvents(describeStackEventsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -861,7 +914,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackResourceResult> describeStackResourceAsync(final DescribeStackResourceRequest describeStackResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourceResult>() {
+        return submit(new Callable<DescribeStackResourceResult>() {
             public DescribeStackResourceResult call() throws Exception {
                 return describeStackResource(describeStackResourceRequest);
 		    }
@@ -903,11 +956,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourceRequest describeStackResourceRequest,
             final AsyncHandler<DescribeStackResourceRequest, DescribeStackResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourceResult>() {
+        return submit(new Callable<DescribeStackResourceResult>() {
             public DescribeStackResourceResult call() throws Exception {
             	DescribeStackResourceResult result;
                 try {
             		result = describeStackResource(describeStackResourceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -945,7 +1000,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<Void> cancelUpdateStackAsync(final CancelUpdateStackRequest cancelUpdateStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 cancelUpdateStack(cancelUpdateStackRequest);
                 return null;
@@ -987,10 +1042,12 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CancelUpdateStackRequest cancelUpdateStackRequest,
             final AsyncHandler<CancelUpdateStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		cancelUpdateStack(cancelUpdateStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1024,7 +1081,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<Void> deleteStackAsync(final DeleteStackRequest deleteStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteStack(deleteStackRequest);
                 return null;
@@ -1062,10 +1119,12 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DeleteStackRequest deleteStackRequest,
             final AsyncHandler<DeleteStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteStack(deleteStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1103,7 +1162,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ListStackResourcesResult> listStackResourcesAsync(final ListStackResourcesRequest listStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStackResourcesResult>() {
+        return submit(new Callable<ListStackResourcesResult>() {
             public ListStackResourcesResult call() throws Exception {
                 return listStackResources(listStackResourcesRequest);
 		    }
@@ -1144,11 +1203,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStackResourcesRequest listStackResourcesRequest,
             final AsyncHandler<ListStackResourcesRequest, ListStackResourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStackResourcesResult>() {
+        return submit(new Callable<ListStackResourcesResult>() {
             public ListStackResourcesResult call() throws Exception {
             	ListStackResourcesResult result;
                 try {
             		result = listStackResources(listStackResourcesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1210,7 +1271,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackResourcesResult> describeStackResourcesAsync(final DescribeStackResourcesRequest describeStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourcesResult>() {
+        return submit(new Callable<DescribeStackResourcesResult>() {
             public DescribeStackResourcesResult call() throws Exception {
                 return describeStackResources(describeStackResourcesRequest);
 		    }
@@ -1275,11 +1336,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourcesRequest describeStackResourcesRequest,
             final AsyncHandler<DescribeStackResourcesRequest, DescribeStackResourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourcesResult>() {
+        return submit(new Callable<DescribeStackResourcesResult>() {
             public DescribeStackResourcesResult call() throws Exception {
             	DescribeStackResourcesResult result;
                 try {
             		result = describeStackResources(describeStackResourcesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1328,7 +1391,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<UpdateStackResult> updateStackAsync(final UpdateStackRequest updateStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStackResult>() {
+        return submit(new Callable<UpdateStackResult>() {
             public UpdateStackResult call() throws Exception {
                 return updateStack(updateStackRequest);
 		    }
@@ -1380,11 +1443,13 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final UpdateStackRequest updateStackRequest,
             final AsyncHandler<UpdateStackRequest, UpdateStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStackResult>() {
+        return submit(new Callable<UpdateStackResult>() {
             public UpdateStackResult call() throws Exception {
             	UpdateStackResult result;
                 try {
             		result = updateStack(updateStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
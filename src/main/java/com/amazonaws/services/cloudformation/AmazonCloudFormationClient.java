@@ -71,6 +71,10 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers
             = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /** Error response handler shared by all requests to this client. */
+    private final DefaultErrorResponseHandler errorResponseHandler
+            = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -881,7 +885,6 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
         executionContext.setCredentials(credentials);
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
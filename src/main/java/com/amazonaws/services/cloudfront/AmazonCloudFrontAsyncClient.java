@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -45,6 +47,8 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -234,6 +238,41 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -268,7 +307,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateInvalidationResult> createInvalidationAsync(final CreateInvalidationRequest createInvalidationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInvalidationResult>() {
+        return submit(new Callable<CreateInvalidationResult>() {
             public CreateInvalidationResult call() throws Exception {
                 return createInvalidation(createInvalidationRequest);
 		    }
@@ -304,11 +343,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateInvalidationRequest createInvalidationRequest,
             final AsyncHandler<CreateInvalidationRequest, CreateInvalidationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInvalidationResult>() {
+        return submit(new Callable<CreateInvalidationResult>() {
             public CreateInvalidationResult call() throws Exception {
             	CreateInvalidationResult result;
                 try {
             		result = createInvalidation(createInvalidationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -342,7 +383,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListCloudFrontOriginAccessIdentitiesResult> listCloudFrontOriginAccessIdentitiesAsync(final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
+        return submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
             public ListCloudFrontOriginAccessIdentitiesResult call() throws Exception {
                 return listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
 		    }
@@ -379,11 +420,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest,
             final AsyncHandler<ListCloudFrontOriginAccessIdentitiesRequest, ListCloudFrontOriginAccessIdentitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
+        return submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
             public ListCloudFrontOriginAccessIdentitiesResult call() throws Exception {
             	ListCloudFrontOriginAccessIdentitiesResult result;
                 try {
             		result = listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -417,7 +460,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateCloudFrontOriginAccessIdentityResult> updateCloudFrontOriginAccessIdentityAsync(final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
             public UpdateCloudFrontOriginAccessIdentityResult call() throws Exception {
                 return updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
 		    }
@@ -454,11 +497,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<UpdateCloudFrontOriginAccessIdentityRequest, UpdateCloudFrontOriginAccessIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
             public UpdateCloudFrontOriginAccessIdentityResult call() throws Exception {
             	UpdateCloudFrontOriginAccessIdentityResult result;
                 try {
             		result = updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -492,7 +537,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionResult> getStreamingDistributionAsync(final GetStreamingDistributionRequest getStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionResult>() {
+        return submit(new Callable<GetStreamingDistributionResult>() {
             public GetStreamingDistributionResult call() throws Exception {
                 return getStreamingDistribution(getStreamingDistributionRequest);
 		    }
@@ -529,11 +574,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionRequest getStreamingDistributionRequest,
             final AsyncHandler<GetStreamingDistributionRequest, GetStreamingDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionResult>() {
+        return submit(new Callable<GetStreamingDistributionResult>() {
             public GetStreamingDistributionResult call() throws Exception {
             	GetStreamingDistributionResult result;
                 try {
             		result = getStreamingDistribution(getStreamingDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -566,7 +613,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteDistributionAsync(final DeleteDistributionRequest deleteDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDistribution(deleteDistributionRequest);
                 return null;
@@ -603,10 +650,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteDistributionRequest deleteDistributionRequest,
             final AsyncHandler<DeleteDistributionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteDistribution(deleteDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -639,7 +688,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionConfigResult> getDistributionConfigAsync(final GetDistributionConfigRequest getDistributionConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionConfigResult>() {
+        return submit(new Callable<GetDistributionConfigResult>() {
             public GetDistributionConfigResult call() throws Exception {
                 return getDistributionConfig(getDistributionConfigRequest);
 		    }
@@ -675,11 +724,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionConfigRequest getDistributionConfigRequest,
             final AsyncHandler<GetDistributionConfigRequest, GetDistributionConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionConfigResult>() {
+        return submit(new Callable<GetDistributionConfigResult>() {
             public GetDistributionConfigResult call() throws Exception {
             	GetDistributionConfigResult result;
                 try {
             		result = getDistributionConfig(getDistributionConfigRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -712,7 +763,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateDistributionResult> updateDistributionAsync(final UpdateDistributionRequest updateDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDistributionResult>() {
+        return submit(new Callable<UpdateDistributionResult>() {
             public UpdateDistributionResult call() throws Exception {
                 return updateDistribution(updateDistributionRequest);
 		    }
@@ -748,11 +799,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateDistributionRequest updateDistributionRequest,
             final AsyncHandler<UpdateDistributionRequest, UpdateDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDistributionResult>() {
+        return submit(new Callable<UpdateDistributionResult>() {
             public UpdateDistributionResult call() throws Exception {
             	UpdateDistributionResult result;
                 try {
             		result = updateDistribution(updateDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -785,7 +838,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateDistributionResult> createDistributionAsync(final CreateDistributionRequest createDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDistributionResult>() {
+        return submit(new Callable<CreateDistributionResult>() {
             public CreateDistributionResult call() throws Exception {
                 return createDistribution(createDistributionRequest);
 		    }
@@ -821,11 +874,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateDistributionRequest createDistributionRequest,
             final AsyncHandler<CreateDistributionRequest, CreateDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDistributionResult>() {
+        return submit(new Callable<CreateDistributionResult>() {
             public CreateDistributionResult call() throws Exception {
             	CreateDistributionResult result;
                 try {
             		result = createDistribution(createDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -859,7 +914,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityConfigResult> getCloudFrontOriginAccessIdentityConfigAsync(final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
+        return submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
             public GetCloudFrontOriginAccessIdentityConfigResult call() throws Exception {
                 return getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
 		    }
@@ -896,11 +951,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest,
             final AsyncHandler<GetCloudFrontOriginAccessIdentityConfigRequest, GetCloudFrontOriginAccessIdentityConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
+        return submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
             public GetCloudFrontOriginAccessIdentityConfigResult call() throws Exception {
             	GetCloudFrontOriginAccessIdentityConfigResult result;
                 try {
             		result = getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -932,7 +989,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListInvalidationsResult> listInvalidationsAsync(final ListInvalidationsRequest listInvalidationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInvalidationsResult>() {
+        return submit(new Callable<ListInvalidationsResult>() {
             public ListInvalidationsResult call() throws Exception {
                 return listInvalidations(listInvalidationsRequest);
 		    }
@@ -967,11 +1024,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListInvalidationsRequest listInvalidationsRequest,
             final AsyncHandler<ListInvalidationsRequest, ListInvalidationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInvalidationsResult>() {
+        return submit(new Callable<ListInvalidationsResult>() {
             public ListInvalidationsResult call() throws Exception {
             	ListInvalidationsResult result;
                 try {
             		result = listInvalidations(listInvalidationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1003,7 +1062,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListDistributionsResult> listDistributionsAsync(final ListDistributionsRequest listDistributionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDistributionsResult>() {
+        return submit(new Callable<ListDistributionsResult>() {
             public ListDistributionsResult call() throws Exception {
                 return listDistributions(listDistributionsRequest);
 		    }
@@ -1038,11 +1097,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListDistributionsRequest listDistributionsRequest,
             final AsyncHandler<ListDistributionsRequest, ListDistributionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDistributionsResult>() {
+        return submit(new Callable<ListDistributionsResult>() {
             public ListDistributionsResult call() throws Exception {
             	ListDistributionsResult result;
                 try {
             		result = listDistributions(listDistributionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1076,7 +1137,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionConfigResult> getStreamingDistributionConfigAsync(final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionConfigResult>() {
+        return submit(new Callable<GetStreamingDistributionConfigResult>() {
             public GetStreamingDistributionConfigResult call() throws Exception {
                 return getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
 		    }
@@ -1113,11 +1174,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest,
             final AsyncHandler<GetStreamingDistributionConfigRequest, GetStreamingDistributionConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionConfigResult>() {
+        return submit(new Callable<GetStreamingDistributionConfigResult>() {
             public GetStreamingDistributionConfigResult call() throws Exception {
             	GetStreamingDistributionConfigResult result;
                 try {
             		result = getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1149,7 +1212,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionResult> getDistributionAsync(final GetDistributionRequest getDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionResult>() {
+        return submit(new Callable<GetDistributionResult>() {
             public GetDistributionResult call() throws Exception {
                 return getDistribution(getDistributionRequest);
 		    }
@@ -1184,11 +1247,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionRequest getDistributionRequest,
             final AsyncHandler<GetDistributionRequest, GetDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionResult>() {
+        return submit(new Callable<GetDistributionResult>() {
             public GetDistributionResult call() throws Exception {
             	GetDistributionResult result;
                 try {
             		result = getDistribution(getDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1222,7 +1287,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteStreamingDistributionAsync(final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteStreamingDistribution(deleteStreamingDistributionRequest);
                 return null;
@@ -1260,10 +1325,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest,
             final AsyncHandler<DeleteStreamingDistributionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteStreamingDistribution(deleteStreamingDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1297,7 +1364,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateCloudFrontOriginAccessIdentityResult> createCloudFrontOriginAccessIdentityAsync(final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
             public CreateCloudFrontOriginAccessIdentityResult call() throws Exception {
                 return createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
 		    }
@@ -1334,11 +1401,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<CreateCloudFrontOriginAccessIdentityRequest, CreateCloudFrontOriginAccessIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
             public CreateCloudFrontOriginAccessIdentityResult call() throws Exception {
             	CreateCloudFrontOriginAccessIdentityResult result;
                 try {
             		result = createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1372,7 +1441,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListStreamingDistributionsResult> listStreamingDistributionsAsync(final ListStreamingDistributionsRequest listStreamingDistributionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamingDistributionsResult>() {
+        return submit(new Callable<ListStreamingDistributionsResult>() {
             public ListStreamingDistributionsResult call() throws Exception {
                 return listStreamingDistributions(listStreamingDistributionsRequest);
 		    }
@@ -1409,11 +1478,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListStreamingDistributionsRequest listStreamingDistributionsRequest,
             final AsyncHandler<ListStreamingDistributionsRequest, ListStreamingDistributionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamingDistributionsResult>() {
+        return submit(new Callable<ListStreamingDistributionsResult>() {
             public ListStreamingDistributionsResult call() throws Exception {
             	ListStreamingDistributionsResult result;
                 try {
             		result = listStreamingDistributions(listStreamingDistributionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1447,7 +1518,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteCloudFrontOriginAccessIdentityAsync(final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCloudFrontOriginAccessIdentity(deleteCloudFrontOriginAccessIdentityRequest);
                 return null;
@@ -1485,10 +1556,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<DeleteCloudFrontOriginAccessIdentityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteCloudFrontOriginAccessIdentity(deleteCloudFrontOriginAccessIdentityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1522,7 +1595,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateStreamingDistributionResult> updateStreamingDistributionAsync(final UpdateStreamingDistributionRequest updateStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStreamingDistributionResult>() {
+        return submit(new Callable<UpdateStreamingDistributionResult>() {
             public UpdateStreamingDistributionResult call() throws Exception {
                 return updateStreamingDistribution(updateStreamingDistributionRequest);
 		    }
@@ -1559,11 +1632,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateStreamingDistributionRequest updateStreamingDistributionRequest,
             final AsyncHandler<UpdateStreamingDistributionRequest, UpdateStreamingDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStreamingDistributionResult>() {
+        return submit(new Callable<UpdateStreamingDistributionResult>() {
             public UpdateStreamingDistributionResult call() throws Exception {
             	UpdateStreamingDistributionResult result;
                 try {
             		result = updateStreamingDistribution(updateStreamingDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1595,7 +1670,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetInvalidationResult> getInvalidationAsync(final GetInvalidationRequest getInvalidationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInvalidationResult>() {
+        return submit(new Callable<GetInvalidationResult>() {
             public GetInvalidationResult call() throws Exception {
                 return getInvalidation(getInvalidationRequest);
 		    }
@@ -1630,11 +1705,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetInvalidationRequest getInvalidationRequest,
             final AsyncHandler<GetInvalidationRequest, GetInvalidationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInvalidationResult>() {
+        return submit(new Callable<GetInvalidationResult>() {
             public GetInvalidationResult call() throws Exception {
             	GetInvalidationResult result;
                 try {
             		result = getInvalidation(getInvalidationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1668,7 +1745,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateStreamingDistributionResult> createStreamingDistributionAsync(final CreateStreamingDistributionRequest createStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStreamingDistributionResult>() {
+        return submit(new Callable<CreateStreamingDistributionResult>() {
             public CreateStreamingDistributionResult call() throws Exception {
                 return createStreamingDistribution(createStreamingDistributionRequest);
 		    }
@@ -1705,11 +1782,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateStreamingDistributionRequest createStreamingDistributionRequest,
             final AsyncHandler<CreateStreamingDistributionRequest, CreateStreamingDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStreamingDistributionResult>() {
+        return submit(new Callable<CreateStreamingDistributionResult>() {
             public CreateStreamingDistributionResult call() throws Exception {
             	CreateStreamingDistributionResult result;
                 try {
             		result = createStreamingDistribution(createStreamingDistributionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1743,7 +1822,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityResult> getCloudFrontOriginAccessIdentityAsync(final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
             public GetCloudFrontOriginAccessIdentityResult call() throws Exception {
                 return getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
 		    }
@@ -1780,11 +1859,13 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<GetCloudFrontOriginAccessIdentityRequest, GetCloudFrontOriginAccessIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
             public GetCloudFrontOriginAccessIdentityResult call() throws Exception {
             	GetCloudFrontOriginAccessIdentityResult result;
                 try {
             		result = getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
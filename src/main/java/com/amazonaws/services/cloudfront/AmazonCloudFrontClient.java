@@ -55,6 +55,10 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements Am
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers
             = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /** Error response handler shared by all requests to this client. */
+    private final DefaultErrorResponseHandler errorResponseHandler
+            = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+
     
     /** AWS signer for authenticating requests. */
     private CloudFrontSigner signer;
@@ -945,7 +949,6 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements Am
         executionContext.setCredentials(credentials);
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
@@ -24,6 +24,7 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.services.cloudfront_2012_03_15.model.CreateCloudFrontOriginAccessIdentityRequest;
 import com.amazonaws.services.cloudfront_2012_03_15.model.CreateCloudFrontOriginAccessIdentityResult;
 import com.amazonaws.services.cloudfront_2012_03_15.model.CreateDistributionRequest;
@@ -83,6 +84,8 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -228,6 +231,41 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -263,7 +301,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteCloudFrontOriginAccessIdentityAsync(final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCloudFrontOriginAccessIdentity(deleteCloudFrontOriginAccessIdentityRequest);
                 return null;
@@ -294,7 +332,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionConfigResult> getStreamingDistributionConfigAsync(final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionConfigResult>() {
+        return submit(new Callable<GetStreamingDistributionConfigResult>() {
             public GetStreamingDistributionConfigResult call() throws Exception {
                 return getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
 		    }
@@ -322,7 +360,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetInvalidationResult> getInvalidationAsync(final GetInvalidationRequest getInvalidationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInvalidationResult>() {
+        return submit(new Callable<GetInvalidationResult>() {
             public GetInvalidationResult call() throws Exception {
                 return getInvalidation(getInvalidationRequest);
 		    }
@@ -352,7 +390,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteStreamingDistributionAsync(final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteStreamingDistribution(deleteStreamingDistributionRequest);
                 return null;
@@ -383,7 +421,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateStreamingDistributionResult> createStreamingDistributionAsync(final CreateStreamingDistributionRequest createStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStreamingDistributionResult>() {
+        return submit(new Callable<CreateStreamingDistributionResult>() {
             public CreateStreamingDistributionResult call() throws Exception {
                 return createStreamingDistribution(createStreamingDistributionRequest);
 		    }
@@ -412,7 +450,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateDistributionResult> createDistributionAsync(final CreateDistributionRequest createDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDistributionResult>() {
+        return submit(new Callable<CreateDistributionResult>() {
             public CreateDistributionResult call() throws Exception {
                 return createDistribution(createDistributionRequest);
 		    }
@@ -441,7 +479,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteDistributionAsync(final DeleteDistributionRequest deleteDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDistribution(deleteDistributionRequest);
                 return null;
@@ -471,7 +509,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateDistributionResult> updateDistributionAsync(final UpdateDistributionRequest updateDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDistributionResult>() {
+        return submit(new Callable<UpdateDistributionResult>() {
             public UpdateDistributionResult call() throws Exception {
                 return updateDistribution(updateDistributionRequest);
 		    }
@@ -501,7 +539,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateStreamingDistributionResult> updateStreamingDistributionAsync(final UpdateStreamingDistributionRequest updateStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStreamingDistributionResult>() {
+        return submit(new Callable<UpdateStreamingDistributionResult>() {
             public UpdateStreamingDistributionResult call() throws Exception {
                 return updateStreamingDistribution(updateStreamingDistributionRequest);
 		    }
@@ -531,7 +569,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateCloudFrontOriginAccessIdentityResult> createCloudFrontOriginAccessIdentityAsync(final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
             public CreateCloudFrontOriginAccessIdentityResult call() throws Exception {
                 return createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
 		    }
@@ -559,7 +597,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionResult> getDistributionAsync(final GetDistributionRequest getDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionResult>() {
+        return submit(new Callable<GetDistributionResult>() {
             public GetDistributionResult call() throws Exception {
                 return getDistribution(getDistributionRequest);
 		    }
@@ -589,7 +627,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityConfigResult> getCloudFrontOriginAccessIdentityConfigAsync(final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
+        return submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
             public GetCloudFrontOriginAccessIdentityConfigResult call() throws Exception {
                 return getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
 		    }
@@ -619,7 +657,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionResult> getStreamingDistributionAsync(final GetStreamingDistributionRequest getStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionResult>() {
+        return submit(new Callable<GetStreamingDistributionResult>() {
             public GetStreamingDistributionResult call() throws Exception {
                 return getStreamingDistribution(getStreamingDistributionRequest);
 		    }
@@ -647,7 +685,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListDistributionsResult> listDistributionsAsync(final ListDistributionsRequest listDistributionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDistributionsResult>() {
+        return submit(new Callable<ListDistributionsResult>() {
             public ListDistributionsResult call() throws Exception {
                 return listDistributions(listDistributionsRequest);
 		    }
@@ -677,7 +715,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateCloudFrontOriginAccessIdentityResult> updateCloudFrontOriginAccessIdentityAsync(final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
             public UpdateCloudFrontOriginAccessIdentityResult call() throws Exception {
                 return updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
 		    }
@@ -706,7 +744,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionConfigResult> getDistributionConfigAsync(final GetDistributionConfigRequest getDistributionConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionConfigResult>() {
+        return submit(new Callable<GetDistributionConfigResult>() {
             public GetDistributionConfigResult call() throws Exception {
                 return getDistributionConfig(getDistributionConfigRequest);
 		    }
@@ -736,7 +774,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityResult> getCloudFrontOriginAccessIdentityAsync(final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
+        return submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
             public GetCloudFrontOriginAccessIdentityResult call() throws Exception {
                 return getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
 		    }
@@ -765,7 +803,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateInvalidationResult> createInvalidationAsync(final CreateInvalidationRequest createInvalidationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInvalidationResult>() {
+        return submit(new Callable<CreateInvalidationResult>() {
             public CreateInvalidationResult call() throws Exception {
                 return createInvalidation(createInvalidationRequest);
 		    }
@@ -795,7 +833,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListCloudFrontOriginAccessIdentitiesResult> listCloudFrontOriginAccessIdentitiesAsync(final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
+        return submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
             public ListCloudFrontOriginAccessIdentitiesResult call() throws Exception {
                 return listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
 		    }
@@ -825,7 +863,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListStreamingDistributionsResult> listStreamingDistributionsAsync(final ListStreamingDistributionsRequest listStreamingDistributionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamingDistributionsResult>() {
+        return submit(new Callable<ListStreamingDistributionsResult>() {
             public ListStreamingDistributionsResult call() throws Exception {
                 return listStreamingDistributions(listStreamingDistributionsRequest);
 		    }
@@ -853,7 +891,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListInvalidationsResult> listInvalidationsAsync(final ListInvalidationsRequest listInvalidationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInvalidationsResult>() {
+        return submit(new Callable<ListInvalidationsResult>() {
             public ListInvalidationsResult call() throws Exception {
                 return listInvalidations(listInvalidationsRequest);
 		    }
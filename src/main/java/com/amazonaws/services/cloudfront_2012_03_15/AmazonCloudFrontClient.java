@@ -199,6 +199,10 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements Am
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers
             = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /** Error response handler shared by all requests to this client. */
+    private final DefaultErrorResponseHandler errorResponseHandler
+            = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+
 
     /** AWS signer for authenticating requests. */
     private CloudFrontSigner signer;
@@ -1021,7 +1025,6 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements Am
         executionContext.setCredentials(credentials);
 
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
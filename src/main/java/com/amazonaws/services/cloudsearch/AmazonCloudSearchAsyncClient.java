@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -48,6 +50,8 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -237,6 +241,41 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -275,7 +314,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateDefaultSearchFieldResult> updateDefaultSearchFieldAsync(final UpdateDefaultSearchFieldRequest updateDefaultSearchFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDefaultSearchFieldResult>() {
+        return submit(new Callable<UpdateDefaultSearchFieldResult>() {
             public UpdateDefaultSearchFieldResult call() throws Exception {
                 return updateDefaultSearchField(updateDefaultSearchFieldRequest);
 		    }
@@ -315,11 +354,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateDefaultSearchFieldRequest updateDefaultSearchFieldRequest,
             final AsyncHandler<UpdateDefaultSearchFieldRequest, UpdateDefaultSearchFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDefaultSearchFieldResult>() {
+        return submit(new Callable<UpdateDefaultSearchFieldResult>() {
             public UpdateDefaultSearchFieldResult call() throws Exception {
             	UpdateDefaultSearchFieldResult result;
                 try {
             		result = updateDefaultSearchField(updateDefaultSearchFieldRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -352,7 +393,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteRankExpressionResult> deleteRankExpressionAsync(final DeleteRankExpressionRequest deleteRankExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteRankExpressionResult>() {
+        return submit(new Callable<DeleteRankExpressionResult>() {
             public DeleteRankExpressionResult call() throws Exception {
                 return deleteRankExpression(deleteRankExpressionRequest);
 		    }
@@ -388,11 +429,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteRankExpressionRequest deleteRankExpressionRequest,
             final AsyncHandler<DeleteRankExpressionRequest, DeleteRankExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteRankExpressionResult>() {
+        return submit(new Callable<DeleteRankExpressionResult>() {
             public DeleteRankExpressionResult call() throws Exception {
             	DeleteRankExpressionResult result;
                 try {
             		result = deleteRankExpression(deleteRankExpressionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -428,7 +471,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeRankExpressionsResult> describeRankExpressionsAsync(final DescribeRankExpressionsRequest describeRankExpressionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRankExpressionsResult>() {
+        return submit(new Callable<DescribeRankExpressionsResult>() {
             public DescribeRankExpressionsResult call() throws Exception {
                 return describeRankExpressions(describeRankExpressionsRequest);
 		    }
@@ -467,11 +510,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeRankExpressionsRequest describeRankExpressionsRequest,
             final AsyncHandler<DescribeRankExpressionsRequest, DescribeRankExpressionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRankExpressionsResult>() {
+        return submit(new Callable<DescribeRankExpressionsResult>() {
             public DescribeRankExpressionsResult call() throws Exception {
             	DescribeRankExpressionsResult result;
                 try {
             		result = describeRankExpressions(describeRankExpressionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -503,7 +548,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<CreateDomainResult> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDomainResult>() {
+        return submit(new Callable<CreateDomainResult>() {
             public CreateDomainResult call() throws Exception {
                 return createDomain(createDomainRequest);
 		    }
@@ -538,11 +583,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDomainResult>() {
+        return submit(new Callable<CreateDomainResult>() {
             public CreateDomainResult call() throws Exception {
             	CreateDomainResult result;
                 try {
             		result = createDomain(createDomainRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -578,7 +625,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateServiceAccessPoliciesResult> updateServiceAccessPoliciesAsync(final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateServiceAccessPoliciesResult>() {
+        return submit(new Callable<UpdateServiceAccessPoliciesResult>() {
             public UpdateServiceAccessPoliciesResult call() throws Exception {
                 return updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
 		    }
@@ -617,11 +664,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest,
             final AsyncHandler<UpdateServiceAccessPoliciesRequest, UpdateServiceAccessPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateServiceAccessPoliciesResult>() {
+        return submit(new Callable<UpdateServiceAccessPoliciesResult>() {
             public UpdateServiceAccessPoliciesResult call() throws Exception {
             	UpdateServiceAccessPoliciesResult result;
                 try {
             		result = updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -656,7 +705,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineIndexFieldResult> defineIndexFieldAsync(final DefineIndexFieldRequest defineIndexFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineIndexFieldResult>() {
+        return submit(new Callable<DefineIndexFieldResult>() {
             public DefineIndexFieldResult call() throws Exception {
                 return defineIndexField(defineIndexFieldRequest);
 		    }
@@ -694,11 +743,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineIndexFieldRequest defineIndexFieldRequest,
             final AsyncHandler<DefineIndexFieldRequest, DefineIndexFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineIndexFieldResult>() {
+        return submit(new Callable<DefineIndexFieldResult>() {
             public DefineIndexFieldResult call() throws Exception {
             	DefineIndexFieldResult result;
                 try {
             		result = defineIndexField(defineIndexFieldRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -734,7 +785,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineRankExpressionResult> defineRankExpressionAsync(final DefineRankExpressionRequest defineRankExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineRankExpressionResult>() {
+        return submit(new Callable<DefineRankExpressionResult>() {
             public DefineRankExpressionResult call() throws Exception {
                 return defineRankExpression(defineRankExpressionRequest);
 		    }
@@ -773,11 +824,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineRankExpressionRequest defineRankExpressionRequest,
             final AsyncHandler<DefineRankExpressionRequest, DefineRankExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineRankExpressionResult>() {
+        return submit(new Callable<DefineRankExpressionResult>() {
             public DefineRankExpressionResult call() throws Exception {
             	DefineRankExpressionResult result;
                 try {
             		result = defineRankExpression(defineRankExpressionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -811,7 +864,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeSynonymOptionsResult> describeSynonymOptionsAsync(final DescribeSynonymOptionsRequest describeSynonymOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSynonymOptionsResult>() {
+        return submit(new Callable<DescribeSynonymOptionsResult>() {
             public DescribeSynonymOptionsResult call() throws Exception {
                 return describeSynonymOptions(describeSynonymOptionsRequest);
 		    }
@@ -848,11 +901,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeSynonymOptionsRequest describeSynonymOptionsRequest,
             final AsyncHandler<DescribeSynonymOptionsRequest, DescribeSynonymOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSynonymOptionsResult>() {
+        return submit(new Callable<DescribeSynonymOptionsResult>() {
             public DescribeSynonymOptionsResult call() throws Exception {
             	DescribeSynonymOptionsResult result;
                 try {
             		result = describeSynonymOptions(describeSynonymOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -886,7 +941,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeStopwordOptionsResult> describeStopwordOptionsAsync(final DescribeStopwordOptionsRequest describeStopwordOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStopwordOptionsResult>() {
+        return submit(new Callable<DescribeStopwordOptionsResult>() {
             public DescribeStopwordOptionsResult call() throws Exception {
                 return describeStopwordOptions(describeStopwordOptionsRequest);
 		    }
@@ -923,11 +978,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeStopwordOptionsRequest describeStopwordOptionsRequest,
             final AsyncHandler<DescribeStopwordOptionsRequest, DescribeStopwordOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStopwordOptionsResult>() {
+        return submit(new Callable<DescribeStopwordOptionsResult>() {
             public DescribeStopwordOptionsResult call() throws Exception {
             	DescribeStopwordOptionsResult result;
                 try {
             		result = describeStopwordOptions(describeStopwordOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -959,7 +1016,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteDomainResult> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDomainResult>() {
+        return submit(new Callable<DeleteDomainResult>() {
             public DeleteDomainResult call() throws Exception {
                 return deleteDomain(deleteDomainRequest);
 		    }
@@ -994,11 +1051,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDomainResult>() {
+        return submit(new Callable<DeleteDomainResult>() {
             public DeleteDomainResult call() throws Exception {
             	DeleteDomainResult result;
                 try {
             		result = deleteDomain(deleteDomainRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1033,7 +1092,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeServiceAccessPoliciesResult> describeServiceAccessPoliciesAsync(final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceAccessPoliciesResult>() {
+        return submit(new Callable<DescribeServiceAccessPoliciesResult>() {
             public DescribeServiceAccessPoliciesResult call() throws Exception {
                 return describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
 		    }
@@ -1071,11 +1130,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest,
             final AsyncHandler<DescribeServiceAccessPoliciesRequest, DescribeServiceAccessPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceAccessPoliciesResult>() {
+        return submit(new Callable<DescribeServiceAccessPoliciesResult>() {
             public DescribeServiceAccessPoliciesResult call() throws Exception {
             	DescribeServiceAccessPoliciesResult result;
                 try {
             		result = describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1109,7 +1170,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeDefaultSearchFieldResult> describeDefaultSearchFieldAsync(final DescribeDefaultSearchFieldRequest describeDefaultSearchFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDefaultSearchFieldResult>() {
+        return submit(new Callable<DescribeDefaultSearchFieldResult>() {
             public DescribeDefaultSearchFieldResult call() throws Exception {
                 return describeDefaultSearchField(describeDefaultSearchFieldRequest);
 		    }
@@ -1146,11 +1207,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeDefaultSearchFieldRequest describeDefaultSearchFieldRequest,
             final AsyncHandler<DescribeDefaultSearchFieldRequest, DescribeDefaultSearchFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDefaultSearchFieldResult>() {
+        return submit(new Callable<DescribeDefaultSearchFieldResult>() {
             public DescribeDefaultSearchFieldResult call() throws Exception {
             	DescribeDefaultSearchFieldResult result;
                 try {
             		result = describeDefaultSearchField(describeDefaultSearchFieldRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1186,7 +1249,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateStopwordOptionsResult> updateStopwordOptionsAsync(final UpdateStopwordOptionsRequest updateStopwordOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStopwordOptionsResult>() {
+        return submit(new Callable<UpdateStopwordOptionsResult>() {
             public UpdateStopwordOptionsResult call() throws Exception {
                 return updateStopwordOptions(updateStopwordOptionsRequest);
 		    }
@@ -1225,11 +1288,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateStopwordOptionsRequest updateStopwordOptionsRequest,
             final AsyncHandler<UpdateStopwordOptionsRequest, UpdateStopwordOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStopwordOptionsResult>() {
+        return submit(new Callable<UpdateStopwordOptionsResult>() {
             public UpdateStopwordOptionsResult call() throws Exception {
             	UpdateStopwordOptionsResult result;
                 try {
             		result = updateStopwordOptions(updateStopwordOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1265,7 +1330,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateSynonymOptionsResult> updateSynonymOptionsAsync(final UpdateSynonymOptionsRequest updateSynonymOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSynonymOptionsResult>() {
+        return submit(new Callable<UpdateSynonymOptionsResult>() {
             public UpdateSynonymOptionsResult call() throws Exception {
                 return updateSynonymOptions(updateSynonymOptionsRequest);
 		    }
@@ -1304,11 +1369,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateSynonymOptionsRequest updateSynonymOptionsRequest,
             final AsyncHandler<UpdateSynonymOptionsRequest, UpdateSynonymOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSynonymOptionsResult>() {
+        return submit(new Callable<UpdateSynonymOptionsResult>() {
             public UpdateSynonymOptionsResult call() throws Exception {
             	UpdateSynonymOptionsResult result;
                 try {
             		result = updateSynonymOptions(updateSynonymOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1344,7 +1411,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateStemmingOptionsResult> updateStemmingOptionsAsync(final UpdateStemmingOptionsRequest updateStemmingOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStemmingOptionsResult>() {
+        return submit(new Callable<UpdateStemmingOptionsResult>() {
             public UpdateStemmingOptionsResult call() throws Exception {
                 return updateStemmingOptions(updateStemmingOptionsRequest);
 		    }
@@ -1383,11 +1450,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateStemmingOptionsRequest updateStemmingOptionsRequest,
             final AsyncHandler<UpdateStemmingOptionsRequest, UpdateStemmingOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStemmingOptionsResult>() {
+        return submit(new Callable<UpdateStemmingOptionsResult>() {
             public UpdateStemmingOptionsResult call() throws Exception {
             	UpdateStemmingOptionsResult result;
                 try {
             		result = updateStemmingOptions(updateStemmingOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1421,7 +1490,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeStemmingOptionsResult> describeStemmingOptionsAsync(final DescribeStemmingOptionsRequest describeStemmingOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStemmingOptionsResult>() {
+        return submit(new Callable<DescribeStemmingOptionsResult>() {
             public DescribeStemmingOptionsResult call() throws Exception {
                 return describeStemmingOptions(describeStemmingOptionsRequest);
 		    }
@@ -1458,11 +1527,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeStemmingOptionsRequest describeStemmingOptionsRequest,
             final AsyncHandler<DescribeStemmingOptionsRequest, DescribeStemmingOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStemmingOptionsResult>() {
+        return submit(new Callable<DescribeStemmingOptionsResult>() {
             public DescribeStemmingOptionsResult call() throws Exception {
             	DescribeStemmingOptionsResult result;
                 try {
             		result = describeStemmingOptions(describeStemmingOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1495,7 +1566,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeDomainsResult> describeDomainsAsync(final DescribeDomainsRequest describeDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDomainsResult>() {
+        return submit(new Callable<DescribeDomainsResult>() {
             public DescribeDomainsResult call() throws Exception {
                 return describeDomains(describeDomainsRequest);
 		    }
@@ -1531,11 +1602,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeDomainsRequest describeDomainsRequest,
             final AsyncHandler<DescribeDomainsRequest, DescribeDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDomainsResult>() {
+        return submit(new Callable<DescribeDomainsResult>() {
             public DescribeDomainsResult call() throws Exception {
             	DescribeDomainsResult result;
                 try {
             		result = describeDomains(describeDomainsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1571,7 +1644,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<IndexDocumentsResult> indexDocumentsAsync(final IndexDocumentsRequest indexDocumentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<IndexDocumentsResult>() {
+        return submit(new Callable<IndexDocumentsResult>() {
             public IndexDocumentsResult call() throws Exception {
                 return indexDocuments(indexDocumentsRequest);
 		    }
@@ -1610,11 +1683,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final IndexDocumentsRequest indexDocumentsRequest,
             final AsyncHandler<IndexDocumentsRequest, IndexDocumentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<IndexDocumentsResult>() {
+        return submit(new Callable<IndexDocumentsResult>() {
             public IndexDocumentsResult call() throws Exception {
             	IndexDocumentsResult result;
                 try {
             		result = indexDocuments(indexDocumentsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1649,7 +1724,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeIndexFieldsResult> describeIndexFieldsAsync(final DescribeIndexFieldsRequest describeIndexFieldsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIndexFieldsResult>() {
+        return submit(new Callable<DescribeIndexFieldsResult>() {
             public DescribeIndexFieldsResult call() throws Exception {
                 return describeIndexFields(describeIndexFieldsRequest);
 		    }
@@ -1687,11 +1762,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeIndexFieldsRequest describeIndexFieldsRequest,
             final AsyncHandler<DescribeIndexFieldsRequest, DescribeIndexFieldsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIndexFieldsResult>() {
+        return submit(new Callable<DescribeIndexFieldsResult>() {
             public DescribeIndexFieldsResult call() throws Exception {
             	DescribeIndexFieldsResult result;
                 try {
             		result = describeIndexFields(describeIndexFieldsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1723,7 +1800,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteIndexFieldResult> deleteIndexFieldAsync(final DeleteIndexFieldRequest deleteIndexFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIndexFieldResult>() {
+        return submit(new Callable<DeleteIndexFieldResult>() {
             public DeleteIndexFieldResult call() throws Exception {
                 return deleteIndexField(deleteIndexFieldRequest);
 		    }
@@ -1758,11 +1835,13 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteIndexFieldRequest deleteIndexFieldRequest,
             final AsyncHandler<DeleteIndexFieldRequest, DeleteIndexFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIndexFieldResult>() {
+        return submit(new Callable<DeleteIndexFieldResult>() {
             public DeleteIndexFieldResult call() throws Exception {
             	DeleteIndexFieldResult result;
                 try {
             		result = deleteIndexField(deleteIndexFieldRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -19,6 +19,7 @@ import org.w3c.dom.Node;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.util.XpathUtils;
 import com.amazonaws.transform.StandardErrorUnmarshaller;
+import com.amazonaws.transform.XmlErrorResponse;
 
 import com.amazonaws.services.cloudsearch.model.BaseException;
 
@@ -41,5 +42,14 @@ public class BaseExceptionUnmarshaller extends StandardErrorUnmarshaller {
         
         return e;
     }
+
+    @Override
+    public AmazonServiceException unmarshall(XmlErrorResponse in) throws Exception {
+        BaseException e = (BaseException)unmarshallStandardFields(in);
+        
+        e.setCode(in.get(getErrorPropertyPath("Code")));
+        
+        return e;
+    }
 }
     
\ No newline at end of file
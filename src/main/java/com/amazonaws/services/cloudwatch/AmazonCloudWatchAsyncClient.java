@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -72,6 +74,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -261,6 +265,41 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -306,7 +345,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 putMetricAlarm(putMetricAlarmRequest);
                 return null;
@@ -354,10 +393,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricAlarmRequest putMetricAlarmRequest,
             final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		putMetricAlarm(putMetricAlarmRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -407,7 +448,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 putMetricData(putMetricDataRequest);
                 return null;
@@ -461,10 +502,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricDataRequest putMetricDataRequest,
             final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		putMetricData(putMetricDataRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -508,7 +551,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
+        return submit(new Callable<ListMetricsResult>() {
             public ListMetricsResult call() throws Exception {
                 return listMetrics(listMetricsRequest);
 		    }
@@ -555,11 +598,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final ListMetricsRequest listMetricsRequest,
             final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
+        return submit(new Callable<ListMetricsResult>() {
             public ListMetricsResult call() throws Exception {
             	ListMetricsResult result;
                 try {
             		result = listMetrics(listMetricsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -625,7 +670,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(final GetMetricStatisticsRequest getMetricStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
+        return submit(new Callable<GetMetricStatisticsResult>() {
             public GetMetricStatisticsResult call() throws Exception {
                 return getMetricStatistics(getMetricStatisticsRequest);
 		    }
@@ -694,11 +739,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final GetMetricStatisticsRequest getMetricStatisticsRequest,
             final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
+        return submit(new Callable<GetMetricStatisticsResult>() {
             public GetMetricStatisticsResult call() throws Exception {
             	GetMetricStatisticsResult result;
                 try {
             		result = getMetricStatistics(getMetricStatisticsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -733,7 +780,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> disableAlarmActionsAsync(final DisableAlarmActionsRequest disableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 disableAlarmActions(disableAlarmActionsRequest);
                 return null;
@@ -772,10 +819,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DisableAlarmActionsRequest disableAlarmActionsRequest,
             final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		disableAlarmActions(disableAlarmActionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -810,7 +859,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsResult> describeAlarmsAsync(final DescribeAlarmsRequest describeAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
+        return submit(new Callable<DescribeAlarmsResult>() {
             public DescribeAlarmsResult call() throws Exception {
                 return describeAlarms(describeAlarmsRequest);
 		    }
@@ -848,11 +897,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsRequest describeAlarmsRequest,
             final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
+        return submit(new Callable<DescribeAlarmsResult>() {
             public DescribeAlarmsResult call() throws Exception {
             	DescribeAlarmsResult result;
                 try {
             		result = describeAlarms(describeAlarmsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -887,7 +938,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
+        return submit(new Callable<DescribeAlarmsForMetricResult>() {
             public DescribeAlarmsForMetricResult call() throws Exception {
                 return describeAlarmsForMetric(describeAlarmsForMetricRequest);
 		    }
@@ -925,11 +976,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
             final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
+        return submit(new Callable<DescribeAlarmsForMetricResult>() {
             public DescribeAlarmsForMetricResult call() throws Exception {
             	DescribeAlarmsForMetricResult result;
                 try {
             		result = describeAlarmsForMetric(describeAlarmsForMetricRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -968,7 +1021,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(final DescribeAlarmHistoryRequest describeAlarmHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
+        return submit(new Callable<DescribeAlarmHistoryResult>() {
             public DescribeAlarmHistoryResult call() throws Exception {
                 return describeAlarmHistory(describeAlarmHistoryRequest);
 		    }
@@ -1010,11 +1063,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
             final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
+        return submit(new Callable<DescribeAlarmHistoryResult>() {
             public DescribeAlarmHistoryResult call() throws Exception {
             	DescribeAlarmHistoryResult result;
                 try {
             		result = describeAlarmHistory(describeAlarmHistoryRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1047,7 +1102,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> enableAlarmActionsAsync(final EnableAlarmActionsRequest enableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 enableAlarmActions(enableAlarmActionsRequest);
                 return null;
@@ -1084,10 +1139,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final EnableAlarmActionsRequest enableAlarmActionsRequest,
             final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		enableAlarmActions(enableAlarmActionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1120,7 +1177,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteAlarms(deleteAlarmsRequest);
                 return null;
@@ -1157,10 +1214,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DeleteAlarmsRequest deleteAlarmsRequest,
             final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteAlarms(deleteAlarmsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1196,7 +1255,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setAlarmState(setAlarmStateRequest);
                 return null;
@@ -1236,10 +1295,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final SetAlarmStateRequest setAlarmStateRequest,
             final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setAlarmState(setAlarmStateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
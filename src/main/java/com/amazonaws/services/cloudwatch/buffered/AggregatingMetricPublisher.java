@@ -0,0 +1,397 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.cloudwatch.buffered;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.cloudwatch.AmazonCloudWatch;
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
+import com.amazonaws.services.cloudwatch.model.StandardUnit;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+/**
+ * Publishes custom metrics to Amazon CloudWatch without a call per sample.
+ * <p>
+ * Samples are aggregated in memory, per metric name, unit and set of
+ * dimensions, into a {@link StatisticSet} (sample count, sum, minimum and
+ * maximum). At the end of each aggregation interval a background thread
+ * publishes one metric datum per metric that had samples, in PutMetricData
+ * requests of up to {@link MetricPublisherConfig#MAX_BATCH_SIZE} metric data.
+ * Recording a sample is a concurrent map lookup and a short synchronized
+ * update, so any number of samples per interval costs the same handful of
+ * calls. Usage:
+ *
+ * <pre>
+ * AggregatingMetricPublisher publisher = new AggregatingMetricPublisher(cloudWatch, "MyApp");
+ * ...
+ * publisher.addSample("Latency", millis, StandardUnit.Milliseconds, new Dimension().withName("Operation").withValue("Get"));
+ * ...
+ * publisher.shutdown();
+ * </pre>
+ * <p>
+ * Memory stays bounded under high cardinality: metrics without samples in an
+ * interval are forgotten, and samples of metrics beyond
+ * {@link MetricPublisherConfig#getMaxMetrics()} in one interval are dropped
+ * and counted (see {@link #getDroppedSampleCount()}). Metric data whose
+ * PutMetricData request fails are logged and dropped rather than kept for a
+ * retry.
+ * <p>
+ * Metric data are timestamped with the start of the interval they were
+ * aggregated over; timestamps of data passed to
+ * {@link #addDatum(MetricDatum)} are ignored.
+ */
+public class AggregatingMetricPublisher {
+
+    private static final Log log = LogFactory.getLog(AggregatingMetricPublisher.class);
+
+    private final AmazonCloudWatch cloudWatch;
+
+    private final String namespace;
+
+    private final MetricPublisherConfig config;
+
+    /** Statistics of the current interval, by metric. */
+    private final ConcurrentMap<MetricKey, StatisticAccumulator> accumulators =
+        new ConcurrentHashMap<MetricKey, StatisticAccumulator>();
+
+    /** Samples dropped because too many distinct metrics were in use. */
+    private final AtomicLong droppedSamples = new AtomicLong();
+
+    /** Held while publishing, so that intervals are published one at a time. */
+    private final Object publishLock = new Object();
+
+    /** Start of the current interval; guarded by publishLock. */
+    private long intervalStart = System.currentTimeMillis();
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a publisher for the specified namespace that aggregates
+     * samples over one minute intervals.
+     *
+     * @param cloudWatch
+     *            The client to publish metric data with.
+     * @param namespace
+     *            The namespace of the published metrics.
+     */
+    public AggregatingMetricPublisher(AmazonCloudWatch cloudWatch, String namespace) {
+        this(cloudWatch, namespace, new MetricPublisherConfig());
+    }
+
+    /**
+     * Constructs a publisher for the specified namespace with the specified
+     * configuration.
+     *
+     * @param cloudWatch
+     *            The client to publish metric data with.
+     * @param namespace
+     *            The namespace of the published metrics.
+     * @param config
+     *            The aggregation options; copied, so later changes to it have
+     *            no effect on this publisher.
+     */
+    public AggregatingMetricPublisher(AmazonCloudWatch cloudWatch, String namespace, MetricPublisherConfig config) {
+        if (cloudWatch == null) throw new IllegalArgumentException("CloudWatch client must be specified");
+        if (namespace == null) throw new IllegalArgumentException("Namespace must be specified");
+        this.cloudWatch = cloudWatch;
+        this.namespace = namespace;
+        this.config = new MetricPublisherConfig(config);
+        this.config.validate();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r);
+                thread.setDaemon(true);
+                thread.setName("cloudwatch-metric-publisher");
+                return thread;
+            }
+        });
+        long interval = this.config.getAggregationIntervalMs();
+        scheduler.scheduleAtFixedRate(new Runnable() {
+            public void run() {
+                try {
+                    flush();
+                } catch (Throwable t) {
+                    log.warn("Unable to publish metrics to namespace " + AggregatingMetricPublisher.this.namespace, t);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds one sample of a metric to the current interval.
+     *
+     * @param metricName
+     *            The name of the metric.
+     * @param value
+     *            The sampled value.
+     * @param unit
+     *            The unit of the value, or null for none.
+     * @param dimensions
+     *            The dimensions of the metric, in any order.
+     */
+    public void addSample(String metricName, double value, StandardUnit unit, Dimension... dimensions) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Metric value must be a finite number: " + value);
+        }
+        MetricKey key = new MetricKey(metricName, unit == null ? null : unit.toString(), Arrays.asList(dimensions));
+        while (true) {
+            StatisticAccumulator accumulator = getAccumulator(key);
+            if (accumulator == null || accumulator.add(1, value, value, value)) return;
+        }
+    }
+
+    /**
+     * Adds a metric datum, with either a value or statistic values, to the
+     * current interval. The timestamp of the datum is ignored.
+     *
+     * @param datum
+     *            The metric datum to aggregate.
+     */
+    public void addDatum(MetricDatum datum) {
+        StatisticSet statistics = datum.getStatisticValues();
+        if (statistics == null) {
+            if (datum.getValue() == null) {
+                throw new IllegalArgumentException("Metric datum has neither a value nor statistic values");
+            }
+            double value = datum.getValue();
+            statistics = new StatisticSet().withSampleCount(1.0).withSum(value).withMinimum(value).withMaximum(value);
+        }
+        if (statistics.getSampleCount() == null || statistics.getSum() == null
+                || statistics.getMinimum() == null || statistics.getMaximum() == null) {
+            throw new IllegalArgumentException("Statistic values must be complete: " + statistics);
+        }
+
+        List<Dimension> dimensions = datum.getDimensions();
+        MetricKey key = new MetricKey(datum.getMetricName(), datum.getUnit(), dimensions);
+        while (true) {
+            StatisticAccumulator accumulator = getAccumulator(key);
+            if (accumulator == null || accumulator.add(statistics.getSampleCount(), statistics.getSum(),
+                    statistics.getMinimum(), statistics.getMaximum())) return;
+        }
+    }
+
+    /**
+     * Publishes the statistics aggregated so far on the calling thread and
+     * starts a new interval. Called by the background thread at the end of
+     * each interval.
+     *
+     * @throws AmazonClientException
+     *             If a PutMetricData request fails. The metric data of the
+     *             other requests are still published.
+     */
+    public void flush() {
+        synchronized (publishLock) {
+            long timestamp = intervalStart;
+            intervalStart = System.currentTimeMillis();
+
+            List<MetricDatum> metricData = new ArrayList<MetricDatum>();
+            for (Map.Entry<MetricKey, StatisticAccumulator> entry : accumulators.entrySet()) {
+                StatisticSet statistics = entry.getValue().drain();
+                if (statistics == null) {
+                    // No samples for a whole interval; forget the metric
+                    accumulators.remove(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                metricData.add(entry.getKey().toMetricDatum(statistics, new Date(timestamp)));
+            }
+
+            AmazonClientException failure = null;
+            for (int i = 0; i < metricData.size(); i += MetricPublisherConfig.MAX_BATCH_SIZE) {
+                List<MetricDatum> batch = metricData.subList(i,
+                        Math.min(i + MetricPublisherConfig.MAX_BATCH_SIZE, metricData.size()));
+                try {
+                    cloudWatch.putMetricData(new PutMetricDataRequest()
+                            .withNamespace(namespace)
+                            .withMetricData(new ArrayList<MetricDatum>(batch)));
+                } catch (AmazonClientException e) {
+                    log.warn("Unable to publish " + batch.size() + " metric data to namespace " + namespace, e);
+                    failure = e;
+                }
+            }
+
+            long dropped = droppedSamples.getAndSet(0);
+            if (dropped > 0) {
+                log.warn("Dropped " + dropped + " samples of metrics in namespace " + namespace
+                        + " beyond the limit of " + config.getMaxMetrics() + " metrics per interval");
+            }
+            if (failure != null) throw failure;
+        }
+    }
+
+    /**
+     * Stops the background thread and publishes the statistics aggregated
+     * since the last interval. Samples added afterwards are not published.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    /**
+     * Returns the number of samples dropped, since the last interval was
+     * published, because the limit of distinct metrics per interval was
+     * reached.
+     *
+     * @return The number of samples dropped in the current interval.
+     */
+    public long getDroppedSampleCount() {
+        return droppedSamples.get();
+    }
+
+    /**
+     * Returns the accumulator of the specified metric, or null if the metric
+     * is new and the limit of distinct metrics has been reached.
+     */
+    private StatisticAccumulator getAccumulator(MetricKey key) {
+        StatisticAccumulator accumulator = accumulators.get(key);
+        if (accumulator != null) return accumulator;
+
+        if (accumulators.size() >= config.getMaxMetrics()) {
+            droppedSamples.incrementAndGet();
+            return null;
+        }
+        accumulator = new StatisticAccumulator();
+        StatisticAccumulator existing = accumulators.putIfAbsent(key, accumulator);
+        return existing == null ? accumulator : existing;
+    }
+
+    /**
+     * The statistics of one metric in the current interval. An accumulator
+     * that had no samples in an interval is retired and removed from the map;
+     * a sample that finds a retired accumulator looks up the metric again.
+     */
+    private static final class StatisticAccumulator {
+        private double sampleCount;
+        private double sum;
+        private double minimum;
+        private double maximum;
+        private boolean retired;
+
+        synchronized boolean add(double count, double sum, double minimum, double maximum) {
+            if (retired) return false;
+            if (sampleCount == 0) {
+                this.minimum = minimum;
+                this.maximum = maximum;
+            } else {
+                if (minimum < this.minimum) this.minimum = minimum;
+                if (maximum > this.maximum) this.maximum = maximum;
+            }
+            this.sampleCount += count;
+            this.sum += sum;
+            return true;
+        }
+
+        /**
+         * Returns the statistics of the interval and resets them, or retires
+         * this accumulator and returns null if it had no samples.
+         */
+        synchronized StatisticSet drain() {
+            if (sampleCount == 0) {
+                retired = true;
+                return null;
+            }
+            StatisticSet statistics = new StatisticSet()
+                .withSampleCount(sampleCount)
+                .withSum(sum)
+                .withMinimum(minimum)
+                .withMaximum(maximum);
+            sampleCount = 0;
+            sum = 0;
+            return statistics;
+        }
+    }
+
+    /** Identifies a metric by name, unit and dimensions, in any order. */
+    private static final class MetricKey {
+        private static final Comparator<Dimension> BY_NAME = new Comparator<Dimension>() {
+            public int compare(Dimension a, Dimension b) {
+                return a.getName().compareTo(b.getName());
+            }
+        };
+
+        private final String metricName;
+        private final String unit;
+        private final List<Dimension> dimensions;
+        private final int hashCode;
+
+        MetricKey(String metricName, String unit, List<Dimension> dimensions) {
+            if (metricName == null) throw new IllegalArgumentException("Metric name must be specified");
+            this.metricName = metricName;
+            this.unit = unit;
+            if (dimensions == null || dimensions.isEmpty()) {
+                this.dimensions = Collections.emptyList();
+            } else {
+                List<Dimension> sorted = new ArrayList<Dimension>(dimensions.size());
+                for (Dimension dimension : dimensions) {
+                    if (dimension.getName() == null || dimension.getValue() == null) {
+                        throw new IllegalArgumentException("Dimension name and value must be specified: " + dimension);
+                    }
+                    // Copied, so that later changes to the caller's dimension cannot corrupt the key
+                    sorted.add(new Dimension().withName(dimension.getName()).withValue(dimension.getValue()));
+                }
+                Collections.sort(sorted, BY_NAME);
+                this.dimensions = sorted;
+            }
+            this.hashCode = 31 * (31 * metricName.hashCode() + (unit == null ? 0 : unit.hashCode()))
+                    + this.dimensions.hashCode();
+        }
+
+        MetricDatum toMetricDatum(StatisticSet statistics, Date timestamp) {
+            return new MetricDatum()
+                .withMetricName(metricName)
+                .withUnit(unit)
+                .withDimensions(dimensions)
+                .withStatisticValues(statistics)
+                .withTimestamp(timestamp);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof MetricKey)) return false;
+            MetricKey other = (MetricKey)obj;
+            return hashCode == other.hashCode
+                && metricName.equals(other.metricName)
+                && (unit == null ? other.unit == null : unit.equals(other.unit))
+                && dimensions.equals(other.dimensions);
+        }
+    }
+
+}
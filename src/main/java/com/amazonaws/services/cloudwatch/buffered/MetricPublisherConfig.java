@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.cloudwatch.buffered;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Configuration options for how an {@link AggregatingMetricPublisher}
+ * aggregates and publishes metric samples.
+ */
+public class MetricPublisherConfig {
+
+    /**
+     * The length, in milliseconds, of the interval over which the samples of
+     * each metric are aggregated into one statistic set. At the end of each
+     * interval, the aggregated statistic sets are published. Longer intervals
+     * mean fewer calls to CloudWatch, but later and coarser data points.
+     */
+    private long aggregationIntervalMs = AGGREGATION_INTERVAL_MS_DEFAULT;
+
+    /** 60 seconds */
+    public static final long AGGREGATION_INTERVAL_MS_DEFAULT = 60 * 1000;
+
+    /**
+     * The maximum number of distinct metrics (metric name, unit and
+     * dimensions) aggregated in one interval. Samples of further metrics are
+     * dropped until the next interval, which keeps the memory used by the
+     * publisher, and the number of calls it makes per interval, bounded no
+     * matter how many distinct dimension values are used.
+     */
+    private int maxMetrics = MAX_METRICS_DEFAULT;
+
+    /** 10,000 metrics */
+    public static final int MAX_METRICS_DEFAULT = 10000;
+
+    /** The maximum number of metric data in one PutMetricData request. */
+    public static final int MAX_BATCH_SIZE = 20;
+
+    public MetricPublisherConfig() {}
+
+    /** copy constructor */
+    public MetricPublisherConfig(MetricPublisherConfig other) {
+        this.aggregationIntervalMs = other.aggregationIntervalMs;
+        this.maxMetrics = other.maxMetrics;
+    }
+
+    /**
+     * @return the length, in milliseconds, of the interval over which the
+     *         samples of each metric are aggregated.
+     */
+    public long getAggregationIntervalMs() {
+        return aggregationIntervalMs;
+    }
+
+    /**
+     * @param aggregationIntervalMs
+     *            the length, in milliseconds, of the interval over which the
+     *            samples of each metric are aggregated into one statistic set
+     *            before being published.
+     */
+    public void setAggregationIntervalMs(long aggregationIntervalMs) {
+        this.aggregationIntervalMs = aggregationIntervalMs;
+    }
+
+    public MetricPublisherConfig withAggregationIntervalMs(long aggregationIntervalMs) {
+        setAggregationIntervalMs(aggregationIntervalMs);
+        return this;
+    }
+
+    /**
+     * @return the maximum number of distinct metrics aggregated in one
+     *         interval.
+     */
+    public int getMaxMetrics() {
+        return maxMetrics;
+    }
+
+    /**
+     * @param maxMetrics
+     *            the maximum number of distinct metrics (metric name, unit and
+     *            dimensions) aggregated in one interval. Samples of further
+     *            metrics are dropped until the next interval.
+     */
+    public void setMaxMetrics(int maxMetrics) {
+        this.maxMetrics = maxMetrics;
+    }
+
+    public MetricPublisherConfig withMaxMetrics(int maxMetrics) {
+        setMaxMetrics(maxMetrics);
+        return this;
+    }
+
+    /**
+     * this method checks the config for validity. If the config is deemed to
+     * be invalid, an informative exception is thrown.
+     *
+     * @throws AmazonClientException
+     *             with a message explaining why the config was invalid
+     */
+    void validate() {
+        if (aggregationIntervalMs <= 0) {
+            throw new AmazonClientException("Config property aggregationIntervalMs must be positive.");
+        }
+        if (maxMetrics <= 0) {
+            throw new AmazonClientException("Config property maxMetrics must be positive.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MetricPublisherConfig [aggregationIntervalMs=" + aggregationIntervalMs
+                + ", maxMetrics=" + maxMetrics + "]";
+    }
+
+}
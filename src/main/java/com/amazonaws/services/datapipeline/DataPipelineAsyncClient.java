@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -74,6 +76,8 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -263,6 +267,41 @@ public class DataPipelineAsyncClient extends DataPipelineClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -303,7 +342,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ActivatePipelineResult> activatePipelineAsync(final ActivatePipelineRequest activatePipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivatePipelineResult>() {
+        return submit(new Callable<ActivatePipelineResult>() {
             public ActivatePipelineResult call() throws Exception {
                 return activatePipeline(activatePipelineRequest);
 		    }
@@ -345,11 +384,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ActivatePipelineRequest activatePipelineRequest,
             final AsyncHandler<ActivatePipelineRequest, ActivatePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivatePipelineResult>() {
+        return submit(new Callable<ActivatePipelineResult>() {
             public ActivatePipelineResult call() throws Exception {
             	ActivatePipelineResult result;
                 try {
             		result = activatePipeline(activatePipelineRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -383,7 +424,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ListPipelinesResult> listPipelinesAsync(final ListPipelinesRequest listPipelinesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
+        return submit(new Callable<ListPipelinesResult>() {
             public ListPipelinesResult call() throws Exception {
                 return listPipelines(listPipelinesRequest);
 		    }
@@ -420,11 +461,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ListPipelinesRequest listPipelinesRequest,
             final AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
+        return submit(new Callable<ListPipelinesResult>() {
             public ListPipelinesResult call() throws Exception {
             	ListPipelinesResult result;
                 try {
             		result = listPipelines(listPipelinesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -470,7 +513,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ReportTaskProgressResult> reportTaskProgressAsync(final ReportTaskProgressRequest reportTaskProgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskProgressResult>() {
+        return submit(new Callable<ReportTaskProgressResult>() {
             public ReportTaskProgressResult call() throws Exception {
                 return reportTaskProgress(reportTaskProgressRequest);
 		    }
@@ -519,11 +562,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ReportTaskProgressRequest reportTaskProgressRequest,
             final AsyncHandler<ReportTaskProgressRequest, ReportTaskProgressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskProgressResult>() {
+        return submit(new Callable<ReportTaskProgressResult>() {
             public ReportTaskProgressResult call() throws Exception {
             	ReportTaskProgressResult result;
                 try {
             		result = reportTaskProgress(reportTaskProgressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -558,7 +603,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ValidatePipelineDefinitionResult> validatePipelineDefinitionAsync(final ValidatePipelineDefinitionRequest validatePipelineDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidatePipelineDefinitionResult>() {
+        return submit(new Callable<ValidatePipelineDefinitionResult>() {
             public ValidatePipelineDefinitionResult call() throws Exception {
                 return validatePipelineDefinition(validatePipelineDefinitionRequest);
 		    }
@@ -596,11 +641,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ValidatePipelineDefinitionRequest validatePipelineDefinitionRequest,
             final AsyncHandler<ValidatePipelineDefinitionRequest, ValidatePipelineDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidatePipelineDefinitionResult>() {
+        return submit(new Callable<ValidatePipelineDefinitionResult>() {
             public ValidatePipelineDefinitionResult call() throws Exception {
             	ValidatePipelineDefinitionResult result;
                 try {
             		result = validatePipelineDefinition(validatePipelineDefinitionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -648,7 +695,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<PollForTaskResult> pollForTaskAsync(final PollForTaskRequest pollForTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PollForTaskResult>() {
+        return submit(new Callable<PollForTaskResult>() {
             public PollForTaskResult call() throws Exception {
                 return pollForTask(pollForTaskRequest);
 		    }
@@ -699,11 +746,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final PollForTaskRequest pollForTaskRequest,
             final AsyncHandler<PollForTaskRequest, PollForTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PollForTaskResult>() {
+        return submit(new Callable<PollForTaskResult>() {
             public PollForTaskResult call() throws Exception {
             	PollForTaskResult result;
                 try {
             		result = pollForTask(pollForTaskRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -744,7 +793,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<QueryObjectsResult> queryObjectsAsync(final QueryObjectsRequest queryObjectsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryObjectsResult>() {
+        return submit(new Callable<QueryObjectsResult>() {
             public QueryObjectsResult call() throws Exception {
                 return queryObjects(queryObjectsRequest);
 		    }
@@ -788,11 +837,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final QueryObjectsRequest queryObjectsRequest,
             final AsyncHandler<QueryObjectsRequest, QueryObjectsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryObjectsResult>() {
+        return submit(new Callable<QueryObjectsResult>() {
             public QueryObjectsResult call() throws Exception {
             	QueryObjectsResult result;
                 try {
             		result = queryObjects(queryObjectsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -827,7 +878,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<Void> setStatusAsync(final SetStatusRequest setStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setStatus(setStatusRequest);
                 return null;
@@ -866,10 +917,12 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final SetStatusRequest setStatusRequest,
             final AsyncHandler<SetStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setStatus(setStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -910,7 +963,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<Void> deletePipelineAsync(final DeletePipelineRequest deletePipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deletePipeline(deletePipelineRequest);
                 return null;
@@ -955,10 +1008,12 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final DeletePipelineRequest deletePipelineRequest,
             final AsyncHandler<DeletePipelineRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deletePipeline(deletePipelineRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -993,7 +1048,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<GetPipelineDefinitionResult> getPipelineDefinitionAsync(final GetPipelineDefinitionRequest getPipelineDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPipelineDefinitionResult>() {
+        return submit(new Callable<GetPipelineDefinitionResult>() {
             public GetPipelineDefinitionResult call() throws Exception {
                 return getPipelineDefinition(getPipelineDefinitionRequest);
 		    }
@@ -1031,11 +1086,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final GetPipelineDefinitionRequest getPipelineDefinitionRequest,
             final AsyncHandler<GetPipelineDefinitionRequest, GetPipelineDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPipelineDefinitionResult>() {
+        return submit(new Callable<GetPipelineDefinitionResult>() {
             public GetPipelineDefinitionResult call() throws Exception {
             	GetPipelineDefinitionResult result;
                 try {
             		result = getPipelineDefinition(getPipelineDefinitionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1071,7 +1128,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<SetTaskStatusResult> setTaskStatusAsync(final SetTaskStatusRequest setTaskStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetTaskStatusResult>() {
+        return submit(new Callable<SetTaskStatusResult>() {
             public SetTaskStatusResult call() throws Exception {
                 return setTaskStatus(setTaskStatusRequest);
 		    }
@@ -1110,11 +1167,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final SetTaskStatusRequest setTaskStatusRequest,
             final AsyncHandler<SetTaskStatusRequest, SetTaskStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetTaskStatusResult>() {
+        return submit(new Callable<SetTaskStatusResult>() {
             public SetTaskStatusResult call() throws Exception {
             	SetTaskStatusResult result;
                 try {
             		result = setTaskStatus(setTaskStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1148,7 +1207,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<EvaluateExpressionResult> evaluateExpressionAsync(final EvaluateExpressionRequest evaluateExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EvaluateExpressionResult>() {
+        return submit(new Callable<EvaluateExpressionResult>() {
             public EvaluateExpressionResult call() throws Exception {
                 return evaluateExpression(evaluateExpressionRequest);
 		    }
@@ -1185,11 +1244,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final EvaluateExpressionRequest evaluateExpressionRequest,
             final AsyncHandler<EvaluateExpressionRequest, EvaluateExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EvaluateExpressionResult>() {
+        return submit(new Callable<EvaluateExpressionResult>() {
             public EvaluateExpressionResult call() throws Exception {
             	EvaluateExpressionResult result;
                 try {
             		result = evaluateExpression(evaluateExpressionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1231,7 +1292,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<DescribePipelinesResult> describePipelinesAsync(final DescribePipelinesRequest describePipelinesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePipelinesResult>() {
+        return submit(new Callable<DescribePipelinesResult>() {
             public DescribePipelinesResult call() throws Exception {
                 return describePipelines(describePipelinesRequest);
 		    }
@@ -1276,11 +1337,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final DescribePipelinesRequest describePipelinesRequest,
             final AsyncHandler<DescribePipelinesRequest, DescribePipelinesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePipelinesResult>() {
+        return submit(new Callable<DescribePipelinesResult>() {
             public DescribePipelinesResult call() throws Exception {
             	DescribePipelinesResult result;
                 try {
             		result = describePipelines(describePipelinesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1313,7 +1376,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<CreatePipelineResult> createPipelineAsync(final CreatePipelineRequest createPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
+        return submit(new Callable<CreatePipelineResult>() {
             public CreatePipelineResult call() throws Exception {
                 return createPipeline(createPipelineRequest);
 		    }
@@ -1349,11 +1412,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final CreatePipelineRequest createPipelineRequest,
             final AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
+        return submit(new Callable<CreatePipelineResult>() {
             public CreatePipelineResult call() throws Exception {
             	CreatePipelineResult result;
                 try {
             		result = createPipeline(createPipelineRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1387,7 +1452,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<DescribeObjectsResult> describeObjectsAsync(final DescribeObjectsRequest describeObjectsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeObjectsResult>() {
+        return submit(new Callable<DescribeObjectsResult>() {
             public DescribeObjectsResult call() throws Exception {
                 return describeObjects(describeObjectsRequest);
 		    }
@@ -1424,11 +1489,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final DescribeObjectsRequest describeObjectsRequest,
             final AsyncHandler<DescribeObjectsRequest, DescribeObjectsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeObjectsResult>() {
+        return submit(new Callable<DescribeObjectsResult>() {
             public DescribeObjectsResult call() throws Exception {
             	DescribeObjectsResult result;
                 try {
             		result = describeObjects(describeObjectsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1465,7 +1532,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ReportTaskRunnerHeartbeatResult> reportTaskRunnerHeartbeatAsync(final ReportTaskRunnerHeartbeatRequest reportTaskRunnerHeartbeatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskRunnerHeartbeatResult>() {
+        return submit(new Callable<ReportTaskRunnerHeartbeatResult>() {
             public ReportTaskRunnerHeartbeatResult call() throws Exception {
                 return reportTaskRunnerHeartbeat(reportTaskRunnerHeartbeatRequest);
 		    }
@@ -1505,11 +1572,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ReportTaskRunnerHeartbeatRequest reportTaskRunnerHeartbeatRequest,
             final AsyncHandler<ReportTaskRunnerHeartbeatRequest, ReportTaskRunnerHeartbeatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskRunnerHeartbeatResult>() {
+        return submit(new Callable<ReportTaskRunnerHeartbeatResult>() {
             public ReportTaskRunnerHeartbeatResult call() throws Exception {
             	ReportTaskRunnerHeartbeatResult result;
                 try {
             		result = reportTaskRunnerHeartbeat(reportTaskRunnerHeartbeatRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1559,7 +1628,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<PutPipelineDefinitionResult> putPipelineDefinitionAsync(final PutPipelineDefinitionRequest putPipelineDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutPipelineDefinitionResult>() {
+        return submit(new Callable<PutPipelineDefinitionResult>() {
             public PutPipelineDefinitionResult call() throws Exception {
                 return putPipelineDefinition(putPipelineDefinitionRequest);
 		    }
@@ -1612,11 +1681,13 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final PutPipelineDefinitionRequest putPipelineDefinitionRequest,
             final AsyncHandler<PutPipelineDefinitionRequest, PutPipelineDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutPipelineDefinitionResult>() {
+        return submit(new Callable<PutPipelineDefinitionResult>() {
             public PutPipelineDefinitionResult call() throws Exception {
             	PutPipelineDefinitionResult result;
                 try {
             		result = putPipelineDefinition(putPipelineDefinitionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
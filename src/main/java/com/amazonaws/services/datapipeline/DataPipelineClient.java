@@ -90,6 +90,9 @@ public class DataPipelineClient extends AmazonWebServiceClient implements DataPi
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -227,6 +230,7 @@ public class DataPipelineClient extends AmazonWebServiceClient implements DataPi
         exceptionUnmarshallers.add(new InvalidRequestExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new JsonErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("datapipeline.us-east-1.amazonaws.com");
 
         signer = new AWS4Signer();
@@ -1140,7 +1144,6 @@ public class DataPipelineClient extends AmazonWebServiceClient implements DataPi
         executionContext.setCredentials(credentials);
 
         
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -67,6 +69,8 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -256,6 +260,41 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -298,7 +337,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeVirtualInterfacesResult> describeVirtualInterfacesAsync(final DescribeVirtualInterfacesRequest describeVirtualInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualInterfacesResult>() {
+        return submit(new Callable<DescribeVirtualInterfacesResult>() {
             public DescribeVirtualInterfacesResult call() throws Exception {
                 return describeVirtualInterfaces(describeVirtualInterfacesRequest);
 		    }
@@ -342,11 +381,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualInterfacesRequest describeVirtualInterfacesRequest,
             final AsyncHandler<DescribeVirtualInterfacesRequest, DescribeVirtualInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualInterfacesResult>() {
+        return submit(new Callable<DescribeVirtualInterfacesResult>() {
             public DescribeVirtualInterfacesResult call() throws Exception {
             	DescribeVirtualInterfacesResult result;
                 try {
             		result = describeVirtualInterfaces(describeVirtualInterfacesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -388,7 +429,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeVirtualGatewaysResult> describeVirtualGatewaysAsync(final DescribeVirtualGatewaysRequest describeVirtualGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualGatewaysResult>() {
+        return submit(new Callable<DescribeVirtualGatewaysResult>() {
             public DescribeVirtualGatewaysResult call() throws Exception {
                 return describeVirtualGateways(describeVirtualGatewaysRequest);
 		    }
@@ -433,11 +474,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualGatewaysRequest describeVirtualGatewaysRequest,
             final AsyncHandler<DescribeVirtualGatewaysRequest, DescribeVirtualGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualGatewaysResult>() {
+        return submit(new Callable<DescribeVirtualGatewaysResult>() {
             public DescribeVirtualGatewaysResult call() throws Exception {
             	DescribeVirtualGatewaysResult result;
                 try {
             		result = describeVirtualGateways(describeVirtualGatewaysRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -472,7 +515,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeConnectionDetailResult> describeConnectionDetailAsync(final DescribeConnectionDetailRequest describeConnectionDetailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionDetailResult>() {
+        return submit(new Callable<DescribeConnectionDetailResult>() {
             public DescribeConnectionDetailResult call() throws Exception {
                 return describeConnectionDetail(describeConnectionDetailRequest);
 		    }
@@ -510,11 +553,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionDetailRequest describeConnectionDetailRequest,
             final AsyncHandler<DescribeConnectionDetailRequest, DescribeConnectionDetailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionDetailResult>() {
+        return submit(new Callable<DescribeConnectionDetailResult>() {
             public DescribeConnectionDetailResult call() throws Exception {
             	DescribeConnectionDetailResult result;
                 try {
             		result = describeConnectionDetail(describeConnectionDetailRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -551,7 +596,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeOfferingsResult> describeOfferingsAsync(final DescribeOfferingsRequest describeOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOfferingsResult>() {
+        return submit(new Callable<DescribeOfferingsResult>() {
             public DescribeOfferingsResult call() throws Exception {
                 return describeOfferings(describeOfferingsRequest);
 		    }
@@ -591,11 +636,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeOfferingsRequest describeOfferingsRequest,
             final AsyncHandler<DescribeOfferingsRequest, DescribeOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOfferingsResult>() {
+        return submit(new Callable<DescribeOfferingsResult>() {
             public DescribeOfferingsResult call() throws Exception {
             	DescribeOfferingsResult result;
                 try {
             		result = describeOfferings(describeOfferingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -633,7 +680,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeConnectionsResult> describeConnectionsAsync(final DescribeConnectionsRequest describeConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionsResult>() {
+        return submit(new Callable<DescribeConnectionsResult>() {
             public DescribeConnectionsResult call() throws Exception {
                 return describeConnections(describeConnectionsRequest);
 		    }
@@ -674,11 +721,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionsRequest describeConnectionsRequest,
             final AsyncHandler<DescribeConnectionsRequest, DescribeConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionsResult>() {
+        return submit(new Callable<DescribeConnectionsResult>() {
             public DescribeConnectionsResult call() throws Exception {
             	DescribeConnectionsResult result;
                 try {
             		result = describeConnections(describeConnectionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -712,7 +761,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeOfferingDetailResult> describeOfferingDetailAsync(final DescribeOfferingDetailRequest describeOfferingDetailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOfferingDetailResult>() {
+        return submit(new Callable<DescribeOfferingDetailResult>() {
             public DescribeOfferingDetailResult call() throws Exception {
                 return describeOfferingDetail(describeOfferingDetailRequest);
 		    }
@@ -749,11 +798,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeOfferingDetailRequest describeOfferingDetailRequest,
             final AsyncHandler<DescribeOfferingDetailRequest, DescribeOfferingDetailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOfferingDetailResult>() {
+        return submit(new Callable<DescribeOfferingDetailResult>() {
             public DescribeOfferingDetailResult call() throws Exception {
             	DescribeOfferingDetailResult result;
                 try {
             		result = describeOfferingDetail(describeOfferingDetailRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -791,7 +842,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DeleteConnectionResult> deleteConnectionAsync(final DeleteConnectionRequest deleteConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConnectionResult>() {
+        return submit(new Callable<DeleteConnectionResult>() {
             public DeleteConnectionResult call() throws Exception {
                 return deleteConnection(deleteConnectionRequest);
 		    }
@@ -832,11 +883,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteConnectionRequest deleteConnectionRequest,
             final AsyncHandler<DeleteConnectionRequest, DeleteConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConnectionResult>() {
+        return submit(new Callable<DeleteConnectionResult>() {
             public DeleteConnectionResult call() throws Exception {
             	DeleteConnectionResult result;
                 try {
             		result = deleteConnection(deleteConnectionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -879,7 +932,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<CreateConnectionResult> createConnectionAsync(final CreateConnectionRequest createConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConnectionResult>() {
+        return submit(new Callable<CreateConnectionResult>() {
             public CreateConnectionResult call() throws Exception {
                 return createConnection(createConnectionRequest);
 		    }
@@ -925,11 +978,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreateConnectionRequest createConnectionRequest,
             final AsyncHandler<CreateConnectionRequest, CreateConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConnectionResult>() {
+        return submit(new Callable<CreateConnectionResult>() {
             public CreateConnectionResult call() throws Exception {
             	CreateConnectionResult result;
                 try {
             		result = createConnection(createConnectionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -966,7 +1021,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<CreatePrivateVirtualInterfaceResult> createPrivateVirtualInterfaceAsync(final CreatePrivateVirtualInterfaceRequest createPrivateVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePrivateVirtualInterfaceResult>() {
+        return submit(new Callable<CreatePrivateVirtualInterfaceResult>() {
             public CreatePrivateVirtualInterfaceResult call() throws Exception {
                 return createPrivateVirtualInterface(createPrivateVirtualInterfaceRequest);
 		    }
@@ -1006,11 +1061,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePrivateVirtualInterfaceRequest createPrivateVirtualInterfaceRequest,
             final AsyncHandler<CreatePrivateVirtualInterfaceRequest, CreatePrivateVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePrivateVirtualInterfaceResult>() {
+        return submit(new Callable<CreatePrivateVirtualInterfaceResult>() {
             public CreatePrivateVirtualInterfaceResult call() throws Exception {
             	CreatePrivateVirtualInterfaceResult result;
                 try {
             		result = createPrivateVirtualInterface(createPrivateVirtualInterfaceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1044,7 +1101,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DeleteVirtualInterfaceResult> deleteVirtualInterfaceAsync(final DeleteVirtualInterfaceRequest deleteVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVirtualInterfaceResult>() {
+        return submit(new Callable<DeleteVirtualInterfaceResult>() {
             public DeleteVirtualInterfaceResult call() throws Exception {
                 return deleteVirtualInterface(deleteVirtualInterfaceRequest);
 		    }
@@ -1081,11 +1138,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteVirtualInterfaceRequest deleteVirtualInterfaceRequest,
             final AsyncHandler<DeleteVirtualInterfaceRequest, DeleteVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVirtualInterfaceResult>() {
+        return submit(new Callable<DeleteVirtualInterfaceResult>() {
             public DeleteVirtualInterfaceResult call() throws Exception {
             	DeleteVirtualInterfaceResult result;
                 try {
             		result = deleteVirtualInterface(deleteVirtualInterfaceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1122,7 +1181,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<CreatePublicVirtualInterfaceResult> createPublicVirtualInterfaceAsync(final CreatePublicVirtualInterfaceRequest createPublicVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePublicVirtualInterfaceResult>() {
+        return submit(new Callable<CreatePublicVirtualInterfaceResult>() {
             public CreatePublicVirtualInterfaceResult call() throws Exception {
                 return createPublicVirtualInterface(createPublicVirtualInterfaceRequest);
 		    }
@@ -1162,11 +1221,13 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePublicVirtualInterfaceRequest createPublicVirtualInterfaceRequest,
             final AsyncHandler<CreatePublicVirtualInterfaceRequest, CreatePublicVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePublicVirtualInterfaceResult>() {
+        return submit(new Callable<CreatePublicVirtualInterfaceResult>() {
             public CreatePublicVirtualInterfaceResult call() throws Exception {
             	CreatePublicVirtualInterfaceResult result;
                 try {
             		result = createPublicVirtualInterface(createPublicVirtualInterfaceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -83,6 +83,9 @@ public class AmazonDirectConnectClient extends AmazonWebServiceClient implements
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -217,6 +220,7 @@ public class AmazonDirectConnectClient extends AmazonWebServiceClient implements
         exceptionUnmarshallers.add(new DirectConnectClientExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new JsonErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("directConnect.us-east-1.amazonaws.com/");
 
         signer = new AWS4Signer();
@@ -1025,7 +1029,6 @@ public class AmazonDirectConnectClient extends AmazonWebServiceClient implements
         executionContext.setCredentials(credentials);
 
         
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
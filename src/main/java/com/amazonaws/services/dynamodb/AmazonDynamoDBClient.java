@@ -66,6 +66,9 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -204,6 +207,7 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         exceptionUnmarshallers.add(new ResourceNotFoundExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new JsonErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("dynamodb.us-east-1.amazonaws.com/");
 
         signer = new AWS4Signer();
@@ -979,7 +983,6 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements Amaz
         executionContext.setCredentials(credentials);
 
         executionContext.setCustomBackoffStrategy(com.amazonaws.internal.DynamoDBBackoffStrategy.DEFAULT);
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2011-2013 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives the objects loaded by
+ * {@link DynamoDBMapper#parallelBatchLoad(Map, com.amazonaws.services.dynamodb.AmazonDynamoDBAsync, DynamoDBMapperConfig, BatchLoadListener)}
+ * as each chunk of keys completes.
+ */
+public interface BatchLoadListener {
+
+    /**
+     * Called once for every BatchGetItem response, possibly concurrently from
+     * several threads.
+     *
+     * @param items
+     *            The objects loaded by the response, by table name. The map
+     *            and its lists are owned by the listener.
+     */
+    public void itemsLoaded(Map<String, List<Object>> items);
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2011-2013 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodb.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapper.ValueUpdate;
+import com.amazonaws.services.dynamodb.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodb.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodb.model.WriteRequest;
+
+/**
+ * Saves and deletes a stream of objects with pipelined calls to the
+ * {@link AmazonDynamoDBAsync#batchWriteItemAsync(BatchWriteItemRequest, AsyncHandler)}
+ * API.
+ * <p>
+ * Objects are grouped into batches of 25 items, and up to a fixed number of
+ * batches are written concurrently. Once that many batches are in flight,
+ * {@link #save(Object)} and {@link #delete(Object)} block until one of them
+ * completes, so a writer uses a constant amount of memory regardless of how
+ * many objects are written through it. Unprocessed items, and batches that
+ * fail because the table's provisioned throughput is exceeded, are retried
+ * after an exponential backoff with random jitter, holding on to their
+ * in-flight slot meanwhile so that a throttled table slows the writer down
+ * instead of being flooded. A batch fails once it has been throttled
+ * {@value #MAX_THROTTLED_ATTEMPTS} times, counting both throttling errors and
+ * attempts that returned all of their items unprocessed.
+ * <p>
+ * Writes are not complete until {@link #flush()} or {@link #close()} returns.
+ * The first batch that fails stops the writer, and its exception is thrown
+ * by the next call to any method of the writer. Auto-generated keys are
+ * assigned to the saved objects once their batch has been written.
+ * <p>
+ * As with {@link DynamoDBMapper#batchWrite(List, List, DynamoDBMapperConfig)},
+ * no version checks are performed.
+ *
+ * @see DynamoDBMapper#newBatchWriter(AmazonDynamoDBAsync, int)
+ */
+public class DynamoDBBatchWriter {
+
+    /** Maximum number of items in a single BatchWriteItem request. */
+    private static final int MAX_ITEMS_PER_BATCH = 25;
+
+    /**
+     * Maximum number of attempts of a batch that keeps being throttled, either
+     * with throttling errors or by having all of its items returned
+     * unprocessed.
+     */
+    static final int MAX_THROTTLED_ATTEMPTS = 10;
+
+    private static final long BASE_BACKOFF_MILLIS = 50;
+
+    private static final long MAX_BACKOFF_MILLIS = 10 * 1000;
+
+    private final DynamoDBMapper mapper;
+
+    private final AmazonDynamoDBAsync dynamoAsync;
+
+    private final DynamoDBMapperConfig config;
+
+    private final int maxInFlightBatches;
+
+    /** One permit per batch that may be in flight. */
+    private final Semaphore inFlightBatches;
+
+    /** Schedules batches waiting for their backoff to expire. */
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Random random = new Random();
+
+    /** Items of the batch being assembled, by table name. */
+    private Map<String, List<WriteRequest>> pendingItems = new HashMap<String, List<WriteRequest>>();
+
+    private List<ValueUpdate> pendingUpdates = new LinkedList<ValueUpdate>();
+
+    private int pendingItemCount;
+
+    private volatile AmazonClientException failure;
+
+    private boolean closed;
+
+    DynamoDBBatchWriter(DynamoDBMapper mapper, AmazonDynamoDBAsync dynamoAsync, DynamoDBMapperConfig config,
+            int maxInFlightBatches) {
+        if ( maxInFlightBatches < 1 )
+            throw new IllegalArgumentException("maxInFlightBatches must be at least 1");
+
+        this.mapper = mapper;
+        this.dynamoAsync = dynamoAsync;
+        this.config = config;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "dynamodb-batch-writer-retry");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Queues the object given to be saved, blocking while the maximum number
+     * of batches is in flight.
+     */
+    public synchronized void save(Object toWrite) {
+        checkOpen();
+        String tableName = mapper.getTableName(toWrite.getClass(), config);
+        addPendingItem(tableName, mapper.createPutWriteRequest(toWrite, pendingUpdates));
+    }
+
+    /**
+     * Queues the object given to be deleted, blocking while the maximum number
+     * of batches is in flight.
+     */
+    public synchronized void delete(Object toDelete) {
+        checkOpen();
+        String tableName = mapper.getTableName(toDelete.getClass(), config);
+        addPendingItem(tableName, mapper.createDeleteWriteRequest(toDelete));
+    }
+
+    /**
+     * Sends any partially filled batch and waits until all batches have been
+     * written.
+     *
+     * @throws AmazonClientException
+     *             If any batch could not be written.
+     */
+    public synchronized void flush() {
+        checkOpen();
+        if ( pendingItemCount > 0 )
+            sendPendingItems();
+        awaitInFlightBatches();
+        checkFailure();
+    }
+
+    /**
+     * Flushes the writer and releases its resources. The writer can't be used
+     * afterwards.
+     *
+     * @throws AmazonClientException
+     *             If any batch could not be written.
+     */
+    public synchronized void close() {
+        if ( closed )
+            return;
+        try {
+            if ( failure == null && pendingItemCount > 0 )
+                sendPendingItems();
+            awaitInFlightBatches();
+        } finally {
+            closed = true;
+            retryScheduler.shutdownNow();
+        }
+        checkFailure();
+    }
+
+    private void checkOpen() {
+        if ( closed )
+            throw new IllegalStateException("The batch writer has been closed");
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        if ( failure != null )
+            throw failure;
+    }
+
+    private void addPendingItem(String tableName, WriteRequest writeRequest) {
+        List<WriteRequest> tableItems = pendingItems.get(tableName);
+        if ( tableItems == null ) {
+            tableItems = new ArrayList<WriteRequest>();
+            pendingItems.put(tableName, tableItems);
+        }
+        tableItems.add(writeRequest);
+
+        if ( ++pendingItemCount == MAX_ITEMS_PER_BATCH )
+            sendPendingItems();
+    }
+
+    private void sendPendingItems() {
+        Batch batch = new Batch(pendingItems, pendingUpdates);
+        pendingItems = new HashMap<String, List<WriteRequest>>();
+        pendingUpdates = new LinkedList<ValueUpdate>();
+        pendingItemCount = 0;
+
+        acquireUninterruptibly(1);
+        batch.run();
+    }
+
+    private void awaitInFlightBatches() {
+        acquireUninterruptibly(maxInFlightBatches);
+        inFlightBatches.release(maxInFlightBatches);
+    }
+
+    private void acquireUninterruptibly(int permits) {
+        try {
+            inFlightBatches.acquire(permits);
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for batch writes to complete", e);
+        }
+    }
+
+    /**
+     * Returns a delay drawn uniformly from the upper half of an exponentially
+     * growing interval, so that concurrent retries spread out.
+     */
+    static long backoffDelay(int attempt, Random random) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 20));
+        return ceiling / 2 + (long) (random.nextDouble() * (ceiling / 2));
+    }
+
+    /**
+     * Returns whether the batch call that failed with the exception given can
+     * be retried after backing off.
+     */
+    static boolean isRetryable(Exception e) {
+        if ( !(e instanceof AmazonServiceException) )
+            return false;
+        AmazonServiceException ase = (AmazonServiceException) e;
+        return "ProvisionedThroughputExceededException".equals(ase.getErrorCode())
+                || "ThrottlingException".equals(ase.getErrorCode())
+                || ase.getErrorType() == ErrorType.Service;
+    }
+
+    private static int countItems(Map<String, List<WriteRequest>> items) {
+        int count = 0;
+        for ( List<WriteRequest> tableItems : items.values() ) {
+            count += tableItems.size();
+        }
+        return count;
+    }
+
+    /**
+     * A batch of up to 25 items, holding one in-flight permit from the time it
+     * is first sent until all of its items are written or it fails.
+     */
+    private final class Batch implements Runnable, AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> {
+
+        private Map<String, List<WriteRequest>> items;
+
+        private final List<ValueUpdate> inMemoryUpdates;
+
+        private int attempt;
+
+        private int throttledAttempts;
+
+        Batch(Map<String, List<WriteRequest>> items, List<ValueUpdate> inMemoryUpdates) {
+            this.items = items;
+            this.inMemoryUpdates = inMemoryUpdates;
+        }
+
+        public void run() {
+            if ( failure != null ) {
+                // Another batch failed; don't write anything else
+                inFlightBatches.release();
+                return;
+            }
+            try {
+                dynamoAsync.batchWriteItemAsync(
+                        DynamoDBMapper.applyUserAgent(new BatchWriteItemRequest().withRequestItems(items)), this);
+            } catch ( RuntimeException e ) {
+                fail(e);
+            }
+        }
+
+        public void onSuccess(BatchWriteItemRequest request, BatchWriteItemResult result) {
+            Map<String, List<WriteRequest>> unprocessedItems = result.getUnprocessedItems();
+            if ( unprocessedItems != null && !unprocessedItems.isEmpty() ) {
+                // Attempts that make progress are bounded by the batch size
+                int unprocessedCount = countItems(unprocessedItems);
+                if ( unprocessedCount >= countItems(items) && ++throttledAttempts >= MAX_THROTTLED_ATTEMPTS ) {
+                    fail(new AmazonClientException("Unable to write batch: " + unprocessedCount
+                            + " items were still unprocessed after " + MAX_THROTTLED_ATTEMPTS + " attempts"));
+                    return;
+                }
+                items = unprocessedItems;
+                retryLater();
+                return;
+            }
+            try {
+                for ( ValueUpdate update : inMemoryUpdates ) {
+                    update.apply();
+                }
+            } catch ( RuntimeException e ) {
+                fail(e);
+                return;
+            }
+            inFlightBatches.release();
+        }
+
+        public void onError(Exception exception) {
+            if ( isRetryable(exception) && ++throttledAttempts < MAX_THROTTLED_ATTEMPTS ) {
+                retryLater();
+            } else {
+                fail(exception);
+            }
+        }
+
+        private void retryLater() {
+            try {
+                retryScheduler.schedule(this, backoffDelay(attempt++, random), TimeUnit.MILLISECONDS);
+            } catch ( RejectedExecutionException e ) {
+                fail(new AmazonClientException("The batch writer has been closed", e));
+            }
+        }
+
+        private void fail(Exception e) {
+            if ( failure == null ) {
+                failure = e instanceof AmazonClientException
+                        ? (AmazonClientException) e
+                        : new AmazonClientException("Unable to write batch: " + e.getMessage(), e);
+            }
+            inFlightBatches.release();
+        }
+    }
+}
@@ -26,10 +26,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.services.dynamodb.AmazonDynamoDB;
+import com.amazonaws.services.dynamodb.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.ConsistentReads;
 import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.SaveBehavior;
 import com.amazonaws.services.dynamodb.model.AttributeValue;
@@ -155,6 +162,13 @@ public class DynamoDBMapper {
      */
     private static final String USER_AGENT = DynamoDBMapper.class.getName() + "/" + VersionInfoUtils.getVersion();
 
+    /**
+     * Maximum number of threads of the thread pools created for parallel
+     * scans that are not given an executor; matches the default maximum
+     * number of connections of a client.
+     */
+    public static final int MAX_DEFAULT_PARALLEL_SCAN_THREADS = 50;
+
     /**
      * Constructs a new mapper with the service object given, using the default
      * configuration.
@@ -257,7 +271,7 @@ public class DynamoDBMapper {
         return marshallIntoObject(clazz, itemAttributes);
     }
 
-    private <T> String getTableName(Class<T> clazz, DynamoDBMapperConfig config) {
+    <T> String getTableName(Class<T> clazz, DynamoDBMapperConfig config) {
         DynamoDBTable table = reflector.getTable(clazz);
         String tableName = table.tableName();
         if ( config.getTableNameOverride() != null ) {
@@ -719,59 +733,23 @@ public class DynamoDBMapper {
 
         List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
         for ( Object toWrite : objectsToWrite ) {
-            Class<?> clazz = toWrite.getClass();
-            String tableName = getTableName(clazz, config);
-
-            Map<String, AttributeValue> attributeValues = new HashMap<String, AttributeValue>();
-
-            // Look at every getter and construct a value object for it
-            for ( Method method : reflector.getRelevantGetters(clazz) ) {
-                Object getterResult = safeInvoke(method, toWrite);
-                String attributeName = reflector.getAttributeName(method);
-
-                AttributeValue currentValue = null;
-                if ( getterResult == null && reflector.isAssignableKey(method) ) {
-                    currentValue = getAutoGeneratedKeyAttributeValue(method, getterResult);
-                    inMemoryUpdates.add(new ValueUpdate(method, currentValue, toWrite));
-                } else {
-                    currentValue = getSimpleAttributeValue(method, getterResult);
-                }
-
-                if ( currentValue != null ) {
-                    attributeValues.put(attributeName, currentValue);
-                }
-            }
+            String tableName = getTableName(toWrite.getClass(), config);
 
             if ( !requestItems.containsKey(tableName) ) {
                 requestItems.put(tableName, new LinkedList<WriteRequest>());
             }
 
-            requestItems.get(tableName).add(
-                    new WriteRequest().withPutRequest(new PutRequest().withItem(transformAttributes(clazz, attributeValues))));
+            requestItems.get(tableName).add(createPutWriteRequest(toWrite, inMemoryUpdates));
         }
 
         for ( Object toDelete : objectsToDelete ) {
-            Class<?> clazz = toDelete.getClass();
-
-            String tableName = getTableName(clazz, config);
-
-            Method hashKeyGetter = reflector.getHashKeyGetter(clazz);
-            AttributeValue hashKeyElement = getHashKeyElement(safeInvoke(hashKeyGetter, toDelete), hashKeyGetter);
-
-            AttributeValue rangeKeyElement = null;
-            Method rangeKeyGetter = reflector.getRangeKeyGetter(clazz);
-            if ( rangeKeyGetter != null ) {
-                rangeKeyElement = getRangeKeyElement(safeInvoke(rangeKeyGetter, toDelete), rangeKeyGetter);
-            }
-
-            Key objectKey = new Key().withHashKeyElement(hashKeyElement).withRangeKeyElement(rangeKeyElement);
+            String tableName = getTableName(toDelete.getClass(), config);
 
             if ( !requestItems.containsKey(tableName) ) {
                 requestItems.put(tableName, new LinkedList<WriteRequest>());
             }
 
-            requestItems.get(tableName).add(
-                    new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(objectKey)));
+            requestItems.get(tableName).add(createDeleteWriteRequest(toDelete));
         }
 
         // Break into chunks of 25 items and make service requests to DynamoDB
@@ -813,6 +791,94 @@ public class DynamoDBMapper {
         }
     }
 
+    /**
+     * Creates a writer that saves and deletes a stream of objects with up to
+     * the given number of concurrent
+     * {@link AmazonDynamoDBAsync#batchWriteItemAsync(BatchWriteItemRequest, com.amazonaws.handlers.AsyncHandler)}
+     * calls, using the default configuration.
+     *
+     * @see DynamoDBMapper#newBatchWriter(AmazonDynamoDBAsync, int, DynamoDBMapperConfig)
+     */
+    public DynamoDBBatchWriter newBatchWriter(AmazonDynamoDBAsync dynamoAsync, int maxInFlightBatches) {
+        return newBatchWriter(dynamoAsync, maxInFlightBatches, this.config);
+    }
+
+    /**
+     * Creates a writer that saves and deletes a stream of objects with up to
+     * the given number of concurrent
+     * {@link AmazonDynamoDBAsync#batchWriteItemAsync(BatchWriteItemRequest, com.amazonaws.handlers.AsyncHandler)}
+     * calls. Unlike {@link #batchWrite(List, List, DynamoDBMapperConfig)}, the
+     * objects don't need to be held in memory all at once, and throttled
+     * batches are retried with backoff. The writer must be closed once all
+     * objects have been passed to it.
+     *
+     * @param dynamoAsync
+     *            The asynchronous client to write the batches with.
+     * @param maxInFlightBatches
+     *            The maximum number of batches of 25 items written
+     *            concurrently.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()} is
+     *            considered; if specified, all objects written will be
+     *            considered to belong to the given table override.
+     * @see DynamoDBBatchWriter
+     */
+    public DynamoDBBatchWriter newBatchWriter(AmazonDynamoDBAsync dynamoAsync, int maxInFlightBatches,
+            DynamoDBMapperConfig config) {
+        return new DynamoDBBatchWriter(this, dynamoAsync, mergeConfig(config), maxInFlightBatches);
+    }
+
+    /**
+     * Creates the batch write request that saves the object given. Values of
+     * auto-generated keys are added to the in-memory updates to be applied
+     * once the object has been written.
+     */
+    WriteRequest createPutWriteRequest(Object toWrite, List<ValueUpdate> inMemoryUpdates) {
+        Class<?> clazz = toWrite.getClass();
+
+        Map<String, AttributeValue> attributeValues = new HashMap<String, AttributeValue>();
+
+        // Look at every getter and construct a value object for it
+        for ( Method method : reflector.getRelevantGetters(clazz) ) {
+            Object getterResult = safeInvoke(method, toWrite);
+            String attributeName = reflector.getAttributeName(method);
+
+            AttributeValue currentValue = null;
+            if ( getterResult == null && reflector.isAssignableKey(method) ) {
+                currentValue = getAutoGeneratedKeyAttributeValue(method, getterResult);
+                inMemoryUpdates.add(new ValueUpdate(method, currentValue, toWrite));
+            } else {
+                currentValue = getSimpleAttributeValue(method, getterResult);
+            }
+
+            if ( currentValue != null ) {
+                attributeValues.put(attributeName, currentValue);
+            }
+        }
+
+        return new WriteRequest().withPutRequest(new PutRequest().withItem(transformAttributes(clazz, attributeValues)));
+    }
+
+    /**
+     * Creates the batch write request that deletes the object given.
+     */
+    WriteRequest createDeleteWriteRequest(Object toDelete) {
+        Class<?> clazz = toDelete.getClass();
+
+        Method hashKeyGetter = reflector.getHashKeyGetter(clazz);
+        AttributeValue hashKeyElement = getHashKeyElement(safeInvoke(hashKeyGetter, toDelete), hashKeyGetter);
+
+        AttributeValue rangeKeyElement = null;
+        Method rangeKeyGetter = reflector.getRangeKeyGetter(clazz);
+        if ( rangeKeyGetter != null ) {
+            rangeKeyElement = getRangeKeyElement(safeInvoke(rangeKeyGetter, toDelete), rangeKeyGetter);
+        }
+
+        Key objectKey = new Key().withHashKeyElement(hashKeyElement).withRangeKeyElement(rangeKeyElement);
+
+        return new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(objectKey));
+    }
+
     /**
      * Retrieves the attributes for multiple items from multiple tables using
      * their primary keys.
@@ -843,18 +909,114 @@ public class DynamoDBMapper {
      */
     public Map<String, List<Object>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet, DynamoDBMapperConfig config) {
         config = mergeConfig(config);
-        boolean consistentReads = (config.getConsistentReads() == ConsistentReads.CONSISTENT);
 
         if (!validBatchGetRequest(itemsToGet)) {
             return null;
         }
 
-        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
         Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
         Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+        for (Map<String, KeysAndAttributes> requestItems : createBatchGetRequestItems(itemsToGet, config, classesByTableName)) {
+            processBatchGetRequest(classesByTableName, requestItems, resultSet);
+        }
+
+        return resultSet;
+    }
+
+    /**
+     * Retrieves the attributes for multiple items from multiple tables using
+     * their primary keys, issuing the
+     * {@link AmazonDynamoDBAsync#batchGetItemAsync(BatchGetItemRequest, com.amazonaws.handlers.AsyncHandler)}
+     * calls for all keys concurrently, using the default configuration.
+     *
+     * @see DynamoDBMapper#parallelBatchLoad(Map, AmazonDynamoDBAsync, DynamoDBMapperConfig)
+     */
+    public Map<String, List<Object>> parallelBatchLoad(Map<Class<?>, List<KeyPair>> itemsToGet,
+            AmazonDynamoDBAsync dynamoAsync) {
+        return parallelBatchLoad(itemsToGet, dynamoAsync, this.config);
+    }
+
+    /**
+     * Retrieves the attributes for multiple items from multiple tables using
+     * their primary keys. Unlike {@link #batchLoad(Map, DynamoDBMapperConfig)},
+     * the keys are split into chunks of 100 keys that are all requested
+     * concurrently through the
+     * {@link AmazonDynamoDBAsync#batchGetItemAsync(BatchGetItemRequest, com.amazonaws.handlers.AsyncHandler)}
+     * API. Unprocessed keys, and chunks that fail because the table's
+     * provisioned throughput is exceeded, are retried after a backoff that
+     * only delays the chunk concerned.
+     *
+     * @param itemsToGet
+     *            The keys of the items to load, by mapped class.
+     * @param dynamoAsync
+     *            The asynchronous client to load the items with.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()} and
+     *            {@link DynamoDBMapperConfig#getConsistentReads()} are
+     *            considered.
+     * @return The loaded objects by table name, in no particular order.
+     */
+    public Map<String, List<Object>> parallelBatchLoad(Map<Class<?>, List<KeyPair>> itemsToGet,
+            AmazonDynamoDBAsync dynamoAsync, DynamoDBMapperConfig config) {
+        if (!validBatchGetRequest(itemsToGet)) {
+            return null;
+        }
+
+        final Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+        parallelBatchLoad(itemsToGet, dynamoAsync, config, new BatchLoadListener() {
+            public void itemsLoaded(Map<String, List<Object>> items) {
+                synchronized (resultSet) {
+                    for (Entry<String, List<Object>> entry : items.entrySet()) {
+                        List<Object> objects = resultSet.get(entry.getKey());
+                        if (objects == null) {
+                            resultSet.put(entry.getKey(), entry.getValue());
+                        } else {
+                            objects.addAll(entry.getValue());
+                        }
+                    }
+                }
+            }
+        });
+        return resultSet;
+    }
+
+    /**
+     * Loads the items with the keys given like
+     * {@link #parallelBatchLoad(Map, AmazonDynamoDBAsync, DynamoDBMapperConfig)},
+     * but delivers the loaded objects to the listener given as each chunk of
+     * keys completes instead of collecting them. The listener is called on the
+     * asynchronous client's threads, possibly concurrently. This method
+     * returns once all chunks have been delivered.
+     *
+     * @throws AmazonClientException
+     *             If any chunk of keys could not be loaded. No further chunks
+     *             are requested after a failure.
+     */
+    public void parallelBatchLoad(Map<Class<?>, List<KeyPair>> itemsToGet, AmazonDynamoDBAsync dynamoAsync,
+            DynamoDBMapperConfig config, BatchLoadListener listener) {
+        config = mergeConfig(config);
+
+        if (!validBatchGetRequest(itemsToGet)) {
+            return;
+        }
+
+        Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
+        List<Map<String, KeysAndAttributes>> chunks = createBatchGetRequestItems(itemsToGet, config, classesByTableName);
+        new ParallelBatchLoader(this, dynamoAsync, classesByTableName, listener).load(chunks);
+    }
+
+    /**
+     * Splits the keys given into the request items of BatchGetItem calls of at
+     * most 100 keys each, recording the class mapped to each table name.
+     */
+    private List<Map<String, KeysAndAttributes>> createBatchGetRequestItems(Map<Class<?>, List<KeyPair>> itemsToGet,
+            DynamoDBMapperConfig config, Map<String, Class<?>> classesByTableName) {
+        boolean consistentReads = (config.getConsistentReads() == ConsistentReads.CONSISTENT);
+
+        List<Map<String, KeysAndAttributes>> chunks = new LinkedList<Map<String, KeysAndAttributes>>();
+        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
         int count = 0;
 
-        KeysAndAttributes keysAndAttributes = new KeysAndAttributes();
         List<Key> keys = new LinkedList<Key>();
         for (Class<?> clazz : itemsToGet.keySet()) {
             String tableName = getTableName(clazz, config);
@@ -885,24 +1047,25 @@ public class DynamoDBMapper {
                 // batchGet
                 if (count == 100) {
                     requestItems.put(tableName, new KeysAndAttributes().withKeys(keys).withConsistentRead(consistentReads));
-                    processBatchGetRequest(classesByTableName, requestItems, resultSet);
+                    chunks.add(requestItems);
                     keys.clear();
-                    requestItems.clear();
+                    requestItems = new HashMap<String, KeysAndAttributes>();
                     count = 0;
                 }
 
             }
 
-            keysAndAttributes.setKeys(keys);
-            requestItems.put(tableName, new KeysAndAttributes().withKeys(new ArrayList<Key>(keys)));
-            keys.clear();
+            if (!keys.isEmpty()) {
+                requestItems.put(tableName, new KeysAndAttributes().withKeys(keys).withConsistentRead(consistentReads));
+                keys.clear();
+            }
         }
 
         if (count > 0) {
-        processBatchGetRequest(classesByTableName, requestItems, resultSet);
+            chunks.add(requestItems);
         }
 
-        return resultSet;
+        return chunks;
     }
 
     private void processBatchGetRequest(Map<String, Class<?>> tableNameToClassMapper,
@@ -916,26 +1079,34 @@ public class DynamoDBMapper {
             }
 
             batchGetItemResult = db.batchGetItem(batchGetItemRequest);
-            Map<String, BatchResponse> responses = batchGetItemResult.getResponses();
-            for (String tableName : responses.keySet()) {
-                BatchResponse batchResponse = responses.get(tableName);
-                List<Object> objects = null;
-                if (resultSet.get(tableName) != null) {
-                    objects = resultSet.get(tableName);
-                } else {
-                    objects = new LinkedList<Object>();
-                }
-                List<Map<String, AttributeValue>> items = batchResponse.getItems();
-                for (Map<String, AttributeValue> item : items) {
+            addBatchGetResponses(tableNameToClassMapper, batchGetItemResult.getResponses(), resultSet);
+            // To see whether there are unprocessed keys.
+        } while (batchGetItemResult.getUnprocessedKeys() != null && batchGetItemResult.getUnprocessedKeys().size() > 0);
 
-                    objects.add(marshallIntoObject(tableNameToClassMapper.get(tableName), item));
-                }
-                resultSet.put(tableName, objects);
+    }
 
+    /**
+     * Unmarshalls the items of a BatchGetItem response into the result set
+     * given, by table name.
+     */
+    void addBatchGetResponses(Map<String, Class<?>> tableNameToClassMapper, Map<String, BatchResponse> responses,
+            Map<String, List<Object>> resultSet) {
+        for (String tableName : responses.keySet()) {
+            BatchResponse batchResponse = responses.get(tableName);
+            List<Object> objects = null;
+            if (resultSet.get(tableName) != null) {
+                objects = resultSet.get(tableName);
+            } else {
+                objects = new LinkedList<Object>();
             }
-            // To see whether there are unprocessed keys.
-        } while (batchGetItemResult.getUnprocessedKeys() != null && batchGetItemResult.getUnprocessedKeys().size() > 0);
+            List<Map<String, AttributeValue>> items = batchResponse.getItems();
+            for (Map<String, AttributeValue> item : items) {
+
+                objects.add(marshallIntoObject(tableNameToClassMapper.get(tableName), item));
+            }
+            resultSet.put(tableName, objects);
 
+        }
     }
 
     /**
@@ -973,7 +1144,7 @@ public class DynamoDBMapper {
         }
     }
 
-    private final class ValueUpdate {
+    final class ValueUpdate {
 
         private Method method;
         private AttributeValue newValue;
@@ -1074,6 +1245,108 @@ public class DynamoDBMapper {
         ScanResult scanResult = db.scan(applyUserAgent(scanRequest));
         return new PaginatedScanList<T>(this, clazz, db, scanRequest, scanResult);
     }
+
+    /**
+     * Scans through an Amazon DynamoDB table on multiple threads, using the
+     * default configuration.
+     *
+     * @see DynamoDBMapper#parallelScan(Class, DynamoDBScanExpression, int,
+     *      DynamoDBMapperConfig, ExecutorService)
+     */
+    public <T> PaginatedParallelScanList<T> parallelScan(Class<T> clazz, DynamoDBScanExpression scanExpression, int totalSegments) {
+        return parallelScan(clazz, scanExpression, totalSegments, config);
+    }
+
+    /**
+     * Scans through an Amazon DynamoDB table on multiple threads, using a
+     * thread pool created for the scan. The pool has one thread per segment,
+     * up to {@link #MAX_DEFAULT_PARALLEL_SCAN_THREADS}, and is shut down once
+     * all segments have been scanned.
+     *
+     * @see DynamoDBMapper#parallelScan(Class, DynamoDBScanExpression, int,
+     *      DynamoDBMapperConfig, ExecutorService)
+     */
+    public <T> PaginatedParallelScanList<T> parallelScan(Class<T> clazz, DynamoDBScanExpression scanExpression,
+            int totalSegments, DynamoDBMapperConfig config) {
+        return parallelScan(clazz, scanExpression, totalSegments, config, null);
+    }
+
+    /**
+     * Scans through an Amazon DynamoDB table and returns the matching results as
+     * an unmodifiable list of instantiated objects. The table is divided into
+     * the given number of segments which are scanned concurrently on the
+     * executor given, each with its own sequence of scan requests; the table
+     * to scan is determined by looking at the annotations on the specified
+     * class, and the scan expression parameter allows the caller to filter
+     * results and control how the scan is executed.
+     * <p>
+     * Callers should be aware that the returned list is unmodifiable, and any
+     * attempts to modify the list will result in an
+     * UnsupportedOperationException.
+     * <p>
+     * The unmodifiable list returned is lazily loaded when possible: at most
+     * one page of each segment is fetched ahead of the caller, and the results
+     * of the segments are interleaved in the order their pages arrive.
+     *
+     * @param <T>
+     *            The type of the objects being returned.
+     * @param clazz
+     *            The class annotated with DynamoDB annotations describing how
+     *            to store the object data in Amazon DynamoDB.
+     * @param scanExpression
+     *            Details on how to run the scan, including any filters to apply
+     *            to limit results. An exclusive start key is not supported.
+     * @param totalSegments
+     *            The number of segments to divide the table into.
+     * @param config
+     *            The configuration to use for this scan, which overrides the
+     *            default provided at object construction.
+     * @param executor
+     *            The executor to scan the segments on, or null to use a thread
+     *            pool created for this scan. The executor is not shut down by
+     *            the scan.
+     * @return An unmodifiable list of the objects constructed from the results
+     *         of the scan operation.
+     * @see PaginatedParallelScanList
+     */
+    public <T> PaginatedParallelScanList<T> parallelScan(Class<T> clazz, DynamoDBScanExpression scanExpression,
+            int totalSegments, DynamoDBMapperConfig config, ExecutorService executor) {
+        if ( totalSegments < 1 )
+            throw new IllegalArgumentException("totalSegments must be at least 1");
+        if ( scanExpression.getExclusiveStartKey() != null )
+            throw new IllegalArgumentException("Parallel scans don't support an exclusive start key");
+
+        config = mergeConfig(config);
+
+        List<ScanRequest> segmentScanRequests = new ArrayList<ScanRequest>(totalSegments);
+        for ( int segment = 0; segment < totalSegments; segment++ ) {
+            ScanRequest scanRequest = createScanRequestFromExpression(clazz, scanExpression, config);
+            scanRequest.setTotalSegments(totalSegments);
+            scanRequest.setSegment(segment);
+            segmentScanRequests.add(scanRequest);
+        }
+
+        boolean shutdownExecutor = executor == null;
+        if ( shutdownExecutor )
+            executor = createParallelScanExecutor(Math.min(totalSegments, MAX_DEFAULT_PARALLEL_SCAN_THREADS));
+        return new PaginatedParallelScanList<T>(this, clazz, db, segmentScanRequests, executor, shutdownExecutor);
+    }
+
+    private static ExecutorService createParallelScanExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "dynamodb-parallel-scan-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        // Threads of an abandoned scan go away on their own
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
     
     /**
      * Scans through an Amazon DynamoDB table and returns a single page of matching
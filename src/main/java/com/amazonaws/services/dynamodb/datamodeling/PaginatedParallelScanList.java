@@ -0,0 +1,150 @@
+/*
+ * Copyright 2011-2013 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodb.AmazonDynamoDB;
+import com.amazonaws.services.dynamodb.model.ScanRequest;
+import com.amazonaws.services.dynamodb.model.ScanResult;
+
+/**
+ * Implementation of the List interface that represents the results from a
+ * parallel scan in AWS DynamoDB. The table is divided into segments that are
+ * scanned concurrently, with at most one outstanding page request per
+ * segment, and the pages are added to the list in the order they arrive.
+ * Paginated results are loaded on demand when the user executes an operation
+ * that requires them. Some operations, such as size(), must fetch the entire
+ * list, but results are lazily fetched page by page when possible.
+ * <p>
+ * The order of the results is not deterministic; results of different
+ * segments are interleaved.
+ * <p>
+ * This is an unmodifiable list, so callers should not invoke any operations
+ * that modify this list, otherwise they will throw an
+ * UnsupportedOperationException.
+ * 
+ * @param <T>
+ *            The type of objects held in this list.
+ * @see PaginatedList
+ * @see DynamoDBMapper#parallelScan(Class, DynamoDBScanExpression, int)
+ */
+public class PaginatedParallelScanList<T> extends PaginatedList<T> {
+
+    /** A page of results of one segment */
+    private static final class SegmentPage {
+        private final ScanRequest segmentRequest;
+        private final ScanResult result;
+
+        SegmentPage(ScanRequest segmentRequest, ScanResult result) {
+            this.segmentRequest = segmentRequest;
+            this.result = result;
+        }
+    }
+
+    /** The executor the segment scans run on */
+    private final ExecutorService executor;
+
+    /** Whether the executor was created for this list and is shut down with it */
+    private final boolean shutdownExecutor;
+
+    private final CompletionService<SegmentPage> completionService;
+
+    /** Number of segment page requests submitted and not yet consumed */
+    private int outstandingSegmentPages;
+
+    /** The failure that ended the scan, rethrown on any further attempt to load results */
+    private RuntimeException failure;
+
+    public PaginatedParallelScanList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+            List<ScanRequest> segmentScanRequests, ExecutorService executor, boolean shutdownExecutor) {
+        super(mapper, clazz, dynamo);
+
+        this.executor = executor;
+        this.shutdownExecutor = shutdownExecutor;
+        this.completionService = new ExecutorCompletionService<SegmentPage>(executor);
+
+        for (ScanRequest segmentScanRequest : segmentScanRequests) {
+            submitSegmentScan(segmentScanRequest);
+        }
+    }
+
+    private void submitSegmentScan(final ScanRequest segmentScanRequest) {
+        completionService.submit(new Callable<SegmentPage>() {
+            public SegmentPage call() throws Exception {
+                return new SegmentPage(segmentScanRequest, dynamo.scan(DynamoDBMapper.applyUserAgent(segmentScanRequest)));
+            }
+        });
+        outstandingSegmentPages++;
+    }
+
+    @Override
+    protected synchronized boolean atEndOfResults() {
+        return outstandingSegmentPages == 0 && failure == null;
+    }
+
+    @Override
+    protected synchronized List<T> fetchNextPage() {
+        if (failure != null) {
+            throw failure;
+        }
+        SegmentPage page;
+        try {
+            Future<SegmentPage> future = completionService.take();
+            outstandingSegmentPages--;
+            page = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw fail(new AmazonClientException("Interrupted while waiting for a parallel scan segment", e));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw fail((RuntimeException)cause);
+            }
+            throw fail(new AmazonClientException("Unable to scan segment: " + cause.getMessage(), cause));
+        }
+
+        if (page.result.getLastEvaluatedKey() != null) {
+            page.segmentRequest.setExclusiveStartKey(page.result.getLastEvaluatedKey());
+            submitSegmentScan(page.segmentRequest);
+        } else if (outstandingSegmentPages == 0) {
+            shutdown();
+        }
+        return mapper.marshallIntoObjects(clazz, page.result.getItems());
+    }
+
+    /**
+     * Stops scanning segments that have not completed yet; any further
+     * attempt to load results fails with the given exception.
+     */
+    private RuntimeException fail(RuntimeException e) {
+        failure = e;
+        shutdown();
+        return e;
+    }
+
+    private void shutdown() {
+        if (shutdownExecutor) {
+            executor.shutdownNow();
+        }
+    }
+}
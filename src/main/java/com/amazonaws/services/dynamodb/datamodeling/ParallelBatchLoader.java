@@ -0,0 +1,205 @@
+/*
+ * Copyright 2011-2013 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodb.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodb.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodb.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Issues the BatchGetItem calls of a
+ * {@link DynamoDBMapper#parallelBatchLoad(Map, AmazonDynamoDBAsync, DynamoDBMapperConfig, BatchLoadListener)}
+ * concurrently, and waits for all of them to complete.
+ */
+class ParallelBatchLoader {
+
+    private final DynamoDBMapper mapper;
+
+    private final AmazonDynamoDBAsync dynamoAsync;
+
+    private final Map<String, Class<?>> classesByTableName;
+
+    private final BatchLoadListener listener;
+
+    private final Random random = new Random();
+
+    /** Created on the first retry, as most loads don't need one. */
+    private ScheduledExecutorService retryScheduler;
+
+    private CountDownLatch remainingChunks;
+
+    private volatile AmazonClientException failure;
+
+    ParallelBatchLoader(DynamoDBMapper mapper, AmazonDynamoDBAsync dynamoAsync,
+            Map<String, Class<?>> classesByTableName, BatchLoadListener listener) {
+        this.mapper = mapper;
+        this.dynamoAsync = dynamoAsync;
+        this.classesByTableName = classesByTableName;
+        this.listener = listener;
+    }
+
+    /**
+     * Loads the request items given and returns once all of them have been
+     * delivered to the listener.
+     *
+     * @throws AmazonClientException
+     *             If any chunk could not be loaded.
+     */
+    void load(List<Map<String, KeysAndAttributes>> chunks) {
+        remainingChunks = new CountDownLatch(chunks.size());
+        try {
+            for ( Map<String, KeysAndAttributes> requestItems : chunks ) {
+                new Chunk(requestItems).run();
+            }
+            remainingChunks.await();
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for batch loads to complete", e);
+        } finally {
+            synchronized ( this ) {
+                if ( retryScheduler != null )
+                    retryScheduler.shutdownNow();
+            }
+        }
+        if ( failure != null )
+            throw failure;
+    }
+
+    private synchronized ScheduledExecutorService getRetryScheduler() {
+        if ( retryScheduler == null ) {
+            retryScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "dynamodb-batch-loader-retry");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return retryScheduler;
+    }
+
+    private static int countKeys(Map<String, KeysAndAttributes> requestItems) {
+        int count = 0;
+        for ( KeysAndAttributes keysAndAttributes : requestItems.values() ) {
+            if ( keysAndAttributes.getKeys() != null )
+                count += keysAndAttributes.getKeys().size();
+        }
+        return count;
+    }
+
+    /**
+     * The request items of a single BatchGetItem call of up to 100 keys, and
+     * then of its unprocessed keys until there are none left. Like a batch of
+     * a {@link DynamoDBBatchWriter}, a chunk fails once it has been throttled
+     * {@link DynamoDBBatchWriter#MAX_THROTTLED_ATTEMPTS} times, counting
+     * attempts that returned all of their keys unprocessed.
+     */
+    private final class Chunk implements Runnable, AsyncHandler<BatchGetItemRequest, BatchGetItemResult> {
+
+        private Map<String, KeysAndAttributes> requestItems;
+
+        private int attempt;
+
+        private int throttledAttempts;
+
+        Chunk(Map<String, KeysAndAttributes> requestItems) {
+            this.requestItems = requestItems;
+        }
+
+        public void run() {
+            if ( failure != null ) {
+                // Another chunk failed; the load is abandoned
+                remainingChunks.countDown();
+                return;
+            }
+            try {
+                dynamoAsync.batchGetItemAsync(
+                        DynamoDBMapper.applyUserAgent(new BatchGetItemRequest().withRequestItems(requestItems)), this);
+            } catch ( RuntimeException e ) {
+                fail(e);
+            }
+        }
+
+        public void onSuccess(BatchGetItemRequest request, BatchGetItemResult result) {
+            try {
+                Map<String, List<Object>> items = new HashMap<String, List<Object>>();
+                mapper.addBatchGetResponses(classesByTableName, result.getResponses(), items);
+                if ( !items.isEmpty() )
+                    listener.itemsLoaded(items);
+            } catch ( RuntimeException e ) {
+                fail(e);
+                return;
+            }
+
+            Map<String, KeysAndAttributes> unprocessedKeys = result.getUnprocessedKeys();
+            if ( unprocessedKeys != null && !unprocessedKeys.isEmpty() ) {
+                // Attempts that make progress are bounded by the chunk size
+                int unprocessedCount = countKeys(unprocessedKeys);
+                if ( unprocessedCount >= countKeys(requestItems)
+                        && ++throttledAttempts >= DynamoDBBatchWriter.MAX_THROTTLED_ATTEMPTS ) {
+                    fail(new AmazonClientException("Unable to load batch: " + unprocessedCount
+                            + " keys were still unprocessed after " + DynamoDBBatchWriter.MAX_THROTTLED_ATTEMPTS
+                            + " attempts"));
+                    return;
+                }
+                requestItems = unprocessedKeys;
+                retryLater();
+            } else {
+                remainingChunks.countDown();
+            }
+        }
+
+        public void onError(Exception exception) {
+            if ( DynamoDBBatchWriter.isRetryable(exception)
+                    && ++throttledAttempts < DynamoDBBatchWriter.MAX_THROTTLED_ATTEMPTS ) {
+                retryLater();
+            } else {
+                fail(exception);
+            }
+        }
+
+        private void retryLater() {
+            try {
+                getRetryScheduler().schedule(this, DynamoDBBatchWriter.backoffDelay(attempt++, random),
+                        TimeUnit.MILLISECONDS);
+            } catch ( RejectedExecutionException e ) {
+                fail(new AmazonClientException("The batch load has been abandoned", e));
+            }
+        }
+
+        private void fail(Exception e) {
+            if ( failure == null ) {
+                failure = e instanceof AmazonClientException
+                        ? (AmazonClientException) e
+                        : new AmazonClientException("Unable to load batch: " + e.getMessage(), e);
+            }
+            remainingChunks.countDown();
+        }
+    }
+}
@@ -90,6 +90,27 @@ public class ScanRequest extends AmazonWebServiceRequest {
      */
     private Key exclusiveStartKey;
 
+    /**
+     * For a parallel <code>Scan</code> request, the total number of
+     * segments into which the table is divided; each segment is scanned by
+     * a separate request. Must be specified together with
+     * <code>Segment</code>.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>1 - 4096<br/>
+     */
+    private Integer totalSegments;
+
+    /**
+     * For a parallel <code>Scan</code> request, the segment of the table to
+     * be scanned by this request, from 0 to <code>TotalSegments</code> - 1.
+     * Must be specified together with <code>TotalSegments</code>.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>0 - 4095<br/>
+     */
+    private Integer segment;
+
     /**
      * Default constructor for a new ScanRequest object.  Callers should use the
      * setter or fluent setter (with...) methods to initialize this object after creating it.
@@ -536,6 +557,113 @@ public class ScanRequest extends AmazonWebServiceRequest {
         return this;
     }
     
+
+    /**
+     * For a parallel <code>Scan</code> request, the total number of
+     * segments into which the table is divided; each segment is scanned by
+     * a separate request. Must be specified together with
+     * <code>Segment</code>.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>1 - 4096<br/>
+     *
+     * @return For a parallel <code>Scan</code> request, the total number of
+     *         segments into which the table is divided.
+     */
+    public Integer getTotalSegments() {
+        return totalSegments;
+    }
+    
+    /**
+     * For a parallel <code>Scan</code> request, the total number of
+     * segments into which the table is divided; each segment is scanned by
+     * a separate request. Must be specified together with
+     * <code>Segment</code>.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>1 - 4096<br/>
+     *
+     * @param totalSegments For a parallel <code>Scan</code> request, the total number of
+     *         segments into which the table is divided.
+     */
+    public void setTotalSegments(Integer totalSegments) {
+        this.totalSegments = totalSegments;
+    }
+    
+    /**
+     * For a parallel <code>Scan</code> request, the total number of
+     * segments into which the table is divided; each segment is scanned by
+     * a separate request. Must be specified together with
+     * <code>Segment</code>.
+     * <p>
+     * Returns a reference to this object so that method calls can be chained together.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>1 - 4096<br/>
+     *
+     * @param totalSegments For a parallel <code>Scan</code> request, the total number of
+     *         segments into which the table is divided.
+     *
+     * @return A reference to this updated object so that method calls can be chained 
+     *         together. 
+     */
+    public ScanRequest withTotalSegments(Integer totalSegments) {
+        this.totalSegments = totalSegments;
+        return this;
+    }
+    
+    
+    /**
+     * For a parallel <code>Scan</code> request, the segment of the table to
+     * be scanned by this request, from 0 to <code>TotalSegments</code> - 1.
+     * Must be specified together with <code>TotalSegments</code>.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>0 - 4095<br/>
+     *
+     * @return For a parallel <code>Scan</code> request, the segment of the table to
+     *         be scanned by this request.
+     */
+    public Integer getSegment() {
+        return segment;
+    }
+    
+    /**
+     * For a parallel <code>Scan</code> request, the segment of the table to
+     * be scanned by this request, from 0 to <code>TotalSegments</code> - 1.
+     * Must be specified together with <code>TotalSegments</code>.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>0 - 4095<br/>
+     *
+     * @param segment For a parallel <code>Scan</code> request, the segment of the table to
+     *         be scanned by this request.
+     */
+    public void setSegment(Integer segment) {
+        this.segment = segment;
+    }
+    
+    /**
+     * For a parallel <code>Scan</code> request, the segment of the table to
+     * be scanned by this request, from 0 to <code>TotalSegments</code> - 1.
+     * Must be specified together with <code>TotalSegments</code>.
+     * <p>
+     * Returns a reference to this object so that method calls can be chained together.
+     * <p>
+     * <b>Constraints:</b><br/>
+     * <b>Range: </b>0 - 4095<br/>
+     *
+     * @param segment For a parallel <code>Scan</code> request, the segment of the table to
+     *         be scanned by this request.
+     *
+     * @return A reference to this updated object so that method calls can be chained 
+     *         together. 
+     */
+    public ScanRequest withSegment(Integer segment) {
+        this.segment = segment;
+        return this;
+    }
+    
     
     /**
      * Returns a string representation of this object; useful for testing and
@@ -555,6 +683,8 @@ public class ScanRequest extends AmazonWebServiceRequest {
         if (isCount() != null) sb.append("Count: " + isCount() + ", ");
         if (getScanFilter() != null) sb.append("ScanFilter: " + getScanFilter() + ", ");
         if (getExclusiveStartKey() != null) sb.append("ExclusiveStartKey: " + getExclusiveStartKey() + ", ");
+        if (getTotalSegments() != null) sb.append("TotalSegments: " + getTotalSegments() + ", ");
+        if (getSegment() != null) sb.append("Segment: " + getSegment() + ", ");
         sb.append("}");
         return sb.toString();
     }
@@ -570,6 +700,8 @@ public class ScanRequest extends AmazonWebServiceRequest {
         hashCode = prime * hashCode + ((isCount() == null) ? 0 : isCount().hashCode()); 
         hashCode = prime * hashCode + ((getScanFilter() == null) ? 0 : getScanFilter().hashCode()); 
         hashCode = prime * hashCode + ((getExclusiveStartKey() == null) ? 0 : getExclusiveStartKey().hashCode()); 
+        hashCode = prime * hashCode + ((getTotalSegments() == null) ? 0 : getTotalSegments().hashCode()); 
+        hashCode = prime * hashCode + ((getSegment() == null) ? 0 : getSegment().hashCode()); 
         return hashCode;
     }
     
@@ -593,6 +725,10 @@ public class ScanRequest extends AmazonWebServiceRequest {
         if (other.getScanFilter() != null && other.getScanFilter().equals(this.getScanFilter()) == false) return false; 
         if (other.getExclusiveStartKey() == null ^ this.getExclusiveStartKey() == null) return false;
         if (other.getExclusiveStartKey() != null && other.getExclusiveStartKey().equals(this.getExclusiveStartKey()) == false) return false; 
+        if (other.getTotalSegments() == null ^ this.getTotalSegments() == null) return false;
+        if (other.getTotalSegments() != null && other.getTotalSegments().equals(this.getTotalSegments()) == false) return false; 
+        if (other.getSegment() == null ^ this.getSegment() == null) return false;
+        if (other.getSegment() != null && other.getSegment().equals(this.getSegment()) == false) return false; 
         return true;
     }
     
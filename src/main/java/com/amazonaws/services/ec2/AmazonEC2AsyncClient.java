@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -58,6 +60,8 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -247,6 +251,41 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -284,7 +323,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 rebootInstances(rebootInstancesRequest);
                 return null;
@@ -324,10 +363,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RebootInstancesRequest rebootInstancesRequest,
             final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		rebootInstances(rebootInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -361,7 +402,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
+        return submit(new Callable<DescribeReservedInstancesResult>() {
             public DescribeReservedInstancesResult call() throws Exception {
                 return describeReservedInstances(describeReservedInstancesRequest);
 		    }
@@ -398,11 +439,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesRequest describeReservedInstancesRequest,
             final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
+        return submit(new Callable<DescribeReservedInstancesResult>() {
             public DescribeReservedInstancesResult call() throws Exception {
             	DescribeReservedInstancesResult result;
                 try {
             		result = describeReservedInstances(describeReservedInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -442,7 +485,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
+        return submit(new Callable<DescribeAvailabilityZonesResult>() {
             public DescribeAvailabilityZonesResult call() throws Exception {
                 return describeAvailabilityZones(describeAvailabilityZonesRequest);
 		    }
@@ -485,11 +528,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
             final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
+        return submit(new Callable<DescribeAvailabilityZonesResult>() {
             public DescribeAvailabilityZonesResult call() throws Exception {
             	DescribeAvailabilityZonesResult result;
                 try {
             		result = describeAvailabilityZones(describeAvailabilityZonesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -521,7 +566,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
+        return submit(new Callable<DetachVolumeResult>() {
             public DetachVolumeResult call() throws Exception {
                 return detachVolume(detachVolumeRequest);
 		    }
@@ -556,11 +601,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVolumeRequest detachVolumeRequest,
             final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
+        return submit(new Callable<DetachVolumeResult>() {
             public DetachVolumeResult call() throws Exception {
             	DetachVolumeResult result;
                 try {
             		result = detachVolume(detachVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -592,7 +639,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteKeyPair(deleteKeyPairRequest);
                 return null;
@@ -628,10 +675,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteKeyPairRequest deleteKeyPairRequest,
             final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteKeyPair(deleteKeyPairRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -663,7 +712,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
+        return submit(new Callable<UnmonitorInstancesResult>() {
             public UnmonitorInstancesResult call() throws Exception {
                 return unmonitorInstances(unmonitorInstancesRequest);
 		    }
@@ -698,11 +747,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnmonitorInstancesRequest unmonitorInstancesRequest,
             final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
+        return submit(new Callable<UnmonitorInstancesResult>() {
             public UnmonitorInstancesResult call() throws Exception {
             	UnmonitorInstancesResult result;
                 try {
             		result = unmonitorInstances(unmonitorInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -737,7 +788,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
+        return submit(new Callable<AttachVpnGatewayResult>() {
             public AttachVpnGatewayResult call() throws Exception {
                 return attachVpnGateway(attachVpnGatewayRequest);
 		    }
@@ -775,11 +826,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVpnGatewayRequest attachVpnGatewayRequest,
             final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
+        return submit(new Callable<AttachVpnGatewayResult>() {
             public AttachVpnGatewayResult call() throws Exception {
             	AttachVpnGatewayResult result;
                 try {
             		result = attachVpnGateway(attachVpnGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -815,7 +868,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
+        return submit(new Callable<CreateImageResult>() {
             public CreateImageResult call() throws Exception {
                 return createImage(createImageRequest);
 		    }
@@ -854,11 +907,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateImageRequest createImageRequest,
             final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
+        return submit(new Callable<CreateImageResult>() {
             public CreateImageResult call() throws Exception {
             	CreateImageResult result;
                 try {
             		result = createImage(createImageRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -898,7 +953,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSecurityGroup(deleteSecurityGroupRequest);
                 return null;
@@ -942,10 +997,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
             final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteSecurityGroup(deleteSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -975,7 +1032,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
+        return submit(new Callable<CreateInstanceExportTaskResult>() {
             public CreateInstanceExportTaskResult call() throws Exception {
                 return createInstanceExportTask(createInstanceExportTaskRequest);
 		    }
@@ -1008,11 +1065,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
             final AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
+        return submit(new Callable<CreateInstanceExportTaskResult>() {
             public CreateInstanceExportTaskResult call() throws Exception {
             	CreateInstanceExportTaskResult result;
                 try {
             		result = createInstanceExportTask(createInstanceExportTaskRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1069,7 +1128,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
                 return null;
@@ -1130,10 +1189,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
             final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1172,7 +1233,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
+        return submit(new Callable<GetPasswordDataResult>() {
             public GetPasswordDataResult call() throws Exception {
                 return getPasswordData(getPasswordDataRequest);
 		    }
@@ -1214,11 +1275,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetPasswordDataRequest getPasswordDataRequest,
             final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
+        return submit(new Callable<GetPasswordDataResult>() {
             public GetPasswordDataResult call() throws Exception {
             	GetPasswordDataResult result;
                 try {
             		result = getPasswordData(getPasswordDataRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1258,7 +1321,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 associateDhcpOptions(associateDhcpOptionsRequest);
                 return null;
@@ -1302,10 +1365,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
             final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		associateDhcpOptions(associateDhcpOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1349,7 +1414,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
+        return submit(new Callable<StopInstancesResult>() {
             public StopInstancesResult call() throws Exception {
                 return stopInstances(stopInstancesRequest);
 		    }
@@ -1396,11 +1461,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StopInstancesRequest stopInstancesRequest,
             final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
+        return submit(new Callable<StopInstancesResult>() {
             public StopInstancesResult call() throws Exception {
             	StopInstancesResult result;
                 try {
             		result = stopInstances(stopInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1452,7 +1519,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
+        return submit(new Callable<ImportKeyPairResult>() {
             public ImportKeyPairResult call() throws Exception {
                 return importKeyPair(importKeyPairRequest);
 		    }
@@ -1507,11 +1574,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportKeyPairRequest importKeyPairRequest,
             final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
+        return submit(new Callable<ImportKeyPairResult>() {
             public ImportKeyPairResult call() throws Exception {
             	ImportKeyPairResult result;
                 try {
             		result = importKeyPair(importKeyPairRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1541,7 +1610,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteNetworkInterface(deleteNetworkInterfaceRequest);
                 return null;
@@ -1575,10 +1644,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
             final AsyncHandler<DeleteNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteNetworkInterface(deleteNetworkInterfaceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1620,7 +1691,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
+        return submit(new Callable<CreateSecurityGroupResult>() {
             public CreateSecurityGroupResult call() throws Exception {
                 return createSecurityGroup(createSecurityGroupRequest);
 		    }
@@ -1665,11 +1736,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSecurityGroupRequest createSecurityGroupRequest,
             final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
+        return submit(new Callable<CreateSecurityGroupResult>() {
             public CreateSecurityGroupResult call() throws Exception {
             	CreateSecurityGroupResult result;
                 try {
             		result = createSecurityGroup(createSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1714,7 +1787,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
+        return submit(new Callable<DescribeSpotPriceHistoryResult>() {
             public DescribeSpotPriceHistoryResult call() throws Exception {
                 return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
 		    }
@@ -1762,11 +1835,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
             final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
+        return submit(new Callable<DescribeSpotPriceHistoryResult>() {
             public DescribeSpotPriceHistoryResult call() throws Exception {
             	DescribeSpotPriceHistoryResult result;
                 try {
             		result = describeSpotPriceHistory(describeSpotPriceHistoryRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1796,7 +1871,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
+        return submit(new Callable<DescribeNetworkInterfacesResult>() {
             public DescribeNetworkInterfacesResult call() throws Exception {
                 return describeNetworkInterfaces(describeNetworkInterfacesRequest);
 		    }
@@ -1829,11 +1904,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
             final AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
+        return submit(new Callable<DescribeNetworkInterfacesResult>() {
             public DescribeNetworkInterfacesResult call() throws Exception {
             	DescribeNetworkInterfacesResult result;
                 try {
             		result = describeNetworkInterfaces(describeNetworkInterfacesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1866,7 +1943,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
+        return submit(new Callable<DescribeRegionsResult>() {
             public DescribeRegionsResult call() throws Exception {
                 return describeRegions(describeRegionsRequest);
 		    }
@@ -1902,11 +1979,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRegionsRequest describeRegionsRequest,
             final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
+        return submit(new Callable<DescribeRegionsResult>() {
             public DescribeRegionsResult call() throws Exception {
             	DescribeRegionsResult result;
                 try {
             		result = describeRegions(describeRegionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1937,7 +2016,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
+        return submit(new Callable<CreateReservedInstancesListingResult>() {
             public CreateReservedInstancesListingResult call() throws Exception {
                 return createReservedInstancesListing(createReservedInstancesListingRequest);
 		    }
@@ -1971,11 +2050,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
             final AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
+        return submit(new Callable<CreateReservedInstancesListingResult>() {
             public CreateReservedInstancesListingResult call() throws Exception {
             	CreateReservedInstancesListingResult result;
                 try {
             		result = createReservedInstancesListing(createReservedInstancesListingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2013,7 +2094,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
+        return submit(new Callable<CreateDhcpOptionsResult>() {
             public CreateDhcpOptionsResult call() throws Exception {
                 return createDhcpOptions(createDhcpOptionsRequest);
 		    }
@@ -2054,11 +2135,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateDhcpOptionsRequest createDhcpOptionsRequest,
             final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
+        return submit(new Callable<CreateDhcpOptionsResult>() {
             public CreateDhcpOptionsResult call() throws Exception {
             	CreateDhcpOptionsResult result;
                 try {
             		result = createDhcpOptions(createDhcpOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2091,7 +2174,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 resetSnapshotAttribute(resetSnapshotAttributeRequest);
                 return null;
@@ -2128,10 +2211,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
             final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		resetSnapshotAttribute(resetSnapshotAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2166,7 +2251,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteRoute(deleteRouteRequest);
                 return null;
@@ -2205,10 +2290,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteRequest deleteRouteRequest,
             final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteRoute(deleteRouteRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2261,7 +2348,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
+        return submit(new Callable<DescribeInternetGatewaysResult>() {
             public DescribeInternetGatewaysResult call() throws Exception {
                 return describeInternetGateways(describeInternetGatewaysRequest);
 		    }
@@ -2317,11 +2404,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
             final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
+        return submit(new Callable<DescribeInternetGatewaysResult>() {
             public DescribeInternetGatewaysResult call() throws Exception {
             	DescribeInternetGatewaysResult result;
                 try {
             		result = describeInternetGateways(describeInternetGatewaysRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2350,7 +2439,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
+        return submit(new Callable<ImportVolumeResult>() {
             public ImportVolumeResult call() throws Exception {
                 return importVolume(importVolumeRequest);
 		    }
@@ -2382,11 +2471,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportVolumeRequest importVolumeRequest,
             final AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
+        return submit(new Callable<ImportVolumeResult>() {
             public ImportVolumeResult call() throws Exception {
             	ImportVolumeResult result;
                 try {
             		result = importVolume(importVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2426,7 +2517,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
+        return submit(new Callable<DescribeSecurityGroupsResult>() {
             public DescribeSecurityGroupsResult call() throws Exception {
                 return describeSecurityGroups(describeSecurityGroupsRequest);
 		    }
@@ -2469,11 +2560,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
             final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
+        return submit(new Callable<DescribeSecurityGroupsResult>() {
             public DescribeSecurityGroupsResult call() throws Exception {
             	DescribeSecurityGroupsResult result;
                 try {
             		result = describeSecurityGroups(describeSecurityGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2512,7 +2605,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 detachVpnGateway(detachVpnGatewayRequest);
                 return null;
@@ -2555,10 +2648,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVpnGatewayRequest detachVpnGatewayRequest,
             final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		detachVpnGateway(detachVpnGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2591,7 +2686,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deregisterImage(deregisterImageRequest);
                 return null;
@@ -2628,10 +2723,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeregisterImageRequest deregisterImageRequest,
             final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deregisterImage(deregisterImageRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2671,7 +2768,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+        return submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
             public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
                 return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
 		    }
@@ -2714,11 +2811,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+        return submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
             public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
             	DescribeSpotDatafeedSubscriptionResult result;
                 try {
             		result = describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2750,7 +2849,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTags(deleteTagsRequest);
                 return null;
@@ -2786,10 +2885,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteTags(deleteTagsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2823,7 +2924,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSubnet(deleteSubnetRequest);
                 return null;
@@ -2861,10 +2962,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSubnetRequest deleteSubnetRequest,
             final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteSubnet(deleteSubnetRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2898,7 +3001,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
+        return submit(new Callable<CreateVpnGatewayResult>() {
             public CreateVpnGatewayResult call() throws Exception {
                 return createVpnGateway(createVpnGatewayRequest);
 		    }
@@ -2935,11 +3038,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnGatewayRequest createVpnGatewayRequest,
             final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
+        return submit(new Callable<CreateVpnGatewayResult>() {
             public CreateVpnGatewayResult call() throws Exception {
             	CreateVpnGatewayResult result;
                 try {
             		result = createVpnGateway(createVpnGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2971,7 +3076,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 enableVolumeIO(enableVolumeIORequest);
                 return null;
@@ -3007,10 +3112,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVolumeIORequest enableVolumeIORequest,
             final AsyncHandler<EnableVolumeIORequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		enableVolumeIO(enableVolumeIORequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3047,7 +3154,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpnGateway(deleteVpnGatewayRequest);
                 return null;
@@ -3088,10 +3195,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
             final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVpnGateway(deleteVpnGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3123,7 +3232,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
+        return submit(new Callable<AttachVolumeResult>() {
             public AttachVolumeResult call() throws Exception {
                 return attachVolume(attachVolumeRequest);
 		    }
@@ -3158,11 +3267,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVolumeRequest attachVolumeRequest,
             final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
+        return submit(new Callable<AttachVolumeResult>() {
             public AttachVolumeResult call() throws Exception {
             	AttachVolumeResult result;
                 try {
             		result = attachVolume(attachVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3196,7 +3307,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeLicensesResult> describeLicensesAsync(final DescribeLicensesRequest describeLicensesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLicensesResult>() {
+        return submit(new Callable<DescribeLicensesResult>() {
             public DescribeLicensesResult call() throws Exception {
                 return describeLicenses(describeLicensesRequest);
 		    }
@@ -3233,11 +3344,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeLicensesRequest describeLicensesRequest,
             final AsyncHandler<DescribeLicensesRequest, DescribeLicensesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLicensesResult>() {
+        return submit(new Callable<DescribeLicensesResult>() {
             public DescribeLicensesResult call() throws Exception {
             	DescribeLicensesResult result;
                 try {
             		result = describeLicenses(describeLicensesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3269,7 +3382,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
+        return submit(new Callable<DescribeVolumeStatusResult>() {
             public DescribeVolumeStatusResult call() throws Exception {
                 return describeVolumeStatus(describeVolumeStatusRequest);
 		    }
@@ -3304,11 +3417,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeStatusRequest describeVolumeStatusRequest,
             final AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
+        return submit(new Callable<DescribeVolumeStatusResult>() {
             public DescribeVolumeStatusResult call() throws Exception {
             	DescribeVolumeStatusResult result;
                 try {
             		result = describeVolumeStatus(describeVolumeStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3341,7 +3456,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> activateLicenseAsync(final ActivateLicenseRequest activateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 activateLicense(activateLicenseRequest);
                 return null;
@@ -3378,10 +3493,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ActivateLicenseRequest activateLicenseRequest,
             final AsyncHandler<ActivateLicenseRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		activateLicense(activateLicenseRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3417,7 +3534,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 resetImageAttribute(resetImageAttributeRequest);
                 return null;
@@ -3457,10 +3574,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetImageAttributeRequest resetImageAttributeRequest,
             final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		resetImageAttribute(resetImageAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3508,7 +3627,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
+        return submit(new Callable<DescribeVpnConnectionsResult>() {
             public DescribeVpnConnectionsResult call() throws Exception {
                 return describeVpnConnections(describeVpnConnectionsRequest);
 		    }
@@ -3559,11 +3678,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
             final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
+        return submit(new Callable<DescribeVpnConnectionsResult>() {
             public DescribeVpnConnectionsResult call() throws Exception {
             	DescribeVpnConnectionsResult result;
                 try {
             		result = describeVpnConnections(describeVpnConnectionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3593,7 +3714,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
                 return null;
@@ -3627,10 +3748,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
             final AsyncHandler<EnableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3672,7 +3795,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return submit(new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
                 return createSnapshot(createSnapshotRequest);
 		    }
@@ -3717,11 +3840,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return submit(new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
             	CreateSnapshotResult result;
                 try {
             		result = createSnapshot(createSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3754,7 +3879,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVolume(deleteVolumeRequest);
                 return null;
@@ -3791,10 +3916,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVolume(deleteVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3824,7 +3951,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
+        return submit(new Callable<CreateNetworkInterfaceResult>() {
             public CreateNetworkInterfaceResult call() throws Exception {
                 return createNetworkInterface(createNetworkInterfaceRequest);
 		    }
@@ -3857,11 +3984,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
             final AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
+        return submit(new Callable<CreateNetworkInterfaceResult>() {
             public CreateNetworkInterfaceResult call() throws Exception {
             	CreateNetworkInterfaceResult result;
                 try {
             		result = createNetworkInterface(createNetworkInterfaceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3906,7 +4035,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
+        return submit(new Callable<DescribeVpcsResult>() {
             public DescribeVpcsResult call() throws Exception {
                 return describeVpcs(describeVpcsRequest);
 		    }
@@ -3954,11 +4083,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcsRequest describeVpcsRequest,
             final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
+        return submit(new Callable<DescribeVpcsResult>() {
             public DescribeVpcsResult call() throws Exception {
             	DescribeVpcsResult result;
                 try {
             		result = describeVpcs(describeVpcsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3988,7 +4119,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
                 return null;
@@ -4022,10 +4153,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
             final AsyncHandler<UnassignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4064,7 +4197,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
+        return submit(new Callable<AssociateAddressResult>() {
             public AssociateAddressResult call() throws Exception {
                 return associateAddress(associateAddressRequest);
 		    }
@@ -4106,11 +4239,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateAddressRequest associateAddressRequest,
             final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
+        return submit(new Callable<AssociateAddressResult>() {
             public AssociateAddressResult call() throws Exception {
             	AssociateAddressResult result;
                 try {
             		result = associateAddress(associateAddressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4139,7 +4274,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 cancelConversionTask(cancelConversionTaskRequest);
                 return null;
@@ -4172,10 +4307,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelConversionTaskRequest cancelConversionTaskRequest,
             final AsyncHandler<CancelConversionTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		cancelConversionTask(cancelConversionTaskRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4209,7 +4346,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deactivateLicenseAsync(final DeactivateLicenseRequest deactivateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deactivateLicense(deactivateLicenseRequest);
                 return null;
@@ -4247,10 +4384,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeactivateLicenseRequest deactivateLicenseRequest,
             final AsyncHandler<DeactivateLicenseRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deactivateLicense(deactivateLicenseRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4290,7 +4429,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCustomerGateway(deleteCustomerGatewayRequest);
                 return null;
@@ -4334,10 +4473,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
             final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteCustomerGateway(deleteCustomerGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4389,7 +4530,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createNetworkAclEntry(createNetworkAclEntryRequest);
                 return null;
@@ -4445,10 +4586,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
             final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createNetworkAclEntry(createNetworkAclEntryRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4477,7 +4620,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
+        return submit(new Callable<DescribeExportTasksResult>() {
             public DescribeExportTasksResult call() throws Exception {
                 return describeExportTasks(describeExportTasksRequest);
 		    }
@@ -4509,11 +4652,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeExportTasksRequest describeExportTasksRequest,
             final AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
+        return submit(new Callable<DescribeExportTasksResult>() {
             public DescribeExportTasksResult call() throws Exception {
             	DescribeExportTasksResult result;
                 try {
             		result = describeExportTasks(describeExportTasksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4554,7 +4699,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 detachInternetGateway(detachInternetGatewayRequest);
                 return null;
@@ -4599,10 +4744,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachInternetGatewayRequest detachInternetGatewayRequest,
             final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		detachInternetGateway(detachInternetGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4638,7 +4785,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
+        return submit(new Callable<CreateRouteTableResult>() {
             public CreateRouteTableResult call() throws Exception {
                 return createRouteTable(createRouteTableRequest);
 		    }
@@ -4677,11 +4824,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteTableRequest createRouteTableRequest,
             final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
+        return submit(new Callable<CreateRouteTableResult>() {
             public CreateRouteTableResult call() throws Exception {
             	CreateRouteTableResult result;
                 try {
             		result = createRouteTable(createRouteTableRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4715,7 +4864,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return submit(new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
                 return describeVolumes(describeVolumesRequest);
 		    }
@@ -4752,11 +4901,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return submit(new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
             	DescribeVolumesResult result;
                 try {
             		result = describeVolumes(describeVolumesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4787,7 +4938,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
+        return submit(new Callable<DescribeReservedInstancesListingsResult>() {
             public DescribeReservedInstancesListingsResult call() throws Exception {
                 return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
 		    }
@@ -4821,11 +4972,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
             final AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
+        return submit(new Callable<DescribeReservedInstancesListingsResult>() {
             public DescribeReservedInstancesListingsResult call() throws Exception {
             	DescribeReservedInstancesListingsResult result;
                 try {
             		result = describeReservedInstancesListings(describeReservedInstancesListingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4854,7 +5007,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 reportInstanceStatus(reportInstanceStatusRequest);
                 return null;
@@ -4887,10 +5040,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReportInstanceStatusRequest reportInstanceStatusRequest,
             final AsyncHandler<ReportInstanceStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		reportInstanceStatus(reportInstanceStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4942,7 +5097,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
+        return submit(new Callable<DescribeRouteTablesResult>() {
             public DescribeRouteTablesResult call() throws Exception {
                 return describeRouteTables(describeRouteTablesRequest);
 		    }
@@ -4997,11 +5152,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRouteTablesRequest describeRouteTablesRequest,
             final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
+        return submit(new Callable<DescribeRouteTablesResult>() {
             public DescribeRouteTablesResult call() throws Exception {
             	DescribeRouteTablesResult result;
                 try {
             		result = describeRouteTables(describeRouteTablesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5041,7 +5198,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
+        return submit(new Callable<DescribeDhcpOptionsResult>() {
             public DescribeDhcpOptionsResult call() throws Exception {
                 return describeDhcpOptions(describeDhcpOptionsRequest);
 		    }
@@ -5084,11 +5241,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
             final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
+        return submit(new Callable<DescribeDhcpOptionsResult>() {
             public DescribeDhcpOptionsResult call() throws Exception {
             	DescribeDhcpOptionsResult result;
                 try {
             		result = describeDhcpOptions(describeDhcpOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5120,7 +5279,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
+        return submit(new Callable<MonitorInstancesResult>() {
             public MonitorInstancesResult call() throws Exception {
                 return monitorInstances(monitorInstancesRequest);
 		    }
@@ -5155,11 +5314,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MonitorInstancesRequest monitorInstancesRequest,
             final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
+        return submit(new Callable<MonitorInstancesResult>() {
             public MonitorInstancesResult call() throws Exception {
             	MonitorInstancesResult result;
                 try {
             		result = monitorInstances(monitorInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5210,7 +5371,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
+        return submit(new Callable<DescribeNetworkAclsResult>() {
             public DescribeNetworkAclsResult call() throws Exception {
                 return describeNetworkAcls(describeNetworkAclsRequest);
 		    }
@@ -5264,11 +5425,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkAclsRequest describeNetworkAclsRequest,
             final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
+        return submit(new Callable<DescribeNetworkAclsResult>() {
             public DescribeNetworkAclsResult call() throws Exception {
             	DescribeNetworkAclsResult result;
                 try {
             		result = describeNetworkAcls(describeNetworkAclsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5303,7 +5466,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
+        return submit(new Callable<DescribeBundleTasksResult>() {
             public DescribeBundleTasksResult call() throws Exception {
                 return describeBundleTasks(describeBundleTasksRequest);
 		    }
@@ -5341,11 +5504,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeBundleTasksRequest describeBundleTasksRequest,
             final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
+        return submit(new Callable<DescribeBundleTasksResult>() {
             public DescribeBundleTasksResult call() throws Exception {
             	DescribeBundleTasksResult result;
                 try {
             		result = describeBundleTasks(describeBundleTasksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5374,7 +5539,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
+        return submit(new Callable<ImportInstanceResult>() {
             public ImportInstanceResult call() throws Exception {
                 return importInstance(importInstanceRequest);
 		    }
@@ -5406,11 +5571,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportInstanceRequest importInstanceRequest,
             final AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
+        return submit(new Callable<ImportInstanceResult>() {
             public ImportInstanceResult call() throws Exception {
             	ImportInstanceResult result;
                 try {
             		result = importInstance(importInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5456,7 +5623,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
                 return null;
@@ -5506,10 +5673,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
             final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5548,7 +5717,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
+        return submit(new Callable<GetConsoleOutputResult>() {
             public GetConsoleOutputResult call() throws Exception {
                 return getConsoleOutput(getConsoleOutputRequest);
 		    }
@@ -5590,11 +5759,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetConsoleOutputRequest getConsoleOutputRequest,
             final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
+        return submit(new Callable<GetConsoleOutputResult>() {
             public GetConsoleOutputResult call() throws Exception {
             	GetConsoleOutputResult result;
                 try {
             		result = getConsoleOutput(getConsoleOutputRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5631,7 +5802,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
+        return submit(new Callable<CreateInternetGatewayResult>() {
             public CreateInternetGatewayResult call() throws Exception {
                 return createInternetGateway(createInternetGatewayRequest);
 		    }
@@ -5671,11 +5842,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInternetGatewayRequest createInternetGatewayRequest,
             final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
+        return submit(new Callable<CreateInternetGatewayResult>() {
             public CreateInternetGatewayResult call() throws Exception {
             	CreateInternetGatewayResult result;
                 try {
             		result = createInternetGateway(createInternetGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5705,7 +5878,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
                 return null;
@@ -5739,10 +5912,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
             final AsyncHandler<DeleteVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5772,7 +5947,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 detachNetworkInterface(detachNetworkInterfaceRequest);
                 return null;
@@ -5806,10 +5981,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
             final AsyncHandler<DetachNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		detachNetworkInterface(detachNetworkInterfaceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5841,7 +6018,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 modifyImageAttribute(modifyImageAttributeRequest);
                 return null;
@@ -5877,10 +6054,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyImageAttributeRequest modifyImageAttributeRequest,
             final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		modifyImageAttribute(modifyImageAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5933,7 +6112,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
+        return submit(new Callable<CreateCustomerGatewayResult>() {
             public CreateCustomerGatewayResult call() throws Exception {
                 return createCustomerGateway(createCustomerGatewayRequest);
 		    }
@@ -5989,11 +6168,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateCustomerGatewayRequest createCustomerGatewayRequest,
             final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
+        return submit(new Callable<CreateCustomerGatewayResult>() {
             public CreateCustomerGatewayResult call() throws Exception {
             	CreateCustomerGatewayResult result;
                 try {
             		result = createCustomerGateway(createCustomerGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6034,7 +6215,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
+        return submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
             public CreateSpotDatafeedSubscriptionResult call() throws Exception {
                 return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
 		    }
@@ -6078,11 +6259,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
             final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
+        return submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
             public CreateSpotDatafeedSubscriptionResult call() throws Exception {
             	CreateSpotDatafeedSubscriptionResult result;
                 try {
             		result = createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6117,7 +6300,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 attachInternetGateway(attachInternetGatewayRequest);
                 return null;
@@ -6156,10 +6339,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachInternetGatewayRequest attachInternetGatewayRequest,
             final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		attachInternetGateway(attachInternetGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6203,7 +6388,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpnConnection(deleteVpnConnectionRequest);
                 return null;
@@ -6251,10 +6436,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
             final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVpnConnection(deleteVpnConnectionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6284,7 +6471,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
+        return submit(new Callable<DescribeConversionTasksResult>() {
             public DescribeConversionTasksResult call() throws Exception {
                 return describeConversionTasks(describeConversionTasksRequest);
 		    }
@@ -6317,11 +6504,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeConversionTasksRequest describeConversionTasksRequest,
             final AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
+        return submit(new Callable<DescribeConversionTasksResult>() {
             public DescribeConversionTasksResult call() throws Exception {
             	DescribeConversionTasksResult result;
                 try {
             		result = describeConversionTasks(describeConversionTasksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6372,7 +6561,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
+        return submit(new Callable<CreateVpnConnectionResult>() {
             public CreateVpnConnectionResult call() throws Exception {
                 return createVpnConnection(createVpnConnectionRequest);
 		    }
@@ -6426,11 +6615,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRequest createVpnConnectionRequest,
             final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
+        return submit(new Callable<CreateVpnConnectionResult>() {
             public CreateVpnConnectionResult call() throws Exception {
             	CreateVpnConnectionResult result;
                 try {
             		result = createVpnConnection(createVpnConnectionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6464,7 +6655,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+        return submit(new Callable<DescribeInstanceAttributeResult>() {
             public DescribeInstanceAttributeResult call() throws Exception {
                 return describeInstanceAttribute(describeInstanceAttributeRequest);
 		    }
@@ -6501,11 +6692,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+        return submit(new Callable<DescribeInstanceAttributeResult>() {
             public DescribeInstanceAttributeResult call() throws Exception {
             	DescribeInstanceAttributeResult result;
                 try {
             		result = describeInstanceAttribute(describeInstanceAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6551,7 +6744,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
+        return submit(new Callable<DescribeSubnetsResult>() {
             public DescribeSubnetsResult call() throws Exception {
                 return describeSubnets(describeSubnetsRequest);
 		    }
@@ -6600,11 +6793,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSubnetsRequest describeSubnetsRequest,
             final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
+        return submit(new Callable<DescribeSubnetsResult>() {
             public DescribeSubnetsResult call() throws Exception {
             	DescribeSubnetsResult result;
                 try {
             		result = describeSubnets(describeSubnetsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6685,7 +6880,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
+        return submit(new Callable<RunInstancesResult>() {
             public RunInstancesResult call() throws Exception {
                 return runInstances(runInstancesRequest);
 		    }
@@ -6769,11 +6964,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunInstancesRequest runInstancesRequest,
             final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
+        return submit(new Callable<RunInstancesResult>() {
             public RunInstancesResult call() throws Exception {
             	RunInstancesResult result;
                 try {
             		result = runInstances(runInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6807,7 +7004,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
+        return submit(new Callable<DescribePlacementGroupsResult>() {
             public DescribePlacementGroupsResult call() throws Exception {
                 return describePlacementGroups(describePlacementGroupsRequest);
 		    }
@@ -6844,11 +7041,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePlacementGroupsRequest describePlacementGroupsRequest,
             final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
+        return submit(new Callable<DescribePlacementGroupsResult>() {
             public DescribePlacementGroupsResult call() throws Exception {
             	DescribePlacementGroupsResult result;
                 try {
             		result = describePlacementGroups(describePlacementGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6890,7 +7089,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
+        return submit(new Callable<AssociateRouteTableResult>() {
             public AssociateRouteTableResult call() throws Exception {
                 return associateRouteTable(associateRouteTableRequest);
 		    }
@@ -6935,11 +7134,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateRouteTableRequest associateRouteTableRequest,
             final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
+        return submit(new Callable<AssociateRouteTableResult>() {
             public AssociateRouteTableResult call() throws Exception {
             	AssociateRouteTableResult result;
                 try {
             		result = associateRouteTable(associateRouteTableRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6984,7 +7185,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return submit(new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
                 return describeInstances(describeInstancesRequest);
 		    }
@@ -7032,11 +7233,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return submit(new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
             	DescribeInstancesResult result;
                 try {
             		result = describeInstances(describeInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7071,7 +7274,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteNetworkAcl(deleteNetworkAclRequest);
                 return null;
@@ -7110,10 +7313,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclRequest deleteNetworkAclRequest,
             final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteNetworkAcl(deleteNetworkAclRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7143,7 +7348,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 modifyVolumeAttribute(modifyVolumeAttributeRequest);
                 return null;
@@ -7177,10 +7382,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
             final AsyncHandler<ModifyVolumeAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		modifyVolumeAttribute(modifyVolumeAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7259,7 +7466,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
+        return submit(new Callable<DescribeImagesResult>() {
             public DescribeImagesResult call() throws Exception {
                 return describeImages(describeImagesRequest);
 		    }
@@ -7341,11 +7548,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImagesRequest describeImagesRequest,
             final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
+        return submit(new Callable<DescribeImagesResult>() {
             public DescribeImagesResult call() throws Exception {
             	DescribeImagesResult result;
                 try {
             		result = describeImages(describeImagesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7387,7 +7596,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
+        return submit(new Callable<StartInstancesResult>() {
             public StartInstancesResult call() throws Exception {
                 return startInstances(startInstancesRequest);
 		    }
@@ -7432,11 +7641,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StartInstancesRequest startInstancesRequest,
             final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
+        return submit(new Callable<StartInstancesResult>() {
             public StartInstancesResult call() throws Exception {
             	StartInstancesResult result;
                 try {
             		result = startInstances(startInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7467,7 +7678,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
+        return submit(new Callable<CancelReservedInstancesListingResult>() {
             public CancelReservedInstancesListingResult call() throws Exception {
                 return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
 		    }
@@ -7501,11 +7712,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
             final AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
+        return submit(new Callable<CancelReservedInstancesListingResult>() {
             public CancelReservedInstancesListingResult call() throws Exception {
             	CancelReservedInstancesListingResult result;
                 try {
             		result = cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7538,7 +7751,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 modifyInstanceAttribute(modifyInstanceAttributeRequest);
                 return null;
@@ -7575,10 +7788,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
             final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		modifyInstanceAttribute(modifyInstanceAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7613,7 +7828,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDhcpOptions(deleteDhcpOptionsRequest);
                 return null;
@@ -7652,10 +7867,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
             final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteDhcpOptions(deleteDhcpOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7702,7 +7919,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
                 return null;
@@ -7753,10 +7970,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7823,7 +8042,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
+        return submit(new Callable<DescribeSpotInstanceRequestsResult>() {
             public DescribeSpotInstanceRequestsResult call() throws Exception {
                 return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
 		    }
@@ -7893,11 +8112,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
             final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
+        return submit(new Callable<DescribeSpotInstanceRequestsResult>() {
             public DescribeSpotInstanceRequestsResult call() throws Exception {
             	DescribeSpotInstanceRequestsResult result;
                 try {
             		result = describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -7938,7 +8159,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
+        return submit(new Callable<CreateVpcResult>() {
             public CreateVpcResult call() throws Exception {
                 return createVpc(createVpcRequest);
 		    }
@@ -7982,11 +8203,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcRequest createVpcRequest,
             final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
+        return submit(new Callable<CreateVpcResult>() {
             public CreateVpcResult call() throws Exception {
             	CreateVpcResult result;
                 try {
             		result = createVpc(createVpcRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8030,7 +8253,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
+        return submit(new Callable<DescribeCustomerGatewaysResult>() {
             public DescribeCustomerGatewaysResult call() throws Exception {
                 return describeCustomerGateways(describeCustomerGatewaysRequest);
 		    }
@@ -8077,11 +8300,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
             final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
+        return submit(new Callable<DescribeCustomerGatewaysResult>() {
             public DescribeCustomerGatewaysResult call() throws Exception {
             	DescribeCustomerGatewaysResult result;
                 try {
             		result = describeCustomerGateways(describeCustomerGatewaysRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8110,7 +8335,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 cancelExportTask(cancelExportTaskRequest);
                 return null;
@@ -8143,10 +8368,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelExportTaskRequest cancelExportTaskRequest,
             final AsyncHandler<CancelExportTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		cancelExportTask(cancelExportTaskRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8202,7 +8429,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createRoute(createRouteRequest);
                 return null;
@@ -8262,10 +8489,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteRequest createRouteRequest,
             final AsyncHandler<CreateRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createRoute(createRouteRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8296,7 +8525,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
                 return null;
@@ -8331,10 +8560,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
             final AsyncHandler<ModifyNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8370,7 +8601,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteRouteTable(deleteRouteTableRequest);
                 return null;
@@ -8410,10 +8641,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteTableRequest deleteRouteTableRequest,
             final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteRouteTable(deleteRouteTableRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8444,7 +8677,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
+        return submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
             public DescribeNetworkInterfaceAttributeResult call() throws Exception {
                 return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
 		    }
@@ -8478,11 +8711,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
             final AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
+        return submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
             public DescribeNetworkInterfaceAttributeResult call() throws Exception {
             	DescribeNetworkInterfaceAttributeResult result;
                 try {
             		result = describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8525,7 +8760,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
+        return submit(new Callable<RequestSpotInstancesResult>() {
             public RequestSpotInstancesResult call() throws Exception {
                 return requestSpotInstances(requestSpotInstancesRequest);
 		    }
@@ -8571,11 +8806,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotInstancesRequest requestSpotInstancesRequest,
             final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
+        return submit(new Callable<RequestSpotInstancesResult>() {
             public RequestSpotInstancesResult call() throws Exception {
             	RequestSpotInstancesResult result;
                 try {
             		result = requestSpotInstances(requestSpotInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8609,7 +8846,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createTags(createTagsRequest);
                 return null;
@@ -8647,10 +8884,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createTags(createTagsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8680,7 +8919,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
+        return submit(new Callable<DescribeVolumeAttributeResult>() {
             public DescribeVolumeAttributeResult call() throws Exception {
                 return describeVolumeAttribute(describeVolumeAttributeRequest);
 		    }
@@ -8713,11 +8952,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
             final AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
+        return submit(new Callable<DescribeVolumeAttributeResult>() {
             public DescribeVolumeAttributeResult call() throws Exception {
             	DescribeVolumeAttributeResult result;
                 try {
             		result = describeVolumeAttribute(describeVolumeAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8747,7 +8988,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
+        return submit(new Callable<AttachNetworkInterfaceResult>() {
             public AttachNetworkInterfaceResult call() throws Exception {
                 return attachNetworkInterface(attachNetworkInterfaceRequest);
 		    }
@@ -8780,11 +9021,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
             final AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
+        return submit(new Callable<AttachNetworkInterfaceResult>() {
             public AttachNetworkInterfaceResult call() throws Exception {
             	AttachNetworkInterfaceResult result;
                 try {
             		result = attachNetworkInterface(attachNetworkInterfaceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8819,7 +9062,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 replaceRoute(replaceRouteRequest);
                 return null;
@@ -8858,10 +9101,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteRequest replaceRouteRequest,
             final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		replaceRoute(replaceRouteRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8893,7 +9138,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return submit(new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
                 return describeTags(describeTagsRequest);
 		    }
@@ -8928,11 +9173,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return submit(new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
             	DescribeTagsResult result;
                 try {
             		result = describeTags(describeTagsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -8968,7 +9215,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
+        return submit(new Callable<CancelBundleTaskResult>() {
             public CancelBundleTaskResult call() throws Exception {
                 return cancelBundleTask(cancelBundleTaskRequest);
 		    }
@@ -9007,11 +9254,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelBundleTaskRequest cancelBundleTaskRequest,
             final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
+        return submit(new Callable<CancelBundleTaskResult>() {
             public CancelBundleTaskResult call() throws Exception {
             	CancelBundleTaskResult result;
                 try {
             		result = cancelBundleTask(cancelBundleTaskRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9041,7 +9290,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
                 return null;
@@ -9075,10 +9324,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
             final AsyncHandler<DisableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9123,7 +9374,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
+        return submit(new Callable<CancelSpotInstanceRequestsResult>() {
             public CancelSpotInstanceRequestsResult call() throws Exception {
                 return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
 		    }
@@ -9171,11 +9422,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
             final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
+        return submit(new Callable<CancelSpotInstanceRequestsResult>() {
             public CancelSpotInstanceRequestsResult call() throws Exception {
             	CancelSpotInstanceRequestsResult result;
                 try {
             		result = cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9213,7 +9466,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
+        return submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
             public PurchaseReservedInstancesOfferingResult call() throws Exception {
                 return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
 		    }
@@ -9254,11 +9507,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
+        return submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
             public PurchaseReservedInstancesOfferingResult call() throws Exception {
             	PurchaseReservedInstancesOfferingResult result;
                 try {
             		result = purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9291,7 +9546,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 modifySnapshotAttribute(modifySnapshotAttributeRequest);
                 return null;
@@ -9328,10 +9583,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
             final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		modifySnapshotAttribute(modifySnapshotAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9369,7 +9626,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
+        return submit(new Callable<TerminateInstancesResult>() {
             public TerminateInstancesResult call() throws Exception {
                 return terminateInstances(terminateInstancesRequest);
 		    }
@@ -9410,11 +9667,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final TerminateInstancesRequest terminateInstancesRequest,
             final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
+        return submit(new Callable<TerminateInstancesResult>() {
             public TerminateInstancesResult call() throws Exception {
             	TerminateInstancesResult result;
                 try {
             		result = terminateInstances(terminateInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9454,7 +9713,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
                 return null;
@@ -9498,10 +9757,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9536,7 +9797,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteInternetGateway(deleteInternetGatewayRequest);
                 return null;
@@ -9575,10 +9836,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
             final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteInternetGateway(deleteInternetGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9612,7 +9875,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
+        return submit(new Callable<DescribeSnapshotAttributeResult>() {
             public DescribeSnapshotAttributeResult call() throws Exception {
                 return describeSnapshotAttribute(describeSnapshotAttributeRequest);
 		    }
@@ -9649,11 +9912,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
             final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
+        return submit(new Callable<DescribeSnapshotAttributeResult>() {
             public DescribeSnapshotAttributeResult call() throws Exception {
             	DescribeSnapshotAttributeResult result;
                 try {
             		result = describeSnapshotAttribute(describeSnapshotAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9696,7 +9961,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
+        return submit(new Callable<ReplaceRouteTableAssociationResult>() {
             public ReplaceRouteTableAssociationResult call() throws Exception {
                 return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
 		    }
@@ -9742,11 +10007,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
             final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
+        return submit(new Callable<ReplaceRouteTableAssociationResult>() {
             public ReplaceRouteTableAssociationResult call() throws Exception {
             	ReplaceRouteTableAssociationResult result;
                 try {
             		result = replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9779,7 +10046,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
+        return submit(new Callable<DescribeAddressesResult>() {
             public DescribeAddressesResult call() throws Exception {
                 return describeAddresses(describeAddressesRequest);
 		    }
@@ -9815,11 +10082,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAddressesRequest describeAddressesRequest,
             final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
+        return submit(new Callable<DescribeAddressesResult>() {
             public DescribeAddressesResult call() throws Exception {
             	DescribeAddressesResult result;
                 try {
             		result = describeAddresses(describeAddressesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9853,7 +10122,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
+        return submit(new Callable<DescribeImageAttributeResult>() {
             public DescribeImageAttributeResult call() throws Exception {
                 return describeImageAttribute(describeImageAttributeRequest);
 		    }
@@ -9890,11 +10159,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImageAttributeRequest describeImageAttributeRequest,
             final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
+        return submit(new Callable<DescribeImageAttributeResult>() {
             public DescribeImageAttributeResult call() throws Exception {
             	DescribeImageAttributeResult result;
                 try {
             		result = describeImageAttribute(describeImageAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -9929,7 +10200,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
+        return submit(new Callable<DescribeKeyPairsResult>() {
             public DescribeKeyPairsResult call() throws Exception {
                 return describeKeyPairs(describeKeyPairsRequest);
 		    }
@@ -9967,11 +10238,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeKeyPairsRequest describeKeyPairsRequest,
             final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
+        return submit(new Callable<DescribeKeyPairsResult>() {
             public DescribeKeyPairsResult call() throws Exception {
             	DescribeKeyPairsResult result;
                 try {
             		result = describeKeyPairs(describeKeyPairsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10012,7 +10285,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
+        return submit(new Callable<ConfirmProductInstanceResult>() {
             public ConfirmProductInstanceResult call() throws Exception {
                 return confirmProductInstance(confirmProductInstanceRequest);
 		    }
@@ -10056,11 +10329,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ConfirmProductInstanceRequest confirmProductInstanceRequest,
             final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
+        return submit(new Callable<ConfirmProductInstanceResult>() {
             public ConfirmProductInstanceResult call() throws Exception {
             	ConfirmProductInstanceResult result;
                 try {
             		result = confirmProductInstance(confirmProductInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10100,7 +10375,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateRouteTable(disassociateRouteTableRequest);
                 return null;
@@ -10144,10 +10419,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateRouteTableRequest disassociateRouteTableRequest,
             final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		disassociateRouteTable(disassociateRouteTableRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10199,7 +10476,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
                 return null;
@@ -10255,10 +10532,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
             final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10293,7 +10572,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
                 return null;
@@ -10332,10 +10611,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
             final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10367,7 +10648,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
+        return submit(new Callable<CreateVolumeResult>() {
             public CreateVolumeResult call() throws Exception {
                 return createVolume(createVolumeRequest);
 		    }
@@ -10402,11 +10683,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVolumeRequest createVolumeRequest,
             final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
+        return submit(new Callable<CreateVolumeResult>() {
             public CreateVolumeResult call() throws Exception {
             	CreateVolumeResult result;
                 try {
             		result = createVolume(createVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10505,7 +10788,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
+        return submit(new Callable<DescribeInstanceStatusResult>() {
             public DescribeInstanceStatusResult call() throws Exception {
                 return describeInstanceStatus(describeInstanceStatusRequest);
 		    }
@@ -10607,11 +10890,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceStatusRequest describeInstanceStatusRequest,
             final AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
+        return submit(new Callable<DescribeInstanceStatusResult>() {
             public DescribeInstanceStatusResult call() throws Exception {
             	DescribeInstanceStatusResult result;
                 try {
             		result = describeInstanceStatus(describeInstanceStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10658,7 +10943,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
+        return submit(new Callable<DescribeVpnGatewaysResult>() {
             public DescribeVpnGatewaysResult call() throws Exception {
                 return describeVpnGateways(describeVpnGatewaysRequest);
 		    }
@@ -10708,11 +10993,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
             final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
+        return submit(new Callable<DescribeVpnGatewaysResult>() {
             public DescribeVpnGatewaysResult call() throws Exception {
             	DescribeVpnGatewaysResult result;
                 try {
             		result = describeVpnGateways(describeVpnGatewaysRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10758,7 +11045,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
+        return submit(new Callable<CreateSubnetResult>() {
             public CreateSubnetResult call() throws Exception {
                 return createSubnet(createSubnetRequest);
 		    }
@@ -10807,11 +11094,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSubnetRequest createSubnetRequest,
             final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
+        return submit(new Callable<CreateSubnetResult>() {
             public CreateSubnetResult call() throws Exception {
             	CreateSubnetResult result;
                 try {
             		result = createSubnet(createSubnetRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10849,7 +11138,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
+        return submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
             public DescribeReservedInstancesOfferingsResult call() throws Exception {
                 return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
 		    }
@@ -10890,11 +11179,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
+        return submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
             public DescribeReservedInstancesOfferingsResult call() throws Exception {
             	DescribeReservedInstancesOfferingsResult result;
                 try {
             		result = describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10924,7 +11215,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
                 return null;
@@ -10958,10 +11249,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
             final AsyncHandler<AssignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -10994,7 +11287,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSnapshot(deleteSnapshotRequest);
                 return null;
@@ -11031,10 +11324,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSnapshotRequest deleteSnapshotRequest,
             final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteSnapshot(deleteSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11070,7 +11365,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
+        return submit(new Callable<ReplaceNetworkAclAssociationResult>() {
             public ReplaceNetworkAclAssociationResult call() throws Exception {
                 return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
 		    }
@@ -11109,11 +11404,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
             final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
+        return submit(new Callable<ReplaceNetworkAclAssociationResult>() {
             public ReplaceNetworkAclAssociationResult call() throws Exception {
             	ReplaceNetworkAclAssociationResult result;
                 try {
             		result = replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11148,7 +11445,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateAddress(disassociateAddressRequest);
                 return null;
@@ -11187,10 +11484,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateAddressRequest disassociateAddressRequest,
             final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		disassociateAddress(disassociateAddressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11224,7 +11523,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createPlacementGroup(createPlacementGroupRequest);
                 return null;
@@ -11262,10 +11561,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreatePlacementGroupRequest createPlacementGroupRequest,
             final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createPlacementGroup(createPlacementGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11301,7 +11602,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
+        return submit(new Callable<BundleInstanceResult>() {
             public BundleInstanceResult call() throws Exception {
                 return bundleInstance(bundleInstanceRequest);
 		    }
@@ -11340,11 +11641,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final BundleInstanceRequest bundleInstanceRequest,
             final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
+        return submit(new Callable<BundleInstanceResult>() {
             public BundleInstanceResult call() throws Exception {
             	BundleInstanceResult result;
                 try {
             		result = bundleInstance(bundleInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11377,7 +11680,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deletePlacementGroup(deletePlacementGroupRequest);
                 return null;
@@ -11414,10 +11717,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeletePlacementGroupRequest deletePlacementGroupRequest,
             final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deletePlacementGroup(deletePlacementGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11453,7 +11758,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpc(deleteVpcRequest);
                 return null;
@@ -11493,10 +11798,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcRequest deleteVpcRequest,
             final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVpc(deleteVpcRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11525,7 +11832,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
+        return submit(new Callable<CopySnapshotResult>() {
             public CopySnapshotResult call() throws Exception {
                 return copySnapshot(copySnapshotRequest);
 		    }
@@ -11557,11 +11864,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
+        return submit(new Callable<CopySnapshotResult>() {
             public CopySnapshotResult call() throws Exception {
             	CopySnapshotResult result;
                 try {
             		result = copySnapshot(copySnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11594,7 +11903,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
+        return submit(new Callable<AllocateAddressResult>() {
             public AllocateAddressResult call() throws Exception {
                 return allocateAddress(allocateAddressRequest);
 		    }
@@ -11630,11 +11939,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateAddressRequest allocateAddressRequest,
             final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
+        return submit(new Callable<AllocateAddressResult>() {
             public AllocateAddressResult call() throws Exception {
             	AllocateAddressResult result;
                 try {
             		result = allocateAddress(allocateAddressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11681,7 +11992,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 releaseAddress(releaseAddressRequest);
                 return null;
@@ -11732,10 +12043,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseAddressRequest releaseAddressRequest,
             final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		releaseAddress(releaseAddressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11768,7 +12081,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 resetInstanceAttribute(resetInstanceAttributeRequest);
                 return null;
@@ -11805,10 +12118,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
             final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		resetInstanceAttribute(resetInstanceAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11842,7 +12157,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
+        return submit(new Callable<CreateKeyPairResult>() {
             public CreateKeyPairResult call() throws Exception {
                 return createKeyPair(createKeyPairRequest);
 		    }
@@ -11879,11 +12194,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateKeyPairRequest createKeyPairRequest,
             final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
+        return submit(new Callable<CreateKeyPairResult>() {
             public CreateKeyPairResult call() throws Exception {
             	CreateKeyPairResult result;
                 try {
             		result = createKeyPair(createKeyPairRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11918,7 +12235,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
                 return null;
@@ -11957,10 +12274,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
             final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -11996,7 +12315,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
+        return submit(new Callable<DescribeSnapshotsResult>() {
             public DescribeSnapshotsResult call() throws Exception {
                 return describeSnapshots(describeSnapshotsRequest);
 		    }
@@ -12035,11 +12354,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
+        return submit(new Callable<DescribeSnapshotsResult>() {
             public DescribeSnapshotsResult call() throws Exception {
             	DescribeSnapshotsResult result;
                 try {
             		result = describeSnapshots(describeSnapshotsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -12074,7 +12395,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
+        return submit(new Callable<CreateNetworkAclResult>() {
             public CreateNetworkAclResult call() throws Exception {
                 return createNetworkAcl(createNetworkAclRequest);
 		    }
@@ -12112,11 +12433,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclRequest createNetworkAclRequest,
             final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
+        return submit(new Callable<CreateNetworkAclResult>() {
             public CreateNetworkAclResult call() throws Exception {
             	CreateNetworkAclResult result;
                 try {
             		result = createNetworkAcl(createNetworkAclRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -12164,7 +12487,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
+        return submit(new Callable<RegisterImageResult>() {
             public RegisterImageResult call() throws Exception {
                 return registerImage(registerImageRequest);
 		    }
@@ -12215,11 +12538,13 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RegisterImageRequest registerImageRequest,
             final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
+        return submit(new Callable<RegisterImageResult>() {
             public RegisterImageResult call() throws Exception {
             	RegisterImageResult result;
                 try {
             		result = registerImage(registerImageRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -12250,7 +12575,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
                 return null;
@@ -12285,10 +12610,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
             final AsyncHandler<ResetNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -12318,7 +12645,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createVpnConnectionRoute(createVpnConnectionRouteRequest);
                 return null;
@@ -12352,10 +12679,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
             final AsyncHandler<CreateVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createVpnConnectionRoute(createVpnConnectionRouteRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -56,6 +58,8 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -245,6 +249,41 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -287,7 +326,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> authorizeCacheSecurityGroupIngressAsync(final AuthorizeCacheSecurityGroupIngressRequest authorizeCacheSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return submit(new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
                 return authorizeCacheSecurityGroupIngress(authorizeCacheSecurityGroupIngressRequest);
 		    }
@@ -331,11 +370,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final AuthorizeCacheSecurityGroupIngressRequest authorizeCacheSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return submit(new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
             	CacheSecurityGroup result;
                 try {
             		result = authorizeCacheSecurityGroupIngress(authorizeCacheSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -369,7 +410,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSubnetGroup> createCacheSubnetGroupAsync(final CreateCacheSubnetGroupRequest createCacheSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
+        return submit(new Callable<CacheSubnetGroup>() {
             public CacheSubnetGroup call() throws Exception {
                 return createCacheSubnetGroup(createCacheSubnetGroupRequest);
 		    }
@@ -406,11 +447,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSubnetGroupRequest createCacheSubnetGroupRequest,
             final AsyncHandler<CreateCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
+        return submit(new Callable<CacheSubnetGroup>() {
             public CacheSubnetGroup call() throws Exception {
             	CacheSubnetGroup result;
                 try {
             		result = createCacheSubnetGroup(createCacheSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -444,7 +487,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ReservedCacheNode> purchaseReservedCacheNodesOfferingAsync(final PurchaseReservedCacheNodesOfferingRequest purchaseReservedCacheNodesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedCacheNode>() {
+        return submit(new Callable<ReservedCacheNode>() {
             public ReservedCacheNode call() throws Exception {
                 return purchaseReservedCacheNodesOffering(purchaseReservedCacheNodesOfferingRequest);
 		    }
@@ -481,11 +524,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final PurchaseReservedCacheNodesOfferingRequest purchaseReservedCacheNodesOfferingRequest,
             final AsyncHandler<PurchaseReservedCacheNodesOfferingRequest, ReservedCacheNode> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedCacheNode>() {
+        return submit(new Callable<ReservedCacheNode>() {
             public ReservedCacheNode call() throws Exception {
             	ReservedCacheNode result;
                 try {
             		result = purchaseReservedCacheNodesOffering(purchaseReservedCacheNodesOfferingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -525,7 +570,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> rebootCacheClusterAsync(final RebootCacheClusterRequest rebootCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
                 return rebootCacheCluster(rebootCacheClusterRequest);
 		    }
@@ -568,11 +613,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RebootCacheClusterRequest rebootCacheClusterRequest,
             final AsyncHandler<RebootCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
             	CacheCluster result;
                 try {
             		result = rebootCacheCluster(rebootCacheClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -607,7 +654,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> revokeCacheSecurityGroupIngressAsync(final RevokeCacheSecurityGroupIngressRequest revokeCacheSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return submit(new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
                 return revokeCacheSecurityGroupIngress(revokeCacheSecurityGroupIngressRequest);
 		    }
@@ -645,11 +692,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RevokeCacheSecurityGroupIngressRequest revokeCacheSecurityGroupIngressRequest,
             final AsyncHandler<RevokeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return submit(new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
             	CacheSecurityGroup result;
                 try {
             		result = revokeCacheSecurityGroupIngress(revokeCacheSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -685,7 +734,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheSubnetGroupsResult> describeCacheSubnetGroupsAsync(final DescribeCacheSubnetGroupsRequest describeCacheSubnetGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSubnetGroupsResult>() {
+        return submit(new Callable<DescribeCacheSubnetGroupsResult>() {
             public DescribeCacheSubnetGroupsResult call() throws Exception {
                 return describeCacheSubnetGroups(describeCacheSubnetGroupsRequest);
 		    }
@@ -724,11 +773,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSubnetGroupsRequest describeCacheSubnetGroupsRequest,
             final AsyncHandler<DescribeCacheSubnetGroupsRequest, DescribeCacheSubnetGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSubnetGroupsResult>() {
+        return submit(new Callable<DescribeCacheSubnetGroupsResult>() {
             public DescribeCacheSubnetGroupsResult call() throws Exception {
             	DescribeCacheSubnetGroupsResult result;
                 try {
             		result = describeCacheSubnetGroups(describeCacheSubnetGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -768,7 +819,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> createCacheSecurityGroupAsync(final CreateCacheSecurityGroupRequest createCacheSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return submit(new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
                 return createCacheSecurityGroup(createCacheSecurityGroupRequest);
 		    }
@@ -811,11 +862,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSecurityGroupRequest createCacheSecurityGroupRequest,
             final AsyncHandler<CreateCacheSecurityGroupRequest, CacheSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return submit(new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
             	CacheSecurityGroup result;
                 try {
             		result = createCacheSecurityGroup(createCacheSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -848,7 +901,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> createCacheClusterAsync(final CreateCacheClusterRequest createCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
                 return createCacheCluster(createCacheClusterRequest);
 		    }
@@ -884,11 +937,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheClusterRequest createCacheClusterRequest,
             final AsyncHandler<CreateCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
             	CacheCluster result;
                 try {
             		result = createCacheCluster(createCacheClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -924,7 +979,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
                 return describeEvents(describeEventsRequest);
 		    }
@@ -963,11 +1018,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
             	DescribeEventsResult result;
                 try {
             		result = describeEvents(describeEventsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1002,7 +1059,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeReservedCacheNodesResult> describeReservedCacheNodesAsync(final DescribeReservedCacheNodesRequest describeReservedCacheNodesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesResult>() {
+        return submit(new Callable<DescribeReservedCacheNodesResult>() {
             public DescribeReservedCacheNodesResult call() throws Exception {
                 return describeReservedCacheNodes(describeReservedCacheNodesRequest);
 		    }
@@ -1040,11 +1097,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesRequest describeReservedCacheNodesRequest,
             final AsyncHandler<DescribeReservedCacheNodesRequest, DescribeReservedCacheNodesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesResult>() {
+        return submit(new Callable<DescribeReservedCacheNodesResult>() {
             public DescribeReservedCacheNodesResult call() throws Exception {
             	DescribeReservedCacheNodesResult result;
                 try {
             		result = describeReservedCacheNodes(describeReservedCacheNodesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1078,7 +1137,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheEngineVersionsResult> describeCacheEngineVersionsAsync(final DescribeCacheEngineVersionsRequest describeCacheEngineVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheEngineVersionsResult>() {
+        return submit(new Callable<DescribeCacheEngineVersionsResult>() {
             public DescribeCacheEngineVersionsResult call() throws Exception {
                 return describeCacheEngineVersions(describeCacheEngineVersionsRequest);
 		    }
@@ -1115,11 +1174,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheEngineVersionsRequest describeCacheEngineVersionsRequest,
             final AsyncHandler<DescribeCacheEngineVersionsRequest, DescribeCacheEngineVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheEngineVersionsResult>() {
+        return submit(new Callable<DescribeCacheEngineVersionsResult>() {
             public DescribeCacheEngineVersionsResult call() throws Exception {
             	DescribeCacheEngineVersionsResult result;
                 try {
             		result = describeCacheEngineVersions(describeCacheEngineVersionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1154,7 +1215,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheParameterGroupAsync(final DeleteCacheParameterGroupRequest deleteCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCacheParameterGroup(deleteCacheParameterGroupRequest);
                 return null;
@@ -1193,10 +1254,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheParameterGroupRequest deleteCacheParameterGroupRequest,
             final AsyncHandler<DeleteCacheParameterGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteCacheParameterGroup(deleteCacheParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1233,7 +1296,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ModifyCacheParameterGroupResult> modifyCacheParameterGroupAsync(final ModifyCacheParameterGroupRequest modifyCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyCacheParameterGroupResult>() {
+        return submit(new Callable<ModifyCacheParameterGroupResult>() {
             public ModifyCacheParameterGroupResult call() throws Exception {
                 return modifyCacheParameterGroup(modifyCacheParameterGroupRequest);
 		    }
@@ -1273,11 +1336,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheParameterGroupRequest modifyCacheParameterGroupRequest,
             final AsyncHandler<ModifyCacheParameterGroupRequest, ModifyCacheParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyCacheParameterGroupResult>() {
+        return submit(new Callable<ModifyCacheParameterGroupResult>() {
             public ModifyCacheParameterGroupResult call() throws Exception {
             	ModifyCacheParameterGroupResult result;
                 try {
             		result = modifyCacheParameterGroup(modifyCacheParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1312,7 +1377,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<EngineDefaults> describeEngineDefaultParametersAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
+        return submit(new Callable<EngineDefaults>() {
             public EngineDefaults call() throws Exception {
                 return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
 		    }
@@ -1350,11 +1415,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest,
             final AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
+        return submit(new Callable<EngineDefaults>() {
             public EngineDefaults call() throws Exception {
             	EngineDefaults result;
                 try {
             		result = describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1392,7 +1459,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheSubnetGroupAsync(final DeleteCacheSubnetGroupRequest deleteCacheSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCacheSubnetGroup(deleteCacheSubnetGroupRequest);
                 return null;
@@ -1434,10 +1501,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSubnetGroupRequest deleteCacheSubnetGroupRequest,
             final AsyncHandler<DeleteCacheSubnetGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteCacheSubnetGroup(deleteCacheSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1472,7 +1541,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheParameterGroup> createCacheParameterGroupAsync(final CreateCacheParameterGroupRequest createCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheParameterGroup>() {
+        return submit(new Callable<CacheParameterGroup>() {
             public CacheParameterGroup call() throws Exception {
                 return createCacheParameterGroup(createCacheParameterGroupRequest);
 		    }
@@ -1510,11 +1579,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheParameterGroupRequest createCacheParameterGroupRequest,
             final AsyncHandler<CreateCacheParameterGroupRequest, CacheParameterGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheParameterGroup>() {
+        return submit(new Callable<CacheParameterGroup>() {
             public CacheParameterGroup call() throws Exception {
             	CacheParameterGroup result;
                 try {
             		result = createCacheParameterGroup(createCacheParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1550,7 +1621,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheSecurityGroupsResult> describeCacheSecurityGroupsAsync(final DescribeCacheSecurityGroupsRequest describeCacheSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSecurityGroupsResult>() {
+        return submit(new Callable<DescribeCacheSecurityGroupsResult>() {
             public DescribeCacheSecurityGroupsResult call() throws Exception {
                 return describeCacheSecurityGroups(describeCacheSecurityGroupsRequest);
 		    }
@@ -1589,11 +1660,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSecurityGroupsRequest describeCacheSecurityGroupsRequest,
             final AsyncHandler<DescribeCacheSecurityGroupsRequest, DescribeCacheSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSecurityGroupsResult>() {
+        return submit(new Callable<DescribeCacheSecurityGroupsResult>() {
             public DescribeCacheSecurityGroupsResult call() throws Exception {
             	DescribeCacheSecurityGroupsResult result;
                 try {
             		result = describeCacheSecurityGroups(describeCacheSecurityGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1629,7 +1702,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheParameterGroupsResult> describeCacheParameterGroupsAsync(final DescribeCacheParameterGroupsRequest describeCacheParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParameterGroupsResult>() {
+        return submit(new Callable<DescribeCacheParameterGroupsResult>() {
             public DescribeCacheParameterGroupsResult call() throws Exception {
                 return describeCacheParameterGroups(describeCacheParameterGroupsRequest);
 		    }
@@ -1668,11 +1741,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParameterGroupsRequest describeCacheParameterGroupsRequest,
             final AsyncHandler<DescribeCacheParameterGroupsRequest, DescribeCacheParameterGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParameterGroupsResult>() {
+        return submit(new Callable<DescribeCacheParameterGroupsResult>() {
             public DescribeCacheParameterGroupsResult call() throws Exception {
             	DescribeCacheParameterGroupsResult result;
                 try {
             		result = describeCacheParameterGroups(describeCacheParameterGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1736,7 +1811,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheClustersResult> describeCacheClustersAsync(final DescribeCacheClustersRequest describeCacheClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheClustersResult>() {
+        return submit(new Callable<DescribeCacheClustersResult>() {
             public DescribeCacheClustersResult call() throws Exception {
                 return describeCacheClusters(describeCacheClustersRequest);
 		    }
@@ -1803,11 +1878,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheClustersRequest describeCacheClustersRequest,
             final AsyncHandler<DescribeCacheClustersRequest, DescribeCacheClustersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheClustersResult>() {
+        return submit(new Callable<DescribeCacheClustersResult>() {
             public DescribeCacheClustersResult call() throws Exception {
             	DescribeCacheClustersResult result;
                 try {
             		result = describeCacheClusters(describeCacheClustersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1844,7 +1921,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ResetCacheParameterGroupResult> resetCacheParameterGroupAsync(final ResetCacheParameterGroupRequest resetCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetCacheParameterGroupResult>() {
+        return submit(new Callable<ResetCacheParameterGroupResult>() {
             public ResetCacheParameterGroupResult call() throws Exception {
                 return resetCacheParameterGroup(resetCacheParameterGroupRequest);
 		    }
@@ -1884,11 +1961,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ResetCacheParameterGroupRequest resetCacheParameterGroupRequest,
             final AsyncHandler<ResetCacheParameterGroupRequest, ResetCacheParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetCacheParameterGroupResult>() {
+        return submit(new Callable<ResetCacheParameterGroupResult>() {
             public ResetCacheParameterGroupResult call() throws Exception {
             	ResetCacheParameterGroupResult result;
                 try {
             		result = resetCacheParameterGroup(resetCacheParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1926,7 +2005,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheSecurityGroupAsync(final DeleteCacheSecurityGroupRequest deleteCacheSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCacheSecurityGroup(deleteCacheSecurityGroupRequest);
                 return null;
@@ -1968,10 +2047,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSecurityGroupRequest deleteCacheSecurityGroupRequest,
             final AsyncHandler<DeleteCacheSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteCacheSecurityGroup(deleteCacheSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2006,7 +2087,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> modifyCacheClusterAsync(final ModifyCacheClusterRequest modifyCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
                 return modifyCacheCluster(modifyCacheClusterRequest);
 		    }
@@ -2044,11 +2125,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheClusterRequest modifyCacheClusterRequest,
             final AsyncHandler<ModifyCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
             	CacheCluster result;
                 try {
             		result = modifyCacheCluster(modifyCacheClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2085,7 +2168,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> deleteCacheClusterAsync(final DeleteCacheClusterRequest deleteCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
                 return deleteCacheCluster(deleteCacheClusterRequest);
 		    }
@@ -2125,11 +2208,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheClusterRequest deleteCacheClusterRequest,
             final AsyncHandler<DeleteCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return submit(new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
             	CacheCluster result;
                 try {
             		result = deleteCacheCluster(deleteCacheClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2163,7 +2248,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeReservedCacheNodesOfferingsResult> describeReservedCacheNodesOfferingsAsync(final DescribeReservedCacheNodesOfferingsRequest describeReservedCacheNodesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesOfferingsResult>() {
+        return submit(new Callable<DescribeReservedCacheNodesOfferingsResult>() {
             public DescribeReservedCacheNodesOfferingsResult call() throws Exception {
                 return describeReservedCacheNodesOfferings(describeReservedCacheNodesOfferingsRequest);
 		    }
@@ -2200,11 +2285,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesOfferingsRequest describeReservedCacheNodesOfferingsRequest,
             final AsyncHandler<DescribeReservedCacheNodesOfferingsRequest, DescribeReservedCacheNodesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesOfferingsResult>() {
+        return submit(new Callable<DescribeReservedCacheNodesOfferingsResult>() {
             public DescribeReservedCacheNodesOfferingsResult call() throws Exception {
             	DescribeReservedCacheNodesOfferingsResult result;
                 try {
             		result = describeReservedCacheNodesOfferings(describeReservedCacheNodesOfferingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2239,7 +2326,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheParametersResult> describeCacheParametersAsync(final DescribeCacheParametersRequest describeCacheParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParametersResult>() {
+        return submit(new Callable<DescribeCacheParametersResult>() {
             public DescribeCacheParametersResult call() throws Exception {
                 return describeCacheParameters(describeCacheParametersRequest);
 		    }
@@ -2277,11 +2364,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParametersRequest describeCacheParametersRequest,
             final AsyncHandler<DescribeCacheParametersRequest, DescribeCacheParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParametersResult>() {
+        return submit(new Callable<DescribeCacheParametersResult>() {
             public DescribeCacheParametersResult call() throws Exception {
             	DescribeCacheParametersResult result;
                 try {
             		result = describeCacheParameters(describeCacheParametersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2315,7 +2404,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSubnetGroup> modifyCacheSubnetGroupAsync(final ModifyCacheSubnetGroupRequest modifyCacheSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
+        return submit(new Callable<CacheSubnetGroup>() {
             public CacheSubnetGroup call() throws Exception {
                 return modifyCacheSubnetGroup(modifyCacheSubnetGroupRequest);
 		    }
@@ -2352,11 +2441,13 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheSubnetGroupRequest modifyCacheSubnetGroupRequest,
             final AsyncHandler<ModifyCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
+        return submit(new Callable<CacheSubnetGroup>() {
             public CacheSubnetGroup call() throws Exception {
             	CacheSubnetGroup result;
                 try {
             		result = modifyCacheSubnetGroup(modifyCacheSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
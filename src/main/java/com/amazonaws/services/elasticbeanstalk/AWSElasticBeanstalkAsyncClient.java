@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -68,6 +70,8 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -257,6 +261,41 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -292,7 +331,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CheckDNSAvailabilityResult> checkDNSAvailabilityAsync(final CheckDNSAvailabilityRequest checkDNSAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckDNSAvailabilityResult>() {
+        return submit(new Callable<CheckDNSAvailabilityResult>() {
             public CheckDNSAvailabilityResult call() throws Exception {
                 return checkDNSAvailability(checkDNSAvailabilityRequest);
 		    }
@@ -329,11 +368,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CheckDNSAvailabilityRequest checkDNSAvailabilityRequest,
             final AsyncHandler<CheckDNSAvailabilityRequest, CheckDNSAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckDNSAvailabilityResult>() {
+        return submit(new Callable<CheckDNSAvailabilityResult>() {
             public CheckDNSAvailabilityResult call() throws Exception {
             	CheckDNSAvailabilityResult result;
                 try {
             		result = checkDNSAvailability(checkDNSAvailabilityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -371,7 +412,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeConfigurationOptionsResult> describeConfigurationOptionsAsync(final DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationOptionsResult>() {
+        return submit(new Callable<DescribeConfigurationOptionsResult>() {
             public DescribeConfigurationOptionsResult call() throws Exception {
                 return describeConfigurationOptions(describeConfigurationOptionsRequest);
 		    }
@@ -412,11 +453,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest,
             final AsyncHandler<DescribeConfigurationOptionsRequest, DescribeConfigurationOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationOptionsResult>() {
+        return submit(new Callable<DescribeConfigurationOptionsResult>() {
             public DescribeConfigurationOptionsResult call() throws Exception {
             	DescribeConfigurationOptionsResult result;
                 try {
             		result = describeConfigurationOptions(describeConfigurationOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -456,7 +499,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteConfigurationTemplateAsync(final DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteConfigurationTemplate(deleteConfigurationTemplateRequest);
                 return null;
@@ -500,10 +543,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest,
             final AsyncHandler<DeleteConfigurationTemplateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteConfigurationTemplate(deleteConfigurationTemplateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -536,7 +581,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateEnvironmentResult> createEnvironmentAsync(final CreateEnvironmentRequest createEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEnvironmentResult>() {
+        return submit(new Callable<CreateEnvironmentResult>() {
             public CreateEnvironmentResult call() throws Exception {
                 return createEnvironment(createEnvironmentRequest);
 		    }
@@ -572,11 +617,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateEnvironmentRequest createEnvironmentRequest,
             final AsyncHandler<CreateEnvironmentRequest, CreateEnvironmentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEnvironmentResult>() {
+        return submit(new Callable<CreateEnvironmentResult>() {
             public CreateEnvironmentResult call() throws Exception {
             	CreateEnvironmentResult result;
                 try {
             		result = createEnvironment(createEnvironmentRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -613,7 +660,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateStorageLocationResult> createStorageLocationAsync(final CreateStorageLocationRequest createStorageLocationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorageLocationResult>() {
+        return submit(new Callable<CreateStorageLocationResult>() {
             public CreateStorageLocationResult call() throws Exception {
                 return createStorageLocation(createStorageLocationRequest);
 		    }
@@ -653,11 +700,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateStorageLocationRequest createStorageLocationRequest,
             final AsyncHandler<CreateStorageLocationRequest, CreateStorageLocationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorageLocationResult>() {
+        return submit(new Callable<CreateStorageLocationResult>() {
             public CreateStorageLocationResult call() throws Exception {
             	CreateStorageLocationResult result;
                 try {
             		result = createStorageLocation(createStorageLocationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -706,7 +755,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> requestEnvironmentInfoAsync(final RequestEnvironmentInfoRequest requestEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 requestEnvironmentInfo(requestEnvironmentInfoRequest);
                 return null;
@@ -759,10 +808,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RequestEnvironmentInfoRequest requestEnvironmentInfoRequest,
             final AsyncHandler<RequestEnvironmentInfoRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		requestEnvironmentInfo(requestEnvironmentInfoRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -803,7 +854,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateApplicationVersionResult> createApplicationVersionAsync(final CreateApplicationVersionRequest createApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationVersionResult>() {
+        return submit(new Callable<CreateApplicationVersionResult>() {
             public CreateApplicationVersionResult call() throws Exception {
                 return createApplicationVersion(createApplicationVersionRequest);
 		    }
@@ -847,11 +898,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationVersionRequest createApplicationVersionRequest,
             final AsyncHandler<CreateApplicationVersionRequest, CreateApplicationVersionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationVersionResult>() {
+        return submit(new Callable<CreateApplicationVersionResult>() {
             public CreateApplicationVersionResult call() throws Exception {
             	CreateApplicationVersionResult result;
                 try {
             		result = createApplicationVersion(createApplicationVersionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -889,7 +942,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteApplicationVersionAsync(final DeleteApplicationVersionRequest deleteApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteApplicationVersion(deleteApplicationVersionRequest);
                 return null;
@@ -931,10 +984,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationVersionRequest deleteApplicationVersionRequest,
             final AsyncHandler<DeleteApplicationVersionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteApplicationVersion(deleteApplicationVersionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -968,7 +1023,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeApplicationVersionsResult> describeApplicationVersionsAsync(final DescribeApplicationVersionsRequest describeApplicationVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
+        return submit(new Callable<DescribeApplicationVersionsResult>() {
             public DescribeApplicationVersionsResult call() throws Exception {
                 return describeApplicationVersions(describeApplicationVersionsRequest);
 		    }
@@ -1005,11 +1060,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationVersionsRequest describeApplicationVersionsRequest,
             final AsyncHandler<DescribeApplicationVersionsRequest, DescribeApplicationVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
+        return submit(new Callable<DescribeApplicationVersionsResult>() {
             public DescribeApplicationVersionsResult call() throws Exception {
             	DescribeApplicationVersionsResult result;
                 try {
             		result = describeApplicationVersions(describeApplicationVersionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1046,7 +1103,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteApplicationAsync(final DeleteApplicationRequest deleteApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteApplication(deleteApplicationRequest);
                 return null;
@@ -1087,10 +1144,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationRequest deleteApplicationRequest,
             final AsyncHandler<DeleteApplicationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteApplication(deleteApplicationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1130,7 +1189,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateApplicationVersionResult> updateApplicationVersionAsync(final UpdateApplicationVersionRequest updateApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationVersionResult>() {
+        return submit(new Callable<UpdateApplicationVersionResult>() {
             public UpdateApplicationVersionResult call() throws Exception {
                 return updateApplicationVersion(updateApplicationVersionRequest);
 		    }
@@ -1173,11 +1232,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationVersionRequest updateApplicationVersionRequest,
             final AsyncHandler<UpdateApplicationVersionRequest, UpdateApplicationVersionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationVersionResult>() {
+        return submit(new Callable<UpdateApplicationVersionResult>() {
             public UpdateApplicationVersionResult call() throws Exception {
             	UpdateApplicationVersionResult result;
                 try {
             		result = updateApplicationVersion(updateApplicationVersionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1215,7 +1276,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateApplicationResult> createApplicationAsync(final CreateApplicationRequest createApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationResult>() {
+        return submit(new Callable<CreateApplicationResult>() {
             public CreateApplicationResult call() throws Exception {
                 return createApplication(createApplicationRequest);
 		    }
@@ -1256,11 +1317,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationRequest createApplicationRequest,
             final AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationResult>() {
+        return submit(new Callable<CreateApplicationResult>() {
             public CreateApplicationResult call() throws Exception {
             	CreateApplicationResult result;
                 try {
             		result = createApplication(createApplicationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1294,7 +1357,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> swapEnvironmentCNAMEsAsync(final SwapEnvironmentCNAMEsRequest swapEnvironmentCNAMEsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 swapEnvironmentCNAMEs(swapEnvironmentCNAMEsRequest);
                 return null;
@@ -1332,10 +1395,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final SwapEnvironmentCNAMEsRequest swapEnvironmentCNAMEsRequest,
             final AsyncHandler<SwapEnvironmentCNAMEsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		swapEnvironmentCNAMEs(swapEnvironmentCNAMEsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1383,7 +1448,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateConfigurationTemplateResult> updateConfigurationTemplateAsync(final UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationTemplateResult>() {
+        return submit(new Callable<UpdateConfigurationTemplateResult>() {
             public UpdateConfigurationTemplateResult call() throws Exception {
                 return updateConfigurationTemplate(updateConfigurationTemplateRequest);
 		    }
@@ -1434,11 +1499,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest,
             final AsyncHandler<UpdateConfigurationTemplateRequest, UpdateConfigurationTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationTemplateResult>() {
+        return submit(new Callable<UpdateConfigurationTemplateResult>() {
             public UpdateConfigurationTemplateResult call() throws Exception {
             	UpdateConfigurationTemplateResult result;
                 try {
             		result = updateConfigurationTemplate(updateConfigurationTemplateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1481,7 +1548,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<RetrieveEnvironmentInfoResult> retrieveEnvironmentInfoAsync(final RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveEnvironmentInfoResult>() {
+        return submit(new Callable<RetrieveEnvironmentInfoResult>() {
             public RetrieveEnvironmentInfoResult call() throws Exception {
                 return retrieveEnvironmentInfo(retrieveEnvironmentInfoRequest);
 		    }
@@ -1527,11 +1594,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest,
             final AsyncHandler<RetrieveEnvironmentInfoRequest, RetrieveEnvironmentInfoResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveEnvironmentInfoResult>() {
+        return submit(new Callable<RetrieveEnvironmentInfoResult>() {
             public RetrieveEnvironmentInfoResult call() throws Exception {
             	RetrieveEnvironmentInfoResult result;
                 try {
             		result = retrieveEnvironmentInfo(retrieveEnvironmentInfoRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1565,7 +1634,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<ListAvailableSolutionStacksResult> listAvailableSolutionStacksAsync(final ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAvailableSolutionStacksResult>() {
+        return submit(new Callable<ListAvailableSolutionStacksResult>() {
             public ListAvailableSolutionStacksResult call() throws Exception {
                 return listAvailableSolutionStacks(listAvailableSolutionStacksRequest);
 		    }
@@ -1602,11 +1671,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest,
             final AsyncHandler<ListAvailableSolutionStacksRequest, ListAvailableSolutionStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAvailableSolutionStacksResult>() {
+        return submit(new Callable<ListAvailableSolutionStacksResult>() {
             public ListAvailableSolutionStacksResult call() throws Exception {
             	ListAvailableSolutionStacksResult result;
                 try {
             		result = listAvailableSolutionStacks(listAvailableSolutionStacksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1643,7 +1714,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateApplicationResult> updateApplicationAsync(final UpdateApplicationRequest updateApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationResult>() {
+        return submit(new Callable<UpdateApplicationResult>() {
             public UpdateApplicationResult call() throws Exception {
                 return updateApplication(updateApplicationRequest);
 		    }
@@ -1683,11 +1754,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationRequest updateApplicationRequest,
             final AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationResult>() {
+        return submit(new Callable<UpdateApplicationResult>() {
             public UpdateApplicationResult call() throws Exception {
             	UpdateApplicationResult result;
                 try {
             		result = updateApplication(updateApplicationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1721,7 +1794,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEnvironmentsResult> describeEnvironmentsAsync(final DescribeEnvironmentsRequest describeEnvironmentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentsResult>() {
+        return submit(new Callable<DescribeEnvironmentsResult>() {
             public DescribeEnvironmentsResult call() throws Exception {
                 return describeEnvironments(describeEnvironmentsRequest);
 		    }
@@ -1758,11 +1831,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentsRequest describeEnvironmentsRequest,
             final AsyncHandler<DescribeEnvironmentsRequest, DescribeEnvironmentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentsResult>() {
+        return submit(new Callable<DescribeEnvironmentsResult>() {
             public DescribeEnvironmentsResult call() throws Exception {
             	DescribeEnvironmentsResult result;
                 try {
             		result = describeEnvironments(describeEnvironmentsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1796,7 +1871,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEnvironmentResourcesResult> describeEnvironmentResourcesAsync(final DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentResourcesResult>() {
+        return submit(new Callable<DescribeEnvironmentResourcesResult>() {
             public DescribeEnvironmentResourcesResult call() throws Exception {
                 return describeEnvironmentResources(describeEnvironmentResourcesRequest);
 		    }
@@ -1833,11 +1908,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest,
             final AsyncHandler<DescribeEnvironmentResourcesRequest, DescribeEnvironmentResourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentResourcesResult>() {
+        return submit(new Callable<DescribeEnvironmentResourcesResult>() {
             public DescribeEnvironmentResourcesResult call() throws Exception {
             	DescribeEnvironmentResourcesResult result;
                 try {
             		result = describeEnvironmentResources(describeEnvironmentResourcesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1871,7 +1948,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<TerminateEnvironmentResult> terminateEnvironmentAsync(final TerminateEnvironmentRequest terminateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateEnvironmentResult>() {
+        return submit(new Callable<TerminateEnvironmentResult>() {
             public TerminateEnvironmentResult call() throws Exception {
                 return terminateEnvironment(terminateEnvironmentRequest);
 		    }
@@ -1908,11 +1985,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final TerminateEnvironmentRequest terminateEnvironmentRequest,
             final AsyncHandler<TerminateEnvironmentRequest, TerminateEnvironmentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateEnvironmentResult>() {
+        return submit(new Callable<TerminateEnvironmentResult>() {
             public TerminateEnvironmentResult call() throws Exception {
             	TerminateEnvironmentResult result;
                 try {
             		result = terminateEnvironment(terminateEnvironmentRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1952,7 +2031,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<ValidateConfigurationSettingsResult> validateConfigurationSettingsAsync(final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
+        return submit(new Callable<ValidateConfigurationSettingsResult>() {
             public ValidateConfigurationSettingsResult call() throws Exception {
                 return validateConfigurationSettings(validateConfigurationSettingsRequest);
 		    }
@@ -1995,11 +2074,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest,
             final AsyncHandler<ValidateConfigurationSettingsRequest, ValidateConfigurationSettingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
+        return submit(new Callable<ValidateConfigurationSettingsResult>() {
             public ValidateConfigurationSettingsResult call() throws Exception {
             	ValidateConfigurationSettingsResult result;
                 try {
             		result = validateConfigurationSettings(validateConfigurationSettingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2032,7 +2113,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> restartAppServerAsync(final RestartAppServerRequest restartAppServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 restartAppServer(restartAppServerRequest);
                 return null;
@@ -2069,10 +2150,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RestartAppServerRequest restartAppServerRequest,
             final AsyncHandler<RestartAppServerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		restartAppServer(restartAppServerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2116,7 +2199,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteEnvironmentConfigurationAsync(final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
                 return null;
@@ -2164,10 +2247,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest,
             final AsyncHandler<DeleteEnvironmentConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2213,7 +2298,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateEnvironmentResult> updateEnvironmentAsync(final UpdateEnvironmentRequest updateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEnvironmentResult>() {
+        return submit(new Callable<UpdateEnvironmentResult>() {
             public UpdateEnvironmentResult call() throws Exception {
                 return updateEnvironment(updateEnvironmentRequest);
 		    }
@@ -2262,11 +2347,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateEnvironmentRequest updateEnvironmentRequest,
             final AsyncHandler<UpdateEnvironmentRequest, UpdateEnvironmentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEnvironmentResult>() {
+        return submit(new Callable<UpdateEnvironmentResult>() {
             public UpdateEnvironmentResult call() throws Exception {
             	UpdateEnvironmentResult result;
                 try {
             		result = updateEnvironment(updateEnvironmentRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2312,7 +2399,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateConfigurationTemplateResult> createConfigurationTemplateAsync(final CreateConfigurationTemplateRequest createConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationTemplateResult>() {
+        return submit(new Callable<CreateConfigurationTemplateResult>() {
             public CreateConfigurationTemplateResult call() throws Exception {
                 return createConfigurationTemplate(createConfigurationTemplateRequest);
 		    }
@@ -2361,11 +2448,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateConfigurationTemplateRequest createConfigurationTemplateRequest,
             final AsyncHandler<CreateConfigurationTemplateRequest, CreateConfigurationTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationTemplateResult>() {
+        return submit(new Callable<CreateConfigurationTemplateResult>() {
             public CreateConfigurationTemplateResult call() throws Exception {
             	CreateConfigurationTemplateResult result;
                 try {
             		result = createConfigurationTemplate(createConfigurationTemplateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2416,7 +2505,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeConfigurationSettingsResult> describeConfigurationSettingsAsync(final DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSettingsResult>() {
+        return submit(new Callable<DescribeConfigurationSettingsResult>() {
             public DescribeConfigurationSettingsResult call() throws Exception {
                 return describeConfigurationSettings(describeConfigurationSettingsRequest);
 		    }
@@ -2470,11 +2559,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest,
             final AsyncHandler<DescribeConfigurationSettingsRequest, DescribeConfigurationSettingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSettingsResult>() {
+        return submit(new Callable<DescribeConfigurationSettingsResult>() {
             public DescribeConfigurationSettingsResult call() throws Exception {
             	DescribeConfigurationSettingsResult result;
                 try {
             		result = describeConfigurationSettings(describeConfigurationSettingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2508,7 +2599,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeApplicationsResult> describeApplicationsAsync(final DescribeApplicationsRequest describeApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationsResult>() {
+        return submit(new Callable<DescribeApplicationsResult>() {
             public DescribeApplicationsResult call() throws Exception {
                 return describeApplications(describeApplicationsRequest);
 		    }
@@ -2545,11 +2636,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationsRequest describeApplicationsRequest,
             final AsyncHandler<DescribeApplicationsRequest, DescribeApplicationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationsResult>() {
+        return submit(new Callable<DescribeApplicationsResult>() {
             public DescribeApplicationsResult call() throws Exception {
             	DescribeApplicationsResult result;
                 try {
             		result = describeApplications(describeApplicationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2584,7 +2677,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> rebuildEnvironmentAsync(final RebuildEnvironmentRequest rebuildEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 rebuildEnvironment(rebuildEnvironmentRequest);
                 return null;
@@ -2623,10 +2716,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RebuildEnvironmentRequest rebuildEnvironmentRequest,
             final AsyncHandler<RebuildEnvironmentRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		rebuildEnvironment(rebuildEnvironmentRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2663,7 +2758,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
                 return describeEvents(describeEventsRequest);
 		    }
@@ -2703,11 +2798,13 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
             	DescribeEventsResult result;
                 try {
             		result = describeEvents(describeEventsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -69,6 +71,8 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -258,6 +262,41 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -297,7 +336,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
+        return submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
             public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
                 return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
 		    }
@@ -338,11 +377,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest,
             final AsyncHandler<DescribeLoadBalancerPolicyTypesRequest, DescribeLoadBalancerPolicyTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
+        return submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
             public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
             	DescribeLoadBalancerPolicyTypesResult result;
                 try {
             		result = describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -377,7 +418,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(final ConfigureHealthCheckRequest configureHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
+        return submit(new Callable<ConfigureHealthCheckResult>() {
             public ConfigureHealthCheckResult call() throws Exception {
                 return configureHealthCheck(configureHealthCheckRequest);
 		    }
@@ -415,11 +456,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ConfigureHealthCheckRequest configureHealthCheckRequest,
             final AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
+        return submit(new Callable<ConfigureHealthCheckResult>() {
             public ConfigureHealthCheckResult call() throws Exception {
             	ConfigureHealthCheckResult result;
                 try {
             		result = configureHealthCheck(configureHealthCheckRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -461,7 +504,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
+        return submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
             public DetachLoadBalancerFromSubnetsResult call() throws Exception {
                 return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
 		    }
@@ -506,11 +549,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest,
             final AsyncHandler<DetachLoadBalancerFromSubnetsRequest, DetachLoadBalancerFromSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
+        return submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
             public DetachLoadBalancerFromSubnetsResult call() throws Exception {
             	DetachLoadBalancerFromSubnetsResult result;
                 try {
             		result = detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -550,7 +595,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
+        return submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
             public DescribeLoadBalancerPoliciesResult call() throws Exception {
                 return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
 		    }
@@ -593,11 +638,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest,
             final AsyncHandler<DescribeLoadBalancerPoliciesRequest, DescribeLoadBalancerPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
+        return submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
             public DescribeLoadBalancerPoliciesResult call() throws Exception {
             	DescribeLoadBalancerPoliciesResult result;
                 try {
             		result = describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -632,7 +679,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
+        return submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
             public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
                 return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
 		    }
@@ -670,11 +717,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
+        return submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
             public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
             	SetLoadBalancerPoliciesOfListenerResult result;
                 try {
             		result = setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -727,7 +776,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
+        return submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
             public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
                 return disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
 		    }
@@ -783,11 +832,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
+        return submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
             public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
             	DisableAvailabilityZonesForLoadBalancerResult result;
                 try {
             		result = disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -829,7 +880,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(final DescribeInstanceHealthRequest describeInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
+        return submit(new Callable<DescribeInstanceHealthResult>() {
             public DescribeInstanceHealthResult call() throws Exception {
                 return describeInstanceHealth(describeInstanceHealthRequest);
 		    }
@@ -874,11 +925,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeInstanceHealthRequest describeInstanceHealthRequest,
             final AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
+        return submit(new Callable<DescribeInstanceHealthResult>() {
             public DescribeInstanceHealthResult call() throws Exception {
             	DescribeInstanceHealthResult result;
                 try {
             		result = describeInstanceHealth(describeInstanceHealthRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -913,7 +966,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
+        return submit(new Callable<DeleteLoadBalancerPolicyResult>() {
             public DeleteLoadBalancerPolicyResult call() throws Exception {
                 return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
 		    }
@@ -951,11 +1004,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest,
             final AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
+        return submit(new Callable<DeleteLoadBalancerPolicyResult>() {
             public DeleteLoadBalancerPolicyResult call() throws Exception {
             	DeleteLoadBalancerPolicyResult result;
                 try {
             		result = deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -993,7 +1048,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
+        return submit(new Callable<CreateLoadBalancerPolicyResult>() {
             public CreateLoadBalancerPolicyResult call() throws Exception {
                 return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
 		    }
@@ -1034,11 +1089,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest,
             final AsyncHandler<CreateLoadBalancerPolicyRequest, CreateLoadBalancerPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
+        return submit(new Callable<CreateLoadBalancerPolicyResult>() {
             public CreateLoadBalancerPolicyResult call() throws Exception {
             	CreateLoadBalancerPolicyResult result;
                 try {
             		result = createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1084,7 +1141,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
+        return submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
             public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
                 return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
 		    }
@@ -1133,11 +1190,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
+        return submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
             public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
             	EnableAvailabilityZonesForLoadBalancerResult result;
                 try {
             		result = enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1174,7 +1233,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> createLoadBalancerListenersAsync(final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createLoadBalancerListeners(createLoadBalancerListenersRequest);
                 return null;
@@ -1215,10 +1274,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest,
             final AsyncHandler<CreateLoadBalancerListenersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createLoadBalancerListeners(createLoadBalancerListenersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1273,7 +1334,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerResult> createLoadBalancerAsync(final CreateLoadBalancerRequest createLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
+        return submit(new Callable<CreateLoadBalancerResult>() {
             public CreateLoadBalancerResult call() throws Exception {
                 return createLoadBalancer(createLoadBalancerRequest);
 		    }
@@ -1331,11 +1392,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerRequest createLoadBalancerRequest,
             final AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
+        return submit(new Callable<CreateLoadBalancerResult>() {
             public CreateLoadBalancerResult call() throws Exception {
             	CreateLoadBalancerResult result;
                 try {
             		result = createLoadBalancer(createLoadBalancerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1386,7 +1449,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerAsync(final DeleteLoadBalancerRequest deleteLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteLoadBalancer(deleteLoadBalancerRequest);
                 return null;
@@ -1441,10 +1504,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerRequest deleteLoadBalancerRequest,
             final AsyncHandler<DeleteLoadBalancerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteLoadBalancer(deleteLoadBalancerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1484,7 +1549,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
+        return submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
             public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
                 return setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
 		    }
@@ -1527,11 +1592,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesForBackendServerRequest, SetLoadBalancerPoliciesForBackendServerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
+        return submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
             public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
             	SetLoadBalancerPoliciesForBackendServerResult result;
                 try {
             		result = setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1565,7 +1632,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerListenersAsync(final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
                 return null;
@@ -1603,10 +1670,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest,
             final AsyncHandler<DeleteLoadBalancerListenersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1646,7 +1715,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
+        return submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
             public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
                 return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
 		    }
@@ -1689,11 +1758,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest,
             final AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
+        return submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
             public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
             	DeregisterInstancesFromLoadBalancerResult result;
                 try {
             		result = deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1730,7 +1801,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> setLoadBalancerListenerSSLCertificateAsync(final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
                 return null;
@@ -1771,10 +1842,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest,
             final AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1826,7 +1899,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
+        return submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
             public CreateLBCookieStickinessPolicyResult call() throws Exception {
                 return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
 		    }
@@ -1881,11 +1954,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest,
             final AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
+        return submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
             public CreateLBCookieStickinessPolicyResult call() throws Exception {
             	CreateLBCookieStickinessPolicyResult result;
                 try {
             		result = createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1924,7 +1999,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
+        return submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
             public AttachLoadBalancerToSubnetsResult call() throws Exception {
                 return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
 		    }
@@ -1966,11 +2041,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest,
             final AsyncHandler<AttachLoadBalancerToSubnetsRequest, AttachLoadBalancerToSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
+        return submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
             public AttachLoadBalancerToSubnetsResult call() throws Exception {
             	AttachLoadBalancerToSubnetsResult result;
                 try {
             		result = attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2024,7 +2101,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
+        return submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
             public CreateAppCookieStickinessPolicyResult call() throws Exception {
                 return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
 		    }
@@ -2081,11 +2158,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest,
             final AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
+        return submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
             public CreateAppCookieStickinessPolicyResult call() throws Exception {
             	CreateAppCookieStickinessPolicyResult result;
                 try {
             		result = createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2137,7 +2216,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
+        return submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
             public RegisterInstancesWithLoadBalancerResult call() throws Exception {
                 return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
 		    }
@@ -2192,11 +2271,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest,
             final AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
+        return submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
             public RegisterInstancesWithLoadBalancerResult call() throws Exception {
             	RegisterInstancesWithLoadBalancerResult result;
                 try {
             		result = registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2232,7 +2313,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
+        return submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
             public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
                 return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
 		    }
@@ -2271,11 +2352,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest,
             final AsyncHandler<ApplySecurityGroupsToLoadBalancerRequest, ApplySecurityGroupsToLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
+        return submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
             public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
             	ApplySecurityGroupsToLoadBalancerResult result;
                 try {
             		result = applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2318,7 +2401,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(final DescribeLoadBalancersRequest describeLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
+        return submit(new Callable<DescribeLoadBalancersResult>() {
             public DescribeLoadBalancersResult call() throws Exception {
                 return describeLoadBalancers(describeLoadBalancersRequest);
 		    }
@@ -2364,11 +2447,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
+        return submit(new Callable<DescribeLoadBalancersResult>() {
             public DescribeLoadBalancersResult call() throws Exception {
             	DescribeLoadBalancersResult result;
                 try {
             		result = describeLoadBalancers(describeLoadBalancersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
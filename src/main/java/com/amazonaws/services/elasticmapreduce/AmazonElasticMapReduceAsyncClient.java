@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -52,6 +54,8 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -241,6 +245,41 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -282,7 +321,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> setVisibleToAllUsersAsync(final SetVisibleToAllUsersRequest setVisibleToAllUsersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setVisibleToAllUsers(setVisibleToAllUsersRequest);
                 return null;
@@ -326,10 +365,12 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final SetVisibleToAllUsersRequest setVisibleToAllUsersRequest,
             final AsyncHandler<SetVisibleToAllUsersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setVisibleToAllUsers(setVisibleToAllUsersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -362,7 +403,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<AddInstanceGroupsResult> addInstanceGroupsAsync(final AddInstanceGroupsRequest addInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddInstanceGroupsResult>() {
+        return submit(new Callable<AddInstanceGroupsResult>() {
             public AddInstanceGroupsResult call() throws Exception {
                 return addInstanceGroups(addInstanceGroupsRequest);
 		    }
@@ -398,11 +439,13 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final AddInstanceGroupsRequest addInstanceGroupsRequest,
             final AsyncHandler<AddInstanceGroupsRequest, AddInstanceGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddInstanceGroupsResult>() {
+        return submit(new Callable<AddInstanceGroupsResult>() {
             public AddInstanceGroupsResult call() throws Exception {
             	AddInstanceGroupsResult result;
                 try {
             		result = addInstanceGroups(addInstanceGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -463,7 +506,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> addJobFlowStepsAsync(final AddJobFlowStepsRequest addJobFlowStepsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 addJobFlowSteps(addJobFlowStepsRequest);
                 return null;
@@ -528,10 +571,12 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final AddJobFlowStepsRequest addJobFlowStepsRequest,
             final AsyncHandler<AddJobFlowStepsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		addJobFlowSteps(addJobFlowStepsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -574,7 +619,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> terminateJobFlowsAsync(final TerminateJobFlowsRequest terminateJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 terminateJobFlows(terminateJobFlowsRequest);
                 return null;
@@ -621,10 +666,12 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final TerminateJobFlowsRequest terminateJobFlowsRequest,
             final AsyncHandler<TerminateJobFlowsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		terminateJobFlows(terminateJobFlowsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -683,7 +730,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<DescribeJobFlowsResult> describeJobFlowsAsync(final DescribeJobFlowsRequest describeJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobFlowsResult>() {
+        return submit(new Callable<DescribeJobFlowsResult>() {
             public DescribeJobFlowsResult call() throws Exception {
                 return describeJobFlows(describeJobFlowsRequest);
 		    }
@@ -745,11 +792,13 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final DescribeJobFlowsRequest describeJobFlowsRequest,
             final AsyncHandler<DescribeJobFlowsRequest, DescribeJobFlowsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobFlowsResult>() {
+        return submit(new Callable<DescribeJobFlowsResult>() {
             public DescribeJobFlowsResult call() throws Exception {
             	DescribeJobFlowsResult result;
                 try {
             		result = describeJobFlows(describeJobFlowsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -808,7 +857,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> setTerminationProtectionAsync(final SetTerminationProtectionRequest setTerminationProtectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setTerminationProtection(setTerminationProtectionRequest);
                 return null;
@@ -871,10 +920,12 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final SetTerminationProtectionRequest setTerminationProtectionRequest,
             final AsyncHandler<SetTerminationProtectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setTerminationProtection(setTerminationProtectionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -937,7 +988,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<RunJobFlowResult> runJobFlowAsync(final RunJobFlowRequest runJobFlowRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunJobFlowResult>() {
+        return submit(new Callable<RunJobFlowResult>() {
             public RunJobFlowResult call() throws Exception {
                 return runJobFlow(runJobFlowRequest);
 		    }
@@ -1003,11 +1054,13 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final RunJobFlowRequest runJobFlowRequest,
             final AsyncHandler<RunJobFlowRequest, RunJobFlowResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunJobFlowResult>() {
+        return submit(new Callable<RunJobFlowResult>() {
             public RunJobFlowResult call() throws Exception {
             	RunJobFlowResult result;
                 try {
             		result = runJobFlow(runJobFlowRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1044,7 +1097,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> modifyInstanceGroupsAsync(final ModifyInstanceGroupsRequest modifyInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 modifyInstanceGroups(modifyInstanceGroupsRequest);
                 return null;
@@ -1085,10 +1138,12 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final ModifyInstanceGroupsRequest modifyInstanceGroupsRequest,
             final AsyncHandler<ModifyInstanceGroupsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		modifyInstanceGroups(modifyInstanceGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -47,6 +49,8 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -236,6 +240,41 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -276,7 +315,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<DeletePipelineResult> deletePipelineAsync(final DeletePipelineRequest deletePipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePipelineResult>() {
+        return submit(new Callable<DeletePipelineResult>() {
             public DeletePipelineResult call() throws Exception {
                 return deletePipeline(deletePipelineRequest);
 		    }
@@ -318,11 +357,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final DeletePipelineRequest deletePipelineRequest,
             final AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePipelineResult>() {
+        return submit(new Callable<DeletePipelineResult>() {
             public DeletePipelineResult call() throws Exception {
             	DeletePipelineResult result;
                 try {
             		result = deletePipeline(deletePipelineRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -361,7 +402,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CancelJobResult> cancelJobAsync(final CancelJobRequest cancelJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
+        return submit(new Callable<CancelJobResult>() {
             public CancelJobResult call() throws Exception {
                 return cancelJob(cancelJobRequest);
 		    }
@@ -403,11 +444,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CancelJobRequest cancelJobRequest,
             final AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
+        return submit(new Callable<CancelJobResult>() {
             public CancelJobResult call() throws Exception {
             	CancelJobResult result;
                 try {
             		result = cancelJob(cancelJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -440,7 +483,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListPresetsResult> listPresetsAsync(final ListPresetsRequest listPresetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPresetsResult>() {
+        return submit(new Callable<ListPresetsResult>() {
             public ListPresetsResult call() throws Exception {
                 return listPresets(listPresetsRequest);
 		    }
@@ -476,11 +519,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListPresetsRequest listPresetsRequest,
             final AsyncHandler<ListPresetsRequest, ListPresetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPresetsResult>() {
+        return submit(new Callable<ListPresetsResult>() {
             public ListPresetsResult call() throws Exception {
             	ListPresetsResult result;
                 try {
             		result = listPresets(listPresetsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -520,7 +565,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListJobsByStatusResult> listJobsByStatusAsync(final ListJobsByStatusRequest listJobsByStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByStatusResult>() {
+        return submit(new Callable<ListJobsByStatusResult>() {
             public ListJobsByStatusResult call() throws Exception {
                 return listJobsByStatus(listJobsByStatusRequest);
 		    }
@@ -563,11 +608,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListJobsByStatusRequest listJobsByStatusRequest,
             final AsyncHandler<ListJobsByStatusRequest, ListJobsByStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByStatusResult>() {
+        return submit(new Callable<ListJobsByStatusResult>() {
             public ListJobsByStatusResult call() throws Exception {
             	ListJobsByStatusResult result;
                 try {
             		result = listJobsByStatus(listJobsByStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -600,7 +647,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CreatePipelineResult> createPipelineAsync(final CreatePipelineRequest createPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
+        return submit(new Callable<CreatePipelineResult>() {
             public CreatePipelineResult call() throws Exception {
                 return createPipeline(createPipelineRequest);
 		    }
@@ -636,11 +683,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CreatePipelineRequest createPipelineRequest,
             final AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
+        return submit(new Callable<CreatePipelineResult>() {
             public CreatePipelineResult call() throws Exception {
             	CreatePipelineResult result;
                 try {
             		result = createPipeline(createPipelineRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -682,7 +731,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<TestRoleResult> testRoleAsync(final TestRoleRequest testRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRoleResult>() {
+        return submit(new Callable<TestRoleResult>() {
             public TestRoleResult call() throws Exception {
                 return testRole(testRoleRequest);
 		    }
@@ -727,11 +776,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final TestRoleRequest testRoleRequest,
             final AsyncHandler<TestRoleRequest, TestRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRoleResult>() {
+        return submit(new Callable<TestRoleResult>() {
             public TestRoleResult call() throws Exception {
             	TestRoleResult result;
                 try {
             		result = testRole(testRoleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -765,7 +816,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListPipelinesResult> listPipelinesAsync(final ListPipelinesRequest listPipelinesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
+        return submit(new Callable<ListPipelinesResult>() {
             public ListPipelinesResult call() throws Exception {
                 return listPipelines(listPipelinesRequest);
 		    }
@@ -802,11 +853,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListPipelinesRequest listPipelinesRequest,
             final AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
+        return submit(new Callable<ListPipelinesResult>() {
             public ListPipelinesResult call() throws Exception {
             	ListPipelinesResult result;
                 try {
             		result = listPipelines(listPipelinesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -847,7 +900,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<UpdatePipelineNotificationsResult> updatePipelineNotificationsAsync(final UpdatePipelineNotificationsRequest updatePipelineNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineNotificationsResult>() {
+        return submit(new Callable<UpdatePipelineNotificationsResult>() {
             public UpdatePipelineNotificationsResult call() throws Exception {
                 return updatePipelineNotifications(updatePipelineNotificationsRequest);
 		    }
@@ -891,11 +944,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final UpdatePipelineNotificationsRequest updatePipelineNotificationsRequest,
             final AsyncHandler<UpdatePipelineNotificationsRequest, UpdatePipelineNotificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineNotificationsResult>() {
+        return submit(new Callable<UpdatePipelineNotificationsResult>() {
             public UpdatePipelineNotificationsResult call() throws Exception {
             	UpdatePipelineNotificationsResult result;
                 try {
             		result = updatePipelineNotifications(updatePipelineNotificationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -935,7 +990,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListJobsByPipelineResult> listJobsByPipelineAsync(final ListJobsByPipelineRequest listJobsByPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByPipelineResult>() {
+        return submit(new Callable<ListJobsByPipelineResult>() {
             public ListJobsByPipelineResult call() throws Exception {
                 return listJobsByPipeline(listJobsByPipelineRequest);
 		    }
@@ -978,11 +1033,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListJobsByPipelineRequest listJobsByPipelineRequest,
             final AsyncHandler<ListJobsByPipelineRequest, ListJobsByPipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByPipelineResult>() {
+        return submit(new Callable<ListJobsByPipelineResult>() {
             public ListJobsByPipelineResult call() throws Exception {
             	ListJobsByPipelineResult result;
                 try {
             		result = listJobsByPipeline(listJobsByPipelineRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1020,7 +1077,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CreateJobResult> createJobAsync(final CreateJobRequest createJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
+        return submit(new Callable<CreateJobResult>() {
             public CreateJobResult call() throws Exception {
                 return createJob(createJobRequest);
 		    }
@@ -1061,11 +1118,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CreateJobRequest createJobRequest,
             final AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
+        return submit(new Callable<CreateJobResult>() {
             public CreateJobResult call() throws Exception {
             	CreateJobResult result;
                 try {
             		result = createJob(createJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1109,7 +1168,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<UpdatePipelineStatusResult> updatePipelineStatusAsync(final UpdatePipelineStatusRequest updatePipelineStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineStatusResult>() {
+        return submit(new Callable<UpdatePipelineStatusResult>() {
             public UpdatePipelineStatusResult call() throws Exception {
                 return updatePipelineStatus(updatePipelineStatusRequest);
 		    }
@@ -1156,11 +1215,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final UpdatePipelineStatusRequest updatePipelineStatusRequest,
             final AsyncHandler<UpdatePipelineStatusRequest, UpdatePipelineStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineStatusResult>() {
+        return submit(new Callable<UpdatePipelineStatusResult>() {
             public UpdatePipelineStatusResult call() throws Exception {
             	UpdatePipelineStatusResult result;
                 try {
             		result = updatePipelineStatus(updatePipelineStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1193,7 +1254,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ReadPipelineResult> readPipelineAsync(final ReadPipelineRequest readPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPipelineResult>() {
+        return submit(new Callable<ReadPipelineResult>() {
             public ReadPipelineResult call() throws Exception {
                 return readPipeline(readPipelineRequest);
 		    }
@@ -1229,11 +1290,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ReadPipelineRequest readPipelineRequest,
             final AsyncHandler<ReadPipelineRequest, ReadPipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPipelineResult>() {
+        return submit(new Callable<ReadPipelineResult>() {
             public ReadPipelineResult call() throws Exception {
             	ReadPipelineResult result;
                 try {
             		result = readPipeline(readPipelineRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1266,7 +1329,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ReadJobResult> readJobAsync(final ReadJobRequest readJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadJobResult>() {
+        return submit(new Callable<ReadJobResult>() {
             public ReadJobResult call() throws Exception {
                 return readJob(readJobRequest);
 		    }
@@ -1302,11 +1365,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ReadJobRequest readJobRequest,
             final AsyncHandler<ReadJobRequest, ReadJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadJobResult>() {
+        return submit(new Callable<ReadJobResult>() {
             public ReadJobResult call() throws Exception {
             	ReadJobResult result;
                 try {
             		result = readJob(readJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1342,7 +1407,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<DeletePresetResult> deletePresetAsync(final DeletePresetRequest deletePresetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePresetResult>() {
+        return submit(new Callable<DeletePresetResult>() {
             public DeletePresetResult call() throws Exception {
                 return deletePreset(deletePresetRequest);
 		    }
@@ -1381,11 +1446,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final DeletePresetRequest deletePresetRequest,
             final AsyncHandler<DeletePresetRequest, DeletePresetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePresetResult>() {
+        return submit(new Callable<DeletePresetResult>() {
             public DeletePresetResult call() throws Exception {
             	DeletePresetResult result;
                 try {
             		result = deletePreset(deletePresetRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1437,7 +1504,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CreatePresetResult> createPresetAsync(final CreatePresetRequest createPresetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePresetResult>() {
+        return submit(new Callable<CreatePresetResult>() {
             public CreatePresetResult call() throws Exception {
                 return createPreset(createPresetRequest);
 		    }
@@ -1492,11 +1559,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CreatePresetRequest createPresetRequest,
             final AsyncHandler<CreatePresetRequest, CreatePresetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePresetResult>() {
+        return submit(new Callable<CreatePresetResult>() {
             public CreatePresetResult call() throws Exception {
             	CreatePresetResult result;
                 try {
             		result = createPreset(createPresetRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1529,7 +1598,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ReadPresetResult> readPresetAsync(final ReadPresetRequest readPresetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPresetResult>() {
+        return submit(new Callable<ReadPresetResult>() {
             public ReadPresetResult call() throws Exception {
                 return readPreset(readPresetRequest);
 		    }
@@ -1565,11 +1634,13 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ReadPresetRequest readPresetRequest,
             final AsyncHandler<ReadPresetRequest, ReadPresetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPresetResult>() {
+        return submit(new Callable<ReadPresetResult>() {
             public ReadPresetResult call() throws Exception {
             	ReadPresetResult result;
                 try {
             		result = readPreset(readPresetRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -63,6 +63,9 @@ public class AmazonElasticTranscoderClient extends AmazonWebServiceClient implem
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -201,6 +204,7 @@ public class AmazonElasticTranscoderClient extends AmazonWebServiceClient implem
         exceptionUnmarshallers.add(new ValidationExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new JsonErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("elastictranscoder.us-east-1.amazonaws.com/");
 
         signer = new AWS4Signer();
@@ -1152,7 +1156,6 @@ public class AmazonElasticTranscoderClient extends AmazonWebServiceClient implem
         executionContext.setCredentials(credentials);
 
         
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
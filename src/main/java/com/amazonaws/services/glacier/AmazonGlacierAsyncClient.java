@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -80,6 +82,8 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -269,6 +273,41 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -330,7 +369,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListVaultsResult> listVaultsAsync(final ListVaultsRequest listVaultsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVaultsResult>() {
+        return submit(new Callable<ListVaultsResult>() {
             public ListVaultsResult call() throws Exception {
                 return listVaults(listVaultsRequest);
 		    }
@@ -393,11 +432,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListVaultsRequest listVaultsRequest,
             final AsyncHandler<ListVaultsRequest, ListVaultsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVaultsResult>() {
+        return submit(new Callable<ListVaultsResult>() {
             public ListVaultsResult call() throws Exception {
             	ListVaultsResult result;
                 try {
             		result = listVaults(listVaultsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -458,7 +499,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<DescribeJobResult> describeJobAsync(final DescribeJobRequest describeJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobResult>() {
+        return submit(new Callable<DescribeJobResult>() {
             public DescribeJobResult call() throws Exception {
                 return describeJob(describeJobRequest);
 		    }
@@ -522,11 +563,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DescribeJobRequest describeJobRequest,
             final AsyncHandler<DescribeJobRequest, DescribeJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobResult>() {
+        return submit(new Callable<DescribeJobResult>() {
             public DescribeJobResult call() throws Exception {
             	DescribeJobResult result;
                 try {
             		result = describeJob(describeJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -590,7 +633,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListPartsResult> listPartsAsync(final ListPartsRequest listPartsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPartsResult>() {
+        return submit(new Callable<ListPartsResult>() {
             public ListPartsResult call() throws Exception {
                 return listParts(listPartsRequest);
 		    }
@@ -657,11 +700,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListPartsRequest listPartsRequest,
             final AsyncHandler<ListPartsRequest, ListPartsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPartsResult>() {
+        return submit(new Callable<ListPartsResult>() {
             public ListPartsResult call() throws Exception {
             	ListPartsResult result;
                 try {
             		result = listParts(listPartsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -720,7 +765,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<GetVaultNotificationsResult> getVaultNotificationsAsync(final GetVaultNotificationsRequest getVaultNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVaultNotificationsResult>() {
+        return submit(new Callable<GetVaultNotificationsResult>() {
             public GetVaultNotificationsResult call() throws Exception {
                 return getVaultNotifications(getVaultNotificationsRequest);
 		    }
@@ -782,11 +827,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final GetVaultNotificationsRequest getVaultNotificationsRequest,
             final AsyncHandler<GetVaultNotificationsRequest, GetVaultNotificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVaultNotificationsResult>() {
+        return submit(new Callable<GetVaultNotificationsResult>() {
             public GetVaultNotificationsResult call() throws Exception {
             	GetVaultNotificationsResult result;
                 try {
             		result = getVaultNotifications(getVaultNotificationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -873,7 +920,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListJobsResult> listJobsAsync(final ListJobsRequest listJobsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
+        return submit(new Callable<ListJobsResult>() {
             public ListJobsResult call() throws Exception {
                 return listJobs(listJobsRequest);
 		    }
@@ -963,11 +1010,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListJobsRequest listJobsRequest,
             final AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
+        return submit(new Callable<ListJobsResult>() {
             public ListJobsResult call() throws Exception {
             	ListJobsResult result;
                 try {
             		result = listJobs(listJobsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1040,7 +1089,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<CreateVaultResult> createVaultAsync(final CreateVaultRequest createVaultRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVaultResult>() {
+        return submit(new Callable<CreateVaultResult>() {
             public CreateVaultResult call() throws Exception {
                 return createVault(createVaultRequest);
 		    }
@@ -1116,11 +1165,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final CreateVaultRequest createVaultRequest,
             final AsyncHandler<CreateVaultRequest, CreateVaultResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVaultResult>() {
+        return submit(new Callable<CreateVaultResult>() {
             public CreateVaultResult call() throws Exception {
             	CreateVaultResult result;
                 try {
             		result = createVault(createVaultRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1198,7 +1249,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<InitiateMultipartUploadResult> initiateMultipartUploadAsync(final InitiateMultipartUploadRequest initiateMultipartUploadRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateMultipartUploadResult>() {
+        return submit(new Callable<InitiateMultipartUploadResult>() {
             public InitiateMultipartUploadResult call() throws Exception {
                 return initiateMultipartUpload(initiateMultipartUploadRequest);
 		    }
@@ -1279,11 +1330,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final InitiateMultipartUploadRequest initiateMultipartUploadRequest,
             final AsyncHandler<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateMultipartUploadResult>() {
+        return submit(new Callable<InitiateMultipartUploadResult>() {
             public InitiateMultipartUploadResult call() throws Exception {
             	InitiateMultipartUploadResult result;
                 try {
             		result = initiateMultipartUpload(initiateMultipartUploadRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1344,7 +1397,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> abortMultipartUploadAsync(final AbortMultipartUploadRequest abortMultipartUploadRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 abortMultipartUpload(abortMultipartUploadRequest);
                 return null;
@@ -1409,10 +1462,12 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final AbortMultipartUploadRequest abortMultipartUploadRequest,
             final AsyncHandler<AbortMultipartUploadRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		abortMultipartUpload(abortMultipartUploadRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1477,7 +1532,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> deleteArchiveAsync(final DeleteArchiveRequest deleteArchiveRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteArchive(deleteArchiveRequest);
                 return null;
@@ -1546,10 +1601,12 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DeleteArchiveRequest deleteArchiveRequest,
             final AsyncHandler<DeleteArchiveRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteArchive(deleteArchiveRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1642,7 +1699,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<GetJobOutputResult> getJobOutputAsync(final GetJobOutputRequest getJobOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetJobOutputResult>() {
+        return submit(new Callable<GetJobOutputResult>() {
             public GetJobOutputResult call() throws Exception {
                 return getJobOutput(getJobOutputRequest);
 		    }
@@ -1738,11 +1795,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final GetJobOutputRequest getJobOutputRequest,
             final AsyncHandler<GetJobOutputRequest, GetJobOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetJobOutputResult>() {
+        return submit(new Callable<GetJobOutputResult>() {
             public GetJobOutputResult call() throws Exception {
             	GetJobOutputResult result;
                 try {
             		result = getJobOutput(getJobOutputRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1873,7 +1932,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<InitiateJobResult> initiateJobAsync(final InitiateJobRequest initiateJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateJobResult>() {
+        return submit(new Callable<InitiateJobResult>() {
             public InitiateJobResult call() throws Exception {
                 return initiateJob(initiateJobRequest);
 		    }
@@ -2007,11 +2066,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final InitiateJobRequest initiateJobRequest,
             final AsyncHandler<InitiateJobRequest, InitiateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateJobResult>() {
+        return submit(new Callable<InitiateJobResult>() {
             public InitiateJobResult call() throws Exception {
             	InitiateJobResult result;
                 try {
             		result = initiateJob(initiateJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2092,7 +2153,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<UploadArchiveResult> uploadArchiveAsync(final UploadArchiveRequest uploadArchiveRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadArchiveResult>() {
+        return submit(new Callable<UploadArchiveResult>() {
             public UploadArchiveResult call() throws Exception {
                 return uploadArchive(uploadArchiveRequest);
 		    }
@@ -2176,11 +2237,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final UploadArchiveRequest uploadArchiveRequest,
             final AsyncHandler<UploadArchiveRequest, UploadArchiveResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadArchiveResult>() {
+        return submit(new Callable<UploadArchiveResult>() {
             public UploadArchiveResult call() throws Exception {
             	UploadArchiveResult result;
                 try {
             		result = uploadArchive(uploadArchiveRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2258,7 +2321,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> setVaultNotificationsAsync(final SetVaultNotificationsRequest setVaultNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setVaultNotifications(setVaultNotificationsRequest);
                 return null;
@@ -2340,10 +2403,12 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final SetVaultNotificationsRequest setVaultNotificationsRequest,
             final AsyncHandler<SetVaultNotificationsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setVaultNotifications(setVaultNotificationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2432,7 +2497,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<CompleteMultipartUploadResult> completeMultipartUploadAsync(final CompleteMultipartUploadRequest completeMultipartUploadRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteMultipartUploadResult>() {
+        return submit(new Callable<CompleteMultipartUploadResult>() {
             public CompleteMultipartUploadResult call() throws Exception {
                 return completeMultipartUpload(completeMultipartUploadRequest);
 		    }
@@ -2524,11 +2589,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final CompleteMultipartUploadRequest completeMultipartUploadRequest,
             final AsyncHandler<CompleteMultipartUploadRequest, CompleteMultipartUploadResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteMultipartUploadResult>() {
+        return submit(new Callable<CompleteMultipartUploadResult>() {
             public CompleteMultipartUploadResult call() throws Exception {
             	CompleteMultipartUploadResult result;
                 try {
             		result = completeMultipartUpload(completeMultipartUploadRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2622,7 +2689,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<UploadMultipartPartResult> uploadMultipartPartAsync(final UploadMultipartPartRequest uploadMultipartPartRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadMultipartPartResult>() {
+        return submit(new Callable<UploadMultipartPartResult>() {
             public UploadMultipartPartResult call() throws Exception {
                 return uploadMultipartPart(uploadMultipartPartRequest);
 		    }
@@ -2719,11 +2786,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final UploadMultipartPartRequest uploadMultipartPartRequest,
             final AsyncHandler<UploadMultipartPartRequest, UploadMultipartPartResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadMultipartPartResult>() {
+        return submit(new Callable<UploadMultipartPartResult>() {
             public UploadMultipartPartResult call() throws Exception {
             	UploadMultipartPartResult result;
                 try {
             		result = uploadMultipartPart(uploadMultipartPartRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2782,7 +2851,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<DescribeVaultResult> describeVaultAsync(final DescribeVaultRequest describeVaultRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVaultResult>() {
+        return submit(new Callable<DescribeVaultResult>() {
             public DescribeVaultResult call() throws Exception {
                 return describeVault(describeVaultRequest);
 		    }
@@ -2844,11 +2913,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DescribeVaultRequest describeVaultRequest,
             final AsyncHandler<DescribeVaultRequest, DescribeVaultResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVaultResult>() {
+        return submit(new Callable<DescribeVaultResult>() {
             public DescribeVaultResult call() throws Exception {
             	DescribeVaultResult result;
                 try {
             		result = describeVault(describeVaultRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2901,7 +2972,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> deleteVaultNotificationsAsync(final DeleteVaultNotificationsRequest deleteVaultNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVaultNotifications(deleteVaultNotificationsRequest);
                 return null;
@@ -2958,10 +3029,12 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DeleteVaultNotificationsRequest deleteVaultNotificationsRequest,
             final AsyncHandler<DeleteVaultNotificationsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVaultNotifications(deleteVaultNotificationsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3033,7 +3106,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListMultipartUploadsResult> listMultipartUploadsAsync(final ListMultipartUploadsRequest listMultipartUploadsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMultipartUploadsResult>() {
+        return submit(new Callable<ListMultipartUploadsResult>() {
             public ListMultipartUploadsResult call() throws Exception {
                 return listMultipartUploads(listMultipartUploadsRequest);
 		    }
@@ -3108,11 +3181,13 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListMultipartUploadsRequest listMultipartUploadsRequest,
             final AsyncHandler<ListMultipartUploadsRequest, ListMultipartUploadsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMultipartUploadsResult>() {
+        return submit(new Callable<ListMultipartUploadsResult>() {
             public ListMultipartUploadsResult call() throws Exception {
             	ListMultipartUploadsResult result;
                 try {
             		result = listMultipartUploads(listMultipartUploadsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3175,7 +3250,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> deleteVaultAsync(final DeleteVaultRequest deleteVaultRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVault(deleteVaultRequest);
                 return null;
@@ -3242,10 +3317,12 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DeleteVaultRequest deleteVaultRequest,
             final AsyncHandler<DeleteVaultRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVault(deleteVaultRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
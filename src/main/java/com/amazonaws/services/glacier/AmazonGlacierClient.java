@@ -96,6 +96,9 @@ public class AmazonGlacierClient extends AmazonWebServiceClient implements Amazo
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -234,6 +237,7 @@ public class AmazonGlacierClient extends AmazonWebServiceClient implements Amazo
         exceptionUnmarshallers.add(new ResourceNotFoundExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new GlacierErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("glacier.us-east-1.amazonaws.com");
 
         signer = new AWS4Signer();
@@ -1943,7 +1947,6 @@ public class AmazonGlacierClient extends AmazonWebServiceClient implements Amazo
         executionContext.setCredentials(credentials);
 
         
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -23,11 +23,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.security.NoSuchAlgorithmException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -69,6 +78,23 @@ public class ArchiveTransferManager {
     /** Threshold, in bytes, for when to use the multipart upload operations */
     private static final long MULTIPART_UPLOAD_SIZE_THRESHOLD = 1024L * 1024L * 100;
 
+    /**
+     * The maximum number of times a single part of a multipart upload is
+     * attempted before the whole upload is aborted.
+     */
+    private static final int MAXIMUM_PART_UPLOAD_ATTEMPTS = 3;
+
+    /**
+     * Base delay, in milliseconds, before retrying a part. The delay doubles
+     * with each further attempt.
+     */
+    private static final long PART_UPLOAD_BASE_BACKOFF_MILLIS = 1000;
+
+    /** Spreads out the retries of parts failing at the same time. */
+    private static final Random backoffRandom = new Random();
+
+    private static final Log log = LogFactory.getLog(ArchiveTransferManager.class);
+
     /** Glacier client used for making all requests. */
     private final AmazonGlacier glacier;
 
@@ -80,6 +106,12 @@ public class ArchiveTransferManager {
 
 	private final AmazonSNSClient sns;
 
+	/**
+	 * Optional thread pool used to upload the parts of multipart uploads
+	 * concurrently; when null, parts are uploaded one at a time.
+	 */
+	private volatile ExecutorService uploadThreadPool;
+
 	/**
 	 * Constructs a new ArchiveTransferManager, using the specified AWS
 	 * credentials to authenticate requests.
@@ -177,6 +209,34 @@ public class ArchiveTransferManager {
 		this.sns = sns;
     }
 
+	/**
+	 * Sets the thread pool used to upload the parts of large archives. When
+	 * set, the tree hash of each part is computed and the part is uploaded on
+	 * the thread pool, so several parts are in flight at once; a failed part
+	 * is retried on its own before the upload is abandoned. When not set (the
+	 * default), parts are uploaded one at a time in the calling thread.
+	 * <p>
+	 * The thread pool is not shut down by this transfer manager, and may be
+	 * shared with other transfer managers.
+	 *
+	 * @param uploadThreadPool
+	 *            The thread pool used to upload parts concurrently, or null to
+	 *            upload parts one at a time.
+	 */
+	public void setUploadThreadPool(ExecutorService uploadThreadPool) {
+		this.uploadThreadPool = uploadThreadPool;
+	}
+
+	/**
+	 * Returns the thread pool used to upload the parts of large archives, or
+	 * null if parts are uploaded one at a time in the calling thread.
+	 *
+	 * @return The thread pool used to upload parts concurrently, if any.
+	 */
+	public ExecutorService getUploadThreadPool() {
+		return uploadThreadPool;
+	}
+
 	/**
 	 * Uploads the specified file to Amazon Glacier for archival storage in the
 	 * specified vault for the user's current account. For small archives, this
@@ -425,7 +485,7 @@ public class ArchiveTransferManager {
         String uploadId = initiateResult.getUploadId();
 
         try {
-	        List<byte[]> binaryChecksums = new LinkedList<byte[]>();
+	        List<PartUploader> partUploaders = new ArrayList<PartUploader>();
 
 	        long currentPosition = 0;
 	        while (currentPosition < file.length()) {
@@ -434,28 +494,11 @@ public class ArchiveTransferManager {
 	                length = file.length() - currentPosition;
 	            }
 
-				InputStream inputSubStream = newInputSubstream(file, currentPosition, length);
-				inputSubStream.mark(-1);
-				String checksum = TreeHashGenerator.calculateTreeHash(inputSubStream);
-				byte[] binaryChecksum = BinaryUtils.fromHex(checksum);
-				binaryChecksums.add(binaryChecksum);
-				inputSubStream.reset();
-				
-	            try {
-	                glacier.uploadMultipartPart(new UploadMultipartPartRequest()
-	                    .withAccountId(accountId)
-	                    .withChecksum(checksum)
-	                    .withBody(inputSubStream)
-	                    .withRange("bytes " + currentPosition + "-" + (currentPosition + length - 1) + "/*")
-	                    .withUploadId(uploadId)
-	                    .withVaultName(vaultName));
-	            } finally {
-	                try {inputSubStream.close();} catch (Exception e) {}
-	            }
-
+	            partUploaders.add(new PartUploader(accountId, vaultName, uploadId, file, currentPosition, length));
 	            currentPosition += partSize;
 	        }
 
+	        List<byte[]> binaryChecksums = uploadParts(partUploaders);
 	        String checksum = TreeHashGenerator.calculateTreeHash(binaryChecksums);
 
 	        String archiveSize = Long.toString(file.length());
@@ -475,6 +518,125 @@ public class ArchiveTransferManager {
 		}
     }
 
+    /**
+     * Runs the specified part uploads, concurrently on the upload thread pool
+     * if one has been set, and otherwise one after another in the calling
+     * thread. Returns the binary tree hash of each part, in part order.
+     */
+    private List<byte[]> uploadParts(List<PartUploader> partUploaders) throws Exception {
+        List<byte[]> binaryChecksums = new ArrayList<byte[]>(partUploaders.size());
+
+        ExecutorService threadPool = uploadThreadPool;
+        if (threadPool == null) {
+            for (PartUploader partUploader : partUploaders) {
+                binaryChecksums.add(partUploader.call());
+            }
+            return binaryChecksums;
+        }
+
+        List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>(partUploaders.size());
+        try {
+            for (PartUploader partUploader : partUploaders) {
+                futures.add(threadPool.submit(partUploader));
+            }
+            for (Future<byte[]> future : futures) {
+                binaryChecksums.add(future.get());
+            }
+            return binaryChecksums;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) throw (Exception)cause;
+            throw new AmazonClientException("Unable to upload part", cause);
+        } finally {
+            // Don't leave parts of a failed upload running
+            for (Future<byte[]> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Computes the tree hash of one part of a multipart upload and uploads it,
+     * retrying just this part if it fails. Returns the part's binary tree
+     * hash, which is combined with the other parts' to complete the upload.
+     */
+    private final class PartUploader implements Callable<byte[]> {
+        private final String accountId;
+        private final String vaultName;
+        private final String uploadId;
+        private final File file;
+        private final long position;
+        private final long length;
+
+        PartUploader(String accountId, String vaultName, String uploadId, File file, long position, long length) {
+            this.accountId = accountId;
+            this.vaultName = vaultName;
+            this.uploadId = uploadId;
+            this.file = file;
+            this.position = position;
+            this.length = length;
+        }
+
+        public byte[] call() throws Exception {
+            int attempt = 1;
+            while (true) {
+                try {
+                    return uploadPart();
+                } catch (AmazonServiceException ase) {
+                    if (ase.getErrorType() == ErrorType.Client || attempt >= MAXIMUM_PART_UPLOAD_ATTEMPTS) throw ase;
+                } catch (AmazonClientException ace) {
+                    if (attempt >= MAXIMUM_PART_UPLOAD_ATTEMPTS) throw ace;
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Retrying upload of part at offset " + position + ", attempt number: " + (attempt + 1));
+                }
+                try {
+                    Thread.sleep(backoffDelay(attempt));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException("Interrupted while waiting to retry the upload of part at offset "
+                            + position, e);
+                }
+                attempt++;
+            }
+        }
+
+        /**
+         * Returns a delay drawn uniformly from the upper half of an
+         * exponentially growing interval, so that parts throttled together
+         * don't all retry together.
+         */
+        private long backoffDelay(int attempt) {
+            long ceiling = PART_UPLOAD_BASE_BACKOFF_MILLIS << (attempt - 1);
+            return ceiling / 2 + (long) (backoffRandom.nextDouble() * (ceiling / 2));
+        }
+
+        private byte[] uploadPart() {
+            InputStream inputSubStream = newInputSubstream(file, position, length);
+            try {
+                inputSubStream.mark(-1);
+                String checksum = TreeHashGenerator.calculateTreeHash(inputSubStream);
+                byte[] binaryChecksum = BinaryUtils.fromHex(checksum);
+                inputSubStream.reset();
+
+                glacier.uploadMultipartPart(new UploadMultipartPartRequest()
+                    .withAccountId(accountId)
+                    .withChecksum(checksum)
+                    .withBody(inputSubStream)
+                    .withRange("bytes " + position + "-" + (position + length - 1) + "/*")
+                    .withUploadId(uploadId)
+                    .withVaultName(vaultName));
+
+                return binaryChecksum;
+            } catch (IOException e) {
+                throw new AmazonClientException("Unable to reset part stream after computing its checksum", e);
+            } finally {
+                try {inputSubStream.close();} catch (Exception e) {}
+            }
+        }
+    }
+
 
     private UploadResult uploadInSinglePart(final String accountId, final String vaultName, final String archiveDescription, final File file)
             throws AmazonServiceException, AmazonClientException, FileNotFoundException {
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -59,6 +61,8 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -248,6 +252,41 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -287,7 +326,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccountAliasAsync(final DeleteAccountAliasRequest deleteAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteAccountAlias(deleteAccountAliasRequest);
                 return null;
@@ -329,10 +368,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteAccountAliasRequest deleteAccountAliasRequest,
             final AsyncHandler<DeleteAccountAliasRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteAccountAlias(deleteAccountAliasRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -368,7 +409,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupsResult> listGroupsAsync(final ListGroupsRequest listGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsResult>() {
+        return submit(new Callable<ListGroupsResult>() {
             public ListGroupsResult call() throws Exception {
                 return listGroups(listGroupsRequest);
 		    }
@@ -407,11 +448,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListGroupsRequest listGroupsRequest,
             final AsyncHandler<ListGroupsRequest, ListGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsResult>() {
+        return submit(new Callable<ListGroupsResult>() {
             public ListGroupsResult call() throws Exception {
             	ListGroupsResult result;
                 try {
             		result = listGroups(listGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -451,7 +494,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccessKeyAsync(final DeleteAccessKeyRequest deleteAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteAccessKey(deleteAccessKeyRequest);
                 return null;
@@ -495,10 +538,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteAccessKeyRequest deleteAccessKeyRequest,
             final AsyncHandler<DeleteAccessKeyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteAccessKey(deleteAccessKeyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -537,7 +582,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteVirtualMFADeviceAsync(final DeleteVirtualMFADeviceRequest deleteVirtualMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVirtualMFADevice(deleteVirtualMFADeviceRequest);
                 return null;
@@ -580,10 +625,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteVirtualMFADeviceRequest deleteVirtualMFADeviceRequest,
             final AsyncHandler<DeleteVirtualMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVirtualMFADevice(deleteVirtualMFADeviceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -616,7 +663,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteUserPolicyAsync(final DeleteUserPolicyRequest deleteUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteUserPolicy(deleteUserPolicyRequest);
                 return null;
@@ -653,10 +700,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteUserPolicyRequest deleteUserPolicyRequest,
             final AsyncHandler<DeleteUserPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteUserPolicy(deleteUserPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -707,7 +756,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putUserPolicyAsync(final PutUserPolicyRequest putUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 putUserPolicy(putUserPolicyRequest);
                 return null;
@@ -762,10 +811,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final PutUserPolicyRequest putUserPolicyRequest,
             final AsyncHandler<PutUserPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		putUserPolicy(putUserPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -804,7 +855,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListServerCertificatesResult> listServerCertificatesAsync(final ListServerCertificatesRequest listServerCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListServerCertificatesResult>() {
+        return submit(new Callable<ListServerCertificatesResult>() {
             public ListServerCertificatesResult call() throws Exception {
                 return listServerCertificates(listServerCertificatesRequest);
 		    }
@@ -846,11 +897,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListServerCertificatesRequest listServerCertificatesRequest,
             final AsyncHandler<ListServerCertificatesRequest, ListServerCertificatesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListServerCertificatesResult>() {
+        return submit(new Callable<ListServerCertificatesResult>() {
             public ListServerCertificatesResult call() throws Exception {
             	ListServerCertificatesResult result;
                 try {
             		result = listServerCertificates(listServerCertificatesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -886,7 +939,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetUserPolicyResult> getUserPolicyAsync(final GetUserPolicyRequest getUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserPolicyResult>() {
+        return submit(new Callable<GetUserPolicyResult>() {
             public GetUserPolicyResult call() throws Exception {
                 return getUserPolicy(getUserPolicyRequest);
 		    }
@@ -925,11 +978,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetUserPolicyRequest getUserPolicyRequest,
             final AsyncHandler<GetUserPolicyRequest, GetUserPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserPolicyResult>() {
+        return submit(new Callable<GetUserPolicyResult>() {
             public GetUserPolicyResult call() throws Exception {
             	GetUserPolicyResult result;
                 try {
             		result = getUserPolicy(getUserPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -976,7 +1031,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateServerCertificateAsync(final UpdateServerCertificateRequest updateServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateServerCertificate(updateServerCertificateRequest);
                 return null;
@@ -1027,10 +1082,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateServerCertificateRequest updateServerCertificateRequest,
             final AsyncHandler<UpdateServerCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateServerCertificate(updateServerCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1074,7 +1131,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateUserAsync(final UpdateUserRequest updateUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateUser(updateUserRequest);
                 return null;
@@ -1122,10 +1179,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateUserRequest updateUserRequest,
             final AsyncHandler<UpdateUserRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateUser(updateUserRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1176,7 +1235,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putRolePolicyAsync(final PutRolePolicyRequest putRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 putRolePolicy(putRolePolicyRequest);
                 return null;
@@ -1231,10 +1290,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final PutRolePolicyRequest putRolePolicyRequest,
             final AsyncHandler<PutRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		putRolePolicy(putRolePolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1283,7 +1344,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateSigningCertificateAsync(final UpdateSigningCertificateRequest updateSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateSigningCertificate(updateSigningCertificateRequest);
                 return null;
@@ -1336,10 +1397,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateSigningCertificateRequest updateSigningCertificateRequest,
             final AsyncHandler<UpdateSigningCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateSigningCertificate(updateSigningCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1374,7 +1437,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteGroupPolicyAsync(final DeleteGroupPolicyRequest deleteGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteGroupPolicy(deleteGroupPolicyRequest);
                 return null;
@@ -1413,10 +1476,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteGroupPolicyRequest deleteGroupPolicyRequest,
             final AsyncHandler<DeleteGroupPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteGroupPolicy(deleteGroupPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1453,7 +1518,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
+        return submit(new Callable<ListUsersResult>() {
             public ListUsersResult call() throws Exception {
                 return listUsers(listUsersRequest);
 		    }
@@ -1493,11 +1558,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListUsersRequest listUsersRequest,
             final AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
+        return submit(new Callable<ListUsersResult>() {
             public ListUsersResult call() throws Exception {
             	ListUsersResult result;
                 try {
             		result = listUsers(listUsersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1542,7 +1609,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateGroupAsync(final UpdateGroupRequest updateGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateGroup(updateGroupRequest);
                 return null;
@@ -1591,10 +1658,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateGroupRequest updateGroupRequest,
             final AsyncHandler<UpdateGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateGroup(updateGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1633,7 +1702,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
+        return submit(new Callable<CreateUserResult>() {
             public CreateUserResult call() throws Exception {
                 return createUser(createUserRequest);
 		    }
@@ -1675,11 +1744,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateUserRequest createUserRequest,
             final AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
+        return submit(new Callable<CreateUserResult>() {
             public CreateUserResult call() throws Exception {
             	CreateUserResult result;
                 try {
             		result = createUser(createUserRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1714,7 +1785,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> enableMFADeviceAsync(final EnableMFADeviceRequest enableMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 enableMFADevice(enableMFADeviceRequest);
                 return null;
@@ -1753,10 +1824,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final EnableMFADeviceRequest enableMFADeviceRequest,
             final AsyncHandler<EnableMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		enableMFADevice(enableMFADeviceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1790,7 +1863,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccountPasswordPolicyAsync(final DeleteAccountPasswordPolicyRequest deleteAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteAccountPasswordPolicy(deleteAccountPasswordPolicyRequest);
                 return null;
@@ -1828,10 +1901,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteAccountPasswordPolicyRequest deleteAccountPasswordPolicyRequest,
             final AsyncHandler<DeleteAccountPasswordPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteAccountPasswordPolicy(deleteAccountPasswordPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1865,7 +1940,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetLoginProfileResult> getLoginProfileAsync(final GetLoginProfileRequest getLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLoginProfileResult>() {
+        return submit(new Callable<GetLoginProfileResult>() {
             public GetLoginProfileResult call() throws Exception {
                 return getLoginProfile(getLoginProfileRequest);
 		    }
@@ -1902,11 +1977,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetLoginProfileRequest getLoginProfileRequest,
             final AsyncHandler<GetLoginProfileRequest, GetLoginProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLoginProfileResult>() {
+        return submit(new Callable<GetLoginProfileResult>() {
             public GetLoginProfileResult call() throws Exception {
             	GetLoginProfileResult result;
                 try {
             		result = getLoginProfile(getLoginProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1958,7 +2035,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<UploadServerCertificateResult> uploadServerCertificateAsync(final UploadServerCertificateRequest uploadServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadServerCertificateResult>() {
+        return submit(new Callable<UploadServerCertificateResult>() {
             public UploadServerCertificateResult call() throws Exception {
                 return uploadServerCertificate(uploadServerCertificateRequest);
 		    }
@@ -2013,11 +2090,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UploadServerCertificateRequest uploadServerCertificateRequest,
             final AsyncHandler<UploadServerCertificateRequest, UploadServerCertificateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadServerCertificateResult>() {
+        return submit(new Callable<UploadServerCertificateResult>() {
             public UploadServerCertificateResult call() throws Exception {
             	UploadServerCertificateResult result;
                 try {
             		result = uploadServerCertificate(uploadServerCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2055,7 +2134,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateGroupResult> createGroupAsync(final CreateGroupRequest createGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGroupResult>() {
+        return submit(new Callable<CreateGroupResult>() {
             public CreateGroupResult call() throws Exception {
                 return createGroup(createGroupRequest);
 		    }
@@ -2096,11 +2175,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateGroupRequest createGroupRequest,
             final AsyncHandler<CreateGroupRequest, CreateGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGroupResult>() {
+        return submit(new Callable<CreateGroupResult>() {
             public CreateGroupResult call() throws Exception {
             	CreateGroupResult result;
                 try {
             		result = createGroup(createGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2138,7 +2219,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> createAccountAliasAsync(final CreateAccountAliasRequest createAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 createAccountAlias(createAccountAliasRequest);
                 return null;
@@ -2180,10 +2261,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateAccountAliasRequest createAccountAliasRequest,
             final AsyncHandler<CreateAccountAliasRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		createAccountAlias(createAccountAliasRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2216,7 +2299,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteUser(deleteUserRequest);
                 return null;
@@ -2253,10 +2336,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteUserRequest deleteUserRequest,
             final AsyncHandler<DeleteUserRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteUser(deleteUserRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2291,7 +2376,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deactivateMFADeviceAsync(final DeactivateMFADeviceRequest deactivateMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deactivateMFADevice(deactivateMFADeviceRequest);
                 return null;
@@ -2330,10 +2415,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeactivateMFADeviceRequest deactivateMFADeviceRequest,
             final AsyncHandler<DeactivateMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deactivateMFADevice(deactivateMFADeviceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2367,7 +2454,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> removeUserFromGroupAsync(final RemoveUserFromGroupRequest removeUserFromGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 removeUserFromGroup(removeUserFromGroupRequest);
                 return null;
@@ -2405,10 +2492,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final RemoveUserFromGroupRequest removeUserFromGroupRequest,
             final AsyncHandler<RemoveUserFromGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		removeUserFromGroup(removeUserFromGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2449,7 +2538,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteRoleAsync(final DeleteRoleRequest deleteRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteRole(deleteRoleRequest);
                 return null;
@@ -2494,10 +2583,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteRoleRequest deleteRoleRequest,
             final AsyncHandler<DeleteRoleRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteRole(deleteRoleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2543,7 +2634,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteServerCertificateAsync(final DeleteServerCertificateRequest deleteServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteServerCertificate(deleteServerCertificateRequest);
                 return null;
@@ -2593,10 +2684,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteServerCertificateRequest deleteServerCertificateRequest,
             final AsyncHandler<DeleteServerCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteServerCertificate(deleteServerCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2652,7 +2745,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateAccessKeyResult> createAccessKeyAsync(final CreateAccessKeyRequest createAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAccessKeyResult>() {
+        return submit(new Callable<CreateAccessKeyResult>() {
             public CreateAccessKeyResult call() throws Exception {
                 return createAccessKey(createAccessKeyRequest);
 		    }
@@ -2711,11 +2804,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateAccessKeyRequest createAccessKeyRequest,
             final AsyncHandler<CreateAccessKeyRequest, CreateAccessKeyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAccessKeyResult>() {
+        return submit(new Callable<CreateAccessKeyResult>() {
             public CreateAccessKeyResult call() throws Exception {
             	CreateAccessKeyResult result;
                 try {
             		result = createAccessKey(createAccessKeyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2752,7 +2847,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetUserResult> getUserAsync(final GetUserRequest getUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserResult>() {
+        return submit(new Callable<GetUserResult>() {
             public GetUserResult call() throws Exception {
                 return getUser(getUserRequest);
 		    }
@@ -2792,11 +2887,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetUserRequest getUserRequest,
             final AsyncHandler<GetUserRequest, GetUserResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserResult>() {
+        return submit(new Callable<GetUserResult>() {
             public GetUserResult call() throws Exception {
             	GetUserResult result;
                 try {
             		result = getUser(getUserRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2829,7 +2926,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> resyncMFADeviceAsync(final ResyncMFADeviceRequest resyncMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 resyncMFADevice(resyncMFADeviceRequest);
                 return null;
@@ -2866,10 +2963,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ResyncMFADeviceRequest resyncMFADeviceRequest,
             final AsyncHandler<ResyncMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		resyncMFADevice(resyncMFADeviceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2909,7 +3008,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListMFADevicesResult> listMFADevicesAsync(final ListMFADevicesRequest listMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMFADevicesResult>() {
+        return submit(new Callable<ListMFADevicesResult>() {
             public ListMFADevicesResult call() throws Exception {
                 return listMFADevices(listMFADevicesRequest);
 		    }
@@ -2952,11 +3051,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListMFADevicesRequest listMFADevicesRequest,
             final AsyncHandler<ListMFADevicesRequest, ListMFADevicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMFADevicesResult>() {
+        return submit(new Callable<ListMFADevicesResult>() {
             public ListMFADevicesResult call() throws Exception {
             	ListMFADevicesResult result;
                 try {
             		result = listMFADevices(listMFADevicesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3012,7 +3113,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateVirtualMFADeviceResult> createVirtualMFADeviceAsync(final CreateVirtualMFADeviceRequest createVirtualMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVirtualMFADeviceResult>() {
+        return submit(new Callable<CreateVirtualMFADeviceResult>() {
             public CreateVirtualMFADeviceResult call() throws Exception {
                 return createVirtualMFADevice(createVirtualMFADeviceRequest);
 		    }
@@ -3071,11 +3172,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateVirtualMFADeviceRequest createVirtualMFADeviceRequest,
             final AsyncHandler<CreateVirtualMFADeviceRequest, CreateVirtualMFADeviceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVirtualMFADeviceResult>() {
+        return submit(new Callable<CreateVirtualMFADeviceResult>() {
             public CreateVirtualMFADeviceResult call() throws Exception {
             	CreateVirtualMFADeviceResult result;
                 try {
             		result = createVirtualMFADevice(createVirtualMFADeviceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3117,7 +3220,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListInstanceProfilesResult> listInstanceProfilesAsync(final ListInstanceProfilesRequest listInstanceProfilesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesResult>() {
+        return submit(new Callable<ListInstanceProfilesResult>() {
             public ListInstanceProfilesResult call() throws Exception {
                 return listInstanceProfiles(listInstanceProfilesRequest);
 		    }
@@ -3162,11 +3265,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListInstanceProfilesRequest listInstanceProfilesRequest,
             final AsyncHandler<ListInstanceProfilesRequest, ListInstanceProfilesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesResult>() {
+        return submit(new Callable<ListInstanceProfilesResult>() {
             public ListInstanceProfilesResult call() throws Exception {
             	ListInstanceProfilesResult result;
                 try {
             		result = listInstanceProfiles(listInstanceProfilesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3214,7 +3319,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAccessKeyAsync(final UpdateAccessKeyRequest updateAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateAccessKey(updateAccessKeyRequest);
                 return null;
@@ -3266,10 +3371,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateAccessKeyRequest updateAccessKeyRequest,
             final AsyncHandler<UpdateAccessKeyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateAccessKey(updateAccessKeyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3302,7 +3409,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> addUserToGroupAsync(final AddUserToGroupRequest addUserToGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 addUserToGroup(addUserToGroupRequest);
                 return null;
@@ -3339,10 +3446,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AddUserToGroupRequest addUserToGroupRequest,
             final AsyncHandler<AddUserToGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		addUserToGroup(addUserToGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3376,7 +3485,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetGroupResult> getGroupAsync(final GetGroupRequest getGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupResult>() {
+        return submit(new Callable<GetGroupResult>() {
             public GetGroupResult call() throws Exception {
                 return getGroup(getGroupRequest);
 		    }
@@ -3413,11 +3522,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetGroupRequest getGroupRequest,
             final AsyncHandler<GetGroupRequest, GetGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupResult>() {
+        return submit(new Callable<GetGroupResult>() {
             public GetGroupResult call() throws Exception {
             	GetGroupResult result;
                 try {
             		result = getGroup(getGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3459,7 +3570,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAccountAliasesResult> listAccountAliasesAsync(final ListAccountAliasesRequest listAccountAliasesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccountAliasesResult>() {
+        return submit(new Callable<ListAccountAliasesResult>() {
             public ListAccountAliasesResult call() throws Exception {
                 return listAccountAliases(listAccountAliasesRequest);
 		    }
@@ -3504,11 +3615,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListAccountAliasesRequest listAccountAliasesRequest,
             final AsyncHandler<ListAccountAliasesRequest, ListAccountAliasesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccountAliasesResult>() {
+        return submit(new Callable<ListAccountAliasesResult>() {
             public ListAccountAliasesResult call() throws Exception {
             	ListAccountAliasesResult result;
                 try {
             		result = listAccountAliases(listAccountAliasesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3541,7 +3654,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteGroupAsync(final DeleteGroupRequest deleteGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteGroup(deleteGroupRequest);
                 return null;
@@ -3578,10 +3691,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteGroupRequest deleteGroupRequest,
             final AsyncHandler<DeleteGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteGroup(deleteGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3624,7 +3739,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetRoleResult> getRoleAsync(final GetRoleRequest getRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRoleResult>() {
+        return submit(new Callable<GetRoleResult>() {
             public GetRoleResult call() throws Exception {
                 return getRole(getRoleRequest);
 		    }
@@ -3670,11 +3785,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetRoleRequest getRoleRequest,
             final AsyncHandler<GetRoleRequest, GetRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRoleResult>() {
+        return submit(new Callable<GetRoleResult>() {
             public GetRoleResult call() throws Exception {
             	GetRoleResult result;
                 try {
             		result = getRole(getRoleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3712,7 +3829,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListRolePoliciesResult> listRolePoliciesAsync(final ListRolePoliciesRequest listRolePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolePoliciesResult>() {
+        return submit(new Callable<ListRolePoliciesResult>() {
             public ListRolePoliciesResult call() throws Exception {
                 return listRolePolicies(listRolePoliciesRequest);
 		    }
@@ -3753,11 +3870,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListRolePoliciesRequest listRolePoliciesRequest,
             final AsyncHandler<ListRolePoliciesRequest, ListRolePoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolePoliciesResult>() {
+        return submit(new Callable<ListRolePoliciesResult>() {
             public ListRolePoliciesResult call() throws Exception {
             	ListRolePoliciesResult result;
                 try {
             		result = listRolePolicies(listRolePoliciesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3804,7 +3923,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListSigningCertificatesResult> listSigningCertificatesAsync(final ListSigningCertificatesRequest listSigningCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSigningCertificatesResult>() {
+        return submit(new Callable<ListSigningCertificatesResult>() {
             public ListSigningCertificatesResult call() throws Exception {
                 return listSigningCertificates(listSigningCertificatesRequest);
 		    }
@@ -3854,11 +3973,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListSigningCertificatesRequest listSigningCertificatesRequest,
             final AsyncHandler<ListSigningCertificatesRequest, ListSigningCertificatesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSigningCertificatesResult>() {
+        return submit(new Callable<ListSigningCertificatesResult>() {
             public ListSigningCertificatesResult call() throws Exception {
             	ListSigningCertificatesResult result;
                 try {
             		result = listSigningCertificates(listSigningCertificatesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3911,7 +4032,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<UploadSigningCertificateResult> uploadSigningCertificateAsync(final UploadSigningCertificateRequest uploadSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadSigningCertificateResult>() {
+        return submit(new Callable<UploadSigningCertificateResult>() {
             public UploadSigningCertificateResult call() throws Exception {
                 return uploadSigningCertificate(uploadSigningCertificateRequest);
 		    }
@@ -3967,11 +4088,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UploadSigningCertificateRequest uploadSigningCertificateRequest,
             final AsyncHandler<UploadSigningCertificateRequest, UploadSigningCertificateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadSigningCertificateResult>() {
+        return submit(new Callable<UploadSigningCertificateResult>() {
             public UploadSigningCertificateResult call() throws Exception {
             	UploadSigningCertificateResult result;
                 try {
             		result = uploadSigningCertificate(uploadSigningCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4017,7 +4140,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteInstanceProfileAsync(final DeleteInstanceProfileRequest deleteInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteInstanceProfile(deleteInstanceProfileRequest);
                 return null;
@@ -4067,10 +4190,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteInstanceProfileRequest deleteInstanceProfileRequest,
             final AsyncHandler<DeleteInstanceProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteInstanceProfile(deleteInstanceProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4116,7 +4241,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateRoleResult> createRoleAsync(final CreateRoleRequest createRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoleResult>() {
+        return submit(new Callable<CreateRoleResult>() {
             public CreateRoleResult call() throws Exception {
                 return createRole(createRoleRequest);
 		    }
@@ -4165,11 +4290,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateRoleRequest createRoleRequest,
             final AsyncHandler<CreateRoleRequest, CreateRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoleResult>() {
+        return submit(new Callable<CreateRoleResult>() {
             public CreateRoleResult call() throws Exception {
             	CreateRoleResult result;
                 try {
             		result = createRole(createRoleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4203,7 +4330,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateLoginProfileAsync(final UpdateLoginProfileRequest updateLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateLoginProfile(updateLoginProfileRequest);
                 return null;
@@ -4241,10 +4368,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateLoginProfileRequest updateLoginProfileRequest,
             final AsyncHandler<UpdateLoginProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateLoginProfile(updateLoginProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4287,7 +4416,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteLoginProfileAsync(final DeleteLoginProfileRequest deleteLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteLoginProfile(deleteLoginProfileRequest);
                 return null;
@@ -4334,10 +4463,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteLoginProfileRequest deleteLoginProfileRequest,
             final AsyncHandler<DeleteLoginProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteLoginProfile(deleteLoginProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4375,7 +4506,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> changePasswordAsync(final ChangePasswordRequest changePasswordRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 changePassword(changePasswordRequest);
                 return null;
@@ -4417,10 +4548,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ChangePasswordRequest changePasswordRequest,
             final AsyncHandler<ChangePasswordRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		changePassword(changePasswordRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4454,7 +4587,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetServerCertificateResult> getServerCertificateAsync(final GetServerCertificateRequest getServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetServerCertificateResult>() {
+        return submit(new Callable<GetServerCertificateResult>() {
             public GetServerCertificateResult call() throws Exception {
                 return getServerCertificate(getServerCertificateRequest);
 		    }
@@ -4491,11 +4624,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetServerCertificateRequest getServerCertificateRequest,
             final AsyncHandler<GetServerCertificateRequest, GetServerCertificateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetServerCertificateResult>() {
+        return submit(new Callable<GetServerCertificateResult>() {
             public GetServerCertificateResult call() throws Exception {
             	GetServerCertificateResult result;
                 try {
             		result = getServerCertificate(getServerCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4547,7 +4682,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putGroupPolicyAsync(final PutGroupPolicyRequest putGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 putGroupPolicy(putGroupPolicyRequest);
                 return null;
@@ -4603,10 +4738,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final PutGroupPolicyRequest putGroupPolicyRequest,
             final AsyncHandler<PutGroupPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		putGroupPolicy(putGroupPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4648,7 +4785,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteSigningCertificateAsync(final DeleteSigningCertificateRequest deleteSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSigningCertificate(deleteSigningCertificateRequest);
                 return null;
@@ -4694,10 +4831,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteSigningCertificateRequest deleteSigningCertificateRequest,
             final AsyncHandler<DeleteSigningCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteSigningCertificate(deleteSigningCertificateRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4735,7 +4874,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListUserPoliciesResult> listUserPoliciesAsync(final ListUserPoliciesRequest listUserPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserPoliciesResult>() {
+        return submit(new Callable<ListUserPoliciesResult>() {
             public ListUserPoliciesResult call() throws Exception {
                 return listUserPolicies(listUserPoliciesRequest);
 		    }
@@ -4776,11 +4915,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListUserPoliciesRequest listUserPoliciesRequest,
             final AsyncHandler<ListUserPoliciesRequest, ListUserPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserPoliciesResult>() {
+        return submit(new Callable<ListUserPoliciesResult>() {
             public ListUserPoliciesResult call() throws Exception {
             	ListUserPoliciesResult result;
                 try {
             		result = listUserPolicies(listUserPoliciesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4830,7 +4971,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAccessKeysResult> listAccessKeysAsync(final ListAccessKeysRequest listAccessKeysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccessKeysResult>() {
+        return submit(new Callable<ListAccessKeysResult>() {
             public ListAccessKeysResult call() throws Exception {
                 return listAccessKeys(listAccessKeysRequest);
 		    }
@@ -4883,11 +5024,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListAccessKeysRequest listAccessKeysRequest,
             final AsyncHandler<ListAccessKeysRequest, ListAccessKeysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccessKeysResult>() {
+        return submit(new Callable<ListAccessKeysResult>() {
             public ListAccessKeysResult call() throws Exception {
             	ListAccessKeysResult result;
                 try {
             		result = listAccessKeys(listAccessKeysRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4925,7 +5068,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupsForUserResult> listGroupsForUserAsync(final ListGroupsForUserRequest listGroupsForUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsForUserResult>() {
+        return submit(new Callable<ListGroupsForUserResult>() {
             public ListGroupsForUserResult call() throws Exception {
                 return listGroupsForUser(listGroupsForUserRequest);
 		    }
@@ -4966,11 +5109,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListGroupsForUserRequest listGroupsForUserRequest,
             final AsyncHandler<ListGroupsForUserRequest, ListGroupsForUserResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsForUserResult>() {
+        return submit(new Callable<ListGroupsForUserResult>() {
             public ListGroupsForUserResult call() throws Exception {
             	ListGroupsForUserResult result;
                 try {
             		result = listGroupsForUser(listGroupsForUserRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5010,7 +5155,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> addRoleToInstanceProfileAsync(final AddRoleToInstanceProfileRequest addRoleToInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 addRoleToInstanceProfile(addRoleToInstanceProfileRequest);
                 return null;
@@ -5054,10 +5199,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AddRoleToInstanceProfileRequest addRoleToInstanceProfileRequest,
             final AsyncHandler<AddRoleToInstanceProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		addRoleToInstanceProfile(addRoleToInstanceProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5094,7 +5241,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetGroupPolicyResult> getGroupPolicyAsync(final GetGroupPolicyRequest getGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupPolicyResult>() {
+        return submit(new Callable<GetGroupPolicyResult>() {
             public GetGroupPolicyResult call() throws Exception {
                 return getGroupPolicy(getGroupPolicyRequest);
 		    }
@@ -5134,11 +5281,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetGroupPolicyRequest getGroupPolicyRequest,
             final AsyncHandler<GetGroupPolicyRequest, GetGroupPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupPolicyResult>() {
+        return submit(new Callable<GetGroupPolicyResult>() {
             public GetGroupPolicyResult call() throws Exception {
             	GetGroupPolicyResult result;
                 try {
             		result = getGroupPolicy(getGroupPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5179,7 +5328,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetRolePolicyResult> getRolePolicyAsync(final GetRolePolicyRequest getRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRolePolicyResult>() {
+        return submit(new Callable<GetRolePolicyResult>() {
             public GetRolePolicyResult call() throws Exception {
                 return getRolePolicy(getRolePolicyRequest);
 		    }
@@ -5223,11 +5372,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetRolePolicyRequest getRolePolicyRequest,
             final AsyncHandler<GetRolePolicyRequest, GetRolePolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRolePolicyResult>() {
+        return submit(new Callable<GetRolePolicyResult>() {
             public GetRolePolicyResult call() throws Exception {
             	GetRolePolicyResult result;
                 try {
             		result = getRolePolicy(getRolePolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5269,7 +5420,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListInstanceProfilesForRoleResult> listInstanceProfilesForRoleAsync(final ListInstanceProfilesForRoleRequest listInstanceProfilesForRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesForRoleResult>() {
+        return submit(new Callable<ListInstanceProfilesForRoleResult>() {
             public ListInstanceProfilesForRoleResult call() throws Exception {
                 return listInstanceProfilesForRole(listInstanceProfilesForRoleRequest);
 		    }
@@ -5314,11 +5465,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListInstanceProfilesForRoleRequest listInstanceProfilesForRoleRequest,
             final AsyncHandler<ListInstanceProfilesForRoleRequest, ListInstanceProfilesForRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesForRoleResult>() {
+        return submit(new Callable<ListInstanceProfilesForRoleResult>() {
             public ListInstanceProfilesForRoleResult call() throws Exception {
             	ListInstanceProfilesForRoleResult result;
                 try {
             		result = listInstanceProfilesForRole(listInstanceProfilesForRoleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5362,7 +5515,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListVirtualMFADevicesResult> listVirtualMFADevicesAsync(final ListVirtualMFADevicesRequest listVirtualMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVirtualMFADevicesResult>() {
+        return submit(new Callable<ListVirtualMFADevicesResult>() {
             public ListVirtualMFADevicesResult call() throws Exception {
                 return listVirtualMFADevices(listVirtualMFADevicesRequest);
 		    }
@@ -5409,11 +5562,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListVirtualMFADevicesRequest listVirtualMFADevicesRequest,
             final AsyncHandler<ListVirtualMFADevicesRequest, ListVirtualMFADevicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVirtualMFADevicesResult>() {
+        return submit(new Callable<ListVirtualMFADevicesResult>() {
             public ListVirtualMFADevicesResult call() throws Exception {
             	ListVirtualMFADevicesResult result;
                 try {
             		result = listVirtualMFADevices(listVirtualMFADevicesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5446,7 +5601,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteRolePolicyAsync(final DeleteRolePolicyRequest deleteRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteRolePolicy(deleteRolePolicyRequest);
                 return null;
@@ -5483,10 +5638,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteRolePolicyRequest deleteRolePolicyRequest,
             final AsyncHandler<DeleteRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteRolePolicy(deleteRolePolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5530,7 +5687,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateInstanceProfileResult> createInstanceProfileAsync(final CreateInstanceProfileRequest createInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceProfileResult>() {
+        return submit(new Callable<CreateInstanceProfileResult>() {
             public CreateInstanceProfileResult call() throws Exception {
                 return createInstanceProfile(createInstanceProfileRequest);
 		    }
@@ -5577,11 +5734,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateInstanceProfileRequest createInstanceProfileRequest,
             final AsyncHandler<CreateInstanceProfileRequest, CreateInstanceProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceProfileResult>() {
+        return submit(new Callable<CreateInstanceProfileResult>() {
             public CreateInstanceProfileResult call() throws Exception {
             	CreateInstanceProfileResult result;
                 try {
             		result = createInstanceProfile(createInstanceProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5620,7 +5779,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupPoliciesResult> listGroupPoliciesAsync(final ListGroupPoliciesRequest listGroupPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupPoliciesResult>() {
+        return submit(new Callable<ListGroupPoliciesResult>() {
             public ListGroupPoliciesResult call() throws Exception {
                 return listGroupPolicies(listGroupPoliciesRequest);
 		    }
@@ -5662,11 +5821,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListGroupPoliciesRequest listGroupPoliciesRequest,
             final AsyncHandler<ListGroupPoliciesRequest, ListGroupPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupPoliciesResult>() {
+        return submit(new Callable<ListGroupPoliciesResult>() {
             public ListGroupPoliciesResult call() throws Exception {
             	ListGroupPoliciesResult result;
                 try {
             		result = listGroupPolicies(listGroupPoliciesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5704,7 +5865,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateLoginProfileResult> createLoginProfileAsync(final CreateLoginProfileRequest createLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoginProfileResult>() {
+        return submit(new Callable<CreateLoginProfileResult>() {
             public CreateLoginProfileResult call() throws Exception {
                 return createLoginProfile(createLoginProfileRequest);
 		    }
@@ -5745,11 +5906,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateLoginProfileRequest createLoginProfileRequest,
             final AsyncHandler<CreateLoginProfileRequest, CreateLoginProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoginProfileResult>() {
+        return submit(new Callable<CreateLoginProfileResult>() {
             public CreateLoginProfileResult call() throws Exception {
             	CreateLoginProfileResult result;
                 try {
             		result = createLoginProfile(createLoginProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5798,7 +5961,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> removeRoleFromInstanceProfileAsync(final RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 removeRoleFromInstanceProfile(removeRoleFromInstanceProfileRequest);
                 return null;
@@ -5851,10 +6014,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest,
             final AsyncHandler<RemoveRoleFromInstanceProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		removeRoleFromInstanceProfile(removeRoleFromInstanceProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5891,7 +6056,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAccountPasswordPolicyAsync(final UpdateAccountPasswordPolicyRequest updateAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateAccountPasswordPolicy(updateAccountPasswordPolicyRequest);
                 return null;
@@ -5932,10 +6097,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateAccountPasswordPolicyRequest updateAccountPasswordPolicyRequest,
             final AsyncHandler<UpdateAccountPasswordPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateAccountPasswordPolicy(updateAccountPasswordPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5973,7 +6140,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAssumeRolePolicyAsync(final UpdateAssumeRolePolicyRequest updateAssumeRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateAssumeRolePolicy(updateAssumeRolePolicyRequest);
                 return null;
@@ -6015,10 +6182,12 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateAssumeRolePolicyRequest updateAssumeRolePolicyRequest,
             final AsyncHandler<UpdateAssumeRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateAssumeRolePolicy(updateAssumeRolePolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6059,7 +6228,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetInstanceProfileResult> getInstanceProfileAsync(final GetInstanceProfileRequest getInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInstanceProfileResult>() {
+        return submit(new Callable<GetInstanceProfileResult>() {
             public GetInstanceProfileResult call() throws Exception {
                 return getInstanceProfile(getInstanceProfileRequest);
 		    }
@@ -6103,11 +6272,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetInstanceProfileRequest getInstanceProfileRequest,
             final AsyncHandler<GetInstanceProfileRequest, GetInstanceProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInstanceProfileResult>() {
+        return submit(new Callable<GetInstanceProfileResult>() {
             public GetInstanceProfileResult call() throws Exception {
             	GetInstanceProfileResult result;
                 try {
             		result = getInstanceProfile(getInstanceProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6153,7 +6324,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListRolesResult> listRolesAsync(final ListRolesRequest listRolesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolesResult>() {
+        return submit(new Callable<ListRolesResult>() {
             public ListRolesResult call() throws Exception {
                 return listRoles(listRolesRequest);
 		    }
@@ -6202,11 +6373,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListRolesRequest listRolesRequest,
             final AsyncHandler<ListRolesRequest, ListRolesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolesResult>() {
+        return submit(new Callable<ListRolesResult>() {
             public ListRolesResult call() throws Exception {
             	ListRolesResult result;
                 try {
             		result = listRoles(listRolesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6247,7 +6420,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetAccountSummaryResult> getAccountSummaryAsync(final GetAccountSummaryRequest getAccountSummaryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSummaryResult>() {
+        return submit(new Callable<GetAccountSummaryResult>() {
             public GetAccountSummaryResult call() throws Exception {
                 return getAccountSummary(getAccountSummaryRequest);
 		    }
@@ -6291,11 +6464,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetAccountSummaryRequest getAccountSummaryRequest,
             final AsyncHandler<GetAccountSummaryRequest, GetAccountSummaryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSummaryResult>() {
+        return submit(new Callable<GetAccountSummaryResult>() {
             public GetAccountSummaryResult call() throws Exception {
             	GetAccountSummaryResult result;
                 try {
             		result = getAccountSummary(getAccountSummaryRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -6332,7 +6507,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetAccountPasswordPolicyResult> getAccountPasswordPolicyAsync(final GetAccountPasswordPolicyRequest getAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountPasswordPolicyResult>() {
+        return submit(new Callable<GetAccountPasswordPolicyResult>() {
             public GetAccountPasswordPolicyResult call() throws Exception {
                 return getAccountPasswordPolicy(getAccountPasswordPolicyRequest);
 		    }
@@ -6372,11 +6547,13 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetAccountPasswordPolicyRequest getAccountPasswordPolicyRequest,
             final AsyncHandler<GetAccountPasswordPolicyRequest, GetAccountPasswordPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountPasswordPolicyResult>() {
+        return submit(new Callable<GetAccountPasswordPolicyResult>() {
             public GetAccountPasswordPolicyResult call() throws Exception {
             	GetAccountPasswordPolicyResult result;
                 try {
             		result = getAccountPasswordPolicy(getAccountPasswordPolicyRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -49,6 +51,8 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -238,6 +242,41 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -276,7 +315,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<CreateJobResult> createJobAsync(final CreateJobRequest createJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
+        return submit(new Callable<CreateJobResult>() {
             public CreateJobResult call() throws Exception {
                 return createJob(createJobRequest);
 		    }
@@ -316,11 +355,13 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CreateJobRequest createJobRequest,
             final AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
+        return submit(new Callable<CreateJobResult>() {
             public CreateJobResult call() throws Exception {
             	CreateJobResult result;
                 try {
             		result = createJob(createJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -353,7 +394,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<CancelJobResult> cancelJobAsync(final CancelJobRequest cancelJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
+        return submit(new Callable<CancelJobResult>() {
             public CancelJobResult call() throws Exception {
                 return cancelJob(cancelJobRequest);
 		    }
@@ -389,11 +430,13 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CancelJobRequest cancelJobRequest,
             final AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
+        return submit(new Callable<CancelJobResult>() {
             public CancelJobResult call() throws Exception {
             	CancelJobResult result;
                 try {
             		result = cancelJob(cancelJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -428,7 +471,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<GetStatusResult> getStatusAsync(final GetStatusRequest getStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStatusResult>() {
+        return submit(new Callable<GetStatusResult>() {
             public GetStatusResult call() throws Exception {
                 return getStatus(getStatusRequest);
 		    }
@@ -466,11 +509,13 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final GetStatusRequest getStatusRequest,
             final AsyncHandler<GetStatusRequest, GetStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStatusResult>() {
+        return submit(new Callable<GetStatusResult>() {
             public GetStatusResult call() throws Exception {
             	GetStatusResult result;
                 try {
             		result = getStatus(getStatusRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -506,7 +551,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<ListJobsResult> listJobsAsync(final ListJobsRequest listJobsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
+        return submit(new Callable<ListJobsResult>() {
             public ListJobsResult call() throws Exception {
                 return listJobs(listJobsRequest);
 		    }
@@ -545,11 +590,13 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final ListJobsRequest listJobsRequest,
             final AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
+        return submit(new Callable<ListJobsResult>() {
             public ListJobsResult call() throws Exception {
             	ListJobsResult result;
                 try {
             		result = listJobs(listJobsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -585,7 +632,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<UpdateJobResult> updateJobAsync(final UpdateJobRequest updateJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateJobResult>() {
+        return submit(new Callable<UpdateJobResult>() {
             public UpdateJobResult call() throws Exception {
                 return updateJob(updateJobRequest);
 		    }
@@ -624,11 +671,13 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final UpdateJobRequest updateJobRequest,
             final AsyncHandler<UpdateJobRequest, UpdateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateJobResult>() {
+        return submit(new Callable<UpdateJobResult>() {
             public UpdateJobResult call() throws Exception {
             	UpdateJobResult result;
                 try {
             		result = updateJob(updateJobRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
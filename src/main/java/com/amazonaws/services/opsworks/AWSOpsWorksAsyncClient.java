@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -45,6 +47,8 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -234,6 +238,41 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -267,7 +306,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateUserProfileAsync(final UpdateUserProfileRequest updateUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserProfile(updateUserProfileRequest);
                 return null;
@@ -303,10 +342,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateUserProfileRequest updateUserProfileRequest,
             final AsyncHandler<UpdateUserProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateUserProfile(updateUserProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -338,7 +379,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateStackResult> createStackAsync(final CreateStackRequest createStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
+        return submit(new Callable<CreateStackResult>() {
             public CreateStackResult call() throws Exception {
                 return createStack(createStackRequest);
 		    }
@@ -373,11 +414,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateStackRequest createStackRequest,
             final AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
+        return submit(new Callable<CreateStackResult>() {
             public CreateStackResult call() throws Exception {
             	CreateStackResult result;
                 try {
             		result = createStack(createStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -409,7 +452,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> rebootInstanceAsync(final RebootInstanceRequest rebootInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 rebootInstance(rebootInstanceRequest);
                 return null;
@@ -445,10 +488,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final RebootInstanceRequest rebootInstanceRequest,
             final AsyncHandler<RebootInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		rebootInstance(rebootInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -480,7 +525,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> setPermissionAsync(final SetPermissionRequest setPermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setPermission(setPermissionRequest);
                 return null;
@@ -516,10 +561,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final SetPermissionRequest setPermissionRequest,
             final AsyncHandler<SetPermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setPermission(setPermissionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -552,7 +599,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return submit(new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
                 return describeInstances(describeInstancesRequest);
 		    }
@@ -588,11 +635,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return submit(new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
             	DescribeInstancesResult result;
                 try {
             		result = describeInstances(describeInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -626,7 +675,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribePermissionsResult> describePermissionsAsync(final DescribePermissionsRequest describePermissionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePermissionsResult>() {
+        return submit(new Callable<DescribePermissionsResult>() {
             public DescribePermissionsResult call() throws Exception {
                 return describePermissions(describePermissionsRequest);
 		    }
@@ -663,11 +712,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribePermissionsRequest describePermissionsRequest,
             final AsyncHandler<DescribePermissionsRequest, DescribePermissionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePermissionsResult>() {
+        return submit(new Callable<DescribePermissionsResult>() {
             public DescribePermissionsResult call() throws Exception {
             	DescribePermissionsResult result;
                 try {
             		result = describePermissions(describePermissionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -699,7 +750,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteInstance(deleteInstanceRequest);
                 return null;
@@ -735,10 +786,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteInstanceRequest deleteInstanceRequest,
             final AsyncHandler<DeleteInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteInstance(deleteInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -770,7 +823,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CloneStackResult> cloneStackAsync(final CloneStackRequest cloneStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneStackResult>() {
+        return submit(new Callable<CloneStackResult>() {
             public CloneStackResult call() throws Exception {
                 return cloneStack(cloneStackRequest);
 		    }
@@ -805,11 +858,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CloneStackRequest cloneStackRequest,
             final AsyncHandler<CloneStackRequest, CloneStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneStackResult>() {
+        return submit(new Callable<CloneStackResult>() {
             public CloneStackResult call() throws Exception {
             	CloneStackResult result;
                 try {
             		result = cloneStack(cloneStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -841,7 +896,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateInstanceResult> createInstanceAsync(final CreateInstanceRequest createInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
+        return submit(new Callable<CreateInstanceResult>() {
             public CreateInstanceResult call() throws Exception {
                 return createInstance(createInstanceRequest);
 		    }
@@ -876,11 +931,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateInstanceRequest createInstanceRequest,
             final AsyncHandler<CreateInstanceRequest, CreateInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
+        return submit(new Callable<CreateInstanceResult>() {
             public CreateInstanceResult call() throws Exception {
             	CreateInstanceResult result;
                 try {
             		result = createInstance(createInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -914,7 +971,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> stopInstanceAsync(final StopInstanceRequest stopInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 stopInstance(stopInstanceRequest);
                 return null;
@@ -952,10 +1009,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StopInstanceRequest stopInstanceRequest,
             final AsyncHandler<StopInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		stopInstance(stopInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -987,7 +1046,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateAppAsync(final UpdateAppRequest updateAppRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateApp(updateAppRequest);
                 return null;
@@ -1023,10 +1082,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateAppRequest updateAppRequest,
             final AsyncHandler<UpdateAppRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateApp(updateAppRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1058,7 +1119,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteAppAsync(final DeleteAppRequest deleteAppRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteApp(deleteAppRequest);
                 return null;
@@ -1094,10 +1155,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteAppRequest deleteAppRequest,
             final AsyncHandler<DeleteAppRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteApp(deleteAppRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1129,7 +1192,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeCommandsResult> describeCommandsAsync(final DescribeCommandsRequest describeCommandsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCommandsResult>() {
+        return submit(new Callable<DescribeCommandsResult>() {
             public DescribeCommandsResult call() throws Exception {
                 return describeCommands(describeCommandsRequest);
 		    }
@@ -1164,11 +1227,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeCommandsRequest describeCommandsRequest,
             final AsyncHandler<DescribeCommandsRequest, DescribeCommandsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCommandsResult>() {
+        return submit(new Callable<DescribeCommandsResult>() {
             public DescribeCommandsResult call() throws Exception {
             	DescribeCommandsResult result;
                 try {
             		result = describeCommands(describeCommandsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1200,7 +1265,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateStackAsync(final UpdateStackRequest updateStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateStack(updateStackRequest);
                 return null;
@@ -1236,10 +1301,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateStackRequest updateStackRequest,
             final AsyncHandler<UpdateStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateStack(updateStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1271,7 +1338,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateUserProfileResult> createUserProfileAsync(final CreateUserProfileRequest createUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserProfileResult>() {
+        return submit(new Callable<CreateUserProfileResult>() {
             public CreateUserProfileResult call() throws Exception {
                 return createUserProfile(createUserProfileRequest);
 		    }
@@ -1306,11 +1373,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateUserProfileRequest createUserProfileRequest,
             final AsyncHandler<CreateUserProfileRequest, CreateUserProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserProfileResult>() {
+        return submit(new Callable<CreateUserProfileResult>() {
             public CreateUserProfileResult call() throws Exception {
             	CreateUserProfileResult result;
                 try {
             		result = createUserProfile(createUserProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1344,7 +1413,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<GetHostnameSuggestionResult> getHostnameSuggestionAsync(final GetHostnameSuggestionRequest getHostnameSuggestionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostnameSuggestionResult>() {
+        return submit(new Callable<GetHostnameSuggestionResult>() {
             public GetHostnameSuggestionResult call() throws Exception {
                 return getHostnameSuggestion(getHostnameSuggestionRequest);
 		    }
@@ -1381,11 +1450,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final GetHostnameSuggestionRequest getHostnameSuggestionRequest,
             final AsyncHandler<GetHostnameSuggestionRequest, GetHostnameSuggestionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostnameSuggestionResult>() {
+        return submit(new Callable<GetHostnameSuggestionResult>() {
             public GetHostnameSuggestionResult call() throws Exception {
             	GetHostnameSuggestionResult result;
                 try {
             		result = getHostnameSuggestion(getHostnameSuggestionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1417,7 +1488,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeRaidArraysResult> describeRaidArraysAsync(final DescribeRaidArraysRequest describeRaidArraysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRaidArraysResult>() {
+        return submit(new Callable<DescribeRaidArraysResult>() {
             public DescribeRaidArraysResult call() throws Exception {
                 return describeRaidArrays(describeRaidArraysRequest);
 		    }
@@ -1452,11 +1523,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeRaidArraysRequest describeRaidArraysRequest,
             final AsyncHandler<DescribeRaidArraysRequest, DescribeRaidArraysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRaidArraysResult>() {
+        return submit(new Callable<DescribeRaidArraysResult>() {
             public DescribeRaidArraysResult call() throws Exception {
             	DescribeRaidArraysResult result;
                 try {
             		result = describeRaidArrays(describeRaidArraysRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1488,7 +1561,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeLayersResult> describeLayersAsync(final DescribeLayersRequest describeLayersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLayersResult>() {
+        return submit(new Callable<DescribeLayersResult>() {
             public DescribeLayersResult call() throws Exception {
                 return describeLayers(describeLayersRequest);
 		    }
@@ -1523,11 +1596,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeLayersRequest describeLayersRequest,
             final AsyncHandler<DescribeLayersRequest, DescribeLayersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLayersResult>() {
+        return submit(new Callable<DescribeLayersResult>() {
             public DescribeLayersResult call() throws Exception {
             	DescribeLayersResult result;
                 try {
             		result = describeLayers(describeLayersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1561,7 +1636,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeLoadBasedAutoScalingResult> describeLoadBasedAutoScalingAsync(final DescribeLoadBasedAutoScalingRequest describeLoadBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBasedAutoScalingResult>() {
+        return submit(new Callable<DescribeLoadBasedAutoScalingResult>() {
             public DescribeLoadBasedAutoScalingResult call() throws Exception {
                 return describeLoadBasedAutoScaling(describeLoadBasedAutoScalingRequest);
 		    }
@@ -1598,11 +1673,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeLoadBasedAutoScalingRequest describeLoadBasedAutoScalingRequest,
             final AsyncHandler<DescribeLoadBasedAutoScalingRequest, DescribeLoadBasedAutoScalingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBasedAutoScalingResult>() {
+        return submit(new Callable<DescribeLoadBasedAutoScalingResult>() {
             public DescribeLoadBasedAutoScalingResult call() throws Exception {
             	DescribeLoadBasedAutoScalingResult result;
                 try {
             		result = describeLoadBasedAutoScaling(describeLoadBasedAutoScalingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1642,7 +1719,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> setLoadBasedAutoScalingAsync(final SetLoadBasedAutoScalingRequest setLoadBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setLoadBasedAutoScaling(setLoadBasedAutoScalingRequest);
                 return null;
@@ -1686,10 +1763,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final SetLoadBasedAutoScalingRequest setLoadBasedAutoScalingRequest,
             final AsyncHandler<SetLoadBasedAutoScalingRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setLoadBasedAutoScaling(setLoadBasedAutoScalingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1722,7 +1801,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteLayerAsync(final DeleteLayerRequest deleteLayerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteLayer(deleteLayerRequest);
                 return null;
@@ -1759,10 +1838,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteLayerRequest deleteLayerRequest,
             final AsyncHandler<DeleteLayerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteLayer(deleteLayerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1794,7 +1875,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return submit(new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
                 return describeVolumes(describeVolumesRequest);
 		    }
@@ -1829,11 +1910,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return submit(new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
             	DescribeVolumesResult result;
                 try {
             		result = describeVolumes(describeVolumesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1867,7 +1950,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> setTimeBasedAutoScalingAsync(final SetTimeBasedAutoScalingRequest setTimeBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 setTimeBasedAutoScaling(setTimeBasedAutoScalingRequest);
                 return null;
@@ -1905,10 +1988,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final SetTimeBasedAutoScalingRequest setTimeBasedAutoScalingRequest,
             final AsyncHandler<SetTimeBasedAutoScalingRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		setTimeBasedAutoScaling(setTimeBasedAutoScalingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1940,7 +2025,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateAppResult> createAppAsync(final CreateAppRequest createAppRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppResult>() {
+        return submit(new Callable<CreateAppResult>() {
             public CreateAppResult call() throws Exception {
                 return createApp(createAppRequest);
 		    }
@@ -1975,11 +2060,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateAppRequest createAppRequest,
             final AsyncHandler<CreateAppRequest, CreateAppResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppResult>() {
+        return submit(new Callable<CreateAppResult>() {
             public CreateAppResult call() throws Exception {
             	CreateAppResult result;
                 try {
             		result = createApp(createAppRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2014,7 +2101,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeTimeBasedAutoScalingResult> describeTimeBasedAutoScalingAsync(final DescribeTimeBasedAutoScalingRequest describeTimeBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeBasedAutoScalingResult>() {
+        return submit(new Callable<DescribeTimeBasedAutoScalingResult>() {
             public DescribeTimeBasedAutoScalingResult call() throws Exception {
                 return describeTimeBasedAutoScaling(describeTimeBasedAutoScalingRequest);
 		    }
@@ -2052,11 +2139,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeTimeBasedAutoScalingRequest describeTimeBasedAutoScalingRequest,
             final AsyncHandler<DescribeTimeBasedAutoScalingRequest, DescribeTimeBasedAutoScalingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeBasedAutoScalingResult>() {
+        return submit(new Callable<DescribeTimeBasedAutoScalingResult>() {
             public DescribeTimeBasedAutoScalingResult call() throws Exception {
             	DescribeTimeBasedAutoScalingResult result;
                 try {
             		result = describeTimeBasedAutoScaling(describeTimeBasedAutoScalingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2088,7 +2177,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteUserProfileAsync(final DeleteUserProfileRequest deleteUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteUserProfile(deleteUserProfileRequest);
                 return null;
@@ -2124,10 +2213,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteUserProfileRequest deleteUserProfileRequest,
             final AsyncHandler<DeleteUserProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteUserProfile(deleteUserProfileRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2160,7 +2251,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeUserProfilesResult> describeUserProfilesAsync(final DescribeUserProfilesRequest describeUserProfilesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserProfilesResult>() {
+        return submit(new Callable<DescribeUserProfilesResult>() {
             public DescribeUserProfilesResult call() throws Exception {
                 return describeUserProfiles(describeUserProfilesRequest);
 		    }
@@ -2196,11 +2287,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeUserProfilesRequest describeUserProfilesRequest,
             final AsyncHandler<DescribeUserProfilesRequest, DescribeUserProfilesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserProfilesResult>() {
+        return submit(new Callable<DescribeUserProfilesResult>() {
             public DescribeUserProfilesResult call() throws Exception {
             	DescribeUserProfilesResult result;
                 try {
             		result = describeUserProfiles(describeUserProfilesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2232,7 +2325,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateInstanceAsync(final UpdateInstanceRequest updateInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateInstance(updateInstanceRequest);
                 return null;
@@ -2268,10 +2361,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateInstanceRequest updateInstanceRequest,
             final AsyncHandler<UpdateInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateInstance(updateInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2304,7 +2399,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeServiceErrorsResult> describeServiceErrorsAsync(final DescribeServiceErrorsRequest describeServiceErrorsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceErrorsResult>() {
+        return submit(new Callable<DescribeServiceErrorsResult>() {
             public DescribeServiceErrorsResult call() throws Exception {
                 return describeServiceErrors(describeServiceErrorsRequest);
 		    }
@@ -2340,11 +2435,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeServiceErrorsRequest describeServiceErrorsRequest,
             final AsyncHandler<DescribeServiceErrorsRequest, DescribeServiceErrorsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceErrorsResult>() {
+        return submit(new Callable<DescribeServiceErrorsResult>() {
             public DescribeServiceErrorsResult call() throws Exception {
             	DescribeServiceErrorsResult result;
                 try {
             		result = describeServiceErrors(describeServiceErrorsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2377,7 +2474,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeDeploymentsResult> describeDeploymentsAsync(final DescribeDeploymentsRequest describeDeploymentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeploymentsResult>() {
+        return submit(new Callable<DescribeDeploymentsResult>() {
             public DescribeDeploymentsResult call() throws Exception {
                 return describeDeployments(describeDeploymentsRequest);
 		    }
@@ -2413,11 +2510,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeDeploymentsRequest describeDeploymentsRequest,
             final AsyncHandler<DescribeDeploymentsRequest, DescribeDeploymentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeploymentsResult>() {
+        return submit(new Callable<DescribeDeploymentsResult>() {
             public DescribeDeploymentsResult call() throws Exception {
             	DescribeDeploymentsResult result;
                 try {
             		result = describeDeployments(describeDeploymentsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2449,7 +2548,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateLayerAsync(final UpdateLayerRequest updateLayerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 updateLayer(updateLayerRequest);
                 return null;
@@ -2485,10 +2584,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateLayerRequest updateLayerRequest,
             final AsyncHandler<UpdateLayerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		updateLayer(updateLayerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2520,7 +2621,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> startInstanceAsync(final StartInstanceRequest startInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 startInstance(startInstanceRequest);
                 return null;
@@ -2556,10 +2657,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StartInstanceRequest startInstanceRequest,
             final AsyncHandler<StartInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		startInstance(startInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2593,7 +2696,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeElasticIpsResult> describeElasticIpsAsync(final DescribeElasticIpsRequest describeElasticIpsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeElasticIpsResult>() {
+        return submit(new Callable<DescribeElasticIpsResult>() {
             public DescribeElasticIpsResult call() throws Exception {
                 return describeElasticIps(describeElasticIpsRequest);
 		    }
@@ -2630,11 +2733,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeElasticIpsRequest describeElasticIpsRequest,
             final AsyncHandler<DescribeElasticIpsRequest, DescribeElasticIpsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeElasticIpsResult>() {
+        return submit(new Callable<DescribeElasticIpsResult>() {
             public DescribeElasticIpsResult call() throws Exception {
             	DescribeElasticIpsResult result;
                 try {
             		result = describeElasticIps(describeElasticIpsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2666,7 +2771,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeStacksResult> describeStacksAsync(final DescribeStacksRequest describeStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
+        return submit(new Callable<DescribeStacksResult>() {
             public DescribeStacksResult call() throws Exception {
                 return describeStacks(describeStacksRequest);
 		    }
@@ -2701,11 +2806,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeStacksRequest describeStacksRequest,
             final AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
+        return submit(new Callable<DescribeStacksResult>() {
             public DescribeStacksResult call() throws Exception {
             	DescribeStacksResult result;
                 try {
             		result = describeStacks(describeStacksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2737,7 +2844,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeAppsResult> describeAppsAsync(final DescribeAppsRequest describeAppsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAppsResult>() {
+        return submit(new Callable<DescribeAppsResult>() {
             public DescribeAppsResult call() throws Exception {
                 return describeApps(describeAppsRequest);
 		    }
@@ -2772,11 +2879,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeAppsRequest describeAppsRequest,
             final AsyncHandler<DescribeAppsRequest, DescribeAppsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAppsResult>() {
+        return submit(new Callable<DescribeAppsResult>() {
             public DescribeAppsResult call() throws Exception {
             	DescribeAppsResult result;
                 try {
             		result = describeApps(describeAppsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2808,7 +2917,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateLayerResult> createLayerAsync(final CreateLayerRequest createLayerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLayerResult>() {
+        return submit(new Callable<CreateLayerResult>() {
             public CreateLayerResult call() throws Exception {
                 return createLayer(createLayerRequest);
 		    }
@@ -2843,11 +2952,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateLayerRequest createLayerRequest,
             final AsyncHandler<CreateLayerRequest, CreateLayerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLayerResult>() {
+        return submit(new Callable<CreateLayerResult>() {
             public CreateLayerResult call() throws Exception {
             	CreateLayerResult result;
                 try {
             		result = createLayer(createLayerRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2880,7 +2991,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteStackAsync(final DeleteStackRequest deleteStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteStack(deleteStackRequest);
                 return null;
@@ -2917,10 +3028,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteStackRequest deleteStackRequest,
             final AsyncHandler<DeleteStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteStack(deleteStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2952,7 +3065,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> startStackAsync(final StartStackRequest startStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 startStack(startStackRequest);
                 return null;
@@ -2988,10 +3101,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StartStackRequest startStackRequest,
             final AsyncHandler<StartStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		startStack(startStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3023,7 +3138,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> stopStackAsync(final StopStackRequest stopStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 stopStack(stopStackRequest);
                 return null;
@@ -3059,10 +3174,12 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StopStackRequest stopStackRequest,
             final AsyncHandler<StopStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		stopStack(stopStackRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3103,7 +3220,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateDeploymentResult> createDeploymentAsync(final CreateDeploymentRequest createDeploymentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentResult>() {
+        return submit(new Callable<CreateDeploymentResult>() {
             public CreateDeploymentResult call() throws Exception {
                 return createDeployment(createDeploymentRequest);
 		    }
@@ -3147,11 +3264,13 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateDeploymentRequest createDeploymentRequest,
             final AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentResult>() {
+        return submit(new Callable<CreateDeploymentResult>() {
             public CreateDeploymentResult call() throws Exception {
             	CreateDeploymentResult result;
                 try {
             		result = createDeployment(createDeploymentRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -61,6 +61,9 @@ public class AWSOpsWorksClient extends AmazonWebServiceClient implements AWSOpsW
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -195,6 +198,7 @@ public class AWSOpsWorksClient extends AmazonWebServiceClient implements AWSOpsW
         exceptionUnmarshallers.add(new ResourceNotFoundExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new JsonErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("opsworks.us-east-1.amazonaws.com");
 
         signer = new AWS4Signer();
@@ -1861,7 +1865,6 @@ public class AWSOpsWorksClient extends AmazonWebServiceClient implements AWSOpsW
         executionContext.setCredentials(credentials);
 
         
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -63,6 +65,8 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -252,6 +256,41 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -297,7 +336,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> createDBInstanceReadReplicaAsync(final CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return createDBInstanceReadReplica(createDBInstanceReadReplicaRequest);
 		    }
@@ -344,11 +383,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest,
             final AsyncHandler<CreateDBInstanceReadReplicaRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = createDBInstanceReadReplica(createDBInstanceReadReplicaRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -383,7 +424,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBParameterGroupsResult> describeDBParameterGroupsAsync(final DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParameterGroupsResult>() {
+        return submit(new Callable<DescribeDBParameterGroupsResult>() {
             public DescribeDBParameterGroupsResult call() throws Exception {
                 return describeDBParameterGroups(describeDBParameterGroupsRequest);
 		    }
@@ -421,11 +462,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest,
             final AsyncHandler<DescribeDBParameterGroupsRequest, DescribeDBParameterGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParameterGroupsResult>() {
+        return submit(new Callable<DescribeDBParameterGroupsResult>() {
             public DescribeDBParameterGroupsResult call() throws Exception {
             	DescribeDBParameterGroupsResult result;
                 try {
             		result = describeDBParameterGroups(describeDBParameterGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -457,7 +500,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<OptionGroup> modifyOptionGroupAsync(final ModifyOptionGroupRequest modifyOptionGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
+        return submit(new Callable<OptionGroup>() {
             public OptionGroup call() throws Exception {
                 return modifyOptionGroup(modifyOptionGroupRequest);
 		    }
@@ -492,11 +535,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyOptionGroupRequest modifyOptionGroupRequest,
             final AsyncHandler<ModifyOptionGroupRequest, OptionGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
+        return submit(new Callable<OptionGroup>() {
             public OptionGroup call() throws Exception {
             	OptionGroup result;
                 try {
             		result = modifyOptionGroup(modifyOptionGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -528,7 +573,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> createDBInstanceAsync(final CreateDBInstanceRequest createDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return createDBInstance(createDBInstanceRequest);
 		    }
@@ -563,11 +608,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBInstanceRequest createDBInstanceRequest,
             final AsyncHandler<CreateDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = createDBInstance(createDBInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -607,7 +654,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ResetDBParameterGroupResult> resetDBParameterGroupAsync(final ResetDBParameterGroupRequest resetDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetDBParameterGroupResult>() {
+        return submit(new Callable<ResetDBParameterGroupResult>() {
             public ResetDBParameterGroupResult call() throws Exception {
                 return resetDBParameterGroup(resetDBParameterGroupRequest);
 		    }
@@ -650,11 +697,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ResetDBParameterGroupRequest resetDBParameterGroupRequest,
             final AsyncHandler<ResetDBParameterGroupRequest, ResetDBParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetDBParameterGroupResult>() {
+        return submit(new Callable<ResetDBParameterGroupResult>() {
             public ResetDBParameterGroupResult call() throws Exception {
             	ResetDBParameterGroupResult result;
                 try {
             		result = resetDBParameterGroup(resetDBParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -688,7 +737,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeReservedDBInstancesOfferingsResult> describeReservedDBInstancesOfferingsAsync(final DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
+        return submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
             public DescribeReservedDBInstancesOfferingsResult call() throws Exception {
                 return describeReservedDBInstancesOfferings(describeReservedDBInstancesOfferingsRequest);
 		    }
@@ -725,11 +774,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedDBInstancesOfferingsRequest, DescribeReservedDBInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
+        return submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
             public DescribeReservedDBInstancesOfferingsResult call() throws Exception {
             	DescribeReservedDBInstancesOfferingsResult result;
                 try {
             		result = describeReservedDBInstancesOfferings(describeReservedDBInstancesOfferingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -765,7 +816,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBSubnetGroupAsync(final DeleteDBSubnetGroupRequest deleteDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDBSubnetGroup(deleteDBSubnetGroupRequest);
                 return null;
@@ -805,10 +856,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBSubnetGroupRequest deleteDBSubnetGroupRequest,
             final AsyncHandler<DeleteDBSubnetGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteDBSubnetGroup(deleteDBSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -852,7 +905,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> modifyEventSubscriptionAsync(final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
                 return modifyEventSubscription(modifyEventSubscriptionRequest);
 		    }
@@ -899,11 +952,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest,
             final AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
             	EventSubscription result;
                 try {
             		result = modifyEventSubscription(modifyEventSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -936,7 +991,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> copyDBSnapshotAsync(final CopyDBSnapshotRequest copyDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return submit(new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
                 return copyDBSnapshot(copyDBSnapshotRequest);
 		    }
@@ -972,11 +1027,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CopyDBSnapshotRequest copyDBSnapshotRequest,
             final AsyncHandler<CopyDBSnapshotRequest, DBSnapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return submit(new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
             	DBSnapshot result;
                 try {
             		result = copyDBSnapshot(copyDBSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1031,7 +1088,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> createEventSubscriptionAsync(final CreateEventSubscriptionRequest createEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
                 return createEventSubscription(createEventSubscriptionRequest);
 		    }
@@ -1089,11 +1146,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateEventSubscriptionRequest createEventSubscriptionRequest,
             final AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
             	EventSubscription result;
                 try {
             		result = createEventSubscription(createEventSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1126,7 +1185,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSubnetGroup> createDBSubnetGroupAsync(final CreateDBSubnetGroupRequest createDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
+        return submit(new Callable<DBSubnetGroup>() {
             public DBSubnetGroup call() throws Exception {
                 return createDBSubnetGroup(createDBSubnetGroupRequest);
 		    }
@@ -1162,11 +1221,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBSubnetGroupRequest createDBSubnetGroupRequest,
             final AsyncHandler<CreateDBSubnetGroupRequest, DBSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
+        return submit(new Callable<DBSubnetGroup>() {
             public DBSubnetGroup call() throws Exception {
             	DBSubnetGroup result;
                 try {
             		result = createDBSubnetGroup(createDBSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1199,7 +1260,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> deleteEventSubscriptionAsync(final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
                 return deleteEventSubscription(deleteEventSubscriptionRequest);
 		    }
@@ -1235,11 +1296,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest,
             final AsyncHandler<DeleteEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
             	EventSubscription result;
                 try {
             		result = deleteEventSubscription(deleteEventSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1272,7 +1335,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBEngineVersionsResult> describeDBEngineVersionsAsync(final DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBEngineVersionsResult>() {
+        return submit(new Callable<DescribeDBEngineVersionsResult>() {
             public DescribeDBEngineVersionsResult call() throws Exception {
                 return describeDBEngineVersions(describeDBEngineVersionsRequest);
 		    }
@@ -1308,11 +1371,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest,
             final AsyncHandler<DescribeDBEngineVersionsRequest, DescribeDBEngineVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBEngineVersionsResult>() {
+        return submit(new Callable<DescribeDBEngineVersionsResult>() {
             public DescribeDBEngineVersionsResult call() throws Exception {
             	DescribeDBEngineVersionsResult result;
                 try {
             		result = describeDBEngineVersions(describeDBEngineVersionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1349,7 +1414,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> deleteDBInstanceAsync(final DeleteDBInstanceRequest deleteDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return deleteDBInstance(deleteDBInstanceRequest);
 		    }
@@ -1389,11 +1454,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBInstanceRequest deleteDBInstanceRequest,
             final AsyncHandler<DeleteDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = deleteDBInstance(deleteDBInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1425,7 +1492,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSnapshotsResult> describeDBSnapshotsAsync(final DescribeDBSnapshotsRequest describeDBSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSnapshotsResult>() {
+        return submit(new Callable<DescribeDBSnapshotsResult>() {
             public DescribeDBSnapshotsResult call() throws Exception {
                 return describeDBSnapshots(describeDBSnapshotsRequest);
 		    }
@@ -1460,11 +1527,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBSnapshotsRequest describeDBSnapshotsRequest,
             final AsyncHandler<DescribeDBSnapshotsRequest, DescribeDBSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSnapshotsResult>() {
+        return submit(new Callable<DescribeDBSnapshotsResult>() {
             public DescribeDBSnapshotsResult call() throws Exception {
             	DescribeDBSnapshotsResult result;
                 try {
             		result = describeDBSnapshots(describeDBSnapshotsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1496,7 +1565,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeOptionGroupsResult> describeOptionGroupsAsync(final DescribeOptionGroupsRequest describeOptionGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupsResult>() {
+        return submit(new Callable<DescribeOptionGroupsResult>() {
             public DescribeOptionGroupsResult call() throws Exception {
                 return describeOptionGroups(describeOptionGroupsRequest);
 		    }
@@ -1531,11 +1600,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeOptionGroupsRequest describeOptionGroupsRequest,
             final AsyncHandler<DescribeOptionGroupsRequest, DescribeOptionGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupsResult>() {
+        return submit(new Callable<DescribeOptionGroupsResult>() {
             public DescribeOptionGroupsResult call() throws Exception {
             	DescribeOptionGroupsResult result;
                 try {
             		result = describeOptionGroups(describeOptionGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1571,7 +1642,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> deleteDBSnapshotAsync(final DeleteDBSnapshotRequest deleteDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return submit(new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
                 return deleteDBSnapshot(deleteDBSnapshotRequest);
 		    }
@@ -1610,11 +1681,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBSnapshotRequest deleteDBSnapshotRequest,
             final AsyncHandler<DeleteDBSnapshotRequest, DBSnapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return submit(new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
             	DBSnapshot result;
                 try {
             		result = deleteDBSnapshot(deleteDBSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1656,7 +1729,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
                 return describeEvents(describeEventsRequest);
 		    }
@@ -1701,11 +1774,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
             	DescribeEventsResult result;
                 try {
             		result = describeEvents(describeEventsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1739,7 +1814,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> createDBSecurityGroupAsync(final CreateDBSecurityGroupRequest createDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return submit(new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
                 return createDBSecurityGroup(createDBSecurityGroupRequest);
 		    }
@@ -1776,11 +1851,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBSecurityGroupRequest createDBSecurityGroupRequest,
             final AsyncHandler<CreateDBSecurityGroupRequest, DBSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return submit(new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
             	DBSecurityGroup result;
                 try {
             		result = createDBSecurityGroup(createDBSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1819,7 +1896,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> restoreDBInstanceToPointInTimeAsync(final RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return restoreDBInstanceToPointInTime(restoreDBInstanceToPointInTimeRequest);
 		    }
@@ -1861,11 +1938,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest,
             final AsyncHandler<RestoreDBInstanceToPointInTimeRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = restoreDBInstanceToPointInTime(restoreDBInstanceToPointInTimeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1898,7 +1977,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBParametersResult> describeDBParametersAsync(final DescribeDBParametersRequest describeDBParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParametersResult>() {
+        return submit(new Callable<DescribeDBParametersResult>() {
             public DescribeDBParametersResult call() throws Exception {
                 return describeDBParameters(describeDBParametersRequest);
 		    }
@@ -1934,11 +2013,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBParametersRequest describeDBParametersRequest,
             final AsyncHandler<DescribeDBParametersRequest, DescribeDBParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParametersResult>() {
+        return submit(new Callable<DescribeDBParametersResult>() {
             public DescribeDBParametersResult call() throws Exception {
             	DescribeDBParametersResult result;
                 try {
             		result = describeDBParameters(describeDBParametersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1981,7 +2062,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBParameterGroup> createDBParameterGroupAsync(final CreateDBParameterGroupRequest createDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBParameterGroup>() {
+        return submit(new Callable<DBParameterGroup>() {
             public DBParameterGroup call() throws Exception {
                 return createDBParameterGroup(createDBParameterGroupRequest);
 		    }
@@ -2027,11 +2108,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBParameterGroupRequest createDBParameterGroupRequest,
             final AsyncHandler<CreateDBParameterGroupRequest, DBParameterGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBParameterGroup>() {
+        return submit(new Callable<DBParameterGroup>() {
             public DBParameterGroup call() throws Exception {
             	DBParameterGroup result;
                 try {
             		result = createDBParameterGroup(createDBParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2063,7 +2146,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> promoteReadReplicaAsync(final PromoteReadReplicaRequest promoteReadReplicaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return promoteReadReplica(promoteReadReplicaRequest);
 		    }
@@ -2098,11 +2181,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final PromoteReadReplicaRequest promoteReadReplicaRequest,
             final AsyncHandler<PromoteReadReplicaRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = promoteReadReplica(promoteReadReplicaRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2136,7 +2221,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> modifyDBInstanceAsync(final ModifyDBInstanceRequest modifyDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return modifyDBInstance(modifyDBInstanceRequest);
 		    }
@@ -2173,11 +2258,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyDBInstanceRequest modifyDBInstanceRequest,
             final AsyncHandler<ModifyDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = modifyDBInstance(modifyDBInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2217,7 +2304,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsAsync(final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
+        return submit(new Callable<DescribeDBSecurityGroupsResult>() {
             public DescribeDBSecurityGroupsResult call() throws Exception {
                 return describeDBSecurityGroups(describeDBSecurityGroupsRequest);
 		    }
@@ -2260,11 +2347,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest,
             final AsyncHandler<DescribeDBSecurityGroupsRequest, DescribeDBSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
+        return submit(new Callable<DescribeDBSecurityGroupsResult>() {
             public DescribeDBSecurityGroupsResult call() throws Exception {
             	DescribeDBSecurityGroupsResult result;
                 try {
             		result = describeDBSecurityGroups(describeDBSecurityGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2297,7 +2386,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBInstancesResult> describeDBInstancesAsync(final DescribeDBInstancesRequest describeDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBInstancesResult>() {
+        return submit(new Callable<DescribeDBInstancesResult>() {
             public DescribeDBInstancesResult call() throws Exception {
                 return describeDBInstances(describeDBInstancesRequest);
 		    }
@@ -2333,11 +2422,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBInstancesRequest describeDBInstancesRequest,
             final AsyncHandler<DescribeDBInstancesRequest, DescribeDBInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBInstancesResult>() {
+        return submit(new Callable<DescribeDBInstancesResult>() {
             public DescribeDBInstancesResult call() throws Exception {
             	DescribeDBInstancesResult result;
                 try {
             		result = describeDBInstances(describeDBInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2374,7 +2465,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(final ListTagsForResourceRequest listTagsForResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return submit(new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 return listTagsForResource(listTagsForResourceRequest);
 		    }
@@ -2414,11 +2505,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return submit(new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
             	ListTagsForResourceResult result;
                 try {
             		result = listTagsForResource(listTagsForResourceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2455,7 +2548,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> revokeDBSecurityGroupIngressAsync(final RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return submit(new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
                 return revokeDBSecurityGroupIngress(revokeDBSecurityGroupIngressRequest);
 		    }
@@ -2495,11 +2588,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest,
             final AsyncHandler<RevokeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return submit(new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
             	DBSecurityGroup result;
                 try {
             		result = revokeDBSecurityGroupIngress(revokeDBSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2533,7 +2628,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeReservedDBInstancesResult> describeReservedDBInstancesAsync(final DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesResult>() {
+        return submit(new Callable<DescribeReservedDBInstancesResult>() {
             public DescribeReservedDBInstancesResult call() throws Exception {
                 return describeReservedDBInstances(describeReservedDBInstancesRequest);
 		    }
@@ -2570,11 +2665,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest,
             final AsyncHandler<DescribeReservedDBInstancesRequest, DescribeReservedDBInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesResult>() {
+        return submit(new Callable<DescribeReservedDBInstancesResult>() {
             public DescribeReservedDBInstancesResult call() throws Exception {
             	DescribeReservedDBInstancesResult result;
                 try {
             		result = describeReservedDBInstances(describeReservedDBInstancesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2606,7 +2703,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<OptionGroup> createOptionGroupAsync(final CreateOptionGroupRequest createOptionGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
+        return submit(new Callable<OptionGroup>() {
             public OptionGroup call() throws Exception {
                 return createOptionGroup(createOptionGroupRequest);
 		    }
@@ -2641,11 +2738,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateOptionGroupRequest createOptionGroupRequest,
             final AsyncHandler<CreateOptionGroupRequest, OptionGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
+        return submit(new Callable<OptionGroup>() {
             public OptionGroup call() throws Exception {
             	OptionGroup result;
                 try {
             		result = createOptionGroup(createOptionGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2684,7 +2783,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> rebootDBInstanceAsync(final RebootDBInstanceRequest rebootDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return rebootDBInstance(rebootDBInstanceRequest);
 		    }
@@ -2726,11 +2825,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RebootDBInstanceRequest rebootDBInstanceRequest,
             final AsyncHandler<RebootDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = rebootDBInstance(rebootDBInstanceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2764,7 +2865,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ReservedDBInstance> purchaseReservedDBInstancesOfferingAsync(final PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedDBInstance>() {
+        return submit(new Callable<ReservedDBInstance>() {
             public ReservedDBInstance call() throws Exception {
                 return purchaseReservedDBInstancesOffering(purchaseReservedDBInstancesOfferingRequest);
 		    }
@@ -2801,11 +2902,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedDBInstancesOfferingRequest, ReservedDBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedDBInstance>() {
+        return submit(new Callable<ReservedDBInstance>() {
             public ReservedDBInstance call() throws Exception {
             	ReservedDBInstance result;
                 try {
             		result = purchaseReservedDBInstancesOffering(purchaseReservedDBInstancesOfferingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2843,7 +2946,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> removeTagsFromResourceAsync(final RemoveTagsFromResourceRequest removeTagsFromResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 removeTagsFromResource(removeTagsFromResourceRequest);
                 return null;
@@ -2885,10 +2988,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RemoveTagsFromResourceRequest removeTagsFromResourceRequest,
             final AsyncHandler<RemoveTagsFromResourceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		removeTagsFromResource(removeTagsFromResourceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2920,7 +3025,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteOptionGroupAsync(final DeleteOptionGroupRequest deleteOptionGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteOptionGroup(deleteOptionGroupRequest);
                 return null;
@@ -2956,10 +3061,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteOptionGroupRequest deleteOptionGroupRequest,
             final AsyncHandler<DeleteOptionGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteOptionGroup(deleteOptionGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2994,7 +3101,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> removeSourceIdentifierFromSubscriptionAsync(final RemoveSourceIdentifierFromSubscriptionRequest removeSourceIdentifierFromSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
                 return removeSourceIdentifierFromSubscription(removeSourceIdentifierFromSubscriptionRequest);
 		    }
@@ -3032,11 +3139,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RemoveSourceIdentifierFromSubscriptionRequest removeSourceIdentifierFromSubscriptionRequest,
             final AsyncHandler<RemoveSourceIdentifierFromSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
             	EventSubscription result;
                 try {
             		result = removeSourceIdentifierFromSubscription(removeSourceIdentifierFromSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3074,7 +3183,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBParameterGroupAsync(final DeleteDBParameterGroupRequest deleteDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDBParameterGroup(deleteDBParameterGroupRequest);
                 return null;
@@ -3116,10 +3225,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBParameterGroupRequest deleteDBParameterGroupRequest,
             final AsyncHandler<DeleteDBParameterGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteDBParameterGroup(deleteDBParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3156,7 +3267,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeEventCategoriesResult> describeEventCategoriesAsync(final DescribeEventCategoriesRequest describeEventCategoriesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventCategoriesResult>() {
+        return submit(new Callable<DescribeEventCategoriesResult>() {
             public DescribeEventCategoriesResult call() throws Exception {
                 return describeEventCategories(describeEventCategoriesRequest);
 		    }
@@ -3196,11 +3307,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEventCategoriesRequest describeEventCategoriesRequest,
             final AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventCategoriesResult>() {
+        return submit(new Callable<DescribeEventCategoriesResult>() {
             public DescribeEventCategoriesResult call() throws Exception {
             	DescribeEventCategoriesResult result;
                 try {
             		result = describeEventCategories(describeEventCategoriesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3240,7 +3353,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSubnetGroupsResult> describeDBSubnetGroupsAsync(final DescribeDBSubnetGroupsRequest describeDBSubnetGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSubnetGroupsResult>() {
+        return submit(new Callable<DescribeDBSubnetGroupsResult>() {
             public DescribeDBSubnetGroupsResult call() throws Exception {
                 return describeDBSubnetGroups(describeDBSubnetGroupsRequest);
 		    }
@@ -3283,11 +3396,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBSubnetGroupsRequest describeDBSubnetGroupsRequest,
             final AsyncHandler<DescribeDBSubnetGroupsRequest, DescribeDBSubnetGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSubnetGroupsResult>() {
+        return submit(new Callable<DescribeDBSubnetGroupsResult>() {
             public DescribeDBSubnetGroupsResult call() throws Exception {
             	DescribeDBSubnetGroupsResult result;
                 try {
             		result = describeDBSubnetGroups(describeDBSubnetGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3339,7 +3454,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> authorizeDBSecurityGroupIngressAsync(final AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return submit(new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
                 return authorizeDBSecurityGroupIngress(authorizeDBSecurityGroupIngressRequest);
 		    }
@@ -3394,11 +3509,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return submit(new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
             	DBSecurityGroup result;
                 try {
             		result = authorizeDBSecurityGroupIngress(authorizeDBSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3431,7 +3548,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSubnetGroup> modifyDBSubnetGroupAsync(final ModifyDBSubnetGroupRequest modifyDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
+        return submit(new Callable<DBSubnetGroup>() {
             public DBSubnetGroup call() throws Exception {
                 return modifyDBSubnetGroup(modifyDBSubnetGroupRequest);
 		    }
@@ -3467,11 +3584,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyDBSubnetGroupRequest modifyDBSubnetGroupRequest,
             final AsyncHandler<ModifyDBSubnetGroupRequest, DBSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
+        return submit(new Callable<DBSubnetGroup>() {
             public DBSubnetGroup call() throws Exception {
             	DBSubnetGroup result;
                 try {
             		result = modifyDBSubnetGroup(modifyDBSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3508,7 +3627,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBSecurityGroupAsync(final DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDBSecurityGroup(deleteDBSecurityGroupRequest);
                 return null;
@@ -3549,10 +3668,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest,
             final AsyncHandler<DeleteDBSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteDBSecurityGroup(deleteDBSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3587,7 +3708,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> addSourceIdentifierToSubscriptionAsync(final AddSourceIdentifierToSubscriptionRequest addSourceIdentifierToSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
                 return addSourceIdentifierToSubscription(addSourceIdentifierToSubscriptionRequest);
 		    }
@@ -3625,11 +3746,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final AddSourceIdentifierToSubscriptionRequest addSourceIdentifierToSubscriptionRequest,
             final AsyncHandler<AddSourceIdentifierToSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return submit(new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
             	EventSubscription result;
                 try {
             		result = addSourceIdentifierToSubscription(addSourceIdentifierToSubscriptionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3662,7 +3785,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeOptionGroupOptionsResult> describeOptionGroupOptionsAsync(final DescribeOptionGroupOptionsRequest describeOptionGroupOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupOptionsResult>() {
+        return submit(new Callable<DescribeOptionGroupOptionsResult>() {
             public DescribeOptionGroupOptionsResult call() throws Exception {
                 return describeOptionGroupOptions(describeOptionGroupOptionsRequest);
 		    }
@@ -3698,11 +3821,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeOptionGroupOptionsRequest describeOptionGroupOptionsRequest,
             final AsyncHandler<DescribeOptionGroupOptionsRequest, DescribeOptionGroupOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupOptionsResult>() {
+        return submit(new Callable<DescribeOptionGroupOptionsResult>() {
             public DescribeOptionGroupOptionsResult call() throws Exception {
             	DescribeOptionGroupOptionsResult result;
                 try {
             		result = describeOptionGroupOptions(describeOptionGroupOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3739,7 +3864,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> restoreDBInstanceFromDBSnapshotAsync(final RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
                 return restoreDBInstanceFromDBSnapshot(restoreDBInstanceFromDBSnapshotRequest);
 		    }
@@ -3779,11 +3904,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest,
             final AsyncHandler<RestoreDBInstanceFromDBSnapshotRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
             	DBInstance result;
                 try {
             		result = restoreDBInstanceFromDBSnapshot(restoreDBInstanceFromDBSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3826,7 +3953,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ModifyDBParameterGroupResult> modifyDBParameterGroupAsync(final ModifyDBParameterGroupRequest modifyDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyDBParameterGroupResult>() {
+        return submit(new Callable<ModifyDBParameterGroupResult>() {
             public ModifyDBParameterGroupResult call() throws Exception {
                 return modifyDBParameterGroup(modifyDBParameterGroupRequest);
 		    }
@@ -3872,11 +3999,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyDBParameterGroupRequest modifyDBParameterGroupRequest,
             final AsyncHandler<ModifyDBParameterGroupRequest, ModifyDBParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyDBParameterGroupResult>() {
+        return submit(new Callable<ModifyDBParameterGroupResult>() {
             public ModifyDBParameterGroupResult call() throws Exception {
             	ModifyDBParameterGroupResult result;
                 try {
             		result = modifyDBParameterGroup(modifyDBParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3914,7 +4043,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> addTagsToResourceAsync(final AddTagsToResourceRequest addTagsToResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 addTagsToResource(addTagsToResourceRequest);
                 return null;
@@ -3956,10 +4085,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final AddTagsToResourceRequest addTagsToResourceRequest,
             final AsyncHandler<AddTagsToResourceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		addTagsToResource(addTagsToResourceRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3992,7 +4123,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> createDBSnapshotAsync(final CreateDBSnapshotRequest createDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return submit(new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
                 return createDBSnapshot(createDBSnapshotRequest);
 		    }
@@ -4028,11 +4159,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBSnapshotRequest createDBSnapshotRequest,
             final AsyncHandler<CreateDBSnapshotRequest, DBSnapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return submit(new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
             	DBSnapshot result;
                 try {
             		result = createDBSnapshot(createDBSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4071,7 +4204,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeEventSubscriptionsResult> describeEventSubscriptionsAsync(final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventSubscriptionsResult>() {
+        return submit(new Callable<DescribeEventSubscriptionsResult>() {
             public DescribeEventSubscriptionsResult call() throws Exception {
                 return describeEventSubscriptions(describeEventSubscriptionsRequest);
 		    }
@@ -4113,11 +4246,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest,
             final AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventSubscriptionsResult>() {
+        return submit(new Callable<DescribeEventSubscriptionsResult>() {
             public DescribeEventSubscriptionsResult call() throws Exception {
             	DescribeEventSubscriptionsResult result;
                 try {
             		result = describeEventSubscriptions(describeEventSubscriptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4152,7 +4287,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeOrderableDBInstanceOptionsResult> describeOrderableDBInstanceOptionsAsync(final DescribeOrderableDBInstanceOptionsRequest describeOrderableDBInstanceOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableDBInstanceOptionsResult>() {
+        return submit(new Callable<DescribeOrderableDBInstanceOptionsResult>() {
             public DescribeOrderableDBInstanceOptionsResult call() throws Exception {
                 return describeOrderableDBInstanceOptions(describeOrderableDBInstanceOptionsRequest);
 		    }
@@ -4190,11 +4325,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeOrderableDBInstanceOptionsRequest describeOrderableDBInstanceOptionsRequest,
             final AsyncHandler<DescribeOrderableDBInstanceOptionsRequest, DescribeOrderableDBInstanceOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableDBInstanceOptionsResult>() {
+        return submit(new Callable<DescribeOrderableDBInstanceOptionsResult>() {
             public DescribeOrderableDBInstanceOptionsResult call() throws Exception {
             	DescribeOrderableDBInstanceOptionsResult result;
                 try {
             		result = describeOrderableDBInstanceOptions(describeOrderableDBInstanceOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4229,7 +4366,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EngineDefaults> describeEngineDefaultParametersAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
+        return submit(new Callable<EngineDefaults>() {
             public EngineDefaults call() throws Exception {
                 return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
 		    }
@@ -4267,11 +4404,13 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest,
             final AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
+        return submit(new Callable<EngineDefaults>() {
             public EngineDefaults call() throws Exception {
             	EngineDefaults result;
                 try {
             		result = describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -114,6 +116,8 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -303,6 +307,41 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -340,7 +379,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSubnetGroup> modifyClusterSubnetGroupAsync(final ModifyClusterSubnetGroupRequest modifyClusterSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
+        return submit(new Callable<ClusterSubnetGroup>() {
             public ClusterSubnetGroup call() throws Exception {
                 return modifyClusterSubnetGroup(modifyClusterSubnetGroupRequest);
 		    }
@@ -379,11 +418,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifyClusterSubnetGroupRequest modifyClusterSubnetGroupRequest,
             final AsyncHandler<ModifyClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
+        return submit(new Callable<ClusterSubnetGroup>() {
             public ClusterSubnetGroup call() throws Exception {
             	ClusterSubnetGroup result;
                 try {
             		result = modifyClusterSubnetGroup(modifyClusterSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -430,7 +471,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ReservedNode> purchaseReservedNodeOfferingAsync(final PurchaseReservedNodeOfferingRequest purchaseReservedNodeOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedNode>() {
+        return submit(new Callable<ReservedNode>() {
             public ReservedNode call() throws Exception {
                 return purchaseReservedNodeOffering(purchaseReservedNodeOfferingRequest);
 		    }
@@ -480,11 +521,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final PurchaseReservedNodeOfferingRequest purchaseReservedNodeOfferingRequest,
             final AsyncHandler<PurchaseReservedNodeOfferingRequest, ReservedNode> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedNode>() {
+        return submit(new Callable<ReservedNode>() {
             public ReservedNode call() throws Exception {
             	ReservedNode result;
                 try {
             		result = purchaseReservedNodeOffering(purchaseReservedNodeOfferingRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -532,7 +575,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> modifyClusterAsync(final ModifyClusterRequest modifyClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
                 return modifyCluster(modifyClusterRequest);
 		    }
@@ -583,11 +626,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifyClusterRequest modifyClusterRequest,
             final AsyncHandler<ModifyClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
             	Cluster result;
                 try {
             		result = modifyCluster(modifyClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -627,7 +672,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ModifyClusterParameterGroupResult> modifyClusterParameterGroupAsync(final ModifyClusterParameterGroupRequest modifyClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyClusterParameterGroupResult>() {
+        return submit(new Callable<ModifyClusterParameterGroupResult>() {
             public ModifyClusterParameterGroupResult call() throws Exception {
                 return modifyClusterParameterGroup(modifyClusterParameterGroupRequest);
 		    }
@@ -670,11 +715,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifyClusterParameterGroupRequest modifyClusterParameterGroupRequest,
             final AsyncHandler<ModifyClusterParameterGroupRequest, ModifyClusterParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyClusterParameterGroupResult>() {
+        return submit(new Callable<ModifyClusterParameterGroupResult>() {
             public ModifyClusterParameterGroupResult call() throws Exception {
             	ModifyClusterParameterGroupResult result;
                 try {
             		result = modifyClusterParameterGroup(modifyClusterParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -716,7 +763,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterSecurityGroupsResult> describeClusterSecurityGroupsAsync(final DescribeClusterSecurityGroupsRequest describeClusterSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSecurityGroupsResult>() {
+        return submit(new Callable<DescribeClusterSecurityGroupsResult>() {
             public DescribeClusterSecurityGroupsResult call() throws Exception {
                 return describeClusterSecurityGroups(describeClusterSecurityGroupsRequest);
 		    }
@@ -761,11 +808,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterSecurityGroupsRequest describeClusterSecurityGroupsRequest,
             final AsyncHandler<DescribeClusterSecurityGroupsRequest, DescribeClusterSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSecurityGroupsResult>() {
+        return submit(new Callable<DescribeClusterSecurityGroupsResult>() {
             public DescribeClusterSecurityGroupsResult call() throws Exception {
             	DescribeClusterSecurityGroupsResult result;
                 try {
             		result = describeClusterSecurityGroups(describeClusterSecurityGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -814,7 +863,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> copyClusterSnapshotAsync(final CopyClusterSnapshotRequest copyClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return submit(new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
                 return copyClusterSnapshot(copyClusterSnapshotRequest);
 		    }
@@ -866,11 +915,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CopyClusterSnapshotRequest copyClusterSnapshotRequest,
             final AsyncHandler<CopyClusterSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return submit(new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
             	Snapshot result;
                 try {
             		result = copyClusterSnapshot(copyClusterSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -914,7 +965,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeOrderableClusterOptionsResult> describeOrderableClusterOptionsAsync(final DescribeOrderableClusterOptionsRequest describeOrderableClusterOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableClusterOptionsResult>() {
+        return submit(new Callable<DescribeOrderableClusterOptionsResult>() {
             public DescribeOrderableClusterOptionsResult call() throws Exception {
                 return describeOrderableClusterOptions(describeOrderableClusterOptionsRequest);
 		    }
@@ -961,11 +1012,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeOrderableClusterOptionsRequest describeOrderableClusterOptionsRequest,
             final AsyncHandler<DescribeOrderableClusterOptionsRequest, DescribeOrderableClusterOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableClusterOptionsResult>() {
+        return submit(new Callable<DescribeOrderableClusterOptionsResult>() {
             public DescribeOrderableClusterOptionsResult call() throws Exception {
             	DescribeOrderableClusterOptionsResult result;
                 try {
             		result = describeOrderableClusterOptions(describeOrderableClusterOptionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1008,7 +1061,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSubnetGroup> createClusterSubnetGroupAsync(final CreateClusterSubnetGroupRequest createClusterSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
+        return submit(new Callable<ClusterSubnetGroup>() {
             public ClusterSubnetGroup call() throws Exception {
                 return createClusterSubnetGroup(createClusterSubnetGroupRequest);
 		    }
@@ -1054,11 +1107,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterSubnetGroupRequest createClusterSubnetGroupRequest,
             final AsyncHandler<CreateClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
+        return submit(new Callable<ClusterSubnetGroup>() {
             public ClusterSubnetGroup call() throws Exception {
             	ClusterSubnetGroup result;
                 try {
             		result = createClusterSubnetGroup(createClusterSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1098,7 +1153,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> rebootClusterAsync(final RebootClusterRequest rebootClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
                 return rebootCluster(rebootClusterRequest);
 		    }
@@ -1141,11 +1196,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RebootClusterRequest rebootClusterRequest,
             final AsyncHandler<RebootClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
             	Cluster result;
                 try {
             		result = rebootCluster(rebootClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1179,7 +1236,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteClusterSubnetGroupAsync(final DeleteClusterSubnetGroupRequest deleteClusterSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteClusterSubnetGroup(deleteClusterSubnetGroupRequest);
                 return null;
@@ -1217,10 +1274,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterSubnetGroupRequest deleteClusterSubnetGroupRequest,
             final AsyncHandler<DeleteClusterSubnetGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteClusterSubnetGroup(deleteClusterSubnetGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1257,7 +1316,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterSubnetGroupsResult> describeClusterSubnetGroupsAsync(final DescribeClusterSubnetGroupsRequest describeClusterSubnetGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSubnetGroupsResult>() {
+        return submit(new Callable<DescribeClusterSubnetGroupsResult>() {
             public DescribeClusterSubnetGroupsResult call() throws Exception {
                 return describeClusterSubnetGroups(describeClusterSubnetGroupsRequest);
 		    }
@@ -1297,11 +1356,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterSubnetGroupsRequest describeClusterSubnetGroupsRequest,
             final AsyncHandler<DescribeClusterSubnetGroupsRequest, DescribeClusterSubnetGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSubnetGroupsResult>() {
+        return submit(new Callable<DescribeClusterSubnetGroupsResult>() {
             public DescribeClusterSubnetGroupsResult call() throws Exception {
             	DescribeClusterSubnetGroupsResult result;
                 try {
             		result = describeClusterSubnetGroups(describeClusterSubnetGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1341,7 +1402,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> createClusterSnapshotAsync(final CreateClusterSnapshotRequest createClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return submit(new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
                 return createClusterSnapshot(createClusterSnapshotRequest);
 		    }
@@ -1384,11 +1445,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterSnapshotRequest createClusterSnapshotRequest,
             final AsyncHandler<CreateClusterSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return submit(new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
             	Snapshot result;
                 try {
             		result = createClusterSnapshot(createClusterSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1431,7 +1494,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> deleteClusterAsync(final DeleteClusterRequest deleteClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
                 return deleteCluster(deleteClusterRequest);
 		    }
@@ -1477,11 +1540,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterRequest deleteClusterRequest,
             final AsyncHandler<DeleteClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
             	Cluster result;
                 try {
             		result = deleteCluster(deleteClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1522,7 +1587,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> createClusterAsync(final CreateClusterRequest createClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
                 return createCluster(createClusterRequest);
 		    }
@@ -1566,11 +1631,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterRequest createClusterRequest,
             final AsyncHandler<CreateClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
             	Cluster result;
                 try {
             		result = createCluster(createClusterRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1610,7 +1677,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> deleteClusterSnapshotAsync(final DeleteClusterSnapshotRequest deleteClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return submit(new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
                 return deleteClusterSnapshot(deleteClusterSnapshotRequest);
 		    }
@@ -1653,11 +1720,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterSnapshotRequest deleteClusterSnapshotRequest,
             final AsyncHandler<DeleteClusterSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return submit(new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
             	Snapshot result;
                 try {
             		result = deleteClusterSnapshot(deleteClusterSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1695,7 +1764,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteClusterParameterGroupAsync(final DeleteClusterParameterGroupRequest deleteClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteClusterParameterGroup(deleteClusterParameterGroupRequest);
                 return null;
@@ -1737,10 +1806,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterParameterGroupRequest deleteClusterParameterGroupRequest,
             final AsyncHandler<DeleteClusterParameterGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteClusterParameterGroup(deleteClusterParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1797,7 +1868,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSecurityGroup> authorizeClusterSecurityGroupIngressAsync(final AuthorizeClusterSecurityGroupIngressRequest authorizeClusterSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return submit(new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
                 return authorizeClusterSecurityGroupIngress(authorizeClusterSecurityGroupIngressRequest);
 		    }
@@ -1857,11 +1928,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final AuthorizeClusterSecurityGroupIngressRequest authorizeClusterSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return submit(new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
             	ClusterSecurityGroup result;
                 try {
             		result = authorizeClusterSecurityGroupIngress(authorizeClusterSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1897,7 +1970,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
                 return describeEvents(describeEventsRequest);
 		    }
@@ -1936,11 +2009,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return submit(new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
             	DescribeEventsResult result;
                 try {
             		result = describeEvents(describeEventsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1984,7 +2059,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteClusterSecurityGroupAsync(final DeleteClusterSecurityGroupRequest deleteClusterSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteClusterSecurityGroup(deleteClusterSecurityGroupRequest);
                 return null;
@@ -2032,10 +2107,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterSecurityGroupRequest deleteClusterSecurityGroupRequest,
             final AsyncHandler<DeleteClusterSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteClusterSecurityGroup(deleteClusterSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2068,7 +2145,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeReservedNodesResult> describeReservedNodesAsync(final DescribeReservedNodesRequest describeReservedNodesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodesResult>() {
+        return submit(new Callable<DescribeReservedNodesResult>() {
             public DescribeReservedNodesResult call() throws Exception {
                 return describeReservedNodes(describeReservedNodesRequest);
 		    }
@@ -2104,11 +2181,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeReservedNodesRequest describeReservedNodesRequest,
             final AsyncHandler<DescribeReservedNodesRequest, DescribeReservedNodesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodesResult>() {
+        return submit(new Callable<DescribeReservedNodesResult>() {
             public DescribeReservedNodesResult call() throws Exception {
             	DescribeReservedNodesResult result;
                 try {
             		result = describeReservedNodes(describeReservedNodesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2146,7 +2225,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ResetClusterParameterGroupResult> resetClusterParameterGroupAsync(final ResetClusterParameterGroupRequest resetClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetClusterParameterGroupResult>() {
+        return submit(new Callable<ResetClusterParameterGroupResult>() {
             public ResetClusterParameterGroupResult call() throws Exception {
                 return resetClusterParameterGroup(resetClusterParameterGroupRequest);
 		    }
@@ -2187,11 +2266,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ResetClusterParameterGroupRequest resetClusterParameterGroupRequest,
             final AsyncHandler<ResetClusterParameterGroupRequest, ResetClusterParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetClusterParameterGroupResult>() {
+        return submit(new Callable<ResetClusterParameterGroupResult>() {
             public ResetClusterParameterGroupResult call() throws Exception {
             	ResetClusterParameterGroupResult result;
                 try {
             		result = resetClusterParameterGroup(resetClusterParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2232,7 +2313,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DefaultClusterParameters> describeDefaultClusterParametersAsync(final DescribeDefaultClusterParametersRequest describeDefaultClusterParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefaultClusterParameters>() {
+        return submit(new Callable<DefaultClusterParameters>() {
             public DefaultClusterParameters call() throws Exception {
                 return describeDefaultClusterParameters(describeDefaultClusterParametersRequest);
 		    }
@@ -2276,11 +2357,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeDefaultClusterParametersRequest describeDefaultClusterParametersRequest,
             final AsyncHandler<DescribeDefaultClusterParametersRequest, DefaultClusterParameters> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefaultClusterParameters>() {
+        return submit(new Callable<DefaultClusterParameters>() {
             public DefaultClusterParameters call() throws Exception {
             	DefaultClusterParameters result;
                 try {
             		result = describeDefaultClusterParameters(describeDefaultClusterParametersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2322,7 +2405,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSecurityGroup> createClusterSecurityGroupAsync(final CreateClusterSecurityGroupRequest createClusterSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return submit(new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
                 return createClusterSecurityGroup(createClusterSecurityGroupRequest);
 		    }
@@ -2367,11 +2450,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterSecurityGroupRequest createClusterSecurityGroupRequest,
             final AsyncHandler<CreateClusterSecurityGroupRequest, ClusterSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return submit(new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
             	ClusterSecurityGroup result;
                 try {
             		result = createClusterSecurityGroup(createClusterSecurityGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2419,7 +2504,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeReservedNodeOfferingsResult> describeReservedNodeOfferingsAsync(final DescribeReservedNodeOfferingsRequest describeReservedNodeOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodeOfferingsResult>() {
+        return submit(new Callable<DescribeReservedNodeOfferingsResult>() {
             public DescribeReservedNodeOfferingsResult call() throws Exception {
                 return describeReservedNodeOfferings(describeReservedNodeOfferingsRequest);
 		    }
@@ -2470,11 +2555,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeReservedNodeOfferingsRequest describeReservedNodeOfferingsRequest,
             final AsyncHandler<DescribeReservedNodeOfferingsRequest, DescribeReservedNodeOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodeOfferingsResult>() {
+        return submit(new Callable<DescribeReservedNodeOfferingsResult>() {
             public DescribeReservedNodeOfferingsResult call() throws Exception {
             	DescribeReservedNodeOfferingsResult result;
                 try {
             		result = describeReservedNodeOfferings(describeReservedNodeOfferingsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2514,7 +2601,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeResizeResult> describeResizeAsync(final DescribeResizeRequest describeResizeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResizeResult>() {
+        return submit(new Callable<DescribeResizeResult>() {
             public DescribeResizeResult call() throws Exception {
                 return describeResize(describeResizeRequest);
 		    }
@@ -2557,11 +2644,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeResizeRequest describeResizeRequest,
             final AsyncHandler<DescribeResizeRequest, DescribeResizeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResizeResult>() {
+        return submit(new Callable<DescribeResizeResult>() {
             public DescribeResizeResult call() throws Exception {
             	DescribeResizeResult result;
                 try {
             		result = describeResize(describeResizeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2600,7 +2689,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterVersionsResult> describeClusterVersionsAsync(final DescribeClusterVersionsRequest describeClusterVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterVersionsResult>() {
+        return submit(new Callable<DescribeClusterVersionsResult>() {
             public DescribeClusterVersionsResult call() throws Exception {
                 return describeClusterVersions(describeClusterVersionsRequest);
 		    }
@@ -2642,11 +2731,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterVersionsRequest describeClusterVersionsRequest,
             final AsyncHandler<DescribeClusterVersionsRequest, DescribeClusterVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterVersionsResult>() {
+        return submit(new Callable<DescribeClusterVersionsResult>() {
             public DescribeClusterVersionsResult call() throws Exception {
             	DescribeClusterVersionsResult result;
                 try {
             		result = describeClusterVersions(describeClusterVersionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2695,7 +2786,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterParametersResult> describeClusterParametersAsync(final DescribeClusterParametersRequest describeClusterParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParametersResult>() {
+        return submit(new Callable<DescribeClusterParametersResult>() {
             public DescribeClusterParametersResult call() throws Exception {
                 return describeClusterParameters(describeClusterParametersRequest);
 		    }
@@ -2747,11 +2838,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterParametersRequest describeClusterParametersRequest,
             final AsyncHandler<DescribeClusterParametersRequest, DescribeClusterParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParametersResult>() {
+        return submit(new Callable<DescribeClusterParametersResult>() {
             public DescribeClusterParametersResult call() throws Exception {
             	DescribeClusterParametersResult result;
                 try {
             		result = describeClusterParameters(describeClusterParametersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2792,7 +2885,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSecurityGroup> revokeClusterSecurityGroupIngressAsync(final RevokeClusterSecurityGroupIngressRequest revokeClusterSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return submit(new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
                 return revokeClusterSecurityGroupIngress(revokeClusterSecurityGroupIngressRequest);
 		    }
@@ -2836,11 +2929,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RevokeClusterSecurityGroupIngressRequest revokeClusterSecurityGroupIngressRequest,
             final AsyncHandler<RevokeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return submit(new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
             	ClusterSecurityGroup result;
                 try {
             		result = revokeClusterSecurityGroupIngress(revokeClusterSecurityGroupIngressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2880,7 +2975,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClustersResult> describeClustersAsync(final DescribeClustersRequest describeClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClustersResult>() {
+        return submit(new Callable<DescribeClustersResult>() {
             public DescribeClustersResult call() throws Exception {
                 return describeClusters(describeClustersRequest);
 		    }
@@ -2923,11 +3018,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClustersRequest describeClustersRequest,
             final AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClustersResult>() {
+        return submit(new Callable<DescribeClustersResult>() {
             public DescribeClustersResult call() throws Exception {
             	DescribeClustersResult result;
                 try {
             		result = describeClusters(describeClustersRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2963,7 +3060,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterSnapshotsResult> describeClusterSnapshotsAsync(final DescribeClusterSnapshotsRequest describeClusterSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSnapshotsResult>() {
+        return submit(new Callable<DescribeClusterSnapshotsResult>() {
             public DescribeClusterSnapshotsResult call() throws Exception {
                 return describeClusterSnapshots(describeClusterSnapshotsRequest);
 		    }
@@ -3002,11 +3099,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterSnapshotsRequest describeClusterSnapshotsRequest,
             final AsyncHandler<DescribeClusterSnapshotsRequest, DescribeClusterSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSnapshotsResult>() {
+        return submit(new Callable<DescribeClusterSnapshotsResult>() {
             public DescribeClusterSnapshotsResult call() throws Exception {
             	DescribeClusterSnapshotsResult result;
                 try {
             		result = describeClusterSnapshots(describeClusterSnapshotsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3055,7 +3154,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterParameterGroup> createClusterParameterGroupAsync(final CreateClusterParameterGroupRequest createClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterParameterGroup>() {
+        return submit(new Callable<ClusterParameterGroup>() {
             public ClusterParameterGroup call() throws Exception {
                 return createClusterParameterGroup(createClusterParameterGroupRequest);
 		    }
@@ -3107,11 +3206,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterParameterGroupRequest createClusterParameterGroupRequest,
             final AsyncHandler<CreateClusterParameterGroupRequest, ClusterParameterGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterParameterGroup>() {
+        return submit(new Callable<ClusterParameterGroup>() {
             public ClusterParameterGroup call() throws Exception {
             	ClusterParameterGroup result;
                 try {
             		result = createClusterParameterGroup(createClusterParameterGroupRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3156,7 +3257,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterParameterGroupsResult> describeClusterParameterGroupsAsync(final DescribeClusterParameterGroupsRequest describeClusterParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParameterGroupsResult>() {
+        return submit(new Callable<DescribeClusterParameterGroupsResult>() {
             public DescribeClusterParameterGroupsResult call() throws Exception {
                 return describeClusterParameterGroups(describeClusterParameterGroupsRequest);
 		    }
@@ -3204,11 +3305,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterParameterGroupsRequest describeClusterParameterGroupsRequest,
             final AsyncHandler<DescribeClusterParameterGroupsRequest, DescribeClusterParameterGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParameterGroupsResult>() {
+        return submit(new Callable<DescribeClusterParameterGroupsResult>() {
             public DescribeClusterParameterGroupsResult call() throws Exception {
             	DescribeClusterParameterGroupsResult result;
                 try {
             		result = describeClusterParameterGroups(describeClusterParameterGroupsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3260,7 +3363,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> restoreFromClusterSnapshotAsync(final RestoreFromClusterSnapshotRequest restoreFromClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
                 return restoreFromClusterSnapshot(restoreFromClusterSnapshotRequest);
 		    }
@@ -3315,11 +3418,13 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RestoreFromClusterSnapshotRequest restoreFromClusterSnapshotRequest,
             final AsyncHandler<RestoreFromClusterSnapshotRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return submit(new Callable<Cluster>() {
             public Cluster call() throws Exception {
             	Cluster result;
                 try {
             		result = restoreFromClusterSnapshot(restoreFromClusterSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -45,6 +47,8 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -234,6 +238,41 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -318,7 +357,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListResourceRecordSetsResult> listResourceRecordSetsAsync(final ListResourceRecordSetsRequest listResourceRecordSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListResourceRecordSetsResult>() {
+        return submit(new Callable<ListResourceRecordSetsResult>() {
             public ListResourceRecordSetsResult call() throws Exception {
                 return listResourceRecordSets(listResourceRecordSetsRequest);
 		    }
@@ -404,11 +443,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListResourceRecordSetsRequest listResourceRecordSetsRequest,
             final AsyncHandler<ListResourceRecordSetsRequest, ListResourceRecordSetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListResourceRecordSetsResult>() {
+        return submit(new Callable<ListResourceRecordSetsResult>() {
             public ListResourceRecordSetsResult call() throws Exception {
             	ListResourceRecordSetsResult result;
                 try {
             		result = listResourceRecordSets(listResourceRecordSetsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -482,7 +523,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ChangeResourceRecordSetsResult> changeResourceRecordSetsAsync(final ChangeResourceRecordSetsRequest changeResourceRecordSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeResourceRecordSetsResult>() {
+        return submit(new Callable<ChangeResourceRecordSetsResult>() {
             public ChangeResourceRecordSetsResult call() throws Exception {
                 return changeResourceRecordSets(changeResourceRecordSetsRequest);
 		    }
@@ -559,11 +600,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ChangeResourceRecordSetsRequest changeResourceRecordSetsRequest,
             final AsyncHandler<ChangeResourceRecordSetsRequest, ChangeResourceRecordSetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeResourceRecordSetsResult>() {
+        return submit(new Callable<ChangeResourceRecordSetsResult>() {
             public ChangeResourceRecordSetsResult call() throws Exception {
             	ChangeResourceRecordSetsResult result;
                 try {
             		result = changeResourceRecordSets(changeResourceRecordSetsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -618,7 +661,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<CreateHostedZoneResult> createHostedZoneAsync(final CreateHostedZoneRequest createHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHostedZoneResult>() {
+        return submit(new Callable<CreateHostedZoneResult>() {
             public CreateHostedZoneResult call() throws Exception {
                 return createHostedZone(createHostedZoneRequest);
 		    }
@@ -676,11 +719,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final CreateHostedZoneRequest createHostedZoneRequest,
             final AsyncHandler<CreateHostedZoneRequest, CreateHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHostedZoneResult>() {
+        return submit(new Callable<CreateHostedZoneResult>() {
             public CreateHostedZoneResult call() throws Exception {
             	CreateHostedZoneResult result;
                 try {
             		result = createHostedZone(createHostedZoneRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -713,7 +758,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHealthCheckResult> getHealthCheckAsync(final GetHealthCheckRequest getHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckResult>() {
+        return submit(new Callable<GetHealthCheckResult>() {
             public GetHealthCheckResult call() throws Exception {
                 return getHealthCheck(getHealthCheckRequest);
 		    }
@@ -749,11 +794,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetHealthCheckRequest getHealthCheckRequest,
             final AsyncHandler<GetHealthCheckRequest, GetHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckResult>() {
+        return submit(new Callable<GetHealthCheckResult>() {
             public GetHealthCheckResult call() throws Exception {
             	GetHealthCheckResult result;
                 try {
             		result = getHealthCheck(getHealthCheckRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -793,7 +840,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<CreateHealthCheckResult> createHealthCheckAsync(final CreateHealthCheckRequest createHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHealthCheckResult>() {
+        return submit(new Callable<CreateHealthCheckResult>() {
             public CreateHealthCheckResult call() throws Exception {
                 return createHealthCheck(createHealthCheckRequest);
 		    }
@@ -836,11 +883,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final CreateHealthCheckRequest createHealthCheckRequest,
             final AsyncHandler<CreateHealthCheckRequest, CreateHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHealthCheckResult>() {
+        return submit(new Callable<CreateHealthCheckResult>() {
             public CreateHealthCheckResult call() throws Exception {
             	CreateHealthCheckResult result;
                 try {
             		result = createHealthCheck(createHealthCheckRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -882,7 +931,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetChangeResult> getChangeAsync(final GetChangeRequest getChangeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetChangeResult>() {
+        return submit(new Callable<GetChangeResult>() {
             public GetChangeResult call() throws Exception {
                 return getChange(getChangeRequest);
 		    }
@@ -927,11 +976,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetChangeRequest getChangeRequest,
             final AsyncHandler<GetChangeRequest, GetChangeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetChangeResult>() {
+        return submit(new Callable<GetChangeResult>() {
             public GetChangeResult call() throws Exception {
             	GetChangeResult result;
                 try {
             		result = getChange(getChangeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -975,7 +1026,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<DeleteHealthCheckResult> deleteHealthCheckAsync(final DeleteHealthCheckRequest deleteHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHealthCheckResult>() {
+        return submit(new Callable<DeleteHealthCheckResult>() {
             public DeleteHealthCheckResult call() throws Exception {
                 return deleteHealthCheck(deleteHealthCheckRequest);
 		    }
@@ -1022,11 +1073,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final DeleteHealthCheckRequest deleteHealthCheckRequest,
             final AsyncHandler<DeleteHealthCheckRequest, DeleteHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHealthCheckResult>() {
+        return submit(new Callable<DeleteHealthCheckResult>() {
             public DeleteHealthCheckResult call() throws Exception {
             	DeleteHealthCheckResult result;
                 try {
             		result = deleteHealthCheck(deleteHealthCheckRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1061,7 +1114,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHostedZoneResult> getHostedZoneAsync(final GetHostedZoneRequest getHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostedZoneResult>() {
+        return submit(new Callable<GetHostedZoneResult>() {
             public GetHostedZoneResult call() throws Exception {
                 return getHostedZone(getHostedZoneRequest);
 		    }
@@ -1099,11 +1152,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetHostedZoneRequest getHostedZoneRequest,
             final AsyncHandler<GetHostedZoneRequest, GetHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostedZoneResult>() {
+        return submit(new Callable<GetHostedZoneResult>() {
             public GetHostedZoneResult call() throws Exception {
             	GetHostedZoneResult result;
                 try {
             		result = getHostedZone(getHostedZoneRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1147,7 +1202,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListHostedZonesResult> listHostedZonesAsync(final ListHostedZonesRequest listHostedZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHostedZonesResult>() {
+        return submit(new Callable<ListHostedZonesResult>() {
             public ListHostedZonesResult call() throws Exception {
                 return listHostedZones(listHostedZonesRequest);
 		    }
@@ -1194,11 +1249,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListHostedZonesRequest listHostedZonesRequest,
             final AsyncHandler<ListHostedZonesRequest, ListHostedZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHostedZonesResult>() {
+        return submit(new Callable<ListHostedZonesResult>() {
             public ListHostedZonesResult call() throws Exception {
             	ListHostedZonesResult result;
                 try {
             		result = listHostedZones(listHostedZonesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1248,7 +1305,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<DeleteHostedZoneResult> deleteHostedZoneAsync(final DeleteHostedZoneRequest deleteHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHostedZoneResult>() {
+        return submit(new Callable<DeleteHostedZoneResult>() {
             public DeleteHostedZoneResult call() throws Exception {
                 return deleteHostedZone(deleteHostedZoneRequest);
 		    }
@@ -1301,11 +1358,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final DeleteHostedZoneRequest deleteHostedZoneRequest,
             final AsyncHandler<DeleteHostedZoneRequest, DeleteHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHostedZoneResult>() {
+        return submit(new Callable<DeleteHostedZoneResult>() {
             public DeleteHostedZoneResult call() throws Exception {
             	DeleteHostedZoneResult result;
                 try {
             		result = deleteHostedZone(deleteHostedZoneRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1349,7 +1408,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListHealthChecksResult> listHealthChecksAsync(final ListHealthChecksRequest listHealthChecksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHealthChecksResult>() {
+        return submit(new Callable<ListHealthChecksResult>() {
             public ListHealthChecksResult call() throws Exception {
                 return listHealthChecks(listHealthChecksRequest);
 		    }
@@ -1396,11 +1455,13 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListHealthChecksRequest listHealthChecksRequest,
             final AsyncHandler<ListHealthChecksRequest, ListHealthChecksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHealthChecksResult>() {
+        return submit(new Callable<ListHealthChecksResult>() {
             public ListHealthChecksResult call() throws Exception {
             	ListHealthChecksResult result;
                 try {
             		result = listHealthChecks(listHealthChecksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -16,7 +16,6 @@ package com.amazonaws.services.s3;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.URI;
@@ -80,6 +79,7 @@ import com.amazonaws.services.s3.internal.S3VersionHeaderHandler;
 import com.amazonaws.services.s3.internal.S3XmlResponseHandler;
 import com.amazonaws.services.s3.internal.ServerSideEncryptionHeaderHandler;
 import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.internal.StreamMultipartUploader;
 import com.amazonaws.services.s3.internal.XmlWriter;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AccessControlList;
@@ -162,6 +162,7 @@ import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser.CompleteM
 import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser.CopyObjectResultHandler;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.ByteArrayContentInputStream;
 import com.amazonaws.util.Md5Utils;
 
 /**
@@ -337,6 +338,15 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 "/com/amazonaws/services/s3/request.handlers"));
     }
 
+    /**
+     * Returns whether {@link #putObject(PutObjectRequest)} may upload a stream
+     * of unknown length as a multipart upload. Clients whose multipart
+     * operations transform the uploaded content have it buffered instead.
+     */
+    boolean isUnknownLengthMultipartUploadSupported() {
+        return true;
+    }
+
     /**
      * <p>
      * Override the default S3 client options for this client.
@@ -1033,18 +1043,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
             }
 
-            FileInputStream fileInputStream = null;
-            try {
-                fileInputStream = new FileInputStream(file);
-                byte[] md5Hash = Md5Utils.computeMD5Hash(fileInputStream);
-                metadata.setContentMD5(BinaryUtils.toBase64(md5Hash));
-            } catch (Exception e) {
-                throw new AmazonClientException(
-                        "Unable to calculate MD5 hash: " + e.getMessage(), e);
-            } finally {
-                try {fileInputStream.close();} catch (Exception e) {}
-            }
-
+            /*
+             * Unless the caller supplied the content MD5, it is calculated
+             * while the file is sent and checked against the returned ETag
+             * below, rather than by reading the whole file an extra time
+             * before sending it.
+             */
             try {
                 input = new RepeatableFileInputStream(file);
             } catch (FileNotFoundException fnfe) {
@@ -1072,6 +1076,32 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
 
         // Use internal interface to differentiate 0 from unset.
+        if (metadata.getRawMetadata().get(Headers.CONTENT_LENGTH) == null && input != null
+                && metadata.getContentMD5() == null && clientOptions.getUnknownLengthPartSize() > 0 && isUnknownLengthMultipartUploadSupported()) {
+            /*
+             * Read the stream one part at a time instead of letting the HTTP
+             * client buffer all of it. A stream ending within the first part
+             * is sent in one request, larger ones as a multipart upload.
+             */
+            int partSize = clientOptions.getUnknownLengthPartSize();
+            byte[] firstPart = StreamMultipartUploader.readFirstPart(input, partSize);
+            if (firstPart.length == partSize) {
+                try {
+                    return new StreamMultipartUploader(this, partSize, clientOptions.getUnknownLengthUploadConcurrency())
+                            .upload(putObjectRequest, metadata, firstPart, input);
+                } finally {
+                    try {input.close();} catch (Exception e) {
+                        log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+                    }
+                }
+            }
+            try {input.close();} catch (Exception e) {
+                log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+            }
+            metadata.setContentLength(firstPart.length);
+            input = new ByteArrayContentInputStream(firstPart, 0, firstPart.length);
+        }
+
         if (metadata.getRawMetadata().get(Headers.CONTENT_LENGTH) == null) {
             /*
              * There's nothing we can do except for let the HTTP client buffer
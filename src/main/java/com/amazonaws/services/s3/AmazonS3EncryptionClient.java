@@ -385,6 +385,15 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
         this.cryptoConfig = cryptoConfig;
     }
     
+    /**
+     * The stream passed on to the superclass is already encrypted, so it must
+     * not go through the encrypting multipart operations of this client.
+     */
+    @Override
+    boolean isUnknownLengthMultipartUploadSupported() {
+        return false;
+    }
+
     /* (non-Javadoc)
      * @see com.amazonaws.services.s3.AmazonS3#putObject(com.amazonaws.services.s3.model.PutObjectRequest)
      */
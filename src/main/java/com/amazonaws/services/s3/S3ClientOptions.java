@@ -22,13 +22,30 @@ public class S3ClientOptions {
     /** The default setting for use of path-style access */
     public static final boolean DEFAULT_PATH_STYLE_ACCESS = false;
 
+    /** The default part size of uploads of streams of unknown length */
+    public static final int DEFAULT_UNKNOWN_LENGTH_PART_SIZE = 8 * 1024 * 1024;
+
+    /** The minimum part size of uploads of streams of unknown length, the minimum part size of Amazon S3 */
+    public static final int MINIMUM_UNKNOWN_LENGTH_PART_SIZE = 5 * 1024 * 1024;
+
+    /** The default number of parts of a stream of unknown length uploaded at once */
+    public static final int DEFAULT_UNKNOWN_LENGTH_UPLOAD_CONCURRENCY = 1;
+
     /** Flag for use of path-style access */
     private boolean pathStyleAccess = DEFAULT_PATH_STYLE_ACCESS;
 
+    /** Part size of uploads of streams of unknown length; 0 to buffer them */
+    private int unknownLengthPartSize = DEFAULT_UNKNOWN_LENGTH_PART_SIZE;
+
+    /** Number of parts of a stream of unknown length uploaded at once */
+    private int unknownLengthUploadConcurrency = DEFAULT_UNKNOWN_LENGTH_UPLOAD_CONCURRENCY;
+
     public S3ClientOptions() {}
 
     public S3ClientOptions( S3ClientOptions other ) {
         this.pathStyleAccess = other.pathStyleAccess;
+        this.unknownLengthPartSize = other.unknownLengthPartSize;
+        this.unknownLengthUploadConcurrency = other.unknownLengthUploadConcurrency;
     }
 
     /**
@@ -103,4 +120,104 @@ public class S3ClientOptions {
       return this;
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the part size, in bytes, used when putting an object from a
+     * stream whose content length isn't set.
+     * <p>
+     * Such a stream is read into a buffer of this size. If it ends within the
+     * buffer, the object is uploaded with a single request. Otherwise it is
+     * uploaded as a multipart upload, one part of this size at a time, so that
+     * the stream never has to be held in memory as a whole.
+     *
+     * @return The part size of uploads of streams of unknown length, or 0 if
+     *         such streams are buffered in memory entirely.
+     */
+    public int getUnknownLengthPartSize() {
+        return unknownLengthPartSize;
+    }
+
+    /**
+     * Sets the part size, in bytes, used when putting an object from a
+     * stream whose content length isn't set. The part size must be at least
+     * the 5 MB minimum part size of Amazon S3, and a multipart upload has at
+     * most 10,000 parts, so the part size also limits the size of the largest
+     * stream that can be uploaded.
+     *
+     * @param unknownLengthPartSize
+     *            The part size of uploads of streams of unknown length, or 0
+     *            to buffer such streams in memory entirely before sending
+     *            them in a single request.
+     *
+     * @throws IllegalArgumentException
+     *             If the part size is neither 0 nor at least
+     *             {@link #MINIMUM_UNKNOWN_LENGTH_PART_SIZE}.
+     */
+    public void setUnknownLengthPartSize(int unknownLengthPartSize) {
+        if (unknownLengthPartSize != 0 && unknownLengthPartSize < MINIMUM_UNKNOWN_LENGTH_PART_SIZE) {
+            throw new IllegalArgumentException("The unknown length part size must be 0 or at least "
+                    + MINIMUM_UNKNOWN_LENGTH_PART_SIZE + " bytes, but was " + unknownLengthPartSize);
+        }
+        this.unknownLengthPartSize = unknownLengthPartSize;
+    }
+
+    /**
+     * Sets the part size, in bytes, used when putting an object from a
+     * stream whose content length isn't set.
+     *
+     * @param unknownLengthPartSize
+     *            The part size of uploads of streams of unknown length, or 0
+     *            to buffer such streams in memory entirely before sending
+     *            them in a single request.
+     *
+     * @return The updated S3ClientOptions object.
+     * @see #setUnknownLengthPartSize(int)
+     */
+    public S3ClientOptions withUnknownLengthPartSize(int unknownLengthPartSize) {
+        setUnknownLengthPartSize(unknownLengthPartSize);
+        return this;
+    }
+
+    /**
+     * Returns the number of parts of a stream of unknown length that are
+     * uploaded at once. Each part being uploaded holds a buffer of the
+     * unknown length part size, so an upload takes at most the part size
+     * times this number of bytes of memory. With 1, the default, the parts
+     * are uploaded one after another on the calling thread.
+     *
+     * @return The number of parts of a stream of unknown length uploaded at
+     *         once.
+     */
+    public int getUnknownLengthUploadConcurrency() {
+        return unknownLengthUploadConcurrency;
+    }
+
+    /**
+     * Sets the number of parts of a stream of unknown length that are
+     * uploaded at once. Each part being uploaded holds a buffer of the
+     * unknown length part size, so an upload takes at most the part size
+     * times this number of bytes of memory.
+     *
+     * @param unknownLengthUploadConcurrency
+     *            The number of parts of a stream of unknown length uploaded at
+     *            once.
+     */
+    public void setUnknownLengthUploadConcurrency(int unknownLengthUploadConcurrency) {
+        this.unknownLengthUploadConcurrency = unknownLengthUploadConcurrency;
+    }
+
+    /**
+     * Sets the number of parts of a stream of unknown length that are
+     * uploaded at once.
+     *
+     * @param unknownLengthUploadConcurrency
+     *            The number of parts of a stream of unknown length uploaded at
+     *            once.
+     *
+     * @return The updated S3ClientOptions object.
+     * @see #setUnknownLengthUploadConcurrency(int)
+     */
+    public S3ClientOptions withUnknownLengthUploadConcurrency(int unknownLengthUploadConcurrency) {
+        setUnknownLengthUploadConcurrency(unknownLengthUploadConcurrency);
+        return this;
+    }
+}
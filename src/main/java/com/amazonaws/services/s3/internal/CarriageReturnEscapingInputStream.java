@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Filtered input stream that replaces every carriage return (\r) in a UTF-8
+ * encoded XML document with the explicit character entity "&amp;#013;" as the
+ * document is read, to prevent SAX parsers from misinterpreting 0x0D
+ * characters as 0x0A and being unable to parse the XML.
+ * <p>
+ * In UTF-8 the byte 0x0D only ever encodes a carriage return, so the
+ * replacement is done on raw bytes without decoding the document, and the
+ * document is never held in memory beyond a small read buffer.
+ */
+public class CarriageReturnEscapingInputStream extends FilterInputStream {
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = { '&', '#', '0', '1', '3', ';' };
+
+    /**
+     * Position of the next byte of a partially returned replacement entity,
+     * or ESCAPED_CARRIAGE_RETURN.length if there is none pending.
+     */
+    private int pendingEscapePosition = ESCAPED_CARRIAGE_RETURN.length;
+
+    /** Bytes read from the wrapped stream but not yet returned */
+    private final byte[] buffer = new byte[8192];
+    private int bufferPosition;
+    private int bufferLimit;
+
+    /**
+     * Constructs a new stream that escapes carriage returns in the specified
+     * UTF-8 encoded stream.
+     *
+     * @param in
+     *            The UTF-8 encoded XML document to escape.
+     */
+    public CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int bytesRead = read(b, 0, 1);
+
+        if (bytesRead == -1) return bytesRead;
+        return b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+
+        int count = 0;
+        while (count < len) {
+            if (pendingEscapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[pendingEscapePosition++];
+                continue;
+            }
+
+            if (bufferPosition == bufferLimit) {
+                // Only block on the wrapped stream if nothing has been returned yet
+                if (count > 0) break;
+                int bytesRead = in.read(buffer, 0, buffer.length);
+                if (bytesRead == -1) return -1;
+                bufferPosition = 0;
+                bufferLimit = bytesRead;
+                continue;
+            }
+
+            byte next = buffer[bufferPosition++];
+            if (next == CARRIAGE_RETURN) {
+                pendingEscapePosition = 0;
+            } else {
+                b[off + count++] = next;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && read() != -1) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (ESCAPED_CARRIAGE_RETURN.length - pendingEscapePosition)
+            + (bufferLimit - bufferPosition) + in.available();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {}
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
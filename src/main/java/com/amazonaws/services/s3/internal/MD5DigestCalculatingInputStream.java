@@ -14,17 +14,21 @@
  */
 package com.amazonaws.services.s3.internal;
 
-import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
+import com.amazonaws.util.WritableContentFilterInputStream;
+
 /**
  * Simple InputStream wrapper that examines the wrapped stream's contents as
- * they are read and calculates and MD5 digest.
+ * they are read, or written out by the HTTP client, and calculates and MD5
+ * digest.
  */
-public class MD5DigestCalculatingInputStream extends FilterInputStream {
+public class MD5DigestCalculatingInputStream extends WritableContentFilterInputStream {
     
     /** The MD5 message digest being calculated by this input stream */
     private MessageDigest digest;
@@ -84,4 +88,21 @@ public class MD5DigestCalculatingInputStream extends FilterInputStream {
         return result;
     }
 
+    @Override
+    protected OutputStream wrapOutput(OutputStream output) {
+        return new FilterOutputStream(output) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                digest.update((byte)b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                digest.update(b, off, len);
+            }
+        };
+    }
+
 }
@@ -14,18 +14,20 @@
  */
 package com.amazonaws.services.s3.internal;
 
-import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import com.amazonaws.services.s3.model.ProgressEvent;
 import com.amazonaws.services.s3.model.ProgressListener;
+import com.amazonaws.util.WritableContentFilterInputStream;
 
 /**
  * Simple InputStream wrapper that occasionally notifies a progress listener
  * about the number of bytes transfered.
  */
-public class ProgressReportingInputStream extends FilterInputStream {
+public class ProgressReportingInputStream extends WritableContentFilterInputStream {
 
     /** The threshold of bytes between notifications. */
     private static final int NOTIFICATION_THRESHOLD = 8 * Constants.KB;
@@ -96,6 +98,23 @@ public class ProgressReportingInputStream extends FilterInputStream {
         return bytesRead;
     }
 
+    @Override
+    protected OutputStream wrapOutput(OutputStream output) {
+        return new FilterOutputStream(output) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                ProgressReportingInputStream.this.notify(1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                ProgressReportingInputStream.this.notify(len);
+            }
+        };
+    }
+
     @Override
     public void close() throws IOException {
         if (unnotifiedByteCount > 0) {
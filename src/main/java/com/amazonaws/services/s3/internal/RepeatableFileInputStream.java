@@ -22,17 +22,28 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.util.WritableContent;
+
 /**
  * A repeatable input stream for files. This input stream can be repeated an
  * unlimited number of times, without any limitation on when a repeat can occur.
+ * <p>
+ * When the HTTP client sends the file, it is read straight from its channel
+ * in large chunks rather than through the client's small copy buffer.
  */
-public class RepeatableFileInputStream extends InputStream {
+public class RepeatableFileInputStream extends InputStream implements WritableContent {
     private static final Log log = LogFactory.getLog(RepeatableFileInputStream.class);
 
+    /** Size of the chunks the file is read in when written out */
+    private static final int WRITE_BUFFER_SIZE = Constants.DEFAULT_STREAM_BUFFER_SIZE;
+
     private File file = null;
     private FileInputStream fis = null;
     private long bytesReadPastMarkPoint = 0;
@@ -142,6 +153,28 @@ public class RepeatableFileInputStream extends InputStream {
         return count;
     }
 
+    /**
+     * Reads the file through its channel, which shares its position with the
+     * file input stream, so mark and reset work as when the file is read.
+     *
+     * @see com.amazonaws.util.WritableContent#writeContentTo(java.io.OutputStream, long)
+     */
+    public long writeContentTo(OutputStream output, long length) throws IOException {
+        FileChannel channel = fis.getChannel();
+        ByteBuffer buffer = ByteBuffer.allocate((int)Math.max(1, Math.min(WRITE_BUFFER_SIZE, length)));
+        long written = 0;
+        while (written < length) {
+            buffer.clear();
+            buffer.limit((int)Math.min(buffer.capacity(), length - written));
+            int count = channel.read(buffer);
+            if (count == -1) break;
+            output.write(buffer.array(), 0, count);
+            written += count;
+            bytesReadPastMarkPoint += count;
+        }
+        return written;
+    }
+
     public InputStream getWrappedInputStream() {
         return this.fis;
     }
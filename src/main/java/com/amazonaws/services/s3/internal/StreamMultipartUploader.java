@@ -0,0 +1,312 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.ProgressEvent;
+import com.amazonaws.services.s3.model.ProgressListener;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.StorageClass;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.util.ByteArrayContentInputStream;
+
+/**
+ * Uploads a stream of unknown length as a multipart upload, so that it
+ * doesn't have to be buffered in memory as a whole to learn its length.
+ * <p>
+ * The stream is read into part sized buffers which are reused once their
+ * part is uploaded. At most {@code concurrency} buffers exist, and as many
+ * parts are uploaded at once, so the upload takes at most
+ * {@code partSize * concurrency} bytes of memory.
+ */
+public class StreamMultipartUploader {
+
+    private static final Log log = LogFactory.getLog(StreamMultipartUploader.class);
+
+    /** The maximum number of parts of a multipart upload */
+    private static final int MAXIMUM_PARTS = 10000;
+
+    /** The size the buffer reading the first part starts at */
+    private static final int INITIAL_FIRST_PART_BUFFER_SIZE = 16 * 1024;
+
+    private final AmazonS3 s3;
+
+    private final int partSize;
+
+    private final int concurrency;
+
+    /**
+     * @param s3
+     *            the client to upload with
+     * @param partSize
+     *            the size of the parts; at least the minimum part size
+     *            allowed by Amazon S3
+     * @param concurrency
+     *            the number of parts uploaded at once; 1 uploads the parts
+     *            one after another on the calling thread
+     */
+    public StreamMultipartUploader(AmazonS3 s3, int partSize, int concurrency) {
+        this.s3 = s3;
+        this.partSize = partSize;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Reads the first part of a stream, in a buffer growing up to the part
+     * size, so that short streams don't take a whole part of memory.
+     *
+     * @return the part, as long as the part size if the stream didn't end
+     *         within it, or holding the whole stream otherwise
+     */
+    public static byte[] readFirstPart(InputStream input, int partSize) {
+        byte[] buffer = new byte[Math.min(partSize, INITIAL_FIRST_PART_BUFFER_SIZE)];
+        int length = readPart(input, buffer, 0);
+        while (length == buffer.length && buffer.length < partSize) {
+            buffer = Arrays.copyOf(buffer, (int)Math.min(partSize, 2L * buffer.length));
+            length = readPart(input, buffer, length);
+        }
+        return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Reads the input stream given into the buffer given from the offset
+     * given, until the buffer is full or the stream ends.
+     *
+     * @return the number of bytes in the buffer
+     */
+    private static int readPart(InputStream input, byte[] buffer, int offset) {
+        int length = offset;
+        try {
+            while (length < buffer.length) {
+                int bytesRead = input.read(buffer, length, buffer.length - length);
+                if (bytesRead == -1) break;
+                length += bytesRead;
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to read stream to upload: " + e.getMessage(), e);
+        }
+        return length;
+    }
+
+    /**
+     * Uploads the stream of the request as the object of the request.
+     *
+     * @param metadata
+     *            the metadata of the object
+     * @param firstPart
+     *            a full first part, already read from the stream with
+     *            {@link #readFirstPart(InputStream, int)}
+     * @param input
+     *            the rest of the stream
+     */
+    public PutObjectResult upload(PutObjectRequest putObjectRequest, ObjectMetadata metadata, byte[] firstPart,
+            InputStream input) {
+        final String bucketName = putObjectRequest.getBucketName();
+        final String key = putObjectRequest.getKey();
+        ProgressListener progressListener = putObjectRequest.getProgressListener();
+        fireProgressEvent(progressListener, ProgressEvent.STARTED_EVENT_CODE);
+
+        String uploadId = initiateMultipartUpload(putObjectRequest, metadata);
+        ExecutorService threadPool = concurrency > 1 ? Executors.newFixedThreadPool(concurrency, new UploadThreadFactory()) : null;
+        try {
+            BlockingQueue<byte[]> freeBuffers = new LinkedBlockingQueue<byte[]>();
+            int allocatedBuffers = 1;
+            List<Future<PartETag>> futures = new ArrayList<Future<PartETag>>();
+
+            byte[] buffer = firstPart;
+            int length = firstPart.length;
+            while (length > 0) {
+                if (futures.size() == MAXIMUM_PARTS) {
+                    throw new AmazonClientException("Unable to upload stream in at most " + MAXIMUM_PARTS
+                            + " parts of " + partSize + " bytes, configure a larger part size");
+                }
+                UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(futures.size() + 1)
+                        .withPartSize(length)
+                        .withInputStream(new ByteArrayContentInputStream(buffer, 0, length));
+                uploadPartRequest.setProgressListener(progressListener);
+                FutureTask<PartETag> part = new FutureTask<PartETag>(new PartUpload(uploadPartRequest, buffer, freeBuffers));
+                futures.add(part);
+                if (threadPool == null) {
+                    part.run();
+                } else {
+                    threadPool.execute(part);
+                }
+                if (length < buffer.length) break;
+
+                checkUploadedParts(futures);
+                buffer = freeBuffers.poll();
+                if (buffer == null) {
+                    if (allocatedBuffers < concurrency) {
+                        buffer = new byte[partSize];
+                        allocatedBuffers++;
+                    } else {
+                        buffer = freeBuffers.take();
+                    }
+                }
+                length = readPart(input, buffer, 0);
+            }
+
+            List<PartETag> partETags = new ArrayList<PartETag>(futures.size());
+            for (Future<PartETag> future : futures) {
+                partETags.add(getPartETag(future));
+            }
+            CompleteMultipartUploadResult completeMultipartUploadResult = s3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            fireProgressEvent(progressListener, ProgressEvent.COMPLETED_EVENT_CODE);
+
+            PutObjectResult result = new PutObjectResult();
+            result.setETag(completeMultipartUploadResult.getETag());
+            result.setVersionId(completeMultipartUploadResult.getVersionId());
+            result.setServerSideEncryption(completeMultipartUploadResult.getServerSideEncryption());
+            result.setExpirationTime(completeMultipartUploadResult.getExpirationTime());
+            result.setExpirationTimeRuleId(completeMultipartUploadResult.getExpirationTimeRuleId());
+            return result;
+        } catch (Exception e) {
+            fireProgressEvent(progressListener, ProgressEvent.FAILED_EVENT_CODE);
+
+            try {
+                s3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            } catch (Exception e2) {
+                log.info("Unable to abort multipart upload, you may need to manually remove uploaded parts: " + e2.getMessage(), e2);
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (e instanceof AmazonClientException) {
+                throw (AmazonClientException)e;
+            }
+            throw new AmazonClientException("Unable to upload stream: " + e.getMessage(), e);
+        } finally {
+            if (threadPool != null) {
+                threadPool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Fails fast if any part uploaded so far failed.
+     */
+    private void checkUploadedParts(List<Future<PartETag>> futures) {
+        for (Future<PartETag> future : futures) {
+            if (future.isDone()) getPartETag(future);
+        }
+    }
+
+    private PartETag getPartETag(Future<PartETag> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while uploading part", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AmazonClientException) {
+                throw (AmazonClientException)e.getCause();
+            }
+            throw new AmazonClientException("Unable to upload part: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private String initiateMultipartUpload(PutObjectRequest putObjectRequest, ObjectMetadata metadata) {
+        InitiateMultipartUploadRequest initiateMultipartUploadRequest =
+            new InitiateMultipartUploadRequest(putObjectRequest.getBucketName(), putObjectRequest.getKey())
+                .withCannedACL(putObjectRequest.getCannedAcl())
+                .withAccessControlList(putObjectRequest.getAccessControlList())
+                .withRedirectLocation(putObjectRequest.getRedirectLocation())
+                .withObjectMetadata(metadata);
+
+        if (putObjectRequest.getStorageClass() != null) {
+            initiateMultipartUploadRequest.setStorageClass(
+                    StorageClass.fromValue(putObjectRequest.getStorageClass()));
+        }
+
+        String uploadId = s3.initiateMultipartUpload(initiateMultipartUploadRequest).getUploadId();
+        log.debug("Initiated new multipart upload for stream of unknown length: " + uploadId);
+
+        return uploadId;
+    }
+
+    private void fireProgressEvent(ProgressListener listener, int eventType) {
+        if (listener == null) return;
+        ProgressEvent event = new ProgressEvent(0);
+        event.setEventCode(eventType);
+        listener.progressChanged(event);
+    }
+
+    /**
+     * Uploads a part, then hands its buffer back for the next part to be read
+     * into.
+     */
+    private class PartUpload implements Callable<PartETag> {
+        private final UploadPartRequest request;
+        private final byte[] buffer;
+        private final BlockingQueue<byte[]> freeBuffers;
+
+        PartUpload(UploadPartRequest request, byte[] buffer, BlockingQueue<byte[]> freeBuffers) {
+            this.request = request;
+            this.buffer = buffer;
+            this.freeBuffers = freeBuffers;
+        }
+
+        public PartETag call() throws Exception {
+            try {
+                return s3.uploadPart(request).getPartETag();
+            } finally {
+                freeBuffers.add(buffer);
+            }
+        }
+    }
+
+    private static class UploadThreadFactory implements ThreadFactory {
+        private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("s3-stream-upload-worker-" + threadCount.incrementAndGet());
+            return thread;
+        }
+    }
+}
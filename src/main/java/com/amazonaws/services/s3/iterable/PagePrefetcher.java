@@ -0,0 +1,158 @@
+/*
+ * Copyright 2012-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.iterable;
+
+import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Fetches the pages of a listing in the background, up to a number of pages
+ * ahead of the consumer.
+ * <p>
+ * Since every page is requested with the marker of the page before it, pages
+ * are fetched one at a time: each fetch starts the next one on completion as
+ * long as fewer than the number of pages ahead are waiting to be consumed,
+ * and consuming a page restarts fetching if it had stopped. No thread waits
+ * on a full buffer, so an iterator that is dropped before it is exhausted
+ * simply stops fetching.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @param <P>
+ *            the type of the pages
+ */
+abstract class PagePrefetcher<P> {
+
+    /** Executor used unless the iterable is given one; its idle threads time out */
+    static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("s3-listing-prefetch-" + threadCount.incrementAndGet());
+            return thread;
+        }
+    });
+
+    private final ExecutorService executor;
+
+    private final int pagesAhead;
+
+    /** Fetched pages waiting to be consumed */
+    private final LinkedList<P> pages = new LinkedList<P>();
+
+    /** The last page fetched, null until the first page is */
+    private P lastPage;
+
+    private boolean fetching;
+
+    private boolean complete;
+
+    private Throwable failure;
+
+    PagePrefetcher(ExecutorService executor, int pagesAhead) {
+        this.executor = executor == null ? DEFAULT_EXECUTOR : executor;
+        this.pagesAhead = Math.max(1, pagesAhead);
+    }
+
+    /**
+     * Starts fetching the first page. Called by subclasses once they are
+     * fully constructed, since fetching starts on another thread.
+     */
+    protected synchronized void start() {
+        fetchMore();
+    }
+
+    /** Fetches the first page of the listing. */
+    protected abstract P fetchFirstPage();
+
+    /** Fetches the page following the page given. */
+    protected abstract P fetchNextPage(P previousPage);
+
+    /** Returns whether more pages follow the page given. */
+    protected abstract boolean isTruncated(P page);
+
+    /**
+     * Returns the next page, waiting for it to be fetched if necessary.
+     *
+     * @return the next page, or null if all pages have been returned
+     * @throws AmazonClientException
+     *             if fetching the page failed
+     */
+    synchronized P nextPage() {
+        while (pages.isEmpty()) {
+            if (failure instanceof RuntimeException) throw (RuntimeException)failure;
+            if (failure instanceof Error) throw (Error)failure;
+            if (complete) return null;
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while waiting for the next page of the listing", e);
+            }
+        }
+        P page = pages.removeFirst();
+        fetchMore();
+        return page;
+    }
+
+    /** Starts fetching the next page unless enough pages are waiting already */
+    private void fetchMore() {
+        if (fetching || complete || failure != null || pages.size() >= pagesAhead) return;
+        fetching = true;
+        final P previousPage = lastPage;
+        try {
+            executor.execute(new Runnable() {
+                public void run() {
+                    P page = null;
+                    Throwable error = null;
+                    try {
+                        page = previousPage == null ? fetchFirstPage() : fetchNextPage(previousPage);
+                    } catch (RuntimeException e) {
+                        error = e;
+                    } catch (Error e) {
+                        error = e;
+                    }
+                    pageFetched(page, error);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Rethrown to the consumer once the pages already fetched run out
+            fetching = false;
+            failure = new AmazonClientException("Unable to fetch the next page of the listing: " + e.getMessage(), e);
+            notifyAll();
+        }
+    }
+
+    private synchronized void pageFetched(P page, Throwable error) {
+        fetching = false;
+        if (error != null) {
+            failure = error;
+        } else {
+            pages.addLast(page);
+            lastPage = page;
+            complete = !isTruncated(page);
+            fetchMore();
+        }
+        notifyAll();
+    }
+}
@@ -14,7 +14,12 @@
  */
 package com.amazonaws.services.s3.iterable;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
@@ -33,7 +38,11 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
  * <p>
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Objects#withBatchSize(int)} method.
+ * {@link S3Objects#withBatchSize(int)} method. With
+ * {@link S3Objects#withPrefetch(int)}, pages are fetched in the background
+ * ahead of the iteration instead, and with
+ * {@link S3Objects#withParallelListing(String, int)} the keys under several
+ * prefixes are listed concurrently.
  */
 public class S3Objects implements Iterable<S3ObjectSummary> {
 
@@ -41,6 +50,10 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
     private String prefix = null;
     private String bucketName;
     private Integer batchSize = null;
+    private int prefetchPages = 0;
+    private ExecutorService executorService = null;
+    private String delimiter = null;
+    private int maxConcurrentPrefixes = 0;
 
     private S3Objects(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -91,6 +104,64 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return this;
     }
 
+    /**
+     * Makes iterators fetch pages of object summaries in the background,
+     * requesting the next page while the current one is being iterated, up
+     * to the given number of pages ahead.
+     * 
+     * @param pagesAhead
+     *            How many pages to fetch ahead of the page being iterated; 0
+     *            fetches each page only once the previous one is exhausted.
+     */
+    public S3Objects withPrefetch(int pagesAhead) {
+        this.prefetchPages = pagesAhead;
+        return this;
+    }
+
+    /**
+     * Makes iterators fetch pages of object summaries in the background on
+     * the given executor service, up to the given number of pages ahead.
+     * 
+     * @param pagesAhead
+     *            How many pages to fetch ahead of the page being iterated.
+     * @param executorService
+     *            The executor service to fetch pages with, or null to use
+     *            shared daemon threads.
+     * @see #withPrefetch(int)
+     */
+    public S3Objects withPrefetch(int pagesAhead, ExecutorService executorService) {
+        this.prefetchPages = pagesAhead;
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Makes iterators split the listing on the given delimiter and list the
+     * keys under several of the resulting prefixes concurrently, each in the
+     * background. Object summaries are still returned in the order of a
+     * plain listing.
+     * <p>
+     * For example, with the delimiter "/", the objects of a bucket holding
+     * "logs/2013/..." and "photos/..." keys are listed by separate requests
+     * for the "logs/" and "photos/" prefixes running at the same time. This
+     * helps most when the keys are spread over many prefixes.
+     * <p>
+     * Each prefix being listed fetches up to the number of pages set with
+     * {@link #withPrefetch(int)} ahead, and at least one, so memory use is
+     * bounded by that number of pages times {@code maxConcurrentPrefixes},
+     * plus about a page of the keys found directly under the delimiter.
+     * 
+     * @param delimiter
+     *            The delimiter to split the listing on.
+     * @param maxConcurrentPrefixes
+     *            How many prefixes to list at once.
+     */
+    public S3Objects withParallelListing(String delimiter, int maxConcurrentPrefixes) {
+        this.delimiter = delimiter;
+        this.maxConcurrentPrefixes = maxConcurrentPrefixes;
+        return this;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -107,12 +178,72 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return s3;
     }
 
+    public int getPrefetchPages() {
+        return prefetchPages;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public int getMaxConcurrentPrefixes() {
+        return maxConcurrentPrefixes;
+    }
+
+    private ListObjectsRequest newListObjectsRequest(String prefix, String delimiter) {
+        ListObjectsRequest req = new ListObjectsRequest();
+        req.setBucketName(getBucketName());
+        req.setPrefix(prefix);
+        req.setDelimiter(delimiter);
+        req.setMaxKeys(getBatchSize());
+        return req;
+    }
+
+    private class ListingPrefetcher extends PagePrefetcher<ObjectListing> {
+        private final ListObjectsRequest firstRequest;
+
+        ListingPrefetcher(ListObjectsRequest firstRequest, int pagesAhead) {
+            super(getExecutorService(), pagesAhead);
+            this.firstRequest = firstRequest;
+            start();
+        }
+
+        @Override
+        protected ObjectListing fetchFirstPage() {
+            return getS3().listObjects(firstRequest);
+        }
+
+        @Override
+        protected ObjectListing fetchNextPage(ObjectListing previousPage) {
+            return getS3().listNextBatchOfObjects(previousPage);
+        }
+
+        @Override
+        protected boolean isTruncated(ObjectListing page) {
+            return page.isTruncated();
+        }
+    }
+
     private class S3ObjectIterator implements Iterator<S3ObjectSummary> {
 
+        private final String prefix;
+
+        /** Fetches pages in the background; null when prefetching is off */
+        private final ListingPrefetcher prefetcher;
+
         private ObjectListing currentListing = null;
 
         private Iterator<S3ObjectSummary> currentIterator = null;
 
+        S3ObjectIterator(String prefix, int pagesAhead) {
+            this.prefix = prefix;
+            this.prefetcher = pagesAhead > 0 ? new ListingPrefetcher(newListObjectsRequest(prefix, null), pagesAhead) : null;
+        }
+
         @Override
         public boolean hasNext() {
             prepareCurrentListing();
@@ -133,12 +264,10 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         private void prepareCurrentListing() {
             while ( currentListing == null || (!currentIterator.hasNext() && currentListing.isTruncated()) ) {
 
-                if ( currentListing == null ) {
-                    ListObjectsRequest req = new ListObjectsRequest();
-                    req.setBucketName(getBucketName());
-                    req.setPrefix(getPrefix());
-                    req.setMaxKeys(getBatchSize());
-                    currentListing = getS3().listObjects(req);
+                if ( prefetcher != null ) {
+                    currentListing = prefetcher.nextPage();
+                } else if ( currentListing == null ) {
+                    currentListing = getS3().listObjects(newListObjectsRequest(prefix, null));
                 } else {
                     currentListing = getS3().listNextBatchOfObjects(currentListing);
                 }
@@ -149,9 +278,156 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
 
     }
 
+    /**
+     * Iterates a delimited listing, replacing each common prefix with an
+     * iterator over the keys under it. Up to {@code maxConcurrentPrefixes} of
+     * these iterators are created ahead of the iteration, and each starts
+     * fetching in the background as soon as it is created. The delimited
+     * listing is only read ahead while that can start another prefix and
+     * less than a page of its own keys is waiting.
+     */
+    private class PrefixPartitionedIterator implements Iterator<S3ObjectSummary> {
+
+        /** The number of keys in a full page of a listing by default */
+        private static final int DEFAULT_PAGE_SIZE = 1000;
+
+        /** Fetches the pages of the delimited listing */
+        private final ListingPrefetcher delimitedListing;
+
+        private boolean delimitedListingComplete = false;
+
+        /**
+         * Object summaries and common prefixes of the delimited listing, in
+         * key order, not turned into partitions yet
+         */
+        private final LinkedList<Object> pendingEntries = new LinkedList<Object>();
+
+        /** Iterators over the next objects and prefixes, in key order */
+        private final LinkedList<Iterator<S3ObjectSummary>> partitions = new LinkedList<Iterator<S3ObjectSummary>>();
+
+        /** Number of prefix iterators among {@code partitions} */
+        private int prefixPartitions = 0;
+
+        /** Number of keys in the key runs among {@code partitions} */
+        private int bufferedKeys = 0;
+
+        PrefixPartitionedIterator() {
+            delimitedListing = new ListingPrefetcher(newListObjectsRequest(getPrefix(), getDelimiter()), 1);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (true) {
+                startPartitions();
+                if (partitions.isEmpty()) return false;
+                if (partitions.getFirst().hasNext()) return true;
+                Iterator<S3ObjectSummary> finished = partitions.removeFirst();
+                if (finished instanceof S3ObjectIterator) {
+                    prefixPartitions--;
+                } else {
+                    bufferedKeys -= ((KeyRun)finished).size();
+                }
+            }
+        }
+
+        @Override
+        public S3ObjectSummary next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return partitions.getFirst().next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void startPartitions() {
+            int maxPrefixes = Math.max(1, getMaxConcurrentPrefixes());
+            int maxBufferedKeys = getBatchSize() != null ? getBatchSize() : DEFAULT_PAGE_SIZE;
+            while (true) {
+                if (pendingEntries.isEmpty()) {
+                    if (delimitedListingComplete) return;
+                    // Only read further ahead while that can start another prefix
+                    if (!partitions.isEmpty()
+                            && (prefixPartitions >= maxPrefixes || bufferedKeys >= maxBufferedKeys)) return;
+                    ObjectListing page = delimitedListing.nextPage();
+                    if (page == null) {
+                        delimitedListingComplete = true;
+                        return;
+                    }
+                    mergeEntries(page.getObjectSummaries(), page.getCommonPrefixes());
+                    continue;
+                }
+
+                if (pendingEntries.getFirst() instanceof String) {
+                    if (prefixPartitions >= maxPrefixes) return;
+                    String commonPrefix = (String)pendingEntries.removeFirst();
+                    partitions.addLast(new S3ObjectIterator(commonPrefix, Math.max(1, getPrefetchPages())));
+                    prefixPartitions++;
+                } else {
+                    List<S3ObjectSummary> keys = new ArrayList<S3ObjectSummary>();
+                    while (!pendingEntries.isEmpty() && pendingEntries.getFirst() instanceof S3ObjectSummary) {
+                        keys.add((S3ObjectSummary)pendingEntries.removeFirst());
+                    }
+                    partitions.addLast(new KeyRun(keys));
+                    bufferedKeys += keys.size();
+                }
+            }
+        }
+
+        /** Adds the sorted summaries and prefixes of a page in key order */
+        private void mergeEntries(List<S3ObjectSummary> summaries, List<String> commonPrefixes) {
+            int i = 0;
+            int j = 0;
+            while (i < summaries.size() || j < commonPrefixes.size()) {
+                if (j == commonPrefixes.size()
+                        || (i < summaries.size() && summaries.get(i).getKey().compareTo(commonPrefixes.get(j)) < 0)) {
+                    pendingEntries.addLast(summaries.get(i++));
+                } else {
+                    pendingEntries.addLast(commonPrefixes.get(j++));
+                }
+            }
+        }
+    }
+
+    /** Consecutive keys of a delimited listing that aren't under a common prefix */
+    private static class KeyRun implements Iterator<S3ObjectSummary> {
+
+        private final List<S3ObjectSummary> keys;
+
+        private int next = 0;
+
+        KeyRun(List<S3ObjectSummary> keys) {
+            this.keys = keys;
+        }
+
+        int size() {
+            return keys.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.size();
+        }
+
+        @Override
+        public S3ObjectSummary next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return keys.get(next++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     @Override
     public Iterator<S3ObjectSummary> iterator() {
-        return new S3ObjectIterator();
+        if (getDelimiter() != null) {
+            return new PrefixPartitionedIterator();
+        }
+        return new S3ObjectIterator(getPrefix(), getPrefetchPages());
     }
 
 }
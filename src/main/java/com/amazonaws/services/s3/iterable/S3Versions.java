@@ -15,6 +15,7 @@
 package com.amazonaws.services.s3.iterable;
 
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListVersionsRequest;
@@ -33,7 +34,9 @@ import com.amazonaws.services.s3.model.VersionListing;
  * <p>
  * The list of {@link S3VersionSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Versions#withBatchSize(int)} method.
+ * {@link S3Versions#withBatchSize(int)} method. With
+ * {@link S3Versions#withPrefetch(int)}, pages are fetched in the background
+ * ahead of the iteration instead.
  */
 public class S3Versions implements Iterable<S3VersionSummary> {
 
@@ -42,6 +45,8 @@ public class S3Versions implements Iterable<S3VersionSummary> {
     private String prefix;
     private String key;
     private Integer batchSize;
+    private int prefetchPages = 0;
+    private ExecutorService executorService = null;
 
     private S3Versions(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -111,6 +116,37 @@ public class S3Versions implements Iterable<S3VersionSummary> {
         return this;
     }
 
+    /**
+     * Makes iterators fetch pages of version summaries in the background,
+     * requesting the next page while the current one is being iterated, up
+     * to the given number of pages ahead.
+     * 
+     * @param pagesAhead
+     *            How many pages to fetch ahead of the page being iterated; 0
+     *            fetches each page only once the previous one is exhausted.
+     */
+    public S3Versions withPrefetch(int pagesAhead) {
+        this.prefetchPages = pagesAhead;
+        return this;
+    }
+
+    /**
+     * Makes iterators fetch pages of version summaries in the background on
+     * the given executor service, up to the given number of pages ahead.
+     * 
+     * @param pagesAhead
+     *            How many pages to fetch ahead of the page being iterated.
+     * @param executorService
+     *            The executor service to fetch pages with, or null to use
+     *            shared daemon threads.
+     * @see #withPrefetch(int)
+     */
+    public S3Versions withPrefetch(int pagesAhead, ExecutorService executorService) {
+        this.prefetchPages = pagesAhead;
+        this.executorService = executorService;
+        return this;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -131,8 +167,59 @@ public class S3Versions implements Iterable<S3VersionSummary> {
         return bucketName;
     }
 
+    public int getPrefetchPages() {
+        return prefetchPages;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    private ListVersionsRequest newListVersionsRequest() {
+        ListVersionsRequest req = new ListVersionsRequest();
+        req.setBucketName(getBucketName());
+
+        if (getKey() != null) {
+            req.setPrefix(getKey());
+        } else {
+            req.setPrefix(getPrefix());
+        }
+
+        req.setMaxResults(getBatchSize());
+        return req;
+    }
+
+    private class ListingPrefetcher extends PagePrefetcher<VersionListing> {
+        private final ListVersionsRequest firstRequest;
+
+        ListingPrefetcher(ListVersionsRequest firstRequest, int pagesAhead) {
+            super(getExecutorService(), pagesAhead);
+            this.firstRequest = firstRequest;
+            start();
+        }
+
+        @Override
+        protected VersionListing fetchFirstPage() {
+            return getS3().listVersions(firstRequest);
+        }
+
+        @Override
+        protected VersionListing fetchNextPage(VersionListing previousPage) {
+            return getS3().listNextBatchOfVersions(previousPage);
+        }
+
+        @Override
+        protected boolean isTruncated(VersionListing page) {
+            return page.isTruncated();
+        }
+    }
+
     private class VersionIterator implements Iterator<S3VersionSummary> {
 
+        /** Fetches pages in the background; null when prefetching is off */
+        private final ListingPrefetcher prefetcher = getPrefetchPages() > 0
+                ? new ListingPrefetcher(newListVersionsRequest(), getPrefetchPages()) : null;
+
         private VersionListing currentListing = null;
         private Iterator<S3VersionSummary> currentIterator = null;
         private S3VersionSummary nextSummary = null;
@@ -170,18 +257,10 @@ public class S3Versions implements Iterable<S3VersionSummary> {
             while (currentListing == null
                     || (!currentIterator.hasNext() && currentListing
                             .isTruncated())) {
-                if (currentListing == null) {
-                    ListVersionsRequest req = new ListVersionsRequest();
-                    req.setBucketName(getBucketName());
-
-                    if (getKey() != null) {
-                        req.setPrefix(getKey());
-                    } else {
-                        req.setPrefix(getPrefix());
-                    }
-
-                    req.setMaxResults(getBatchSize());
-                    currentListing = getS3().listVersions(req);
+                if (prefetcher != null) {
+                    currentListing = prefetcher.nextPage();
+                } else if (currentListing == null) {
+                    currentListing = getS3().listVersions(newListVersionsRequest());
                 } else {
                     currentListing = getS3().listNextBatchOfVersions(
                             currentListing);
@@ -18,7 +18,6 @@
 package com.amazonaws.services.s3.model.transform;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -41,6 +40,7 @@ import org.xml.sax.helpers.DefaultHandler;
 import org.xml.sax.helpers.XMLReaderFactory;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.internal.CarriageReturnEscapingInputStream;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.internal.DeleteObjectsResponse;
 import com.amazonaws.services.s3.internal.ObjectExpirationResult;
@@ -95,7 +95,14 @@ import com.amazonaws.services.s3.model.VersionListing;
 public class XmlResponsesSaxParser {
     private static final Log log = LogFactory.getLog(XmlResponsesSaxParser.class);
 
-    private XMLReader xr = null;
+    /**
+     * XML readers are expensive to create but can be reused for any number of
+     * documents, one at a time, so each thread keeps its own.
+     */
+    private static final ThreadLocal<XMLReader> xmlReader = new ThreadLocal<XMLReader>();
+
+    /** Handler left on a reader between parses so it doesn't pin the last result */
+    private static final DefaultHandler NO_OP_HANDLER = new DefaultHandler();
 
     private boolean sanitizeXmlDocument = true;
 
@@ -106,6 +113,17 @@ public class XmlResponsesSaxParser {
      */
     public XmlResponsesSaxParser() throws AmazonClientException {
         // Ensure we can load the XML Reader.
+        getXmlReader();
+    }
+
+    /**
+     * Returns the current thread's XML reader, creating it if this thread
+     * hasn't needed one before.
+     */
+    private static XMLReader getXmlReader() throws AmazonClientException {
+        XMLReader xr = xmlReader.get();
+        if (xr != null) return xr;
+
         try {
             xr = XMLReaderFactory.createXMLReader();
         } catch (SAXException e) {
@@ -118,6 +136,8 @@ public class XmlResponsesSaxParser {
                 throw new AmazonClientException("Couldn't initialize a sax driver for the XMLReader");
             }
         }
+        xmlReader.set(xr);
+        return xr;
     }
 
     /**
@@ -141,9 +161,15 @@ public class XmlResponsesSaxParser {
 
             BufferedReader breader = new BufferedReader(new InputStreamReader(inputStream,
                 Constants.DEFAULT_ENCODING));
-            xr.setContentHandler(handler);
-            xr.setErrorHandler(handler);
-            xr.parse(new InputSource(breader));
+            XMLReader xr = getXmlReader();
+            try {
+                xr.setContentHandler(handler);
+                xr.setErrorHandler(handler);
+                xr.parse(new InputSource(breader));
+            } finally {
+                xr.setContentHandler(NO_OP_HANDLER);
+                xr.setErrorHandler(NO_OP_HANDLER);
+            }
         } catch (Throwable t) {
             try {
                 inputStream.close();
@@ -167,47 +193,13 @@ public class XmlResponsesSaxParser {
                 log.debug("Sanitizing XML document destined for handler " + handler.getClass());
             }
 
-            InputStream sanitizedInputStream = null;
-
-            try {
-                /*
-                 * Read object listing XML document from input stream provided into a
-                 * string buffer, so we can replace troublesome characters before
-                 * sending the document to the XML parser.
-                 */
-                StringBuilder listingDocBuffer = new StringBuilder();
-                BufferedReader br = new BufferedReader(
-                    new InputStreamReader(inputStream, Constants.DEFAULT_ENCODING));
-
-                char[] buf = new char[8192];
-                int read = -1;
-                while ((read = br.read(buf)) != -1) {
-                    listingDocBuffer.append(buf, 0, read);
-                }
-                br.close();
-
-                /*
-                 * Replace any carriage return (\r) characters with explicit XML
-                 * character entities, to prevent the SAX parser from
-                 * misinterpreting 0x0D characters as 0x0A and being unable to
-                 * parse the XML.
-                 */
-                String listingDoc = listingDocBuffer.toString().replaceAll("\r", "&#013;");
-
-                sanitizedInputStream = new ByteArrayInputStream(
-                    listingDoc.getBytes(Constants.DEFAULT_ENCODING));
-            } catch (Throwable t) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    if (log.isErrorEnabled()) {
-                        log.error("Unable to close response InputStream after failure sanitizing XML document", e);
-                    }
-                }
-                throw new AmazonClientException("Failed to sanitize XML document destined for handler "
-                    + handler.getClass(), t);
-            }
-            return sanitizedInputStream;
+            /*
+             * Replace any carriage return (\r) characters with explicit XML
+             * character entities as the document is read, to prevent the SAX
+             * parser from misinterpreting 0x0D characters as 0x0A and being
+             * unable to parse the XML.
+             */
+            return new CarriageReturnEscapingInputStream(inputStream);
         }
     }
 
@@ -40,6 +40,7 @@ import com.amazonaws.services.s3.AmazonS3EncryptionClient;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
@@ -58,6 +59,7 @@ import com.amazonaws.services.s3.transfer.internal.MultipleFileDownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileTransfer;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileTransferMonitor;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileUploadImpl;
+import com.amazonaws.services.s3.transfer.internal.ParallelDownloader;
 import com.amazonaws.services.s3.transfer.internal.ProgressListenerChain;
 import com.amazonaws.services.s3.transfer.internal.TransferManagerUtils;
 import com.amazonaws.services.s3.transfer.internal.TransferProgressImpl;
@@ -464,10 +466,11 @@ public class TransferManager {
 
         // Add our own transfer progress listener
         TransferProgressImpl transferProgress = new TransferProgressImpl();
-        ProgressListenerChain listenerChain = new ProgressListenerChain(new TransferProgressUpdatingListener(
+        final ProgressListenerChain listenerChain = new ProgressListenerChain(new TransferProgressUpdatingListener(
                 transferProgress), getObjectRequest.getProgressListener());
         getObjectRequest.setProgressListener(listenerChain);
-        final ObjectMetadata objectMetadata = s3.getObjectMetadata(getObjectRequest.getBucketName(), getObjectRequest.getKey());
+        final ObjectMetadata objectMetadata = s3.getObjectMetadata(new GetObjectMetadataRequest(
+                getObjectRequest.getBucketName(), getObjectRequest.getKey(), getObjectRequest.getVersionId()));
 
         final StartDownloadLock startDownloadLock = new StartDownloadLock();
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null, stateListener);
@@ -494,6 +497,11 @@ public class TransferManager {
                          }
                      }
                     download.setState(TransferState.InProgress);
+
+                    if (useParallelDownload(getObjectRequest, objectMetadata)) {
+                        return downloadInParallel(download, getObjectRequest, objectMetadata, file, listenerChain);
+                    }
+
                     final S3Object s3Object = s3.getObject(getObjectRequest);
 
                     download.setS3Object(s3Object);
@@ -531,6 +539,38 @@ public class TransferManager {
         return download;
     }
 
+    /**
+     * Returns true if the specified download should be split into byte ranges
+     * and downloaded in parallel.
+     */
+    private boolean useParallelDownload(GetObjectRequest getObjectRequest, ObjectMetadata objectMetadata) {
+        if (getObjectRequest.getRange() != null) return false;
+        if (s3 instanceof AmazonS3EncryptionClient) return false;
+
+        return objectMetadata.getContentLength() > configuration.getParallelDownloadThreshold();
+    }
+
+    /**
+     * Downloads the specified object as a series of byte ranges, several at a
+     * time on this transfer manager's thread pool, written directly into
+     * place in the destination file.
+     */
+    private Object downloadInParallel(DownloadImpl download, GetObjectRequest getObjectRequest,
+            ObjectMetadata objectMetadata, File file, ProgressListenerChain listenerChain) {
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(getObjectRequest.getBucketName());
+        s3Object.setKey(getObjectRequest.getKey());
+        s3Object.setObjectMetadata(objectMetadata);
+        download.setS3Object(s3Object);
+
+        ParallelDownloader downloader = new ParallelDownloader(s3, threadPool, threadPool.getMaximumPoolSize(),
+                getObjectRequest, objectMetadata, file, configuration.getDownloadPartSize(), listenerChain);
+
+        downloader.download();
+        download.setState(TransferState.Completed);
+        return true;
+    }
+
     /**
      * Downloads all objects in the virtual directory designated by the
      * keyPrefix given to the destination directory given. All virtual
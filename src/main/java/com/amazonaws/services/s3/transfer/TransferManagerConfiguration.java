@@ -33,6 +33,12 @@ public class TransferManagerConfiguration {
     /** Default size threshold for when to use multipart uploads.  */
     private static final int DEFAULT_MULTIPART_UPLOAD_THRESHOLD = 16 * MB;
 
+    /** Default size of the byte ranges parallel downloads are split into. */
+    private static final long DEFAULT_DOWNLOAD_PART_SIZE = 16 * MB;
+
+    /** Default size threshold for parallel downloads; disabled by default. */
+    private static final long DEFAULT_PARALLEL_DOWNLOAD_THRESHOLD = Long.MAX_VALUE;
+
     
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
@@ -57,6 +63,21 @@ public class TransferManagerConfiguration {
      */
     private int multipartUploadThreshold = DEFAULT_MULTIPART_UPLOAD_THRESHOLD;
 
+    /**
+     * The size of the byte ranges that parallel downloads are split into.
+     * Each range is downloaded with its own GET request.
+     */
+    private long downloadPartSize = DEFAULT_DOWNLOAD_PART_SIZE;
+
+    /**
+     * The size threshold, in bytes, for when to use parallel downloads.
+     * Downloads of objects over this size are split into byte ranges that are
+     * downloaded concurrently and written directly into place in the
+     * destination file, while smaller objects are downloaded over a single
+     * connection. Parallel downloads are disabled by default.
+     */
+    private long parallelDownloadThreshold = DEFAULT_PARALLEL_DOWNLOAD_THRESHOLD;
+
     
     /**
      * Returns the minimum part size for upload parts. 
@@ -124,4 +145,58 @@ public class TransferManagerConfiguration {
     public void setMultipartUploadThreshold(int multipartUploadThreshold) {
         this.multipartUploadThreshold = multipartUploadThreshold;
     }
+
+    /**
+     * Returns the size of the byte ranges that parallel downloads are split
+     * into. Each range is downloaded with its own GET request.
+     *
+     * @return The size, in bytes, of parallel download ranges.
+     */
+    public long getDownloadPartSize() {
+        return downloadPartSize;
+    }
+
+    /**
+     * Sets the size of the byte ranges that parallel downloads are split
+     * into. Each range is downloaded with its own GET request, so setting
+     * this value too low adds latency and network communication for each
+     * range.
+     *
+     * @param downloadPartSize
+     *            The size, in bytes, of parallel download ranges.
+     */
+    public void setDownloadPartSize(long downloadPartSize) {
+        this.downloadPartSize = downloadPartSize;
+    }
+
+    /**
+     * Returns the size threshold in bytes for when to use parallel downloads.
+     * Downloads of objects over this size are split into byte ranges that are
+     * downloaded concurrently on the transfer manager's thread pool, while
+     * smaller objects are downloaded over a single connection.
+     * <p>
+     * Parallel downloads are disabled by default.
+     *
+     * @return The size threshold in bytes for when to use parallel downloads.
+     */
+    public long getParallelDownloadThreshold() {
+        return parallelDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to use parallel downloads.
+     * Downloads of objects over this size are split into byte ranges that are
+     * downloaded concurrently on the transfer manager's thread pool, while
+     * smaller objects are downloaded over a single connection.
+     * <p>
+     * Downloads of a range of an object, and downloads through an
+     * AmazonS3EncryptionClient, always use a single connection.
+     *
+     * @param parallelDownloadThreshold
+     *            The size threshold in bytes for when to use parallel
+     *            downloads.
+     */
+    public void setParallelDownloadThreshold(long parallelDownloadThreshold) {
+        this.parallelDownloadThreshold = parallelDownloadThreshold;
+    }
 }
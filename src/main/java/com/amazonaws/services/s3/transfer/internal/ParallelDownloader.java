@@ -0,0 +1,392 @@
+/*
+ * Copyright 2012-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.ProgressEvent;
+import com.amazonaws.services.s3.model.ProgressListener;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.BinaryUtils;
+
+/**
+ * Downloads an object to a file as a series of byte range GETs, several of
+ * which run at once. The file is sized up front and each range is written
+ * straight to its place in the file through positional {@link FileChannel}
+ * writes, so ranges can complete in any order.
+ * <p>
+ * The thread calling {@link #download()} downloads ranges itself alongside
+ * the helper tasks it submits to the thread pool, and only ever waits for
+ * ranges that are already being downloaded. It therefore can't deadlock
+ * waiting on helpers queued behind other work in a bounded thread pool.
+ * <p>
+ * The file's MD5 hash is computed as the ranges are written. MD5 can only be
+ * computed over the bytes in order, so the thread writing just past the bytes
+ * hashed so far hashes its data from memory, while data written further ahead
+ * is read back from the file once the bytes before it have been hashed. With
+ * ranges claimed in order, most of the data is hashed from memory, and the
+ * rest is read back shortly after it was written rather than in a second pass
+ * over the whole file.
+ */
+public class ParallelDownloader {
+
+    private static final Log log = LogFactory.getLog(ParallelDownloader.class);
+
+    /** Size of the buffer used to copy each range into the file */
+    private static final int BUFFER_SIZE = 128 * 1024;
+
+    private final AmazonS3 s3;
+    private final ExecutorService threadPool;
+    private final int maxConcurrency;
+    private final GetObjectRequest getObjectRequest;
+    private final ObjectMetadata objectMetadata;
+    private final File file;
+    private final long partSize;
+    private final ProgressListenerChain listenerChain;
+
+    private final long contentLength;
+    private final int partCount;
+    private final AtomicInteger nextPart = new AtomicInteger();
+    private final CountDownLatch partsDone;
+
+    /** Forwards only the byte counts of each range's progress events */
+    private final ProgressListener rangeProgressListener;
+
+    private FileChannel channel;
+    private volatile Throwable failure;
+    private volatile boolean constraintNotMet;
+
+    /**
+     * MD5 of the bytes of the file before {@link #digestPosition}, or null if
+     * the object's ETag isn't an MD5 hash to check it against.
+     */
+    private final MessageDigest digest;
+    /** Guards {@link #digest}, {@link #digestPosition} and {@link #partWritten} */
+    private final ReentrantLock digestLock = new ReentrantLock();
+    private long digestPosition;
+    private final boolean[] partWritten;
+    private ByteBuffer digestBuffer;
+
+    /**
+     * Constructs a new downloader for the specified object.
+     *
+     * @param s3
+     *            The client used to download the ranges.
+     * @param threadPool
+     *            The thread pool helper tasks are submitted to.
+     * @param maxConcurrency
+     *            The maximum number of ranges to download at once, including
+     *            the one downloaded by the calling thread.
+     * @param getObjectRequest
+     *            The original request for the whole object.
+     * @param objectMetadata
+     *            The metadata of the object being downloaded.
+     * @param file
+     *            The file to save the object to.
+     * @param partSize
+     *            The size, in bytes, of each range.
+     * @param listenerChain
+     *            The listener notified of the download's progress.
+     */
+    public ParallelDownloader(AmazonS3 s3, ExecutorService threadPool, int maxConcurrency,
+            GetObjectRequest getObjectRequest, ObjectMetadata objectMetadata, File file,
+            long partSize, ProgressListenerChain listenerChain) {
+        this.s3 = s3;
+        this.threadPool = threadPool;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.getObjectRequest = getObjectRequest;
+        this.objectMetadata = objectMetadata;
+        this.file = file;
+        this.partSize = partSize;
+        this.listenerChain = listenerChain;
+
+        this.contentLength = objectMetadata.getContentLength();
+        this.partCount = (int) Math.max(1, (contentLength + partSize - 1) / partSize);
+        this.partsDone = new CountDownLatch(partCount);
+
+        String eTag = objectMetadata.getETag();
+        this.digest = (eTag == null || ServiceUtils.isMultipartUploadETag(eTag)) ? null : newMd5Digest();
+        this.partWritten = new boolean[partCount];
+
+        this.rangeProgressListener = new ProgressListener() {
+            public void progressChanged(ProgressEvent progressEvent) {
+                if (progressEvent.getBytesTransfered() > 0) {
+                    fireProgressEvent(new ProgressEvent(progressEvent.getBytesTransfered()));
+                }
+            }
+        };
+    }
+
+    /**
+     * Downloads the object to the file, returning once every range has been
+     * written.
+     *
+     * @throws AmazonClientException
+     *             If any range couldn't be downloaded or written to the file,
+     *             or was refused because one of the original request's
+     *             constraints (ex: matching ETag, modified since date) wasn't
+     *             met or the object changed during the download.
+     */
+    public void download() throws AmazonClientException {
+        File parentDirectory = file.getParentFile();
+        if ( parentDirectory != null && !parentDirectory.exists() ) {
+            parentDirectory.mkdirs();
+        }
+
+        RandomAccessFile randomAccessFile = null;
+        List<Future<?>> helpers = new ArrayList<Future<?>>();
+        try {
+            randomAccessFile = new RandomAccessFile(file, "rw");
+            randomAccessFile.setLength(contentLength);
+            channel = randomAccessFile.getChannel();
+
+            fireProgressEvent(ProgressEvent.STARTED_EVENT_CODE);
+
+            int helperCount = Math.min(partCount, maxConcurrency) - 1;
+            for (int i = 0; i < helperCount; i++) {
+                helpers.add(threadPool.submit(new Callable<Object>() {
+                    public Object call() {
+                        downloadParts();
+                        return null;
+                    }
+                }));
+            }
+
+            downloadParts();
+            partsDone.await();
+        } catch (InterruptedException e) {
+            recordFailure(e);
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            recordFailure(e);
+        } finally {
+            // Helpers still queued have nothing left to do
+            for (Future<?> helper : helpers) {
+                helper.cancel(false);
+            }
+            try {if (randomAccessFile != null) randomAccessFile.close();} catch (Exception e) {}
+        }
+
+        if (constraintNotMet && failure == null) {
+            recordFailure(new AmazonClientException("Unable to download " + getObjectRequest.getBucketName() + "/"
+                    + getObjectRequest.getKey() + ": a byte range didn't meet the request's constraints,"
+                    + " or the object changed during the download"));
+        }
+        if (failure != null) {
+            fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE);
+            if (failure instanceof AmazonClientException) throw (AmazonClientException)failure;
+            throw new AmazonClientException("Unable to store object contents to disk: " + failure.getMessage(), failure);
+        }
+
+        verifyIntegrity();
+        fireProgressEvent(ProgressEvent.COMPLETED_EVENT_CODE);
+    }
+
+    /**
+     * Claims and downloads ranges until there are none left. Once any range
+     * has failed, the remaining ranges are claimed but skipped.
+     */
+    private void downloadParts() {
+        int part;
+        while ((part = nextPart.getAndIncrement()) < partCount) {
+            try {
+                if (failure == null && !constraintNotMet) downloadPart(part);
+            } catch (Throwable t) {
+                recordFailure(t);
+            } finally {
+                partsDone.countDown();
+            }
+        }
+    }
+
+    private void downloadPart(int part) throws IOException {
+        long start = part * partSize;
+        long end = Math.min(start + partSize, contentLength) - 1;
+
+        GetObjectRequest rangeRequest = new GetObjectRequest(
+                getObjectRequest.getBucketName(), getObjectRequest.getKey(), getObjectRequest.getVersionId());
+        rangeRequest.setRange(start, end);
+        rangeRequest.setModifiedSinceConstraint(getObjectRequest.getModifiedSinceConstraint());
+        rangeRequest.setUnmodifiedSinceConstraint(getObjectRequest.getUnmodifiedSinceConstraint());
+        rangeRequest.setNonmatchingETagConstraints(getObjectRequest.getNonmatchingETagConstraints());
+        rangeRequest.setResponseHeaders(getObjectRequest.getResponseHeaders());
+
+        // Make sure every range comes from the same version of the object
+        if (getObjectRequest.getMatchingETagConstraints().isEmpty() && objectMetadata.getETag() != null) {
+            rangeRequest.setMatchingETagConstraints(Collections.singletonList(objectMetadata.getETag()));
+        } else {
+            rangeRequest.setMatchingETagConstraints(getObjectRequest.getMatchingETagConstraints());
+        }
+        rangeRequest.setProgressListener(rangeProgressListener);
+
+        S3Object s3Object = s3.getObject(rangeRequest);
+        if (s3Object == null) {
+            constraintNotMet = true;
+            return;
+        }
+
+        S3ObjectInputStream input = s3Object.getObjectContent();
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long position = start;
+            int bytesRead;
+            while ((bytesRead = input.read(buffer)) > -1) {
+                if (failure != null) {
+                    input.abort();
+                    return;
+                }
+
+                long chunkStart = position;
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    position += channel.write(byteBuffer, position);
+                }
+                updateDigest(start, chunkStart, buffer, bytesRead);
+            }
+            partWritten(part);
+        } catch (IOException e) {
+            try {input.abort();} catch (IOException abortException) {}
+            throw e;
+        } finally {
+            try {input.close();} catch (Exception e) {}
+        }
+    }
+
+    private void recordFailure(Throwable t) {
+        if (failure == null) failure = t;
+    }
+
+    /**
+     * Hashes a chunk of a range just written to the file, if the bytes before
+     * it in the range are all that's left to hash before it. Chunks written
+     * further ahead are left to be read back by {@link #partWritten(int)}.
+     * Threads never wait here for the thread currently hashing.
+     */
+    private void updateDigest(long partStart, long chunkStart, byte[] buffer, int length) throws IOException {
+        if (digest == null || !digestLock.tryLock()) return;
+        try {
+            if (digestPosition < partStart || digestPosition > chunkStart) return;
+            hashFromFile(chunkStart);
+            digest.update(buffer, 0, length);
+            digestPosition += length;
+        } finally {
+            digestLock.unlock();
+        }
+    }
+
+    /**
+     * Records that a range has been completely written, and hashes it, along
+     * with any later ranges already written, if the bytes before it have all
+     * been hashed.
+     */
+    private void partWritten(int part) throws IOException {
+        if (digest == null) return;
+        digestLock.lock();
+        try {
+            partWritten[part] = true;
+            while (digestPosition < contentLength && partWritten[(int) (digestPosition / partSize)]) {
+                long partEnd = (digestPosition / partSize + 1) * partSize;
+                hashFromFile(Math.min(partEnd, contentLength));
+            }
+        } finally {
+            digestLock.unlock();
+        }
+    }
+
+    /**
+     * Reads back the bytes of the file from {@link #digestPosition} up to the
+     * given position, which must already have been written, and hashes them.
+     */
+    private void hashFromFile(long end) throws IOException {
+        if (digestPosition >= end) return;
+        if (digestBuffer == null) digestBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (digestPosition < end) {
+            digestBuffer.clear();
+            digestBuffer.limit((int) Math.min(digestBuffer.capacity(), end - digestPosition));
+            int bytesRead = channel.read(digestBuffer, digestPosition);
+            if (bytesRead < 0) throw new EOFException("Unexpected end of file while hashing " + file);
+            digest.update(digestBuffer.array(), 0, bytesRead);
+            digestPosition += bytesRead;
+        }
+    }
+
+    private static MessageDigest newMd5Digest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("Unable to calculate MD5 hash to validate download: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Checks the downloaded file against the object's MD5 ETag, when it has
+     * one (multipart uploads don't).
+     */
+    private void verifyIntegrity() {
+        if (digest == null) return;
+
+        byte[] clientSideHash;
+        digestLock.lock();
+        try {
+            clientSideHash = digest.digest();
+        } finally {
+            digestLock.unlock();
+        }
+
+        if (!Arrays.equals(clientSideHash, BinaryUtils.fromHex(objectMetadata.getETag()))) {
+            throw new AmazonClientException("Unable to verify integrity of data download.  " +
+                    "Client calculated content hash didn't match hash calculated by Amazon S3.  " +
+                    "The data stored in '" + file.getAbsolutePath() + "' may be corrupt.");
+        }
+    }
+
+    private void fireProgressEvent(int eventCode) {
+        ProgressEvent event = new ProgressEvent(0);
+        event.setEventCode(eventCode);
+        fireProgressEvent(event);
+    }
+
+    private synchronized void fireProgressEvent(ProgressEvent event) {
+        if (listenerChain == null) return;
+        listenerChain.progressChanged(event);
+    }
+}
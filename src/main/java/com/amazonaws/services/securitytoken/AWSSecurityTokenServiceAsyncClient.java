@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -68,6 +70,8 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -257,6 +261,41 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -305,7 +344,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<GetSessionTokenResult> getSessionTokenAsync(final GetSessionTokenRequest getSessionTokenRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSessionTokenResult>() {
+        return submit(new Callable<GetSessionTokenResult>() {
             public GetSessionTokenResult call() throws Exception {
                 return getSessionToken(getSessionTokenRequest);
 		    }
@@ -355,11 +394,13 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final GetSessionTokenRequest getSessionTokenRequest,
             final AsyncHandler<GetSessionTokenRequest, GetSessionTokenResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSessionTokenResult>() {
+        return submit(new Callable<GetSessionTokenResult>() {
             public GetSessionTokenResult call() throws Exception {
             	GetSessionTokenResult result;
                 try {
             		result = getSessionToken(getSessionTokenRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -414,7 +455,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<GetFederationTokenResult> getFederationTokenAsync(final GetFederationTokenRequest getFederationTokenRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
+        return submit(new Callable<GetFederationTokenResult>() {
             public GetFederationTokenResult call() throws Exception {
                 return getFederationToken(getFederationTokenRequest);
 		    }
@@ -472,11 +513,13 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final GetFederationTokenRequest getFederationTokenRequest,
             final AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
+        return submit(new Callable<GetFederationTokenResult>() {
             public GetFederationTokenResult call() throws Exception {
             	GetFederationTokenResult result;
                 try {
             		result = getFederationToken(getFederationTokenRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -543,7 +586,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<AssumeRoleResult> assumeRoleAsync(final AssumeRoleRequest assumeRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleResult>() {
+        return submit(new Callable<AssumeRoleResult>() {
             public AssumeRoleResult call() throws Exception {
                 return assumeRole(assumeRoleRequest);
 		    }
@@ -613,11 +656,13 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final AssumeRoleRequest assumeRoleRequest,
             final AsyncHandler<AssumeRoleRequest, AssumeRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleResult>() {
+        return submit(new Callable<AssumeRoleResult>() {
             public AssumeRoleResult call() throws Exception {
             	AssumeRoleResult result;
                 try {
             		result = assumeRole(assumeRoleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -55,6 +57,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -244,6 +248,41 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -279,7 +318,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteIdentityResult> deleteIdentityAsync(final DeleteIdentityRequest deleteIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
+        return submit(new Callable<DeleteIdentityResult>() {
             public DeleteIdentityResult call() throws Exception {
                 return deleteIdentity(deleteIdentityRequest);
 		    }
@@ -316,11 +355,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityRequest deleteIdentityRequest,
             final AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
+        return submit(new Callable<DeleteIdentityResult>() {
             public DeleteIdentityResult call() throws Exception {
             	DeleteIdentityResult result;
                 try {
             		result = deleteIdentity(deleteIdentityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -360,7 +401,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
+        return submit(new Callable<ListVerifiedEmailAddressesResult>() {
             public ListVerifiedEmailAddressesResult call() throws Exception {
                 return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
 		    }
@@ -403,11 +444,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
             final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
+        return submit(new Callable<ListVerifiedEmailAddressesResult>() {
             public ListVerifiedEmailAddressesResult call() throws Exception {
             	ListVerifiedEmailAddressesResult result;
                 try {
             		result = listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -446,7 +489,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendStatisticsResult> getSendStatisticsAsync(final GetSendStatisticsRequest getSendStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
+        return submit(new Callable<GetSendStatisticsResult>() {
             public GetSendStatisticsResult call() throws Exception {
                 return getSendStatistics(getSendStatisticsRequest);
 		    }
@@ -488,11 +531,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendStatisticsRequest getSendStatisticsRequest,
             final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
+        return submit(new Callable<GetSendStatisticsResult>() {
             public GetSendStatisticsResult call() throws Exception {
             	GetSendStatisticsResult result;
                 try {
             		result = getSendStatistics(getSendStatisticsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -527,7 +572,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(final VerifyEmailIdentityRequest verifyEmailIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
+        return submit(new Callable<VerifyEmailIdentityResult>() {
             public VerifyEmailIdentityResult call() throws Exception {
                 return verifyEmailIdentity(verifyEmailIdentityRequest);
 		    }
@@ -565,11 +610,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest,
             final AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
+        return submit(new Callable<VerifyEmailIdentityResult>() {
             public VerifyEmailIdentityResult call() throws Exception {
             	VerifyEmailIdentityResult result;
                 try {
             		result = verifyEmailIdentity(verifyEmailIdentityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -607,7 +654,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
+        return submit(new Callable<GetIdentityNotificationAttributesResult>() {
             public GetIdentityNotificationAttributesResult call() throws Exception {
                 return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
 		    }
@@ -648,11 +695,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest,
             final AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
+        return submit(new Callable<GetIdentityNotificationAttributesResult>() {
             public GetIdentityNotificationAttributesResult call() throws Exception {
             	GetIdentityNotificationAttributesResult result;
                 try {
             		result = getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -702,7 +751,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(final VerifyDomainDkimRequest verifyDomainDkimRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
+        return submit(new Callable<VerifyDomainDkimResult>() {
             public VerifyDomainDkimResult call() throws Exception {
                 return verifyDomainDkim(verifyDomainDkimRequest);
 		    }
@@ -755,11 +804,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainDkimRequest verifyDomainDkimRequest,
             final AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
+        return submit(new Callable<VerifyDomainDkimResult>() {
             public VerifyDomainDkimResult call() throws Exception {
             	VerifyDomainDkimResult result;
                 try {
             		result = verifyDomainDkim(verifyDomainDkimRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -816,7 +867,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
+        return submit(new Callable<GetIdentityDkimAttributesResult>() {
             public GetIdentityDkimAttributesResult call() throws Exception {
                 return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
 		    }
@@ -876,11 +927,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest,
             final AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
+        return submit(new Callable<GetIdentityDkimAttributesResult>() {
             public GetIdentityDkimAttributesResult call() throws Exception {
             	GetIdentityDkimAttributesResult result;
                 try {
             		result = getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -920,7 +973,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> verifyEmailAddressAsync(final VerifyEmailAddressRequest verifyEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 verifyEmailAddress(verifyEmailAddressRequest);
                 return null;
@@ -964,10 +1017,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailAddressRequest verifyEmailAddressRequest,
             final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		verifyEmailAddress(verifyEmailAddressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1028,7 +1083,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendRawEmailResult> sendRawEmailAsync(final SendRawEmailRequest sendRawEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
+        return submit(new Callable<SendRawEmailResult>() {
             public SendRawEmailResult call() throws Exception {
                 return sendRawEmail(sendRawEmailRequest);
 		    }
@@ -1092,11 +1147,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendRawEmailRequest sendRawEmailRequest,
             final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
+        return submit(new Callable<SendRawEmailResult>() {
             public SendRawEmailResult call() throws Exception {
             	SendRawEmailResult result;
                 try {
             		result = sendRawEmail(sendRawEmailRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1131,7 +1188,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListIdentitiesResult> listIdentitiesAsync(final ListIdentitiesRequest listIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
+        return submit(new Callable<ListIdentitiesResult>() {
             public ListIdentitiesResult call() throws Exception {
                 return listIdentities(listIdentitiesRequest);
 		    }
@@ -1169,11 +1226,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
+        return submit(new Callable<ListIdentitiesResult>() {
             public ListIdentitiesResult call() throws Exception {
             	ListIdentitiesResult result;
                 try {
             		result = listIdentities(listIdentitiesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1209,7 +1268,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
+        return submit(new Callable<GetIdentityVerificationAttributesResult>() {
             public GetIdentityVerificationAttributesResult call() throws Exception {
                 return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
 		    }
@@ -1248,11 +1307,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest,
             final AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
+        return submit(new Callable<GetIdentityVerificationAttributesResult>() {
             public GetIdentityVerificationAttributesResult call() throws Exception {
             	GetIdentityVerificationAttributesResult result;
                 try {
             		result = getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1307,7 +1368,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
+        return submit(new Callable<SetIdentityDkimEnabledResult>() {
             public SetIdentityDkimEnabledResult call() throws Exception {
                 return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
 		    }
@@ -1365,11 +1426,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest,
             final AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
+        return submit(new Callable<SetIdentityDkimEnabledResult>() {
             public SetIdentityDkimEnabledResult call() throws Exception {
             	SetIdentityDkimEnabledResult result;
                 try {
             		result = setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1401,7 +1464,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendQuotaResult> getSendQuotaAsync(final GetSendQuotaRequest getSendQuotaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
+        return submit(new Callable<GetSendQuotaResult>() {
             public GetSendQuotaResult call() throws Exception {
                 return getSendQuota(getSendQuotaRequest);
 		    }
@@ -1436,11 +1499,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendQuotaRequest getSendQuotaRequest,
             final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
+        return submit(new Callable<GetSendQuotaResult>() {
             public GetSendQuotaResult call() throws Exception {
             	GetSendQuotaResult result;
                 try {
             		result = getSendQuota(getSendQuotaRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1480,7 +1545,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
+        return submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
             public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
                 return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
 		    }
@@ -1523,11 +1588,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest,
             final AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
+        return submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
             public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
             	SetIdentityFeedbackForwardingEnabledResult result;
                 try {
             		result = setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1561,7 +1628,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(final VerifyDomainIdentityRequest verifyDomainIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
+        return submit(new Callable<VerifyDomainIdentityResult>() {
             public VerifyDomainIdentityResult call() throws Exception {
                 return verifyDomainIdentity(verifyDomainIdentityRequest);
 		    }
@@ -1598,11 +1665,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest,
             final AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
+        return submit(new Callable<VerifyDomainIdentityResult>() {
             public VerifyDomainIdentityResult call() throws Exception {
             	VerifyDomainIdentityResult result;
                 try {
             		result = verifyDomainIdentity(verifyDomainIdentityRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1660,7 +1729,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
+        return submit(new Callable<SendEmailResult>() {
             public SendEmailResult call() throws Exception {
                 return sendEmail(sendEmailRequest);
 		    }
@@ -1721,11 +1790,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendEmailRequest sendEmailRequest,
             final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
+        return submit(new Callable<SendEmailResult>() {
             public SendEmailResult call() throws Exception {
             	SendEmailResult result;
                 try {
             		result = sendEmail(sendEmailRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1765,7 +1836,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> deleteVerifiedEmailAddressAsync(final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
                 return null;
@@ -1809,10 +1880,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
             final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1853,7 +1926,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
+        return submit(new Callable<SetIdentityNotificationTopicResult>() {
             public SetIdentityNotificationTopicResult call() throws Exception {
                 return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
 		    }
@@ -1897,11 +1970,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest,
             final AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
+        return submit(new Callable<SetIdentityNotificationTopicResult>() {
             public SetIdentityNotificationTopicResult call() throws Exception {
             	SetIdentityNotificationTopicResult result;
                 try {
             		result = setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
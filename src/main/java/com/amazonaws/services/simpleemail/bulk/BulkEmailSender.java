@@ -0,0 +1,374 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.simpleemail.bulk;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailServiceAsync;
+import com.amazonaws.services.simpleemail.model.GetSendQuotaRequest;
+import com.amazonaws.services.simpleemail.model.GetSendQuotaResult;
+import com.amazonaws.services.simpleemail.model.SendEmailRequest;
+import com.amazonaws.services.simpleemail.model.SendEmailResult;
+import com.amazonaws.services.simpleemail.model.SendRawEmailRequest;
+import com.amazonaws.services.simpleemail.model.SendRawEmailResult;
+
+/**
+ * Sends email through Amazon SES at the account's maximum send rate, from any
+ * number of threads, without running into send rate throttling.
+ * <p>
+ * The sender reads the account's sending quota with GetSendQuota and paces
+ * all sends with a token bucket shared by the calling threads: a call to
+ * {@link #sendEmail(SendEmailRequest)} or
+ * {@link #sendRawEmail(SendRawEmailRequest)} waits for its turn, if the rate
+ * is used up, and then hands the send to the asynchronous client, so that as
+ * many sends as the client's executor allows are in flight at once. The quota
+ * is read again periodically and as soon as a send is throttled for
+ * exceeding the maximum send rate, so the pace follows quota changes. A send
+ * throttled for the send rate is paced again and resent rather than backed
+ * off exponentially; configuring the asynchronous client with a low
+ * {@link com.amazonaws.ClientConfiguration#setMaxErrorRetry(int) maxErrorRetry}
+ * leaves those retries to the sender.
+ * <p>
+ * The daily sending quota is not enforced; sends beyond it fail with the
+ * service's error.
+ */
+public class BulkEmailSender {
+
+    private static final Log log = LogFactory.getLog(BulkEmailSender.class);
+
+    /** The message SES throttles sends over the maximum send rate with. */
+    private static final String SEND_RATE_EXCEEDED_MESSAGE = "Maximum sending rate exceeded";
+
+    /** Minimum time, in milliseconds, between quota reads caused by throttling. */
+    private static final long MIN_THROTTLED_QUOTA_REFRESH_MS = 1000;
+
+    private final AmazonSimpleEmailServiceAsync ses;
+
+    private final BulkEmailSenderConfig config;
+
+    private final SendRateLimiter rateLimiter;
+
+    /** Runs quota reads and delayed resends of throttled sends. */
+    private final ScheduledExecutorService scheduler;
+
+    private volatile GetSendQuotaResult sendQuota;
+
+    /** When, in milliseconds, the last quota read caused by throttling was started. */
+    private final AtomicLong lastThrottledQuotaRefresh = new AtomicLong();
+
+    private final Runnable refreshQuotaTask = new Runnable() {
+        public void run() {
+            try {
+                refreshSendQuota();
+            } catch (Exception e) {
+                log.warn("Unable to read the SES sending quota, keeping the send rate of "
+                        + rateLimiter.getRate() + " per second", e);
+            }
+        }
+    };
+
+    /**
+     * Constructs a sender that uses the account's whole maximum send rate.
+     * Reads the sending quota before returning.
+     *
+     * @param ses
+     *            The asynchronous client to send with. It is not shut down by
+     *            {@link #shutdown()}.
+     *
+     * @throws AmazonClientException
+     *             If the sending quota cannot be read.
+     */
+    public BulkEmailSender(AmazonSimpleEmailServiceAsync ses) {
+        this(ses, new BulkEmailSenderConfig());
+    }
+
+    /**
+     * Constructs a sender with the specified configuration. Reads the sending
+     * quota before returning.
+     *
+     * @param ses
+     *            The asynchronous client to send with. It is not shut down by
+     *            {@link #shutdown()}.
+     * @param config
+     *            The pacing options; copied, so later changes to it have no
+     *            effect on this sender.
+     *
+     * @throws AmazonClientException
+     *             If the sending quota cannot be read.
+     */
+    public BulkEmailSender(AmazonSimpleEmailServiceAsync ses, BulkEmailSenderConfig config) {
+        if (ses == null) throw new IllegalArgumentException("SES client must be specified");
+        this.ses = ses;
+        this.config = new BulkEmailSenderConfig(config);
+        this.config.validate();
+
+        GetSendQuotaResult quota = ses.getSendQuota(new GetSendQuotaRequest());
+        this.rateLimiter = new SendRateLimiter(allowedRate(quota));
+        this.sendQuota = quota;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r);
+                thread.setDaemon(true);
+                thread.setName("ses-bulk-sender");
+                return thread;
+            }
+        });
+        long interval = this.config.getQuotaRefreshIntervalMs();
+        scheduler.scheduleWithFixedDelay(refreshQuotaTask, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends an email once the send rate allows it. Blocks the calling thread
+     * only while waiting for its turn; the send itself is asynchronous.
+     *
+     * @param request
+     *            The email to send.
+     *
+     * @return A future for the result of the send. Its get methods throw an
+     *         ExecutionException with the service or client error if the send
+     *         fails.
+     *
+     * @throws AmazonClientException
+     *             If the calling thread is interrupted while waiting for its
+     *             turn.
+     */
+    public Future<SendEmailResult> sendEmail(SendEmailRequest request) {
+        SendTask<SendEmailRequest, SendEmailResult> task = new SendTask<SendEmailRequest, SendEmailResult>(request) {
+            @Override
+            void send() {
+                ses.sendEmailAsync(request, this);
+            }
+        };
+        awaitTurn();
+        task.run();
+        return task.future;
+    }
+
+    /**
+     * Sends a raw email once the send rate allows it. Blocks the calling
+     * thread only while waiting for its turn; the send itself is
+     * asynchronous.
+     *
+     * @param request
+     *            The raw email to send.
+     *
+     * @return A future for the result of the send. Its get methods throw an
+     *         ExecutionException with the service or client error if the send
+     *         fails.
+     *
+     * @throws AmazonClientException
+     *             If the calling thread is interrupted while waiting for its
+     *             turn.
+     */
+    public Future<SendRawEmailResult> sendRawEmail(SendRawEmailRequest request) {
+        SendTask<SendRawEmailRequest, SendRawEmailResult> task = new SendTask<SendRawEmailRequest, SendRawEmailResult>(request) {
+            @Override
+            void send() {
+                ses.sendRawEmailAsync(request, this);
+            }
+        };
+        awaitTurn();
+        task.run();
+        return task.future;
+    }
+
+    /**
+     * Returns the sending quota most recently read from SES.
+     *
+     * @return The most recently read sending quota.
+     */
+    public GetSendQuotaResult getSendQuota() {
+        return sendQuota;
+    }
+
+    /**
+     * Returns the rate, in sends per second, the sender currently paces
+     * sends at.
+     *
+     * @return The current send rate.
+     */
+    public double getSendRate() {
+        return rateLimiter.getRate();
+    }
+
+    /**
+     * Stops reading the sending quota. Throttled sends already waiting to be
+     * resent are still resent, but sends throttled from now on fail with an
+     * AmazonClientException.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Reads the sending quota and adopts its maximum send rate.
+     */
+    private void refreshSendQuota() {
+        GetSendQuotaResult quota = ses.getSendQuota(new GetSendQuotaRequest());
+        double rate = allowedRate(quota);
+        if (rateLimiter.setRate(rate)) {
+            log.info("SES send rate changed to " + rate + " per second");
+        }
+        sendQuota = quota;
+    }
+
+    private double allowedRate(GetSendQuotaResult quota) {
+        Double maxSendRate = quota.getMaxSendRate();
+        if (maxSendRate == null || !(maxSendRate > 0)) {
+            throw new AmazonClientException("SES sending quota has no maximum send rate: " + quota);
+        }
+        return maxSendRate * config.getSendRateFraction();
+    }
+
+    /**
+     * Reads the sending quota in the background, unless that was done less
+     * than a second ago because of throttling.
+     */
+    private void refreshSendQuotaSoon() {
+        long now = System.currentTimeMillis();
+        long last = lastThrottledQuotaRefresh.get();
+        if (now - last >= MIN_THROTTLED_QUOTA_REFRESH_MS && lastThrottledQuotaRefresh.compareAndSet(last, now)) {
+            try {
+                scheduler.execute(refreshQuotaTask);
+            } catch (RejectedExecutionException ree) {
+                // shut down
+            }
+        }
+    }
+
+    private void awaitTurn() {
+        long waitNanos = rateLimiter.reserve();
+        if (waitNanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting to send", e);
+        }
+    }
+
+    private static boolean isSendRateThrottle(Exception e) {
+        if (!(e instanceof AmazonServiceException)) return false;
+        AmazonServiceException ase = (AmazonServiceException)e;
+        return "Throttling".equals(ase.getErrorCode())
+            && ase.getMessage() != null
+            && ase.getMessage().contains(SEND_RATE_EXCEEDED_MESSAGE);
+    }
+
+    /**
+     * One send, which completes its future when it succeeds, fails with
+     * anything but send rate throttling, or runs out of throttle retries.
+     */
+    private abstract class SendTask<X extends AmazonWebServiceRequest, Y> implements Runnable, AsyncHandler<X, Y> {
+        final X request;
+        final SendFuture<Y> future = new SendFuture<Y>();
+        private int throttleRetries;
+
+        SendTask(X request) {
+            this.request = request;
+        }
+
+        /** Hands the request to the asynchronous client, with this as handler. */
+        abstract void send();
+
+        public void run() {
+            try {
+                send();
+            } catch (RuntimeException e) {
+                future.complete(null, e);
+            }
+        }
+
+        public void onSuccess(X request, Y result) {
+            future.complete(result, null);
+        }
+
+        public void onError(Exception exception) {
+            if (!isSendRateThrottle(exception) || throttleRetries >= config.getMaxThrottleRetries()) {
+                future.complete(null, exception);
+                return;
+            }
+            throttleRetries++;
+            refreshSendQuotaSoon();
+            try {
+                scheduler.schedule(this, rateLimiter.reserve(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException ree) {
+                future.complete(null, new AmazonClientException("Bulk email sender is shut down", exception));
+            }
+        }
+    }
+
+    /**
+     * Future completed by a {@link SendTask}. A send cannot be taken back once
+     * handed to the client, so it cannot be cancelled.
+     */
+    private static final class SendFuture<Y> implements Future<Y> {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Y result;
+        private volatile Throwable failure;
+
+        void complete(Y result, Throwable failure) {
+            if (done.getCount() == 0) return;
+            this.result = result;
+            this.failure = failure;
+            done.countDown();
+        }
+
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return false;
+        }
+
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        public Y get() throws InterruptedException, ExecutionException {
+            done.await();
+            return report();
+        }
+
+        public Y get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if (!done.await(timeout, unit)) throw new TimeoutException();
+            return report();
+        }
+
+        private Y report() throws ExecutionException {
+            if (failure != null) throw new ExecutionException(failure);
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.simpleemail.bulk;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Configuration options for how a {@link BulkEmailSender} paces its sends.
+ */
+public class BulkEmailSenderConfig {
+
+    /**
+     * The fraction of the account's maximum send rate that the sender uses.
+     * Lower it when other senders share the account's sending quota.
+     */
+    private double sendRateFraction = SEND_RATE_FRACTION_DEFAULT;
+
+    /** the whole maximum send rate */
+    public static final double SEND_RATE_FRACTION_DEFAULT = 1.0;
+
+    /**
+     * How often, in milliseconds, the sender reads the account's sending
+     * quota to pick up changes to the maximum send rate. The quota is also
+     * read whenever a send is throttled for exceeding the maximum send rate.
+     */
+    private long quotaRefreshIntervalMs = QUOTA_REFRESH_INTERVAL_MS_DEFAULT;
+
+    /** 5 minutes */
+    public static final long QUOTA_REFRESH_INTERVAL_MS_DEFAULT = 5 * 60 * 1000;
+
+    /**
+     * How many times a send that is throttled for exceeding the maximum send
+     * rate is paced again and resent before its failure is reported.
+     */
+    private int maxThrottleRetries = MAX_THROTTLE_RETRIES_DEFAULT;
+
+    /** 5 retries */
+    public static final int MAX_THROTTLE_RETRIES_DEFAULT = 5;
+
+    public BulkEmailSenderConfig() {}
+
+    /** copy constructor */
+    public BulkEmailSenderConfig(BulkEmailSenderConfig other) {
+        this.sendRateFraction = other.sendRateFraction;
+        this.quotaRefreshIntervalMs = other.quotaRefreshIntervalMs;
+        this.maxThrottleRetries = other.maxThrottleRetries;
+    }
+
+    /**
+     * @return the fraction of the account's maximum send rate that the sender
+     *         uses.
+     */
+    public double getSendRateFraction() {
+        return sendRateFraction;
+    }
+
+    /**
+     * @param sendRateFraction
+     *            the fraction, greater than 0 and at most 1, of the account's
+     *            maximum send rate that the sender uses. Lower it when other
+     *            senders share the account's sending quota.
+     */
+    public void setSendRateFraction(double sendRateFraction) {
+        this.sendRateFraction = sendRateFraction;
+    }
+
+    public BulkEmailSenderConfig withSendRateFraction(double sendRateFraction) {
+        setSendRateFraction(sendRateFraction);
+        return this;
+    }
+
+    /**
+     * @return how often, in milliseconds, the sender reads the account's
+     *         sending quota.
+     */
+    public long getQuotaRefreshIntervalMs() {
+        return quotaRefreshIntervalMs;
+    }
+
+    /**
+     * @param quotaRefreshIntervalMs
+     *            how often, in milliseconds, the sender reads the account's
+     *            sending quota to pick up changes to the maximum send rate.
+     */
+    public void setQuotaRefreshIntervalMs(long quotaRefreshIntervalMs) {
+        this.quotaRefreshIntervalMs = quotaRefreshIntervalMs;
+    }
+
+    public BulkEmailSenderConfig withQuotaRefreshIntervalMs(long quotaRefreshIntervalMs) {
+        setQuotaRefreshIntervalMs(quotaRefreshIntervalMs);
+        return this;
+    }
+
+    /**
+     * @return how many times a send throttled for exceeding the maximum send
+     *         rate is resent before its failure is reported.
+     */
+    public int getMaxThrottleRetries() {
+        return maxThrottleRetries;
+    }
+
+    /**
+     * @param maxThrottleRetries
+     *            how many times a send that is throttled for exceeding the
+     *            maximum send rate is paced again and resent before its
+     *            failure is reported. 0 reports the first throttle.
+     */
+    public void setMaxThrottleRetries(int maxThrottleRetries) {
+        this.maxThrottleRetries = maxThrottleRetries;
+    }
+
+    public BulkEmailSenderConfig withMaxThrottleRetries(int maxThrottleRetries) {
+        setMaxThrottleRetries(maxThrottleRetries);
+        return this;
+    }
+
+    /**
+     * this method checks the config for validity. If the config is deemed to
+     * be invalid, an informative exception is thrown.
+     *
+     * @throws AmazonClientException
+     *             with a message explaining why the config was invalid
+     */
+    void validate() {
+        if (!(sendRateFraction > 0 && sendRateFraction <= 1)) {
+            throw new AmazonClientException("Config property sendRateFraction must be greater than 0 and at most 1.");
+        }
+        if (quotaRefreshIntervalMs <= 0) {
+            throw new AmazonClientException("Config property quotaRefreshIntervalMs must be positive.");
+        }
+        if (maxThrottleRetries < 0) {
+            throw new AmazonClientException("Config property maxThrottleRetries may not be negative.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BulkEmailSenderConfig [sendRateFraction=" + sendRateFraction
+                + ", quotaRefreshIntervalMs=" + quotaRefreshIntervalMs
+                + ", maxThrottleRetries=" + maxThrottleRetries + "]";
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.simpleemail.bulk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket holding a single token, shared by all the threads sending
+ * through one {@link BulkEmailSender}: sends are spaced evenly at the allowed
+ * rate, so that no one second window ever holds more than one send over the
+ * rate, no matter how many threads send at once.
+ * <p>
+ * Each send reserves the next free slot with a compare-and-set and then
+ * waits, outside of any lock, until its slot comes up. Time left unused while
+ * no one sends is not saved up for a later burst.
+ */
+class SendRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /** The time, in System.nanoTime() terms, of the next free send slot. */
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+    /** Nanoseconds between sends at the current rate. */
+    private volatile long intervalNanos;
+
+    SendRateLimiter(double sendsPerSecond) {
+        setRate(sendsPerSecond);
+    }
+
+    /**
+     * Changes the allowed rate. Slots already reserved are kept; later ones
+     * are spaced at the new rate.
+     *
+     * @return Whether the spacing between sends changed.
+     */
+    boolean setRate(double sendsPerSecond) {
+        long newIntervalNanos = Math.max(1, (long)(NANOS_PER_SECOND / sendsPerSecond));
+        if (newIntervalNanos == intervalNanos) return false;
+        intervalNanos = newIntervalNanos;
+        return true;
+    }
+
+    /** Returns the allowed rate, in sends per second. */
+    double getRate() {
+        return (double)NANOS_PER_SECOND / intervalNanos;
+    }
+
+    /**
+     * Reserves the next free send slot.
+     *
+     * @return How long, in nanoseconds, the caller must wait before sending.
+     */
+    long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long slot = nextSlot.get();
+            long start = (slot - now > 0) ? slot : now;
+            if (nextSlot.compareAndSet(slot, start + intervalNanos)) {
+                return start - now;
+            }
+        }
+    }
+
+}
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -336,6 +338,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -525,6 +529,41 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -602,7 +641,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateWorkflowTypeAsync(final DeprecateWorkflowTypeRequest deprecateWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deprecateWorkflowType(deprecateWorkflowTypeRequest);
                 return null;
@@ -682,10 +721,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateWorkflowTypeRequest deprecateWorkflowTypeRequest,
             final AsyncHandler<DeprecateWorkflowTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deprecateWorkflowType(deprecateWorkflowTypeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -752,7 +793,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateDomainAsync(final DeprecateDomainRequest deprecateDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deprecateDomain(deprecateDomainRequest);
                 return null;
@@ -823,10 +864,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateDomainRequest deprecateDomainRequest,
             final AsyncHandler<DeprecateDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deprecateDomain(deprecateDomainRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -907,7 +950,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerWorkflowTypeAsync(final RegisterWorkflowTypeRequest registerWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 registerWorkflowType(registerWorkflowTypeRequest);
                 return null;
@@ -992,10 +1035,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterWorkflowTypeRequest registerWorkflowTypeRequest,
             final AsyncHandler<RegisterWorkflowTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		registerWorkflowType(registerWorkflowTypeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1055,7 +1100,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowTypeInfos> listWorkflowTypesAsync(final ListWorkflowTypesRequest listWorkflowTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeInfos>() {
+        return submit(new Callable<WorkflowTypeInfos>() {
             public WorkflowTypeInfos call() throws Exception {
                 return listWorkflowTypes(listWorkflowTypesRequest);
 		    }
@@ -1118,11 +1163,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListWorkflowTypesRequest listWorkflowTypesRequest,
             final AsyncHandler<ListWorkflowTypesRequest, WorkflowTypeInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeInfos>() {
+        return submit(new Callable<WorkflowTypeInfos>() {
             public WorkflowTypeInfos call() throws Exception {
             	WorkflowTypeInfos result;
                 try {
             		result = listWorkflowTypes(listWorkflowTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1206,7 +1253,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Run> startWorkflowExecutionAsync(final StartWorkflowExecutionRequest startWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Run>() {
+        return submit(new Callable<Run>() {
             public Run call() throws Exception {
                 return startWorkflowExecution(startWorkflowExecutionRequest);
 		    }
@@ -1293,11 +1340,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final StartWorkflowExecutionRequest startWorkflowExecutionRequest,
             final AsyncHandler<StartWorkflowExecutionRequest, Run> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Run>() {
+        return submit(new Callable<Run>() {
             public Run call() throws Exception {
             	Run result;
                 try {
             		result = startWorkflowExecution(startWorkflowExecutionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1370,7 +1419,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> signalWorkflowExecutionAsync(final SignalWorkflowExecutionRequest signalWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 signalWorkflowExecution(signalWorkflowExecutionRequest);
                 return null;
@@ -1447,10 +1496,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final SignalWorkflowExecutionRequest signalWorkflowExecutionRequest,
             final AsyncHandler<SignalWorkflowExecutionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		signalWorkflowExecution(signalWorkflowExecutionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1516,7 +1567,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DomainInfos> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainInfos>() {
+        return submit(new Callable<DomainInfos>() {
             public DomainInfos call() throws Exception {
                 return listDomains(listDomainsRequest);
 		    }
@@ -1585,11 +1636,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, DomainInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainInfos>() {
+        return submit(new Callable<DomainInfos>() {
             public DomainInfos call() throws Exception {
             	DomainInfos result;
                 try {
             		result = listDomains(listDomainsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1665,7 +1718,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> requestCancelWorkflowExecutionAsync(final RequestCancelWorkflowExecutionRequest requestCancelWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 requestCancelWorkflowExecution(requestCancelWorkflowExecutionRequest);
                 return null;
@@ -1745,10 +1798,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RequestCancelWorkflowExecutionRequest requestCancelWorkflowExecutionRequest,
             final AsyncHandler<RequestCancelWorkflowExecutionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		requestCancelWorkflowExecution(requestCancelWorkflowExecutionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1818,7 +1873,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowTypeDetail> describeWorkflowTypeAsync(final DescribeWorkflowTypeRequest describeWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeDetail>() {
+        return submit(new Callable<WorkflowTypeDetail>() {
             public WorkflowTypeDetail call() throws Exception {
                 return describeWorkflowType(describeWorkflowTypeRequest);
 		    }
@@ -1891,11 +1946,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowTypeRequest describeWorkflowTypeRequest,
             final AsyncHandler<DescribeWorkflowTypeRequest, WorkflowTypeDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeDetail>() {
+        return submit(new Callable<WorkflowTypeDetail>() {
             public WorkflowTypeDetail call() throws Exception {
             	WorkflowTypeDetail result;
                 try {
             		result = describeWorkflowType(describeWorkflowTypeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1970,7 +2027,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateActivityTypeAsync(final DeprecateActivityTypeRequest deprecateActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 deprecateActivityType(deprecateActivityTypeRequest);
                 return null;
@@ -2049,10 +2106,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateActivityTypeRequest deprecateActivityTypeRequest,
             final AsyncHandler<DeprecateActivityTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		deprecateActivityType(deprecateActivityTypeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2127,7 +2186,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionCount> countClosedWorkflowExecutionsAsync(final CountClosedWorkflowExecutionsRequest countClosedWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
+        return submit(new Callable<WorkflowExecutionCount>() {
             public WorkflowExecutionCount call() throws Exception {
                 return countClosedWorkflowExecutions(countClosedWorkflowExecutionsRequest);
 		    }
@@ -2205,11 +2264,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountClosedWorkflowExecutionsRequest countClosedWorkflowExecutionsRequest,
             final AsyncHandler<CountClosedWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
+        return submit(new Callable<WorkflowExecutionCount>() {
             public WorkflowExecutionCount call() throws Exception {
             	WorkflowExecutionCount result;
                 try {
             		result = countClosedWorkflowExecutions(countClosedWorkflowExecutionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2273,7 +2334,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<PendingTaskCount> countPendingActivityTasksAsync(final CountPendingActivityTasksRequest countPendingActivityTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
+        return submit(new Callable<PendingTaskCount>() {
             public PendingTaskCount call() throws Exception {
                 return countPendingActivityTasks(countPendingActivityTasksRequest);
 		    }
@@ -2340,11 +2401,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingActivityTasksRequest countPendingActivityTasksRequest,
             final AsyncHandler<CountPendingActivityTasksRequest, PendingTaskCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
+        return submit(new Callable<PendingTaskCount>() {
             public PendingTaskCount call() throws Exception {
             	PendingTaskCount result;
                 try {
             		result = countPendingActivityTasks(countPendingActivityTasksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2425,7 +2488,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskCanceledAsync(final RespondActivityTaskCanceledRequest respondActivityTaskCanceledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 respondActivityTaskCanceled(respondActivityTaskCanceledRequest);
                 return null;
@@ -2510,10 +2573,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCanceledRequest respondActivityTaskCanceledRequest,
             final AsyncHandler<RespondActivityTaskCanceledRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		respondActivityTaskCanceled(respondActivityTaskCanceledRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2569,7 +2634,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondDecisionTaskCompletedAsync(final RespondDecisionTaskCompletedRequest respondDecisionTaskCompletedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 respondDecisionTaskCompleted(respondDecisionTaskCompletedRequest);
                 return null;
@@ -2629,10 +2694,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondDecisionTaskCompletedRequest respondDecisionTaskCompletedRequest,
             final AsyncHandler<RespondDecisionTaskCompletedRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		respondDecisionTaskCompleted(respondDecisionTaskCompletedRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2711,7 +2778,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskCompletedAsync(final RespondActivityTaskCompletedRequest respondActivityTaskCompletedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 respondActivityTaskCompleted(respondActivityTaskCompletedRequest);
                 return null;
@@ -2794,10 +2861,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCompletedRequest respondActivityTaskCompletedRequest,
             final AsyncHandler<RespondActivityTaskCompletedRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		respondActivityTaskCompleted(respondActivityTaskCompletedRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2872,7 +2941,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTask> pollForActivityTaskAsync(final PollForActivityTaskRequest pollForActivityTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTask>() {
+        return submit(new Callable<ActivityTask>() {
             public ActivityTask call() throws Exception {
                 return pollForActivityTask(pollForActivityTaskRequest);
 		    }
@@ -2950,11 +3019,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForActivityTaskRequest pollForActivityTaskRequest,
             final AsyncHandler<PollForActivityTaskRequest, ActivityTask> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTask>() {
+        return submit(new Callable<ActivityTask>() {
             public ActivityTask call() throws Exception {
             	ActivityTask result;
                 try {
             		result = pollForActivityTask(pollForActivityTaskRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3029,7 +3100,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionCount> countOpenWorkflowExecutionsAsync(final CountOpenWorkflowExecutionsRequest countOpenWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
+        return submit(new Callable<WorkflowExecutionCount>() {
             public WorkflowExecutionCount call() throws Exception {
                 return countOpenWorkflowExecutions(countOpenWorkflowExecutionsRequest);
 		    }
@@ -3107,11 +3178,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountOpenWorkflowExecutionsRequest countOpenWorkflowExecutionsRequest,
             final AsyncHandler<CountOpenWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
+        return submit(new Callable<WorkflowExecutionCount>() {
             public WorkflowExecutionCount call() throws Exception {
             	WorkflowExecutionCount result;
                 try {
             		result = countOpenWorkflowExecutions(countOpenWorkflowExecutionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3181,7 +3254,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTypeDetail> describeActivityTypeAsync(final DescribeActivityTypeRequest describeActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeDetail>() {
+        return submit(new Callable<ActivityTypeDetail>() {
             public ActivityTypeDetail call() throws Exception {
                 return describeActivityType(describeActivityTypeRequest);
 		    }
@@ -3254,11 +3327,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeActivityTypeRequest describeActivityTypeRequest,
             final AsyncHandler<DescribeActivityTypeRequest, ActivityTypeDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeDetail>() {
+        return submit(new Callable<ActivityTypeDetail>() {
             public ActivityTypeDetail call() throws Exception {
             	ActivityTypeDetail result;
                 try {
             		result = describeActivityType(describeActivityTypeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3335,7 +3410,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionInfos> listOpenWorkflowExecutionsAsync(final ListOpenWorkflowExecutionsRequest listOpenWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
+        return submit(new Callable<WorkflowExecutionInfos>() {
             public WorkflowExecutionInfos call() throws Exception {
                 return listOpenWorkflowExecutions(listOpenWorkflowExecutionsRequest);
 		    }
@@ -3415,11 +3490,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListOpenWorkflowExecutionsRequest listOpenWorkflowExecutionsRequest,
             final AsyncHandler<ListOpenWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
+        return submit(new Callable<WorkflowExecutionInfos>() {
             public WorkflowExecutionInfos call() throws Exception {
             	WorkflowExecutionInfos result;
                 try {
             		result = listOpenWorkflowExecutions(listOpenWorkflowExecutionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3486,7 +3563,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<History> getWorkflowExecutionHistoryAsync(final GetWorkflowExecutionHistoryRequest getWorkflowExecutionHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<History>() {
+        return submit(new Callable<History>() {
             public History call() throws Exception {
                 return getWorkflowExecutionHistory(getWorkflowExecutionHistoryRequest);
 		    }
@@ -3556,11 +3633,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final GetWorkflowExecutionHistoryRequest getWorkflowExecutionHistoryRequest,
             final AsyncHandler<GetWorkflowExecutionHistoryRequest, History> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<History>() {
+        return submit(new Callable<History>() {
             public History call() throws Exception {
             	History result;
                 try {
             		result = getWorkflowExecutionHistory(getWorkflowExecutionHistoryRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3621,7 +3700,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerDomainAsync(final RegisterDomainRequest registerDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 registerDomain(registerDomainRequest);
                 return null;
@@ -3686,10 +3765,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterDomainRequest registerDomainRequest,
             final AsyncHandler<RegisterDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		registerDomain(registerDomainRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3766,7 +3847,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerActivityTypeAsync(final RegisterActivityTypeRequest registerActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 registerActivityType(registerActivityTypeRequest);
                 return null;
@@ -3847,10 +3928,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterActivityTypeRequest registerActivityTypeRequest,
             final AsyncHandler<RegisterActivityTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		registerActivityType(registerActivityTypeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3927,7 +4010,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionInfos> listClosedWorkflowExecutionsAsync(final ListClosedWorkflowExecutionsRequest listClosedWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
+        return submit(new Callable<WorkflowExecutionInfos>() {
             public WorkflowExecutionInfos call() throws Exception {
                 return listClosedWorkflowExecutions(listClosedWorkflowExecutionsRequest);
 		    }
@@ -4007,11 +4090,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListClosedWorkflowExecutionsRequest listClosedWorkflowExecutionsRequest,
             final AsyncHandler<ListClosedWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
+        return submit(new Callable<WorkflowExecutionInfos>() {
             public WorkflowExecutionInfos call() throws Exception {
             	WorkflowExecutionInfos result;
                 try {
             		result = listClosedWorkflowExecutions(listClosedWorkflowExecutionsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4109,7 +4194,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTaskStatus> recordActivityTaskHeartbeatAsync(final RecordActivityTaskHeartbeatRequest recordActivityTaskHeartbeatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTaskStatus>() {
+        return submit(new Callable<ActivityTaskStatus>() {
             public ActivityTaskStatus call() throws Exception {
                 return recordActivityTaskHeartbeat(recordActivityTaskHeartbeatRequest);
 		    }
@@ -4210,11 +4295,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RecordActivityTaskHeartbeatRequest recordActivityTaskHeartbeatRequest,
             final AsyncHandler<RecordActivityTaskHeartbeatRequest, ActivityTaskStatus> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTaskStatus>() {
+        return submit(new Callable<ActivityTaskStatus>() {
             public ActivityTaskStatus call() throws Exception {
             	ActivityTaskStatus result;
                 try {
             		result = recordActivityTaskHeartbeat(recordActivityTaskHeartbeatRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4302,7 +4389,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DecisionTask> pollForDecisionTaskAsync(final PollForDecisionTaskRequest pollForDecisionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecisionTask>() {
+        return submit(new Callable<DecisionTask>() {
             public DecisionTask call() throws Exception {
                 return pollForDecisionTask(pollForDecisionTaskRequest);
 		    }
@@ -4393,11 +4480,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForDecisionTaskRequest pollForDecisionTaskRequest,
             final AsyncHandler<PollForDecisionTaskRequest, DecisionTask> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecisionTask>() {
+        return submit(new Callable<DecisionTask>() {
             public DecisionTask call() throws Exception {
             	DecisionTask result;
                 try {
             		result = pollForDecisionTask(pollForDecisionTaskRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4460,7 +4549,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTypeInfos> listActivityTypesAsync(final ListActivityTypesRequest listActivityTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeInfos>() {
+        return submit(new Callable<ActivityTypeInfos>() {
             public ActivityTypeInfos call() throws Exception {
                 return listActivityTypes(listActivityTypesRequest);
 		    }
@@ -4526,11 +4615,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListActivityTypesRequest listActivityTypesRequest,
             final AsyncHandler<ListActivityTypesRequest, ActivityTypeInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeInfos>() {
+        return submit(new Callable<ActivityTypeInfos>() {
             public ActivityTypeInfos call() throws Exception {
             	ActivityTypeInfos result;
                 try {
             		result = listActivityTypes(listActivityTypesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4589,7 +4680,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DomainDetail> describeDomainAsync(final DescribeDomainRequest describeDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainDetail>() {
+        return submit(new Callable<DomainDetail>() {
             public DomainDetail call() throws Exception {
                 return describeDomain(describeDomainRequest);
 		    }
@@ -4651,11 +4742,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeDomainRequest describeDomainRequest,
             final AsyncHandler<DescribeDomainRequest, DomainDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainDetail>() {
+        return submit(new Callable<DomainDetail>() {
             public DomainDetail call() throws Exception {
             	DomainDetail result;
                 try {
             		result = describeDomain(describeDomainRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4728,7 +4821,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskFailedAsync(final RespondActivityTaskFailedRequest respondActivityTaskFailedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 respondActivityTaskFailed(respondActivityTaskFailedRequest);
                 return null;
@@ -4805,10 +4898,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskFailedRequest respondActivityTaskFailedRequest,
             final AsyncHandler<RespondActivityTaskFailedRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		respondActivityTaskFailed(respondActivityTaskFailedRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -4872,7 +4967,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<PendingTaskCount> countPendingDecisionTasksAsync(final CountPendingDecisionTasksRequest countPendingDecisionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
+        return submit(new Callable<PendingTaskCount>() {
             public PendingTaskCount call() throws Exception {
                 return countPendingDecisionTasks(countPendingDecisionTasksRequest);
 		    }
@@ -4939,11 +5034,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingDecisionTasksRequest countPendingDecisionTasksRequest,
             final AsyncHandler<CountPendingDecisionTasksRequest, PendingTaskCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
+        return submit(new Callable<PendingTaskCount>() {
             public PendingTaskCount call() throws Exception {
             	PendingTaskCount result;
                 try {
             		result = countPendingDecisionTasks(countPendingDecisionTasksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5021,7 +5118,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> terminateWorkflowExecutionAsync(final TerminateWorkflowExecutionRequest terminateWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
                 terminateWorkflowExecution(terminateWorkflowExecutionRequest);
                 return null;
@@ -5103,10 +5200,12 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final TerminateWorkflowExecutionRequest terminateWorkflowExecutionRequest,
             final AsyncHandler<TerminateWorkflowExecutionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return submit(new Callable<Void>() {
             public Void call() throws Exception {
             	try {
             		terminateWorkflowExecution(terminateWorkflowExecutionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -5171,7 +5270,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionDetail> describeWorkflowExecutionAsync(final DescribeWorkflowExecutionRequest describeWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionDetail>() {
+        return submit(new Callable<WorkflowExecutionDetail>() {
             public WorkflowExecutionDetail call() throws Exception {
                 return describeWorkflowExecution(describeWorkflowExecutionRequest);
 		    }
@@ -5239,11 +5338,13 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowExecutionRequest describeWorkflowExecutionRequest,
             final AsyncHandler<DescribeWorkflowExecutionRequest, WorkflowExecutionDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionDetail>() {
+        return submit(new Callable<WorkflowExecutionDetail>() {
             public WorkflowExecutionDetail call() throws Exception {
             	WorkflowExecutionDetail result;
                 try {
             		result = describeWorkflowExecution(describeWorkflowExecutionRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
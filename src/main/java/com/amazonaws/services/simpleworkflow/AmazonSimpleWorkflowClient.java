@@ -352,6 +352,9 @@ public class AmazonSimpleWorkflowClient extends AmazonWebServiceClient implement
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS3Signer signer;
@@ -493,6 +496,7 @@ public class AmazonSimpleWorkflowClient extends AmazonWebServiceClient implement
         exceptionUnmarshallers.add(new TypeAlreadyExistsExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new JsonErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("swf.us-east-1.amazonaws.com");
 
         signer = new AWS3Signer();
@@ -3004,7 +3008,6 @@ public class AmazonSimpleWorkflowClient extends AmazonWebServiceClient implement
         executionContext.setCredentials(credentials);
 
         
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -88,6 +88,14 @@ public class ActivityWorker implements WorkerBase {
         genericWorker.setTaskExecutorThreadPoolSize(taskExecutorThreadPoolSize);
     }
 
+    public long getActivityHeartbeatMinimumInterval() {
+        return genericWorker.getActivityHeartbeatMinimumInterval();
+    }
+
+    public void setActivityHeartbeatMinimumInterval(long activityHeartbeatMinimumInterval) {
+        genericWorker.setActivityHeartbeatMinimumInterval(activityHeartbeatMinimumInterval);
+    }
+
     @Override
     public boolean shutdownAndAwaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         return genericWorker.shutdownAndAwaitTermination(timeout, unit);
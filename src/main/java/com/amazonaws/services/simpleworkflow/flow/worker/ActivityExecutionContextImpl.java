@@ -15,6 +15,7 @@
 package com.amazonaws.services.simpleworkflow.flow.worker;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledExecutorService;
 
 import com.amazonaws.services.simpleworkflow.AmazonSimpleWorkflow;
 import com.amazonaws.services.simpleworkflow.flow.ActivityExecutionContext;
@@ -39,6 +40,12 @@ class ActivityExecutionContextImpl extends ActivityExecutionContext {
     
     private final ActivityTask task;
 
+    /**
+     * Sends the heartbeats of the task in the background, or null to send each
+     * heartbeat synchronously.
+     */
+    private final HeartbeatCoalescer heartbeatCoalescer;
+
     /**
      * Create an ActivityExecutionContextImpl with the given attributes.
      * 
@@ -52,9 +59,36 @@ class ActivityExecutionContextImpl extends ActivityExecutionContext {
      * @see ActivityExecutionContext
      */
     public ActivityExecutionContextImpl(AmazonSimpleWorkflow service, String domain, ActivityTask task) {
+        this(service, domain, task, 0, null);
+    }
+
+    /**
+     * Create an ActivityExecutionContextImpl that sends heartbeats at most
+     * once per the given interval.
+     * 
+     * @param heartbeatMinimumInterval
+     *            Minimum interval, in milliseconds, between heartbeats sent
+     *            for the task. Heartbeats recorded in between are coalesced
+     *            and sent in the background. 0 sends each heartbeat
+     *            synchronously.
+     * @param heartbeatScheduler
+     *            Sends the coalesced heartbeats. Not used when
+     *            heartbeatMinimumInterval is 0.
+     * 
+     * @see HeartbeatCoalescer
+     */
+    public ActivityExecutionContextImpl(AmazonSimpleWorkflow service, String domain, ActivityTask task,
+            long heartbeatMinimumInterval, ScheduledExecutorService heartbeatScheduler) {
         this.domain = domain;
         this.service = service;
         this.task = task;
+        if (heartbeatMinimumInterval > 0) {
+            heartbeatCoalescer = new HeartbeatCoalescer(service, task.getTaskToken(), heartbeatMinimumInterval,
+                    heartbeatScheduler);
+        }
+        else {
+            heartbeatCoalescer = null;
+        }
     }
 
     /**
@@ -63,8 +97,10 @@ class ActivityExecutionContextImpl extends ActivityExecutionContext {
      */
     @Override
     public void recordActivityHeartbeat(String details) throws CancellationException {
-        //TODO: call service with the specified minimal interval (through @ActivityExecutionOptions)
-        // allowing more frequent calls of this method.
+        if (heartbeatCoalescer != null) {
+            heartbeatCoalescer.recordHeartbeat(details);
+            return;
+        }
         RecordActivityTaskHeartbeatRequest r = new RecordActivityTaskHeartbeatRequest();
         r.setTaskToken(task.getTaskToken());
         r.setDetails(details);
@@ -75,6 +111,16 @@ class ActivityExecutionContextImpl extends ActivityExecutionContext {
         }
     }
 
+    /**
+     * Drops heartbeats not yet sent once the activity implementation has
+     * returned. Heartbeats recorded afterwards are sent synchronously.
+     */
+    void stopHeartbeats() {
+        if (heartbeatCoalescer != null) {
+            heartbeatCoalescer.stop();
+        }
+    }
+
     /**
      * @see ActivityExecutionContext#getTask()
      */
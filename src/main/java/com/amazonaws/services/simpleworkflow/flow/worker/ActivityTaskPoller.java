@@ -125,6 +125,15 @@ public class ActivityTaskPoller extends SynchronousActivityTaskPoller {
         return e2;
     }
 
+    /**
+     * One thread per task executor thread, so that no task waits for the
+     * heartbeat of another to be sent.
+     */
+    @Override
+    protected int getHeartbeatThreadPoolSize() {
+        return taskExecutorService.getMaximumPoolSize();
+    }
+
     @Override
     public void shutdown() {
         taskExecutorService.shutdown();
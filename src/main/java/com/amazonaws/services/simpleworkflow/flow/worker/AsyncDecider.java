@@ -131,7 +131,7 @@ class AsyncDecider {
 
     private WorkflowDefinition definition;
 
-    private final HistoryHelper historyHelper;
+    private HistoryHelper historyHelper;
 
     private final DecisionsHelper decisionsHelper;
 
@@ -425,10 +425,69 @@ class AsyncDecider {
     }
 
     public void decide() throws Exception {
+        decide(0, true);
+    }
+
+    /**
+     * Replays the full history like {@link #decide()}, but keeps the workflow
+     * definition alive so that the decider can later continue with
+     * {@link #decideNewEvents(HistoryHelper)}. The definition is released by
+     * {@link #close()}.
+     */
+    void decideAndRetainDefinition() throws Exception {
+        decide(0, false);
+    }
+
+    /**
+     * Continues a decider that already processed the history up to
+     * {@link #getLastProcessedEventId()}. Only events of the new decision task
+     * that follow that event are applied.
+     */
+    void decideNewEvents(HistoryHelper newHistoryHelper) throws Exception {
+        long lastProcessedEventId = getLastProcessedEventId();
+        historyHelper = newHistoryHelper;
+        decisionsHelper.setTask(newHistoryHelper.getDecisionTask());
+        decide(lastProcessedEventId, false);
+    }
+
+    /**
+     * @return id of the DecisionTaskStarted event of the last decision task
+     *         this decider made decisions for
+     */
+    long getLastProcessedEventId() {
+        Long result = historyHelper.getDecisionTask().getStartedEventId();
+        if (result == null) {
+            return 0;
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the decider can be continued with the events of the
+     *         next decision task of the same workflow run
+     */
+    boolean isContinuable() {
+        return definition != null && !completed && !decisionsHelper.isWorkflowFailed();
+    }
+
+    /**
+     * Releases the workflow definition retained by
+     * {@link #decideAndRetainDefinition()}.
+     */
+    void close() {
+        if (definition != null) {
+            workflowDefinitionFactory.deleteWorkflowDefinition(definition);
+            definition = null;
+        }
+    }
+
+    private void decide(long lastProcessedEventId, boolean deleteDefinition) throws Exception {
         try {
-            definition = workflowDefinitionFactory.getWorkflowDefinition(context);
             if (definition == null) {
-                throw new IllegalStateException("Unknown workflow type: " + context.getWorkflowContext().getWorkflowType());
+                definition = workflowDefinitionFactory.getWorkflowDefinition(context);
+                if (definition == null) {
+                    throw new IllegalStateException("Unknown workflow type: " + context.getWorkflowContext().getWorkflowType());
+                }
             }
             long lastNonReplayedEventId = historyHelper.getLastNonReplayEventId();
             // Buffer events until the next DecisionTaskStarted and then process them
@@ -442,6 +501,10 @@ class AsyncDecider {
                 int lastDecisionIndex = -1;
                 while (eventsIterator.hasNext()) {
                     HistoryEvent event = eventsIterator.next();
+                    if (event.getEventId() <= lastProcessedEventId) {
+                        // Already applied to this decider by a previous decision task
+                        continue;
+                    }
                     EventType eventType = EventType.valueOf(event.getEventType());
                     if (eventType == EventType.DecisionTaskCompleted) {
                         decisionsHelper.setWorkflowContextData(event.getDecisionTaskCompletedEventAttributes().getExecutionContext());
@@ -534,7 +597,9 @@ class AsyncDecider {
             catch (Throwable e) {
                 decisionsHelper.setWorkflowContextData(e.getMessage());
             }
-            workflowDefinitionFactory.deleteWorkflowDefinition(this.definition);
+            if (deleteDefinition) {
+                workflowDefinitionFactory.deleteWorkflowDefinition(this.definition);
+            }
         }
     }
 
@@ -16,7 +16,9 @@ package com.amazonaws.services.simpleworkflow.flow.worker;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,17 +39,63 @@ public class AsyncDecisionTaskHandler extends DecisionTaskHandler {
     private static final Log asyncThreadDumpLog = LogFactory.getLog(AsyncDecisionTaskHandler.class.getName()
             + ".waitingTasksStacks");
 
+    /**
+     * LRU cache of deciders that survived their last decision task keyed by
+     * workflow run id.
+     */
+    private static final class DeciderCache extends LinkedHashMap<String, AsyncDecider> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        DeciderCache(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AsyncDecider> eldest) {
+            if (size() > maximumSize) {
+                eldest.getValue().close();
+                return true;
+            }
+            return false;
+        }
+    }
+
     private final WorkflowDefinitionFactoryFactory definitionFactoryFactory;
 
+    private final DeciderCache deciderCache;
+
     public AsyncDecisionTaskHandler(WorkflowDefinitionFactoryFactory definitionFactoryFactory) {
+        this(definitionFactoryFactory, 0);
+    }
+
+    /**
+     * @param deciderCacheSize
+     *            maximum number of workflow runs whose deciders are kept in
+     *            memory between decision tasks. A decision task of a cached
+     *            run that continues exactly where the cached decider stopped
+     *            applies only the new events instead of replaying the whole
+     *            history. 0 disables the cache.
+     */
+    public AsyncDecisionTaskHandler(WorkflowDefinitionFactoryFactory definitionFactoryFactory, int deciderCacheSize) {
         this.definitionFactoryFactory = definitionFactoryFactory;
+        this.deciderCache = deciderCacheSize > 0 ? new DeciderCache(deciderCacheSize) : null;
     }
 
     @Override
     public RespondDecisionTaskCompletedRequest handleDecisionTask(Iterator<DecisionTask> decisionTaskIterator) throws Exception {
         HistoryHelper historyHelper = new HistoryHelper(decisionTaskIterator);
-        AsyncDecider decider = createDecider(historyHelper);
-        decider.decide();
+        AsyncDecider decider;
+        if (deciderCache == null) {
+            decider = createDecider(historyHelper);
+            decider.decide();
+        }
+        else {
+            decider = decideWithCache(historyHelper);
+        }
         DecisionsHelper decisionsHelper = decider.getDecisionsHelper();
         Collection<Decision> decisions = decisionsHelper.getDecisions();
         String context = decisionsHelper.getWorkflowContextDataToReturn();
@@ -64,6 +112,9 @@ public class AsyncDecisionTaskHandler extends DecisionTaskHandler {
         completedRequest.setTaskToken(decisionTask.getTaskToken());
         completedRequest.setDecisions(decisions);
         completedRequest.setExecutionContext(context);
+        if (deciderCache != null) {
+            releaseDecider(decider, decisionTask);
+        }
         return completedRequest;
     }
 
@@ -95,6 +146,57 @@ public class AsyncDecisionTaskHandler extends DecisionTaskHandler {
         return decider.getAsynchronousThreadDumpAsString();
     }
 
+    private AsyncDecider decideWithCache(HistoryHelper historyHelper) throws Exception {
+        DecisionTask decisionTask = historyHelper.getDecisionTask();
+        String runId = decisionTask.getWorkflowExecution().getRunId();
+        AsyncDecider decider;
+        // Removed while in use so that the decider is never shared between poll threads
+        synchronized (deciderCache) {
+            decider = deciderCache.remove(runId);
+        }
+        if (decider != null && decider.getLastProcessedEventId() != historyHelper.getLastNonReplayEventId()) {
+            // Some decision task was processed elsewhere or not completed, so the cached state is stale
+            decider.close();
+            decider = null;
+        }
+        try {
+            if (decider == null) {
+                decider = createDecider(historyHelper);
+                decider.decideAndRetainDefinition();
+            }
+            else {
+                if (log.isDebugEnabled()) {
+                    log.debug("WorkflowTask taskId=" + decisionTask.getStartedEventId() + ", workflowExecution="
+                            + decisionTask.getWorkflowExecution() + " continues cached decider at eventId="
+                            + decider.getLastProcessedEventId());
+                }
+                decider.decideNewEvents(historyHelper);
+            }
+        }
+        catch (Exception e) {
+            if (decider != null) {
+                decider.close();
+            }
+            throw e;
+        }
+        return decider;
+    }
+
+    private void releaseDecider(AsyncDecider decider, DecisionTask decisionTask) {
+        if (!decider.isContinuable()) {
+            decider.close();
+            return;
+        }
+        String runId = decisionTask.getWorkflowExecution().getRunId();
+        AsyncDecider replaced;
+        synchronized (deciderCache) {
+            replaced = deciderCache.put(runId, decider);
+        }
+        if (replaced != null && replaced != decider) {
+            replaced.close();
+        }
+    }
+
     private AsyncDecider createDecider(HistoryHelper historyHelper) throws Exception {
         DecisionTask decisionTask = historyHelper.getDecisionTask();
         WorkflowType workflowType = decisionTask.getWorkflowType();
@@ -45,6 +45,8 @@ public class GenericActivityWorker extends GenericWorker {
 
     private int taskExecutorThreadPoolSize = 100;
 
+    private long activityHeartbeatMinimumInterval;
+
     public GenericActivityWorker(AmazonSimpleWorkflow service, String domain, String taskListToPoll) {
         super(service, domain, taskListToPoll);
         if (service == null) {
@@ -76,6 +78,21 @@ public class GenericActivityWorker extends GenericWorker {
         this.taskExecutorThreadPoolSize = taskExecutorThreadPoolSize;
     }
 
+    public long getActivityHeartbeatMinimumInterval() {
+        return activityHeartbeatMinimumInterval;
+    }
+
+    /**
+     * @see SynchronousActivityTaskPoller#setHeartbeatMinimumInterval(long)
+     */
+    public void setActivityHeartbeatMinimumInterval(long activityHeartbeatMinimumInterval) {
+        if (activityHeartbeatMinimumInterval < 0) {
+            throw new IllegalArgumentException("negative activityHeartbeatMinimumInterval");
+        }
+        checkStarted();
+        this.activityHeartbeatMinimumInterval = activityHeartbeatMinimumInterval;
+    }
+
     protected Semaphore createPollSemaphore() {
         return new Semaphore(taskExecutorThreadPoolSize);
     }
@@ -83,7 +100,7 @@ public class GenericActivityWorker extends GenericWorker {
     @Override
     public String toString() {
         return this.getClass().getSimpleName() + " [super=" + super.toString() + ", taskExecutorThreadPoolSize="
-                + taskExecutorThreadPoolSize + "]";
+                + taskExecutorThreadPoolSize + ", activityHeartbeatMinimumInterval=" + activityHeartbeatMinimumInterval + "]";
     }
 
     @Override
@@ -97,7 +114,10 @@ public class GenericActivityWorker extends GenericWorker {
                 new SynchronousQueue<Runnable>());
         tasksExecutor.setThreadFactory(new ExecutorThreadFactory(ACTIVITY_THREAD_NAME_PREFIX + " " + getTaskListToPoll() + " "));
         tasksExecutor.setRejectedExecutionHandler(new BlockCallerPolicy());
-        return new ActivityTaskPoller(service, domain, getTaskListToPoll(), activityImplementationFactory, tasksExecutor);
+        ActivityTaskPoller poller = new ActivityTaskPoller(service, domain, getTaskListToPoll(), activityImplementationFactory,
+                tasksExecutor);
+        poller.setHeartbeatMinimumInterval(activityHeartbeatMinimumInterval);
+        return poller;
     }
 
     @Override
@@ -38,6 +38,8 @@ public class GenericWorkflowWorker extends GenericWorker {
 
     private WorkflowDefinitionFactoryFactory workflowDefinitionFactoryFactory;
 
+    private int deciderCacheSize;
+
     public GenericWorkflowWorker() {
         setIdentity(ManagementFactory.getRuntimeMXBean().getName());
     }
@@ -57,6 +59,24 @@ public class GenericWorkflowWorker extends GenericWorker {
         this.workflowDefinitionFactoryFactory = workflowDefinitionFactoryFactory;
     }
 
+    public int getDeciderCacheSize() {
+        return deciderCacheSize;
+    }
+
+    /**
+     * Number of workflow runs whose decider state is kept in memory between
+     * decision tasks. When the next decision task of a cached run is received
+     * by this worker only the events that are new since the previous decision
+     * are applied instead of replaying the whole history. Default is 0 which
+     * disables the cache. Has to be set before the worker is started.
+     */
+    public void setDeciderCacheSize(int deciderCacheSize) {
+        if (deciderCacheSize < 0) {
+            throw new IllegalArgumentException("negative deciderCacheSize: " + deciderCacheSize);
+        }
+        this.deciderCacheSize = deciderCacheSize;
+    }
+
     protected DecisionTaskPoller createWorkflowPoller() {
         DecisionTaskPoller poller = new DecisionTaskPoller();
         return poller;
@@ -75,7 +95,7 @@ public class GenericWorkflowWorker extends GenericWorker {
     @Override
     protected TaskPoller createPoller() {
         DecisionTaskPoller result = new DecisionTaskPoller();
-        result.setDecisionTaskHandler(new AsyncDecisionTaskHandler(workflowDefinitionFactoryFactory));
+        result.setDecisionTaskHandler(new AsyncDecisionTaskHandler(workflowDefinitionFactoryFactory, deciderCacheSize));
         result.setDomain(getDomain());
         result.setIdentity(getIdentity());
         result.setService(getService());
@@ -91,7 +111,7 @@ public class GenericWorkflowWorker extends GenericWorker {
     @Override
     public String toString() {
         return this.getClass().getSimpleName() + "[super=" + super.toString() + ", workflowDefinitionFactoryFactory="
-                + workflowDefinitionFactoryFactory + "]";
+                + workflowDefinitionFactoryFactory + ", deciderCacheSize=" + deciderCacheSize + "]";
     }
 
     public static void registerWorkflowTypes(AmazonSimpleWorkflow service, String domain, String defaultTaskList,
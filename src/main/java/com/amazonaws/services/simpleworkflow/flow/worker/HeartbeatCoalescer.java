@@ -0,0 +1,201 @@
+/*
+ * Copyright 2012-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not
+ * use this file except in compliance with the License. A copy of the License is
+ * located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.simpleworkflow.flow.worker;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.services.simpleworkflow.AmazonSimpleWorkflow;
+import com.amazonaws.services.simpleworkflow.model.ActivityTaskStatus;
+import com.amazonaws.services.simpleworkflow.model.RecordActivityTaskHeartbeatRequest;
+
+/**
+ * Sends the heartbeats of one activity task in the background, at most once
+ * per minimum interval. Heartbeats recorded while one is waiting to be sent
+ * replace its details, so only the latest details are sent and an activity
+ * can record heartbeats from a tight loop without being throttled.
+ * <p>
+ * The outcome of each send is seen by the next recorded heartbeat: a requested
+ * cancellation is thrown as {@link CancellationException} and a failed send is
+ * rethrown once. Once stopped, heartbeats are sent synchronously.
+ * <p>
+ * Each send blocks a thread of the scheduler for a service call, so the
+ * scheduler should have a thread for each task that may be running at once.
+ *
+ * @see SynchronousActivityTaskPoller#setHeartbeatMinimumInterval(long)
+ */
+class HeartbeatCoalescer implements Runnable {
+
+    private static final Log log = LogFactory.getLog(HeartbeatCoalescer.class);
+
+    private static final String THREAD_NAME_PREFIX = "SWF Activity Heartbeat ";
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AmazonSimpleWorkflow service;
+
+    private final String taskToken;
+
+    private final long minimumIntervalNanos;
+
+    /** Guarded by this. Whether a send is scheduled or in progress. */
+    private boolean scheduled;
+
+    /** Guarded by this. Whether {@link #details} is still to be sent. */
+    private boolean pending;
+
+    /** Guarded by this. */
+    private String details;
+
+    /** Guarded by this. System.nanoTime() of the last send. */
+    private long lastSent;
+
+    /** Guarded by this. */
+    private boolean stopped;
+
+    private volatile boolean cancelRequested;
+
+    /** Failure of the last send, not yet rethrown to the activity. */
+    private volatile RuntimeException failure;
+
+    HeartbeatCoalescer(AmazonSimpleWorkflow service, String taskToken, long minimumIntervalMillis,
+            ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        this.service = service;
+        this.taskToken = taskToken;
+        this.minimumIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minimumIntervalMillis);
+        this.lastSent = System.nanoTime() - minimumIntervalNanos;
+    }
+
+    /**
+     * Records the details to send with the next heartbeat of the task.
+     *
+     * @throws CancellationException
+     *             if a previous heartbeat found that cancellation of the task
+     *             was requested
+     */
+    void recordHeartbeat(String details) throws CancellationException {
+        if (cancelRequested) {
+            throw new CancellationException();
+        }
+        RuntimeException f = failure;
+        if (f != null) {
+            failure = null;
+            throw f;
+        }
+        synchronized (this) {
+            if (!stopped) {
+                this.details = details;
+                pending = true;
+                if (!scheduled) {
+                    scheduled = true;
+                    long delay = lastSent + minimumIntervalNanos - System.nanoTime();
+                    scheduler.schedule(this, Math.max(0, delay), TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+        }
+        if (send(details)) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * Drops any heartbeat not yet sent. Heartbeats recorded from now on are
+     * sent synchronously.
+     */
+    synchronized void stop() {
+        stopped = true;
+        pending = false;
+        details = null;
+    }
+
+    @Override
+    public void run() {
+        String toSend;
+        synchronized (this) {
+            if (!pending) {
+                scheduled = false;
+                return;
+            }
+            toSend = details;
+            details = null;
+            pending = false;
+            lastSent = System.nanoTime();
+        }
+        try {
+            if (send(toSend)) {
+                cancelRequested = true;
+            }
+        }
+        catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failure recording heartbeat for activity task with token=" + taskToken, e);
+            }
+            failure = e;
+        }
+        synchronized (this) {
+            if (pending && !cancelRequested) {
+                scheduler.schedule(this, minimumIntervalNanos, TimeUnit.NANOSECONDS);
+            }
+            else {
+                scheduled = false;
+            }
+        }
+    }
+
+    /**
+     * @return whether cancellation of the task was requested
+     */
+    private boolean send(String details) {
+        RecordActivityTaskHeartbeatRequest r = new RecordActivityTaskHeartbeatRequest();
+        r.setTaskToken(taskToken);
+        r.setDetails(details);
+        ActivityTaskStatus status = service.recordActivityTaskHeartbeat(r);
+        return status.isCancelRequested();
+    }
+
+    /**
+     * Creates a scheduler with up to the given number of threads to send the
+     * heartbeats of coalescers. Its threads are daemons that exit once idle,
+     * so it needs no shutdown and keeps sending for tasks still running after
+     * their worker is shut down.
+     */
+    static ScheduledExecutorService newScheduler(int threads) {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(threads, new ThreadFactory() {
+
+            private final AtomicInteger threadIndex = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread result = new Thread(r);
+                result.setName(THREAD_NAME_PREFIX + threadIndex.incrementAndGet());
+                result.setDaemon(true);
+                return result;
+            }
+        });
+        result.setKeepAliveTime(1, TimeUnit.MINUTES);
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+}
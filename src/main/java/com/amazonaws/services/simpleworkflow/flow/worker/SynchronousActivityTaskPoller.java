@@ -18,6 +18,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.management.ManagementFactory;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
@@ -56,6 +57,10 @@ public class SynchronousActivityTaskPoller implements TaskPoller {
 
     private SynchronousRetrier reportFailureRetrier;
 
+    private long heartbeatMinimumInterval;
+
+    private ScheduledExecutorService heartbeatScheduler;
+
     private boolean initialized;
 
     public SynchronousActivityTaskPoller(AmazonSimpleWorkflow service, String domain, String taskListToPoll,
@@ -131,10 +136,54 @@ public class SynchronousActivityTaskPoller implements TaskPoller {
         this.reportFailureRetrier = new SynchronousRetrier(reportFailureRetryParameters, UnknownResourceException.class);
     }
 
+    public long getHeartbeatMinimumInterval() {
+        return heartbeatMinimumInterval;
+    }
+
+    /**
+     * Minimum interval, in milliseconds, between the heartbeats sent for an
+     * activity task. Heartbeats recorded more often through
+     * {@link ActivityExecutionContext#recordActivityHeartbeat(String)} are
+     * coalesced, keeping only the latest details, and sent in the background.
+     * A cancellation requested for the task is then thrown by the first
+     * heartbeat recorded after it is seen. Default is 0, which sends every
+     * heartbeat synchronously.
+     * <p>
+     * This trades latency for fewer service calls: a heartbeat may reach the
+     * service up to this interval after it is recorded, and a cancellation is
+     * only thrown once the activity records another heartbeat after the send
+     * that saw it returns. Keep the interval well below the heartbeat timeout
+     * of the activity types polled, and expect cancellations to take up to
+     * about twice the interval longer to be noticed.
+     */
+    public void setHeartbeatMinimumInterval(long heartbeatMinimumInterval) {
+        if (heartbeatMinimumInterval < 0) {
+            throw new IllegalArgumentException("negative heartbeatMinimumInterval");
+        }
+        this.heartbeatMinimumInterval = heartbeatMinimumInterval;
+    }
+
     public String getTaskListToPoll() {
         return taskListToPoll;
     }
 
+    /**
+     * Number of threads sending coalesced heartbeats, which should be the
+     * number of tasks that may be executed at once as each send blocks its
+     * thread. By default as many as there are processors, as tasks are
+     * executed by the threads calling {@link #pollAndProcessSingleTask()}.
+     */
+    protected int getHeartbeatThreadPoolSize() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors());
+    }
+
+    private synchronized ScheduledExecutorService getHeartbeatScheduler() {
+        if (heartbeatScheduler == null) {
+            heartbeatScheduler = HeartbeatCoalescer.newScheduler(getHeartbeatThreadPoolSize());
+        }
+        return heartbeatScheduler;
+    }
+
     /**
      * Poll for a task using {@link #getPollTimeoutInSeconds()}
      * 
@@ -187,13 +236,19 @@ public class SynchronousActivityTaskPoller implements TaskPoller {
     protected void execute(final ActivityTask task) throws Exception {
         String output = null;
         ActivityType activityType = task.getActivityType();
+        ActivityExecutionContextImpl context = new ActivityExecutionContextImpl(service, domain, task,
+                heartbeatMinimumInterval, heartbeatMinimumInterval > 0 ? getHeartbeatScheduler() : null);
         try {
-            ActivityExecutionContext context = new ActivityExecutionContextImpl(service, domain, task);
             ActivityImplementation activityImplementation = activityImplementationFactory.getActivityImplementation(activityType);
             if (activityImplementation == null) {
                 throw new ActivityFailureException("Unknown activity type: " + activityType);
             }
-            output = activityImplementation.execute(context);
+            try {
+                output = activityImplementation.execute(context);
+            }
+            finally {
+                context.stopHeartbeats();
+            }
             if (!activityImplementation.getExecutionOptions().isManualActivityCompletion()) {
                 respondActivityTaskCompletedWithRetry(task.getTaskToken(), output);
             }
@@ -32,9 +32,15 @@ class WorkfowContextImpl implements WorkflowContext {
     private final DecisionTask decisionTask;
     private boolean cancelRequested;
     private ContinueAsNewWorkflowExecutionParameters continueAsNewOnCompletion;
+    private WorkflowExecutionStartedEventAttributes workflowStartedEventAttributes;
     
     public WorkfowContextImpl(DecisionTask decisionTask) {
         this.decisionTask = decisionTask;
+        // Captured eagerly as the history page is released when the next one is polled
+        List<HistoryEvent> events = decisionTask.getEvents();
+        if (events != null && !events.isEmpty()) {
+            workflowStartedEventAttributes = events.get(0).getWorkflowExecutionStartedEventAttributes();
+        }
     }
     
     @Override
@@ -104,9 +110,11 @@ class WorkfowContextImpl implements WorkflowContext {
     }
     
     private WorkflowExecutionStartedEventAttributes getWorkflowStartedEventAttributes() {
-        HistoryEvent firstHistoryEvent = decisionTask.getEvents().get(0);
-        WorkflowExecutionStartedEventAttributes attributes = firstHistoryEvent.getWorkflowExecutionStartedEventAttributes();
-        return attributes;
+        if (workflowStartedEventAttributes == null) {
+            HistoryEvent firstHistoryEvent = decisionTask.getEvents().get(0);
+            workflowStartedEventAttributes = firstHistoryEvent.getWorkflowExecutionStartedEventAttributes();
+        }
+        return workflowStartedEventAttributes;
     }
 
 }
@@ -18,6 +18,7 @@
 package com.amazonaws.services.sqs.buffered;
 
 import java.util.LinkedHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
@@ -86,17 +87,44 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
     private final CachingMap buffers = new CachingMap( 16, (float) 0.75, true );
     private final AmazonSQSAsync realSQS;
     private final QueueBufferConfig bufferConfigExemplar;
+
+    /** Executor shared by all queue buffers; null if each buffer has its own */
+    private final Executor executor;
     
     public AmazonSQSBufferedAsyncClient( AmazonSQSAsync paramRealSQS) {
         this( paramRealSQS, new QueueBufferConfig());
     }
     
+    /**
+     * Creates a client in which every queue gets its own bounded executor,
+     * sized to the number of batches the configuration lets the queue have in
+     * flight, so that a busy queue can't starve the others.
+     */
+    public AmazonSQSBufferedAsyncClient( AmazonSQSAsync paramRealSQS, QueueBufferConfig config) {
+        this( paramRealSQS, config, null);
+    }
+
+    /**
+     * Creates a client running the batching and prefetching tasks of all its
+     * queues on the executor given. The executor is not shut down by
+     * {@link #shutdown()}.
+     * <p>
+     * Receive prefetch tasks block for up to the long poll time, so the
+     * executor should be able to run at least
+     * {@code maxInflightReceiveBatches + 3 * maxInflightOutboundBatches}
+     * tasks concurrently for every queue used.
+     * 
+     * @param executor
+     *            the executor to run the tasks on, or null to give every queue
+     *            its own bounded executor
+     */
     //route all future constructors to the most general one, because validation
     //happens here
-    public AmazonSQSBufferedAsyncClient( AmazonSQSAsync paramRealSQS, QueueBufferConfig config) {
+    public AmazonSQSBufferedAsyncClient( AmazonSQSAsync paramRealSQS, QueueBufferConfig config, Executor executor) {
         config.validate();
         realSQS = paramRealSQS;
         bufferConfigExemplar = config;
+        this.executor = executor;
     }
 
     
@@ -371,6 +399,23 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
         return buffer.deleteMessage(deleteMessageRequest, null);
     }
     
+    /**
+     * Returns the receive prefetching state of the buffer of the queue given,
+     * such as its current prefetch depth and how many receive requests were
+     * satisfied from prefetched messages.
+     * 
+     * @return a snapshot of the queue's prefetching state, or null if this
+     *         client doesn't currently buffer the queue
+     * @see QueueBufferConfig#setAdaptivePrefetching(boolean)
+     */
+    public ReceivePrefetchStatistics getReceivePrefetchStatistics(String queueUrl) {
+        QueueBuffer buffer;
+        synchronized (this) {
+            buffer = buffers.get(queueUrl);
+        }
+        return buffer == null ? null : buffer.getReceivePrefetchStatistics();
+    }
+
     /**
      * Returns (creating it if necessary) a queue buffer for a particular queue
      * Since we are only storing a limited number of queue buffers, it is
@@ -383,7 +428,7 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
         QueueBuffer toReturn = buffers.get(qUrl);
         if ( null == toReturn ) {
             QueueBufferConfig config = new QueueBufferConfig( bufferConfigExemplar );
-            toReturn = new QueueBuffer( config, qUrl, realSQS );
+            toReturn = new QueueBuffer( config, qUrl, realSQS, executor );
             buffers.put(qUrl,toReturn);
         }
         return toReturn;
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2012-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * A hashed timer wheel running short, non-blocking tasks after a delay, with a
+ * precision of one tick.
+ * <p>
+ * Scheduling only appends the task to a lock-free queue. A single daemon
+ * thread, started on first use, moves queued tasks into the wheel's buckets at
+ * every tick and runs the tasks of the current bucket that are due. This makes
+ * scheduling and expiry O(1), however many batches are waiting, and no thread
+ * is parked per pending task. While no task is waiting, the thread parks
+ * instead of ticking, until the next task is scheduled.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+class HashedWheelTimer {
+
+    private static final Log log = LogFactory.getLog(HashedWheelTimer.class);
+
+    private final long tickNanos;
+
+    /** Buckets of timeouts, only ever accessed by the worker thread. */
+    private final List<LinkedList<Timeout>> wheel;
+
+    /** Number of timeouts in the wheel, only ever accessed by the worker thread. */
+    private int wheelTimeouts;
+
+    private final int mask;
+
+    /** Timeouts scheduled since the last tick. */
+    private final ConcurrentLinkedQueue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<Timeout>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final String threadName;
+
+    private volatile long startNanos;
+
+    private volatile Thread worker;
+
+    /** Whether the worker is parked, or about to park, until the next schedule. */
+    private volatile boolean idle;
+
+    private static final class Timeout {
+        final Runnable task;
+        final long deadlineNanos;
+        long remainingRounds;
+
+        Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    /**
+     * @param tickDuration
+     *            the precision of the timer
+     * @param ticksPerWheel
+     *            the number of buckets, rounded up to a power of two
+     */
+    HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel, String threadName) {
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(Math.max(1, ticksPerWheel - 1)) << 1;
+        this.wheel = new ArrayList<LinkedList<Timeout>>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new LinkedList<Timeout>());
+        }
+        this.mask = size - 1;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Runs the task given on the timer thread once the delay given has
+     * elapsed. The task must return quickly and must not throw.
+     */
+    void schedule(Runnable task, long delay, TimeUnit unit) {
+        start();
+        pendingTimeouts.add(new Timeout(task, System.nanoTime() + unit.toNanos(delay)));
+        if (idle) {
+            Thread w = worker;
+            if (w != null) {
+                LockSupport.unpark(w);
+            }
+        }
+    }
+
+    private void start() {
+        if (started.get() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        Thread w = new Thread(new Runnable() {
+            public void run() {
+                runWheel();
+            }
+        }, threadName);
+        w.setDaemon(true);
+        worker = w;
+        w.start();
+    }
+
+    private void runWheel() {
+        long tick = 0;
+        while (true) {
+            if (wheelTimeouts == 0 && pendingTimeouts.isEmpty()) {
+                awaitTimeouts();
+                // The wheel is empty, so the ticks slept through can be skipped
+                tick = (System.nanoTime() - startNanos) / tickNanos;
+            }
+            long nextTickNanos = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = nextTickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    // Nobody else owns this thread; keep ticking
+                }
+                continue;
+            }
+            ++tick;
+            transferPendingTimeouts(tick);
+            expireTimeouts(wheel.get((int) (tick & mask)), tick);
+        }
+    }
+
+    /**
+     * Parks the worker thread until a timeout is scheduled. A schedule that
+     * doesn't see the idle flag set has its timeout seen by the check below.
+     */
+    private void awaitTimeouts() {
+        idle = true;
+        try {
+            while (pendingTimeouts.isEmpty()) {
+                LockSupport.park(this);
+                // Nobody else owns this thread; ignore interrupts
+                Thread.interrupted();
+            }
+        } finally {
+            idle = false;
+        }
+    }
+
+    private void transferPendingTimeouts(long currentTick) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            long deadlineTick = (timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos;
+            // Due timeouts go into the current bucket rather than a passed one
+            long tick = Math.max(deadlineTick, currentTick);
+            timeout.remainingRounds = (tick - currentTick) / wheel.size();
+            wheel.get((int) (tick & mask)).add(timeout);
+            wheelTimeouts++;
+        }
+    }
+
+    private void expireTimeouts(LinkedList<Timeout> bucket, long tick) {
+        for (Iterator<Timeout> it = bucket.iterator(); it.hasNext();) {
+            Timeout timeout = it.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            it.remove();
+            wheelTimeouts--;
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                log.warn("Timer task " + timeout.task + " failed", e);
+            }
+        }
+    }
+}
@@ -20,9 +20,12 @@ package com.amazonaws.services.sqs.buffered;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.amazonaws.AmazonClientException;
@@ -60,23 +63,64 @@ class QueueBuffer {
     private final AmazonSQSAsync realSqs;
     QueueBufferConfig config;
     
-    /** This executor that will be shared among all queue buffers. Since a single JVM can 
-     * access hundreds of queues, it won't do to have hundreds of executors spinning up 
-     * hundreds of threads for each queue.
-     * 
-     *  The DaemonThreadFactory creates daemon threads, which means they won't block the JVM 
-     *  from exiting if only they are still around.
-     *  */
-    static ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory());;
-    
+    /**
+     * The executor running this buffer's batch and prefetch tasks; either the
+     * one given to the client, or {@code ownExecutor}.
+     */
+    private final Executor executor;
+
+    /**
+     * The executor created for this buffer when the client was not given one,
+     * shut down with the buffer; null otherwise.
+     */
+    private final ExecutorService ownExecutor;
+
+    /** How long idle threads of a buffer's own executor are kept */
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
     QueueBuffer( QueueBufferConfig paramConfig, String url, AmazonSQSAsync sqs) {
+        this(paramConfig, url, sqs, null);
+    }
+
+    /**
+     * @param paramExecutor
+     *            the executor to run batch and prefetch tasks on, possibly
+     *            shared with other buffers; if null, the buffer creates its
+     *            own bounded executor
+     */
+    QueueBuffer( QueueBufferConfig paramConfig, String url, AmazonSQSAsync sqs, Executor paramExecutor) {
         realSqs = sqs;
         config = paramConfig;
+        if (paramExecutor == null) {
+            ownExecutor = newBufferExecutor(paramConfig);
+            executor = ownExecutor;
+        } else {
+            ownExecutor = null;
+            executor = paramExecutor;
+        }
         sendBuffer = new SendQueueBuffer(sqs, executor, paramConfig, url);
         receiveBuffer =  new ReceiveQueueBuffer(sqs, executor, paramConfig, url);
         
     }
 
+    /**
+     * Creates the executor of a single buffer, sized to the most tasks the
+     * buffer can have in flight at once: the inflight receive batches plus the
+     * inflight batches of each of the three outbound operations. Since the
+     * buffer never submits more than that, a slow or busy queue can't take
+     * threads from other queues, and tasks run in the order they are
+     * submitted. Idle threads time out, so an idle buffer holds no threads.
+     */
+    private static ExecutorService newBufferExecutor(QueueBufferConfig config) {
+        int threads = Math.max(1, config.getMaxInflightReceiveBatches())
+                + 3 * Math.max(1, config.getMaxInflightOutboundBatches());
+        ThreadPoolExecutor bufferExecutor = new ThreadPoolExecutor(threads, threads,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory());
+        bufferExecutor.allowCoreThreadTimeOut(true);
+        return bufferExecutor;
+    }
+
 
     /**
      * asynchronously enqueues a message to SQS.
@@ -195,6 +239,13 @@ class QueueBuffer {
         return waitForFuture(future);
     }
     
+    /**
+     * @return a snapshot of the receive prefetching state of this buffer
+     */
+    public ReceivePrefetchStatistics getReceivePrefetchStatistics() {
+        return receiveBuffer.getPrefetchStatistics();
+    }
+    
     /**
      * Shuts down the queue buffer.  Once this method has been called, the 
      * queue buffer is not operational and all subsequent calls to it may fail
@@ -203,6 +254,22 @@ class QueueBuffer {
         //send buffer does not require shutdown, only
         //shut down receive buffer
         receiveBuffer.shutdown();
+        if (ownExecutor != null) {
+            // lets batches already handed over finish
+            ownExecutor.shutdown();
+        }
+    }
+    
+    /**
+     * Runs a completion callback on this buffer's executor, or on the calling
+     * thread once the executor no longer accepts tasks.
+     */
+    void executeCallback(Runnable callback) {
+        try {
+            executor.execute(callback);
+        } catch (RejectedExecutionException e) {
+            callback.run();
+        }
     }
     
     /**
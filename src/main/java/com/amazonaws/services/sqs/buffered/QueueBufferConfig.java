@@ -123,6 +123,18 @@ public class QueueBufferConfig {
     private int longPollWaitTimeoutSeconds;
     
     public static final int LONGPOLL_WAIT_TIMEOUT_SECONDS_DEFAULT = 20;
+
+    /**
+     * Should the number of prefetched and in-flight receive batches adapt to
+     * how fast messages are consumed?  If so, maxDoneReceiveBatches and
+     * maxInflightReceiveBatches are upper bounds, and the buffer prefetches
+     * only as many messages as its consumers can process well within the
+     * visibility timeout.
+     * */
+    private boolean adaptivePrefetching = ADAPTIVE_PREFETCHING_DEFAULT;
+
+    /** false */
+    public static final boolean ADAPTIVE_PREFETCHING_DEFAULT = false;
     
     public QueueBufferConfig( long maxBatchOpenMs, 
             int maxInflightOutboundBatches,
@@ -170,6 +182,7 @@ public class QueueBufferConfig {
         maxInflightOutboundBatches = other.maxInflightOutboundBatches;
         maxInflightReceiveBatches = other.maxInflightReceiveBatches;
         visibilityTimeoutSeconds = other.visibilityTimeoutSeconds;
+        adaptivePrefetching = other.adaptivePrefetching;
     }
     
 
@@ -184,7 +197,8 @@ public class QueueBufferConfig {
                 + maxDoneReceiveBatches + ", maxBatchSizeBytes="
                 + maxBatchSizeBytes + ", visibilityTimeoutSeconds="
                 + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds="
-                + longPollWaitTimeoutSeconds + "]";
+                + longPollWaitTimeoutSeconds + ", adaptivePrefetching="
+                + adaptivePrefetching + "]";
     }
 
     /**
@@ -440,6 +454,31 @@ public class QueueBufferConfig {
         return this;
     }
 
+    /**
+     * @return true if the number of prefetched and in-flight receive batches
+     * adapts to how fast messages are consumed, with maxDoneReceiveBatches
+     * and maxInflightReceiveBatches as upper bounds.
+     * */
+    public boolean isAdaptivePrefetching() {
+        return adaptivePrefetching;
+    }
+
+    /**
+     * Specify "true" for the number of prefetched and in-flight receive
+     * batches to adapt to how fast messages are consumed, with
+     * maxDoneReceiveBatches and maxInflightReceiveBatches as upper bounds.
+     * Slow consumers then don't let prefetched messages' visibility timeouts
+     * expire in the buffer.
+     * */
+    public void setAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+    }
+
+    public QueueBufferConfig withAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+        return this;
+    }
+
     /**
      * this method checks the config for validity. If the config is deemed to be
      * invalid, an informative exception is thrown.
@@ -17,7 +17,6 @@
 
 package com.amazonaws.services.sqs.buffered;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -72,10 +71,9 @@ class QueueBufferFuture<Req extends AmazonWebServiceRequest, Res> implements Fut
         //it on a different thread. Who knows what this
         //thread is doing.
         if ( callback != null && issuingBuffer != null ) {
-            QueueBuffer.executor.submit(new Callable<Void>() {
-                public Void call() throws Exception {
+            issuingBuffer.executeCallback(new Runnable() {
+                public void run() {
                     callback.onSuccess(result);
-                    return null;
                 }
             });
 
@@ -95,10 +93,9 @@ class QueueBufferFuture<Req extends AmazonWebServiceRequest, Res> implements Fut
         //it on a different thread. Who knows what this
         //thread is doing.
         if ( callback != null && issuingBuffer != null ) {
-            QueueBuffer.executor.submit(new Callable<Void>() {
-                public Void call() throws Exception {
+            issuingBuffer.executeCallback(new Runnable() {
+                public void run() {
                     callback.onError(e);
-                    return null;
                 }
             });
 
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2012-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sizes the receive prefetching of a {@link ReceiveQueueBuffer} from how fast
+ * its consumers actually drain it.
+ * <p>
+ * The controller keeps a moving average of the consumption rate, measured over
+ * windows of at least a second, and of how long a {@code ReceiveMessage} call
+ * takes to return messages. The buffer should then hold enough messages to
+ * keep the consumers busy for two receive round-trips, but never more than
+ * they consume in half of the messages' visibility timeout, so that
+ * prefetched messages are not returned to the queue before they are used.
+ * <p>
+ * The measured rate can't exceed what the buffer supplies, so a consumer that
+ * is starved would keep being sized for the rate it is starved at. Each
+ * window in which consumers found the buffer empty on more than
+ * {@link #MISS_RATIO_THRESHOLD} of their receives therefore adds a batch of
+ * headroom, both in flight and done, and each window without misses takes one
+ * away. The limits configured in {@link QueueBufferConfig} remain upper
+ * bounds.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+class ReceivePrefetchController {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** Weight of the latest measurement in the moving averages. */
+    private static final double SMOOTHING = 0.3;
+
+    /** Fraction of receives in a window that must miss for headroom to grow. */
+    private static final double MISS_RATIO_THRESHOLD = 0.1;
+
+    private final QueueBufferConfig config;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /* The fields below are guarded by this */
+
+    /** Messages consumed per nanosecond. */
+    private double consumptionRate;
+
+    private long windowStartNanos = System.nanoTime();
+
+    private long windowMessages;
+
+    /** Duration of a ReceiveMessage call that returned messages, in nanoseconds. */
+    private double receiveLatencyNanos;
+
+    private long windowStartHits;
+
+    private long windowStartMisses;
+
+    /** Batches added to the rate-based sizes while consumers keep missing. */
+    private int headroomBatches;
+
+    ReceivePrefetchController(QueueBufferConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Records whether a receive request was satisfied from the prefetched
+     * messages right away.
+     */
+    void recordReceive(boolean hit) {
+        if (hit) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+    }
+
+    /** Records messages handed out to consumers. */
+    synchronized void recordConsumed(int messageCount) {
+        advanceWindow(System.nanoTime());
+        windowMessages += messageCount;
+    }
+
+    /** Records the duration of a ReceiveMessage call that returned messages. */
+    synchronized void recordReceiveLatency(long nanos) {
+        receiveLatencyNanos = receiveLatencyNanos == 0
+                ? nanos
+                : SMOOTHING * nanos + (1 - SMOOTHING) * receiveLatencyNanos;
+    }
+
+    /**
+     * Returns the number of completed receive batches the buffer should keep.
+     *
+     * @param visibilityTimeoutNanos
+     *            the visibility timeout of prefetched messages, or a negative
+     *            value if it isn't known yet
+     */
+    synchronized int getDesiredDoneBatches(long visibilityTimeoutNanos) {
+        advanceWindow(System.nanoTime());
+        int batches = toBatches(consumptionRate * 2 * receiveLatencyNanos) + headroomBatches;
+        if (visibilityTimeoutNanos > 0) {
+            batches = Math.min(batches, toBatches(consumptionRate * visibilityTimeoutNanos / 2));
+        }
+        return clamp(batches, config.getMaxDoneReceiveBatches());
+    }
+
+    /**
+     * Returns the number of receive batches that should be in flight at once.
+     */
+    synchronized int getDesiredInflightBatches() {
+        advanceWindow(System.nanoTime());
+        return clamp(toBatches(consumptionRate * receiveLatencyNanos) + headroomBatches,
+                config.getMaxInflightReceiveBatches());
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /** Returns the current consumption rate estimate, in messages per second. */
+    synchronized double getConsumptionRate() {
+        advanceWindow(System.nanoTime());
+        return consumptionRate * WINDOW_NANOS;
+    }
+
+    /**
+     * Folds the current window into the consumption rate and the headroom
+     * once it is at least {@link #WINDOW_NANOS} long. Idle windows decay the
+     * rate.
+     */
+    private void advanceWindow(long now) {
+        long elapsed = now - windowStartNanos;
+        if (elapsed < WINDOW_NANOS) {
+            return;
+        }
+        double windowRate = (double) windowMessages / elapsed;
+        consumptionRate = SMOOTHING * windowRate + (1 - SMOOTHING) * consumptionRate;
+
+        long currentHits = hits.get();
+        long currentMisses = misses.get();
+        long windowHits = currentHits - windowStartHits;
+        long windowMisses = currentMisses - windowStartMisses;
+        // Misses while nothing is consumed mean the queue is empty, not that
+        // the buffer is too small
+        if (windowMessages > 0 && windowMisses > MISS_RATIO_THRESHOLD * (windowHits + windowMisses)) {
+            int maxHeadroom = Math.max(config.getMaxInflightReceiveBatches(), config.getMaxDoneReceiveBatches());
+            headroomBatches = Math.min(headroomBatches + 1, maxHeadroom);
+        } else if (windowMisses == 0 && headroomBatches > 0) {
+            headroomBatches--;
+        }
+
+        windowStartNanos = now;
+        windowMessages = 0;
+        windowStartHits = currentHits;
+        windowStartMisses = currentMisses;
+    }
+
+    private int toBatches(double messages) {
+        int batchSize = config.getMaxBatchSize() > 0 ? config.getMaxBatchSize() : QueueBufferConfig.MAX_BATCH_SIZE_DEFAULT;
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(messages / batchSize));
+    }
+
+    private static int clamp(int batches, int max) {
+        return Math.max(1, Math.min(batches, max));
+    }
+}
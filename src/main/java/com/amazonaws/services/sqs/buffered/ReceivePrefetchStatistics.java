@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+/**
+ * A snapshot of the receive prefetching state of the buffer of a single queue
+ * in an {@link AmazonSQSBufferedAsyncClient}.
+ *
+ * @see AmazonSQSBufferedAsyncClient#getReceivePrefetchStatistics(String)
+ */
+public class ReceivePrefetchStatistics {
+
+    private final int prefetchDepth;
+
+    private final int inflightReceiveBatchLimit;
+
+    private final long hits;
+
+    private final long misses;
+
+    private final double consumptionRate;
+
+    ReceivePrefetchStatistics(int prefetchDepth, int inflightReceiveBatchLimit, long hits, long misses,
+            double consumptionRate) {
+        this.prefetchDepth = prefetchDepth;
+        this.inflightReceiveBatchLimit = inflightReceiveBatchLimit;
+        this.hits = hits;
+        this.misses = misses;
+        this.consumptionRate = consumptionRate;
+    }
+
+    /**
+     * @return the number of completed receive batches the buffer currently
+     *         keeps prefetched, at most
+     *         {@link QueueBufferConfig#getMaxDoneReceiveBatches()}.
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * @return the number of receive batches the buffer currently lets be in
+     *         flight at once, at most
+     *         {@link QueueBufferConfig#getMaxInflightReceiveBatches()}.
+     */
+    public int getInflightReceiveBatchLimit() {
+        return inflightReceiveBatchLimit;
+    }
+
+    /**
+     * @return the number of receive requests satisfied from prefetched
+     *         messages as soon as they were made.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of receive requests that had to wait for messages to
+     *         be fetched.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the observed rate, in messages per second, at which receive
+     *         requests consume the buffer's messages.
+     */
+    public double getConsumptionRate() {
+        return consumptionRate;
+    }
+
+    @Override
+    public String toString() {
+        return "ReceivePrefetchStatistics [prefetchDepth=" + prefetchDepth + ", inflightReceiveBatchLimit="
+                + inflightReceiveBatchLimit + ", hits=" + hits + ", misses=" + misses + ", consumptionRate="
+                + consumptionRate + "]";
+    }
+}
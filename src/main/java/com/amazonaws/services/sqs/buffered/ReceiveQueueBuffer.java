@@ -64,6 +64,9 @@ public class ReceiveQueueBuffer {
     
     private final AmazonSQS sqsClient;
     
+    /** Sizes prefetching when adaptive, and counts prefetch hits and misses */
+    private final ReceivePrefetchController prefetchController;
+    
     private long bufferCounter = 0;
     
     /**
@@ -101,7 +104,7 @@ public class ReceiveQueueBuffer {
         executor = paramExecutor;
         sqsClient = paramSQS;
         qUrl = url;
-        
+        prefetchController = new ReceivePrefetchController(paramConfig);
     }
     
     /**
@@ -141,6 +144,7 @@ public class ReceiveQueueBuffer {
         
         //attempt to satisfy it right away...
         satisfyFuturesFromBuffer();
+        prefetchController.recordReceive(toReturn.isDone());
         
         //spawn more receive tasks if we need them...
         spawnMoreReceiveTasks();
@@ -232,6 +236,9 @@ public class ReceiveQueueBuffer {
         //report that in the Future.  Otherwise, we will fill
         //the future with the receive result
         
+        if ( !messages.isEmpty() )
+            prefetchController.recordConsumed(messages.size());
+        
         if ( exception != null )
             f.setFailure(exception);
         else
@@ -263,8 +270,7 @@ public class ReceiveQueueBuffer {
         if( shutDown )
             return;
 
-        int desiredBatches = config.getMaxDoneReceiveBatches();
-        desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        int desiredBatches = getDesiredDoneBatches();
         
         synchronized( finishedTasks ) {
             if (  finishedTasks.size() >= desiredBatches )
@@ -288,10 +294,7 @@ public class ReceiveQueueBuffer {
                 visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
             }
 
-            int max = config.getMaxInflightReceiveBatches();
-            //must allow at least one inflight receive task, or receive won't 
-            //work at all.
-            max = max > 0 ? max : 1; 
+            int max = getDesiredInflightBatches();
             int toSpawn =  max - inflightReceiveMessageBatches;
             if (toSpawn > 0) {
                 ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this );
@@ -306,6 +309,42 @@ public class ReceiveQueueBuffer {
         }
     }
     
+    /**
+     * @return how many finished batches to keep prefetched; at least one
+     */
+    private int getDesiredDoneBatches() {
+        if ( config.isAdaptivePrefetching() ) {
+            long visibilityNanos = config.getVisibilityTimeoutSeconds() > 0
+                    ? TimeUnit.NANOSECONDS.convert(config.getVisibilityTimeoutSeconds(), TimeUnit.SECONDS)
+                    : visibilityTimeoutNanos;
+            return prefetchController.getDesiredDoneBatches(visibilityNanos);
+        }
+        int desiredBatches = config.getMaxDoneReceiveBatches();
+        return desiredBatches < 1 ? 1 : desiredBatches;
+    }
+    
+    /**
+     * @return how many receive batches may be in flight at once; at least one
+     */
+    private int getDesiredInflightBatches() {
+        if ( config.isAdaptivePrefetching() ) {
+            return prefetchController.getDesiredInflightBatches();
+        }
+        int max = config.getMaxInflightReceiveBatches();
+        //must allow at least one inflight receive task, or receive won't 
+        //work at all.
+        return max > 0 ? max : 1;
+    }
+    
+    /**
+     * @return a snapshot of this buffer's prefetching state
+     */
+    ReceivePrefetchStatistics getPrefetchStatistics() {
+        return new ReceivePrefetchStatistics(getDesiredDoneBatches(), getDesiredInflightBatches(),
+                prefetchController.getHits(), prefetchController.getMisses(),
+                prefetchController.getConsumptionRate());
+    }
+    
     /**
      * This method is called by the batches after they have finished retrieving
      * the messages.
@@ -502,7 +541,11 @@ public class ReceiveQueueBuffer {
                     request.withWaitTimeSeconds(config.getLongPollWaitTimeoutSeconds());
                 }
 
+                long startNanos = System.nanoTime();
                 messages = sqsClient.receiveMessage(request).getMessages();
+                if ( !messages.isEmpty() ) {
+                    prefetchController.recordReceiveLatency(System.nanoTime() - startNanos);
+                }
             } catch (AmazonClientException e) {
                 exception = e;
             } finally {
@@ -18,11 +18,17 @@
 package com.amazonaws.services.sqs.buffered;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -89,38 +95,33 @@ public class SendQueueBuffer {
     private final Executor executor;
 
     /**
-     * Object used to serialize sendMessage calls.
+     * Timer closing open batches once {@code maxBatchOpenMs} elapses. Shared
+     * by all buffers; its single thread only closes batches and hands them
+     * over to the buffers' executors.
      */
-    private final Object sendMessageLock = new Object();
+    private static final HashedWheelTimer batchTimer = new HashedWheelTimer(5, TimeUnit.MILLISECONDS, 512,
+            "SQSQueueBufferBatchTimer");
 
     /**
-     * Object used to serialize deleteMessage calls.
+     * How long a caller waiting for an in flight permit sleeps before checking
+     * whether another caller has opened a batch in the meantime.
      */
-    private final Object deleteMessageLock = new Object();
+    private static final long PERMIT_POLL_MS = 10;
 
     /**
-     * Object used to serialize changeMessageVisibility calls.
+     * Current batching task for sendMessage.
      */
-    private final Object changeMessageVisibilityLock = new Object();
+    private final AtomicReference<SendMessageBatchTask> openSendMessageBatchTask = new AtomicReference<SendMessageBatchTask>();
 
     /**
-     * Current batching task for sendMessage. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code sendMessageLock}.
+     * Current batching task for deleteMessage.
      */
-    private final SendMessageBatchTask[] openSendMessageBatchTask = new SendMessageBatchTask[1];
+    private final AtomicReference<DeleteMessageBatchTask> openDeleteMessageBatchTask = new AtomicReference<DeleteMessageBatchTask>();
 
     /**
-     * Current batching task for deleteMessage. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code deleteMessageLock}.
+     * Current batching task for changeMessageVisibility.
      */
-    private final DeleteMessageBatchTask[] openDeleteMessageBatchTask = new DeleteMessageBatchTask[1];
-
-    /**
-     * Current batching task for changeMessageVisibility. Using a size 1 array
-     * to allow "passing by reference". Synchronized by
-     * {@code changeMessageVisibilityLock}.
-     */
-    private final ChangeMessageVisibilityBatchTask[] openChangeMessageVisibilityBatchTask = new ChangeMessageVisibilityBatchTask[1];
+    private final AtomicReference<ChangeMessageVisibilityBatchTask> openChangeMessageVisibilityBatchTask = new AtomicReference<ChangeMessageVisibilityBatchTask>();
 
     /**
      * Permits controlling the number of in flight SendMessage batches.
@@ -138,6 +139,9 @@ public class SendQueueBuffer {
      */
     private final Semaphore inflightChangeMessageVisibilityBatches;
 
+    /** Number of permits of each of the in flight semaphores */
+    private final int maxInflightBatches;
+
     SendQueueBuffer(AmazonSQS sqsClient, Executor executor, QueueBufferConfig paramConfig, String url) {
         this.sqsClient = sqsClient;
         this.executor = executor;
@@ -147,10 +151,12 @@ public class SendQueueBuffer {
         
         //must allow at least one outbound batch.
         maxBatch = maxBatch > 0 ? maxBatch : 1;
+        this.maxInflightBatches = maxBatch;
 
-        this.inflightSendMessageBatches = new Semaphore( maxBatch);
-        this.inflightDeleteMessageBatches = new Semaphore( maxBatch);
-        this.inflightChangeMessageVisibilityBatches = new Semaphore( maxBatch);
+        // fair, so that flush() is not starved by a steady stream of new batches
+        this.inflightSendMessageBatches = new Semaphore( maxBatch, true);
+        this.inflightDeleteMessageBatches = new Semaphore( maxBatch, true);
+        this.inflightChangeMessageVisibilityBatches = new Semaphore( maxBatch, true);
     }
     
       public QueueBufferConfig getConfig()  {
@@ -163,7 +169,7 @@ public class SendQueueBuffer {
       public QueueBufferFuture< SendMessageRequest, SendMessageResult > sendMessage( SendMessageRequest request, QueueBufferCallback<SendMessageRequest, SendMessageResult> callback)
       {
           QueueBufferFuture<SendMessageRequest, SendMessageResult>  result = 
-                  submitOutboundRequest(sendMessageLock, openSendMessageBatchTask, request, inflightSendMessageBatches, callback);
+                  submitOutboundRequest(openSendMessageBatchTask, request, inflightSendMessageBatches, callback);
           return result;
       }
       
@@ -171,8 +177,7 @@ public class SendQueueBuffer {
        * @return never null
        */
       public QueueBufferFuture<DeleteMessageRequest, Void> deleteMessage(DeleteMessageRequest request, QueueBufferCallback<DeleteMessageRequest, Void > callback) {
-          return submitOutboundRequest(deleteMessageLock, 
-                  openDeleteMessageBatchTask,
+          return submitOutboundRequest(openDeleteMessageBatchTask,
                   request, 
                   inflightDeleteMessageBatches,
                   callback);
@@ -183,7 +188,6 @@ public class SendQueueBuffer {
        */
       public QueueBufferFuture<ChangeMessageVisibilityRequest, Void> changeMessageVisibility(ChangeMessageVisibilityRequest request, QueueBufferCallback<ChangeMessageVisibilityRequest, Void> callback) {
           return submitOutboundRequest(
-                changeMessageVisibilityLock, 
                 openChangeMessageVisibilityBatchTask,
                 request,
                 inflightChangeMessageVisibilityBatches,
@@ -217,38 +221,30 @@ public class SendQueueBuffer {
     public void flush() {
 
         try {
-            synchronized (sendMessageLock) {
-                inflightSendMessageBatches
-                        .acquire(config.getMaxInflightOutboundBatches());
-                inflightSendMessageBatches
-                        .release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (deleteMessageLock) {
-                inflightDeleteMessageBatches
-                        .acquire(config.getMaxInflightOutboundBatches());
-                inflightDeleteMessageBatches
-                        .release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (changeMessageVisibilityLock) {
-                inflightChangeMessageVisibilityBatches
-                        .acquire(config.getMaxInflightOutboundBatches());
-                inflightChangeMessageVisibilityBatches
-                        .release(config.getMaxInflightOutboundBatches());
-            }
+            flush(openSendMessageBatchTask, inflightSendMessageBatches);
+            flush(openDeleteMessageBatchTask, inflightDeleteMessageBatches);
+            flush(openChangeMessageVisibilityBatchTask, inflightChangeMessageVisibilityBatches);
         } catch( InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
 
+    private void flush(AtomicReference<? extends OutboundBatchTask<?, ?>> openOutboundBatchTask,
+            Semaphore inflightOperationBatches) throws InterruptedException {
+        // no need to wait for maxBatchOpenMs, the open batch can go right away
+        OutboundBatchTask<?, ?> openBatch = openOutboundBatchTask.get();
+        if (openBatch != null) {
+            openBatch.close();
+        }
+        inflightOperationBatches.acquire(maxInflightBatches);
+        inflightOperationBatches.release(maxInflightBatches);
+    }
+
     /**
      * Submits an outbound request for delivery to the queue associated with
      * this buffer.
      * <p>
      * 
-     * @param operationLock
-     *            the lock synchronizing calls for the call type (
-     *            {@code sendMessage}, {@code deleteMessage},
-     *            {@code changeMessageVisibility} )
      * @param openOutboundBatchTask
      *            the open batch task for this call type
      * @param request
@@ -261,47 +257,65 @@ public class SendQueueBuffer {
      */
     @SuppressWarnings("unchecked")
     <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(
-            Object operationLock, 
-            OBT[] openOutboundBatchTask, 
+            AtomicReference<OBT> openOutboundBatchTask, 
             R request,
             final Semaphore inflightOperationBatches, 
             QueueBufferCallback<R, Result> callback) {
         /*
          * Callers add requests to a single batch task (openOutboundBatchTask)
-         * until it is full or maxBatchOpenMs elapses. The total number of batch
-         * task in flight is controlled by the inflightOperationBatch semaphore
-         * capped at maxInflightOutboundBatches.
+         * until it is full or maxBatchOpenMs elapses. Adding is lock free; a
+         * caller finding the open batch closed takes an in flight permit and
+         * races to install a new batch, the losers give their permit back and
+         * add to the winner's batch. The total number of batch tasks in flight
+         * is controlled by the inflightOperationBatch semaphore capped at
+         * maxInflightOutboundBatches.
          */
-        QueueBufferFuture<R, Result> theFuture = null;
         try {
-            synchronized (operationLock) {
-                if (openOutboundBatchTask[0] == null || ((theFuture = openOutboundBatchTask[0].addRequest(request, callback))) == null) {
-                    OBT obt = (OBT) newOutboundBatchTask(request);
-                    inflightOperationBatches.acquire();
-                    openOutboundBatchTask[0] = obt;
-                    // Register a listener for the event signaling that the
-                    // batch task has completed (successfully or not).
-                    openOutboundBatchTask[0].onCompleted = new Listener<OutboundBatchTask<R, Result>>() {
-                        public void invoke(OutboundBatchTask<R, Result> task) {
-                            inflightOperationBatches.release();
-                        }
-                    };
-                    
-                    if ( log.isTraceEnabled() ) {
-                        log.trace("Queue " + qUrl + " created new batch for " + request.getClass().toString()
-                                + " " + inflightOperationBatches.availablePermits() 
-                                + " free slots remain");
+            while (true) {
+                OBT current = openOutboundBatchTask.get();
+                if (current != null) {
+                    QueueBufferFuture<R, Result> theFuture = current.addRequest(request, callback);
+                    if (theFuture != null) {
+                        return theFuture;
                     }
-                    
-                    theFuture = openOutboundBatchTask[0].addRequest(request, callback);
-                    executor.execute(openOutboundBatchTask[0]);
-                    if ( null == theFuture ) {
-                        //this can happen only if the request itself is flawed, 
-                        //so that it can't be added to any batch, even a brand
-                        //new one
-                        throw new AmazonClientException("Failed to schedule request "+ request + " for execution" );
+                }
+
+                if (!acquirePermit(inflightOperationBatches, openOutboundBatchTask, current)) {
+                    // someone else installed a new batch while we waited
+                    continue;
+                }
+
+                OBT obt = (OBT) newOutboundBatchTask(request);
+                // Register a listener for the event signaling that the
+                // batch task has completed (successfully or not).
+                obt.onCompleted = new Listener<OutboundBatchTask<R, Result>>() {
+                    public void invoke(OutboundBatchTask<R, Result> task) {
+                        inflightOperationBatches.release();
                     }
+                };
+                if (!openOutboundBatchTask.compareAndSet(current, obt)) {
+                    inflightOperationBatches.release();
+                    continue;
+                }
+
+                if ( log.isTraceEnabled() ) {
+                    log.trace("Queue " + qUrl + " created new batch for " + request.getClass().toString()
+                            + " " + inflightOperationBatches.availablePermits() 
+                            + " free slots remain");
+                }
+
+                QueueBufferFuture<R, Result> theFuture = obt.addRequest(request, callback);
+                if (theFuture != null) {
+                    obt.scheduleClose();
+                    return theFuture;
                 }
+                if (obt.isEmpty()) {
+                    //this can happen only if the request itself is flawed, 
+                    //so that it can't be added to any batch, even a brand
+                    //new one
+                    throw new AmazonClientException("Failed to schedule request "+ request + " for execution" );
+                }
+                // other callers filled the new batch before us, try again
             }
 
         } catch (InterruptedException e) {
@@ -310,8 +324,24 @@ public class SendQueueBuffer {
             toThrow.initCause(e);
             throw toThrow;
         }
+    }
 
-        return theFuture;
+    /**
+     * Blocks until a permit to open a new batch is available.
+     * 
+     * @return true if the permit was acquired, false if the open batch is no
+     *         longer {@code closedBatch} and the caller should retry adding to
+     *         it instead
+     */
+    private boolean acquirePermit(Semaphore inflightOperationBatches,
+            AtomicReference<? extends OutboundBatchTask<?, ?>> openOutboundBatchTask,
+            OutboundBatchTask<?, ?> closedBatch) throws InterruptedException {
+        while (!inflightOperationBatches.tryAcquire(PERMIT_POLL_MS, TimeUnit.MILLISECONDS)) {
+            if (openOutboundBatchTask.get() != closedBatch) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
@@ -320,7 +350,9 @@ public class SendQueueBuffer {
      * <p>
      * The batch task is constructed open and accepts requests until full, or
      * until {@code maxBatchOpenMs} elapses. At that point, the batch closes and
-     * the collected requests are assembled into a single batch request to SQS.
+     * is handed to the executor once every caller that got a slot in it has
+     * stored its request, and the collected requests are assembled into a
+     * single batch request to SQS. No thread is held while the batch is open.
      * Specialized for each type of outbound request.
      * <p>
      * Instances of this class (and subclasses) are thread-safe.
@@ -331,14 +363,35 @@ public class SendQueueBuffer {
      *            the type of result he futures issued by this task will return
      */
     private abstract class OutboundBatchTask<R extends AmazonWebServiceRequest, Result> implements Runnable {
-        final List<R> requests;
-        final ArrayList<QueueBufferFuture<R, Result>> futures;
-        AtomicBoolean open = new AtomicBoolean(true);
+
+        /*
+         * The state packs the closed flag, the number of reserved slots and
+         * the number of bytes in the batch into a single word so that a slot
+         * is reserved with one compare-and-set.
+         */
+        private static final long CLOSED = 1L << 63;
+        private static final int COUNT_SHIFT = 32;
+        private static final long BYTES_MASK = 0xFFFFFFFFL;
+
+        private final AtomicLong state = new AtomicLong();
+
+        /** Number of reserved slots whose request and future are stored */
+        private final AtomicInteger filledSlots = new AtomicInteger();
+
+        private final AtomicBoolean dispatched = new AtomicBoolean();
+
+        private final AtomicReferenceArray<R> requestSlots;
+        private final AtomicReferenceArray<QueueBufferFuture<R, Result>> futureSlots;
+
+        /** The requests and futures of the closed batch, set before processing */
+        List<R> requests = Collections.emptyList();
+        List<QueueBufferFuture<R, Result>> futures = Collections.emptyList();
+
         volatile Listener<OutboundBatchTask<R, Result>> onCompleted = null;
 
         OutboundBatchTask() {
-            requests = new ArrayList<R>(config.getMaxBatchSize());
-            futures = new ArrayList<QueueBufferFuture<R, Result>>(config.getMaxBatchSize());
+            requestSlots = new AtomicReferenceArray<R>(config.getMaxBatchSize());
+            futureSlots = new AtomicReferenceArray<QueueBufferFuture<R, Result>>(config.getMaxBatchSize());
         }
 
         /**
@@ -347,60 +400,107 @@ public class SendQueueBuffer {
          * @return the future that can be used to get the results of the 
          * execution, or null if the addition failed. 
          */
-        synchronized QueueBufferFuture<R, Result> addRequest(R request, QueueBufferCallback<R, Result> callback) {
-            if (!open.get())
-                return null;
-
-            QueueBufferFuture<R, Result> theFuture = addIfAllowed(request, callback);
+        QueueBufferFuture<R, Result> addRequest(R request, QueueBufferCallback<R, Result> callback) {
+            int size = requestSize(request);
+            while (true) {
+                long s = state.get();
+                if ((s & CLOSED) != 0)
+                    return null;
+
+                int count = (int) (s >>> COUNT_SHIFT);
+                long bytes = s & BYTES_MASK;
+                if (!isOkToAdd(count, bytes, size)) {
+                    // the batch is as full as it will ever be
+                    close();
+                    return null;
+                }
 
-            // if the addition did not work, or this addition made us full,
-            // we can close the request
-            if ((null == theFuture) || isFull()) {
-                open.set(false);
+                long next = ((long) (count + 1) << COUNT_SHIFT) | (bytes + size);
+                if (isFull(count + 1, bytes + size)) {
+                    next |= CLOSED;
+                }
+                if (state.compareAndSet(s, next)) {
+                    QueueBufferFuture<R, Result> theFuture = new QueueBufferFuture<R, Result>(callback);
+                    requestSlots.set(count, request);
+                    futureSlots.set(count, theFuture);
+                    filledSlots.incrementAndGet();
+                    dispatchIfReady();
+                    return theFuture;
+                }
             }
-
-            // the batch request is as full as it will ever be. no need to wait
-            // for the timeout, we can run it now.
-            if (!open.get())
-                notify();
-
-            return theFuture;
         }
 
         /**
-         * Adds the request to the batch if capacity allows it.
-         * 
-         * @param request
-         * @return the future that will be signaled when the request is
-         *         completed and can be used to retrieve the result. Can be null
-         *         if the addition could not be done
+         * @return the size the request counts for against
+         *         {@code maxBatchSizeBytes}; zero if that limit does not apply
          */
-        synchronized QueueBufferFuture<R, Result> addIfAllowed(R request, QueueBufferCallback<R,Result> callback) {
-            if (isOkToAdd(request)) {
-                requests.add(request);
+        protected int requestSize(R request) {
+            return 0;
+        }
 
-                QueueBufferFuture<R, Result> theFuture = new QueueBufferFuture<R, Result>(callback);
+        private boolean isOkToAdd(int count, long bytes, int size) {
+            return count < config.getMaxBatchSize() && (size == 0 || bytes + size < config.getMaxBatchSizeBytes());
+        }
 
-                futures.add(theFuture);
-                onRequestAdded(request);
-                return theFuture;
-            } else
-                return null;
+        /**
+         * @return whether the buffer is filled to capacity
+         */
+        private boolean isFull(int count, long bytes) {
+            return count >= config.getMaxBatchSize() || bytes >= config.getMaxBatchSizeBytes();
         }
 
-        protected synchronized boolean isOkToAdd(R request) {
-            return requests.size() < config.getMaxBatchSize();
+        boolean isEmpty() {
+            return (state.get() & ~CLOSED) == 0;
         }
-        
-        protected synchronized void onRequestAdded(R request) {
-            // to be overridden by subclasses
+
+        /**
+         * Closes the batch after {@code maxBatchOpenMs} unless it fills up
+         * before that.
+         */
+        void scheduleClose() {
+            batchTimer.schedule(new Runnable() {
+                public void run() {
+                    close();
+                }
+            }, config.getMaxBatchOpenMs(), TimeUnit.MILLISECONDS);
         }
 
         /**
-         * @return whether the buffer is filled to capacity
+         * Stops the batch from accepting requests, and hands it over for
+         * processing as soon as all the requests already accepted are stored.
          */
-        synchronized boolean isFull() {
-            return requests.size() >= config.getMaxBatchSize();
+        void close() {
+            while (true) {
+                long s = state.get();
+                if ((s & CLOSED) != 0 || state.compareAndSet(s, s | CLOSED))
+                    break;
+            }
+            dispatchIfReady();
+        }
+
+        private void dispatchIfReady() {
+            long s = state.get();
+            if ((s & CLOSED) == 0 || filledSlots.get() != (int) ((s & ~CLOSED) >>> COUNT_SHIFT))
+                return;
+            if (!dispatched.compareAndSet(false, true))
+                return;
+
+            int count = filledSlots.get();
+            List<R> closedRequests = new ArrayList<R>(count);
+            List<QueueBufferFuture<R, Result>> closedFutures = new ArrayList<QueueBufferFuture<R, Result>>(count);
+            for (int i = 0; i < count; i++) {
+                closedRequests.add(requestSlots.get(i));
+                closedFutures.add(futureSlots.get(i));
+            }
+            requests = closedRequests;
+            futures = closedFutures;
+
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                failAll( new AmazonClientException("Failed to schedule batch for execution", e) );
+                complete();
+            }
         }
 
         /**
@@ -409,23 +509,9 @@ public class SendQueueBuffer {
         abstract void process();
 
         @Override
-        public synchronized void run() {
+        public void run() {
             try {
-                long deadlineMs = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS ) + 
-                        config.getMaxBatchOpenMs() +1;
-                long t = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS );
-                while (open.get()  && (t  < deadlineMs ) ) {
-                    t = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS );
-                    
-                    //zero means "wait forever", can't have that.
-                    long toWait = Math.max(1, deadlineMs - t);
-                    wait(toWait);
-                }
-                    
-                open.set(false);
                 process();
-            } catch (InterruptedException e) {
-                failAll( e );
             } catch (AmazonClientException e) {
                 failAll( e );
             } catch (RuntimeException e) {
@@ -435,12 +521,16 @@ public class SendQueueBuffer {
                 failAll( new AmazonClientException("Error encountered", e) );
                 throw e;
             } finally {
-                //make a copy of the listener since it can be modified from outside
-                Listener<OutboundBatchTask<R, Result>> completionListener = onCompleted;
-                if (completionListener != null)
-                    completionListener.invoke(this);
+                complete();
             }
         }
+
+        private void complete() {
+            //make a copy of the listener since it can be modified from outside
+            Listener<OutboundBatchTask<R, Result>> completionListener = onCompleted;
+            if (completionListener != null)
+                completionListener.invoke(this);
+        }
         
         private void failAll( Exception e) {
             for( QueueBufferFuture<R, Result> f : futures ) {
@@ -451,23 +541,11 @@ public class SendQueueBuffer {
 
     private class SendMessageBatchTask extends
             OutboundBatchTask<SendMessageRequest, SendMessageResult> {
-        int batchSizeBytes = 0;
-
-        @Override
-        protected synchronized boolean isOkToAdd(SendMessageRequest request) {
-            return ( requests.size() < config.getMaxBatchSize() ) && 
-                    ((request.getMessageBody().getBytes().length + batchSizeBytes) < config.getMaxBatchSizeBytes()); 
-        }
-
-        @Override
-        protected void onRequestAdded(SendMessageRequest request) {
-            batchSizeBytes += request.getMessageBody().getBytes().length;
-        }
 
         @Override
-        synchronized boolean isFull() {
-            return ( requests.size() >= config.getMaxBatchSize() ) || 
-                    ( batchSizeBytes >= config.getMaxBatchSizeBytes());
+        protected int requestSize(SendMessageRequest request) {
+            // never zero, so that the byte limit applies to every message
+            return Math.max(1, request.getMessageBody().getBytes().length);
         }
 
         @Override
@@ -22,6 +22,8 @@ import java.util.concurrent.Future;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.DeferredRetryException;
+import com.amazonaws.http.RetryScheduler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -67,6 +69,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     private ExecutorService executorService;
 
+    private volatile RetryScheduler retryScheduler;
+
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
@@ -256,6 +260,41 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
         return executorService;
     }
 
+    /**
+     * Returns the retry scheduler used by this async client to wait out
+     * retry back-offs, or null if retries pause in the executing thread.
+     *
+     * @return The retry scheduler used by this async client, if any.
+     */
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Sets the retry scheduler used by this async client to wait out retry
+     * back-offs. When set, a retried request doesn't hold one of the
+     * executor service's threads while it waits to be sent again; instead it
+     * is re-submitted to the executor service once the back-off has expired.
+     * When null (the default), retries pause in the executing thread.
+     *
+     * @param retryScheduler
+     *            The retry scheduler used to wait out retry back-offs, or
+     *            null to pause in the executing thread.
+     */
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Submits an asynchronous service call to the executor service, through
+     * the retry scheduler if one has been set.
+     */
+    private <T> Future<T> submit(Callable<T> callable) {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) return executorService.submit(callable);
+        return scheduler.submit(executorService, callable);
+    }
+
     /**
      * Shuts down the client, releasing all managed resources. This includes
      * forcibly terminating all pending asynchronous service calls. Clients who
@@ -295,7 +334,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteBandwidthRateLimitResult> deleteBandwidthRateLimitAsync(final DeleteBandwidthRateLimitRequest deleteBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBandwidthRateLimitResult>() {
+        return submit(new Callable<DeleteBandwidthRateLimitResult>() {
             public DeleteBandwidthRateLimitResult call() throws Exception {
                 return deleteBandwidthRateLimit(deleteBandwidthRateLimitRequest);
 		    }
@@ -336,11 +375,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteBandwidthRateLimitRequest deleteBandwidthRateLimitRequest,
             final AsyncHandler<DeleteBandwidthRateLimitRequest, DeleteBandwidthRateLimitResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBandwidthRateLimitResult>() {
+        return submit(new Callable<DeleteBandwidthRateLimitResult>() {
             public DeleteBandwidthRateLimitResult call() throws Exception {
             	DeleteBandwidthRateLimitResult result;
                 try {
             		result = deleteBandwidthRateLimit(deleteBandwidthRateLimitRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -385,7 +426,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListGatewaysResult> listGatewaysAsync(final ListGatewaysRequest listGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGatewaysResult>() {
+        return submit(new Callable<ListGatewaysResult>() {
             public ListGatewaysResult call() throws Exception {
                 return listGateways(listGatewaysRequest);
 		    }
@@ -433,11 +474,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListGatewaysRequest listGatewaysRequest,
             final AsyncHandler<ListGatewaysRequest, ListGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGatewaysResult>() {
+        return submit(new Callable<ListGatewaysResult>() {
             public ListGatewaysResult call() throws Exception {
             	ListGatewaysResult result;
                 try {
             		result = listGateways(listGatewaysRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -472,7 +515,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteChapCredentialsResult> deleteChapCredentialsAsync(final DeleteChapCredentialsRequest deleteChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteChapCredentialsResult>() {
+        return submit(new Callable<DeleteChapCredentialsResult>() {
             public DeleteChapCredentialsResult call() throws Exception {
                 return deleteChapCredentials(deleteChapCredentialsRequest);
 		    }
@@ -510,11 +553,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteChapCredentialsRequest deleteChapCredentialsRequest,
             final AsyncHandler<DeleteChapCredentialsRequest, DeleteChapCredentialsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteChapCredentialsResult>() {
+        return submit(new Callable<DeleteChapCredentialsResult>() {
             public DeleteChapCredentialsResult call() throws Exception {
             	DeleteChapCredentialsResult result;
                 try {
             		result = deleteChapCredentials(deleteChapCredentialsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -563,7 +608,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateStorediSCSIVolumeResult> createStorediSCSIVolumeAsync(final CreateStorediSCSIVolumeRequest createStorediSCSIVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorediSCSIVolumeResult>() {
+        return submit(new Callable<CreateStorediSCSIVolumeResult>() {
             public CreateStorediSCSIVolumeResult call() throws Exception {
                 return createStorediSCSIVolume(createStorediSCSIVolumeRequest);
 		    }
@@ -615,11 +660,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateStorediSCSIVolumeRequest createStorediSCSIVolumeRequest,
             final AsyncHandler<CreateStorediSCSIVolumeRequest, CreateStorediSCSIVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorediSCSIVolumeResult>() {
+        return submit(new Callable<CreateStorediSCSIVolumeResult>() {
             public CreateStorediSCSIVolumeResult call() throws Exception {
             	CreateStorediSCSIVolumeResult result;
                 try {
             		result = createStorediSCSIVolume(createStorediSCSIVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -655,7 +702,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateGatewayInformationResult> updateGatewayInformationAsync(final UpdateGatewayInformationRequest updateGatewayInformationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewayInformationResult>() {
+        return submit(new Callable<UpdateGatewayInformationResult>() {
             public UpdateGatewayInformationResult call() throws Exception {
                 return updateGatewayInformation(updateGatewayInformationRequest);
 		    }
@@ -694,11 +741,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewayInformationRequest updateGatewayInformationRequest,
             final AsyncHandler<UpdateGatewayInformationRequest, UpdateGatewayInformationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewayInformationResult>() {
+        return submit(new Callable<UpdateGatewayInformationResult>() {
             public UpdateGatewayInformationResult call() throws Exception {
             	UpdateGatewayInformationResult result;
                 try {
             		result = updateGatewayInformation(updateGatewayInformationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -744,7 +793,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<StartGatewayResult> startGatewayAsync(final StartGatewayRequest startGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartGatewayResult>() {
+        return submit(new Callable<StartGatewayResult>() {
             public StartGatewayResult call() throws Exception {
                 return startGateway(startGatewayRequest);
 		    }
@@ -793,11 +842,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final StartGatewayRequest startGatewayRequest,
             final AsyncHandler<StartGatewayRequest, StartGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartGatewayResult>() {
+        return submit(new Callable<StartGatewayResult>() {
             public StartGatewayResult call() throws Exception {
             	StartGatewayResult result;
                 try {
             		result = startGateway(startGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -833,7 +884,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateMaintenanceStartTimeResult> updateMaintenanceStartTimeAsync(final UpdateMaintenanceStartTimeRequest updateMaintenanceStartTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMaintenanceStartTimeResult>() {
+        return submit(new Callable<UpdateMaintenanceStartTimeResult>() {
             public UpdateMaintenanceStartTimeResult call() throws Exception {
                 return updateMaintenanceStartTime(updateMaintenanceStartTimeRequest);
 		    }
@@ -872,11 +923,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateMaintenanceStartTimeRequest updateMaintenanceStartTimeRequest,
             final AsyncHandler<UpdateMaintenanceStartTimeRequest, UpdateMaintenanceStartTimeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMaintenanceStartTimeResult>() {
+        return submit(new Callable<UpdateMaintenanceStartTimeResult>() {
             public UpdateMaintenanceStartTimeResult call() throws Exception {
             	UpdateMaintenanceStartTimeResult result;
                 try {
             		result = updateMaintenanceStartTime(updateMaintenanceStartTimeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -920,7 +973,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListVolumesResult> listVolumesAsync(final ListVolumesRequest listVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumesResult>() {
+        return submit(new Callable<ListVolumesResult>() {
             public ListVolumesResult call() throws Exception {
                 return listVolumes(listVolumesRequest);
 		    }
@@ -967,11 +1020,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumesRequest listVolumesRequest,
             final AsyncHandler<ListVolumesRequest, ListVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumesResult>() {
+        return submit(new Callable<ListVolumesResult>() {
             public ListVolumesResult call() throws Exception {
             	ListVolumesResult result;
                 try {
             		result = listVolumes(listVolumesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1009,7 +1064,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListLocalDisksResult> listLocalDisksAsync(final ListLocalDisksRequest listLocalDisksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLocalDisksResult>() {
+        return submit(new Callable<ListLocalDisksResult>() {
             public ListLocalDisksResult call() throws Exception {
                 return listLocalDisks(listLocalDisksRequest);
 		    }
@@ -1050,11 +1105,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListLocalDisksRequest listLocalDisksRequest,
             final AsyncHandler<ListLocalDisksRequest, ListLocalDisksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLocalDisksResult>() {
+        return submit(new Callable<ListLocalDisksResult>() {
             public ListLocalDisksResult call() throws Exception {
             	ListLocalDisksResult result;
                 try {
             		result = listLocalDisks(listLocalDisksRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1091,7 +1148,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeStorediSCSIVolumesResult> describeStorediSCSIVolumesAsync(final DescribeStorediSCSIVolumesRequest describeStorediSCSIVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStorediSCSIVolumesResult>() {
+        return submit(new Callable<DescribeStorediSCSIVolumesResult>() {
             public DescribeStorediSCSIVolumesResult call() throws Exception {
                 return describeStorediSCSIVolumes(describeStorediSCSIVolumesRequest);
 		    }
@@ -1131,11 +1188,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeStorediSCSIVolumesRequest describeStorediSCSIVolumesRequest,
             final AsyncHandler<DescribeStorediSCSIVolumesRequest, DescribeStorediSCSIVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStorediSCSIVolumesResult>() {
+        return submit(new Callable<DescribeStorediSCSIVolumesResult>() {
             public DescribeStorediSCSIVolumesResult call() throws Exception {
             	DescribeStorediSCSIVolumesResult result;
                 try {
             		result = describeStorediSCSIVolumes(describeStorediSCSIVolumesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1186,7 +1245,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteVolumeResult> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVolumeResult>() {
+        return submit(new Callable<DeleteVolumeResult>() {
             public DeleteVolumeResult call() throws Exception {
                 return deleteVolume(deleteVolumeRequest);
 		    }
@@ -1240,11 +1299,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, DeleteVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVolumeResult>() {
+        return submit(new Callable<DeleteVolumeResult>() {
             public DeleteVolumeResult call() throws Exception {
             	DeleteVolumeResult result;
                 try {
             		result = deleteVolume(deleteVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1287,7 +1348,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeBandwidthRateLimitResult> describeBandwidthRateLimitAsync(final DescribeBandwidthRateLimitRequest describeBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBandwidthRateLimitResult>() {
+        return submit(new Callable<DescribeBandwidthRateLimitResult>() {
             public DescribeBandwidthRateLimitResult call() throws Exception {
                 return describeBandwidthRateLimit(describeBandwidthRateLimitRequest);
 		    }
@@ -1333,11 +1394,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeBandwidthRateLimitRequest describeBandwidthRateLimitRequest,
             final AsyncHandler<DescribeBandwidthRateLimitRequest, DescribeBandwidthRateLimitResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBandwidthRateLimitResult>() {
+        return submit(new Callable<DescribeBandwidthRateLimitResult>() {
             public DescribeBandwidthRateLimitResult call() throws Exception {
             	DescribeBandwidthRateLimitResult result;
                 try {
             		result = describeBandwidthRateLimit(describeBandwidthRateLimitRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1373,7 +1436,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeMaintenanceStartTimeResult> describeMaintenanceStartTimeAsync(final DescribeMaintenanceStartTimeRequest describeMaintenanceStartTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMaintenanceStartTimeResult>() {
+        return submit(new Callable<DescribeMaintenanceStartTimeResult>() {
             public DescribeMaintenanceStartTimeResult call() throws Exception {
                 return describeMaintenanceStartTime(describeMaintenanceStartTimeRequest);
 		    }
@@ -1412,11 +1475,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeMaintenanceStartTimeRequest describeMaintenanceStartTimeRequest,
             final AsyncHandler<DescribeMaintenanceStartTimeRequest, DescribeMaintenanceStartTimeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMaintenanceStartTimeResult>() {
+        return submit(new Callable<DescribeMaintenanceStartTimeResult>() {
             public DescribeMaintenanceStartTimeResult call() throws Exception {
             	DescribeMaintenanceStartTimeResult result;
                 try {
             		result = describeMaintenanceStartTime(describeMaintenanceStartTimeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1473,7 +1538,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return submit(new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
                 return createSnapshot(createSnapshotRequest);
 		    }
@@ -1533,11 +1598,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return submit(new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
             	CreateSnapshotResult result;
                 try {
             		result = createSnapshot(createSnapshotRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1573,7 +1640,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeChapCredentialsResult> describeChapCredentialsAsync(final DescribeChapCredentialsRequest describeChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeChapCredentialsResult>() {
+        return submit(new Callable<DescribeChapCredentialsResult>() {
             public DescribeChapCredentialsResult call() throws Exception {
                 return describeChapCredentials(describeChapCredentialsRequest);
 		    }
@@ -1612,11 +1679,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeChapCredentialsRequest describeChapCredentialsRequest,
             final AsyncHandler<DescribeChapCredentialsRequest, DescribeChapCredentialsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeChapCredentialsResult>() {
+        return submit(new Callable<DescribeChapCredentialsResult>() {
             public DescribeChapCredentialsResult call() throws Exception {
             	DescribeChapCredentialsResult result;
                 try {
             		result = describeChapCredentials(describeChapCredentialsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1654,7 +1723,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeCacheResult> describeCacheAsync(final DescribeCacheRequest describeCacheRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheResult>() {
+        return submit(new Callable<DescribeCacheResult>() {
             public DescribeCacheResult call() throws Exception {
                 return describeCache(describeCacheRequest);
 		    }
@@ -1695,11 +1764,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCacheRequest describeCacheRequest,
             final AsyncHandler<DescribeCacheRequest, DescribeCacheResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheResult>() {
+        return submit(new Callable<DescribeCacheResult>() {
             public DescribeCacheResult call() throws Exception {
             	DescribeCacheResult result;
                 try {
             		result = describeCache(describeCacheRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1735,7 +1806,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeSnapshotScheduleResult> describeSnapshotScheduleAsync(final DescribeSnapshotScheduleRequest describeSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotScheduleResult>() {
+        return submit(new Callable<DescribeSnapshotScheduleResult>() {
             public DescribeSnapshotScheduleResult call() throws Exception {
                 return describeSnapshotSchedule(describeSnapshotScheduleRequest);
 		    }
@@ -1774,11 +1845,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeSnapshotScheduleRequest describeSnapshotScheduleRequest,
             final AsyncHandler<DescribeSnapshotScheduleRequest, DescribeSnapshotScheduleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotScheduleResult>() {
+        return submit(new Callable<DescribeSnapshotScheduleResult>() {
             public DescribeSnapshotScheduleResult call() throws Exception {
             	DescribeSnapshotScheduleResult result;
                 try {
             		result = describeSnapshotSchedule(describeSnapshotScheduleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1827,7 +1900,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateCachediSCSIVolumeResult> createCachediSCSIVolumeAsync(final CreateCachediSCSIVolumeRequest createCachediSCSIVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCachediSCSIVolumeResult>() {
+        return submit(new Callable<CreateCachediSCSIVolumeResult>() {
             public CreateCachediSCSIVolumeResult call() throws Exception {
                 return createCachediSCSIVolume(createCachediSCSIVolumeRequest);
 		    }
@@ -1879,11 +1952,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateCachediSCSIVolumeRequest createCachediSCSIVolumeRequest,
             final AsyncHandler<CreateCachediSCSIVolumeRequest, CreateCachediSCSIVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCachediSCSIVolumeResult>() {
+        return submit(new Callable<CreateCachediSCSIVolumeResult>() {
             public CreateCachediSCSIVolumeResult call() throws Exception {
             	CreateCachediSCSIVolumeResult result;
                 try {
             		result = createCachediSCSIVolume(createCachediSCSIVolumeRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -1944,7 +2019,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ShutdownGatewayResult> shutdownGatewayAsync(final ShutdownGatewayRequest shutdownGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ShutdownGatewayResult>() {
+        return submit(new Callable<ShutdownGatewayResult>() {
             public ShutdownGatewayResult call() throws Exception {
                 return shutdownGateway(shutdownGatewayRequest);
 		    }
@@ -2008,11 +2083,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ShutdownGatewayRequest shutdownGatewayRequest,
             final AsyncHandler<ShutdownGatewayRequest, ShutdownGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ShutdownGatewayResult>() {
+        return submit(new Callable<ShutdownGatewayResult>() {
             public ShutdownGatewayResult call() throws Exception {
             	ShutdownGatewayResult result;
                 try {
             		result = shutdownGateway(shutdownGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2061,7 +2138,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateGatewaySoftwareNowResult> updateGatewaySoftwareNowAsync(final UpdateGatewaySoftwareNowRequest updateGatewaySoftwareNowRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewaySoftwareNowResult>() {
+        return submit(new Callable<UpdateGatewaySoftwareNowResult>() {
             public UpdateGatewaySoftwareNowResult call() throws Exception {
                 return updateGatewaySoftwareNow(updateGatewaySoftwareNowRequest);
 		    }
@@ -2113,11 +2190,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewaySoftwareNowRequest updateGatewaySoftwareNowRequest,
             final AsyncHandler<UpdateGatewaySoftwareNowRequest, UpdateGatewaySoftwareNowResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewaySoftwareNowResult>() {
+        return submit(new Callable<UpdateGatewaySoftwareNowResult>() {
             public UpdateGatewaySoftwareNowResult call() throws Exception {
             	UpdateGatewaySoftwareNowResult result;
                 try {
             		result = updateGatewaySoftwareNow(updateGatewaySoftwareNowRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2162,7 +2241,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeWorkingStorageResult> describeWorkingStorageAsync(final DescribeWorkingStorageRequest describeWorkingStorageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeWorkingStorageResult>() {
+        return submit(new Callable<DescribeWorkingStorageResult>() {
             public DescribeWorkingStorageResult call() throws Exception {
                 return describeWorkingStorage(describeWorkingStorageRequest);
 		    }
@@ -2210,11 +2289,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeWorkingStorageRequest describeWorkingStorageRequest,
             final AsyncHandler<DescribeWorkingStorageRequest, DescribeWorkingStorageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeWorkingStorageResult>() {
+        return submit(new Callable<DescribeWorkingStorageResult>() {
             public DescribeWorkingStorageResult call() throws Exception {
             	DescribeWorkingStorageResult result;
                 try {
             		result = describeWorkingStorage(describeWorkingStorageRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2255,7 +2336,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<AddCacheResult> addCacheAsync(final AddCacheRequest addCacheRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddCacheResult>() {
+        return submit(new Callable<AddCacheResult>() {
             public AddCacheResult call() throws Exception {
                 return addCache(addCacheRequest);
 		    }
@@ -2299,11 +2380,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddCacheRequest addCacheRequest,
             final AsyncHandler<AddCacheRequest, AddCacheResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddCacheResult>() {
+        return submit(new Callable<AddCacheResult>() {
             public AddCacheResult call() throws Exception {
             	AddCacheResult result;
                 try {
             		result = addCache(addCacheRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2355,7 +2438,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteGatewayResult> deleteGatewayAsync(final DeleteGatewayRequest deleteGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteGatewayResult>() {
+        return submit(new Callable<DeleteGatewayResult>() {
             public DeleteGatewayResult call() throws Exception {
                 return deleteGateway(deleteGatewayRequest);
 		    }
@@ -2410,11 +2493,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteGatewayRequest deleteGatewayRequest,
             final AsyncHandler<DeleteGatewayRequest, DeleteGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteGatewayResult>() {
+        return submit(new Callable<DeleteGatewayResult>() {
             public DeleteGatewayResult call() throws Exception {
             	DeleteGatewayResult result;
                 try {
             		result = deleteGateway(deleteGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2471,7 +2556,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateSnapshotFromVolumeRecoveryPointResult> createSnapshotFromVolumeRecoveryPointAsync(final CreateSnapshotFromVolumeRecoveryPointRequest createSnapshotFromVolumeRecoveryPointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
+        return submit(new Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
             public CreateSnapshotFromVolumeRecoveryPointResult call() throws Exception {
                 return createSnapshotFromVolumeRecoveryPoint(createSnapshotFromVolumeRecoveryPointRequest);
 		    }
@@ -2531,11 +2616,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotFromVolumeRecoveryPointRequest createSnapshotFromVolumeRecoveryPointRequest,
             final AsyncHandler<CreateSnapshotFromVolumeRecoveryPointRequest, CreateSnapshotFromVolumeRecoveryPointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
+        return submit(new Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
             public CreateSnapshotFromVolumeRecoveryPointResult call() throws Exception {
             	CreateSnapshotFromVolumeRecoveryPointResult result;
                 try {
             		result = createSnapshotFromVolumeRecoveryPoint(createSnapshotFromVolumeRecoveryPointRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2581,7 +2668,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateSnapshotScheduleResult> updateSnapshotScheduleAsync(final UpdateSnapshotScheduleRequest updateSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSnapshotScheduleResult>() {
+        return submit(new Callable<UpdateSnapshotScheduleResult>() {
             public UpdateSnapshotScheduleResult call() throws Exception {
                 return updateSnapshotSchedule(updateSnapshotScheduleRequest);
 		    }
@@ -2630,11 +2717,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateSnapshotScheduleRequest updateSnapshotScheduleRequest,
             final AsyncHandler<UpdateSnapshotScheduleRequest, UpdateSnapshotScheduleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSnapshotScheduleResult>() {
+        return submit(new Callable<UpdateSnapshotScheduleResult>() {
             public UpdateSnapshotScheduleResult call() throws Exception {
             	UpdateSnapshotScheduleResult result;
                 try {
             		result = updateSnapshotSchedule(updateSnapshotScheduleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2678,7 +2767,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ActivateGatewayResult> activateGatewayAsync(final ActivateGatewayRequest activateGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivateGatewayResult>() {
+        return submit(new Callable<ActivateGatewayResult>() {
             public ActivateGatewayResult call() throws Exception {
                 return activateGateway(activateGatewayRequest);
 		    }
@@ -2725,11 +2814,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ActivateGatewayRequest activateGatewayRequest,
             final AsyncHandler<ActivateGatewayRequest, ActivateGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivateGatewayResult>() {
+        return submit(new Callable<ActivateGatewayResult>() {
             public ActivateGatewayResult call() throws Exception {
             	ActivateGatewayResult result;
                 try {
             		result = activateGateway(activateGatewayRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2776,7 +2867,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateBandwidthRateLimitResult> updateBandwidthRateLimitAsync(final UpdateBandwidthRateLimitRequest updateBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateBandwidthRateLimitResult>() {
+        return submit(new Callable<UpdateBandwidthRateLimitResult>() {
             public UpdateBandwidthRateLimitResult call() throws Exception {
                 return updateBandwidthRateLimit(updateBandwidthRateLimitRequest);
 		    }
@@ -2826,11 +2917,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateBandwidthRateLimitRequest updateBandwidthRateLimitRequest,
             final AsyncHandler<UpdateBandwidthRateLimitRequest, UpdateBandwidthRateLimitResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateBandwidthRateLimitResult>() {
+        return submit(new Callable<UpdateBandwidthRateLimitResult>() {
             public UpdateBandwidthRateLimitResult call() throws Exception {
             	UpdateBandwidthRateLimitResult result;
                 try {
             		result = updateBandwidthRateLimit(updateBandwidthRateLimitRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2878,7 +2971,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteSnapshotScheduleResult> deleteSnapshotScheduleAsync(final DeleteSnapshotScheduleRequest deleteSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSnapshotScheduleResult>() {
+        return submit(new Callable<DeleteSnapshotScheduleResult>() {
             public DeleteSnapshotScheduleResult call() throws Exception {
                 return deleteSnapshotSchedule(deleteSnapshotScheduleRequest);
 		    }
@@ -2929,11 +3022,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteSnapshotScheduleRequest deleteSnapshotScheduleRequest,
             final AsyncHandler<DeleteSnapshotScheduleRequest, DeleteSnapshotScheduleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSnapshotScheduleResult>() {
+        return submit(new Callable<DeleteSnapshotScheduleResult>() {
             public DeleteSnapshotScheduleResult call() throws Exception {
             	DeleteSnapshotScheduleResult result;
                 try {
             		result = deleteSnapshotSchedule(deleteSnapshotScheduleRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -2975,7 +3070,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateChapCredentialsResult> updateChapCredentialsAsync(final UpdateChapCredentialsRequest updateChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateChapCredentialsResult>() {
+        return submit(new Callable<UpdateChapCredentialsResult>() {
             public UpdateChapCredentialsResult call() throws Exception {
                 return updateChapCredentials(updateChapCredentialsRequest);
 		    }
@@ -3020,11 +3115,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateChapCredentialsRequest updateChapCredentialsRequest,
             final AsyncHandler<UpdateChapCredentialsRequest, UpdateChapCredentialsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateChapCredentialsResult>() {
+        return submit(new Callable<UpdateChapCredentialsResult>() {
             public UpdateChapCredentialsResult call() throws Exception {
             	UpdateChapCredentialsResult result;
                 try {
             		result = updateChapCredentials(updateChapCredentialsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3063,7 +3160,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<AddUploadBufferResult> addUploadBufferAsync(final AddUploadBufferRequest addUploadBufferRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddUploadBufferResult>() {
+        return submit(new Callable<AddUploadBufferResult>() {
             public AddUploadBufferResult call() throws Exception {
                 return addUploadBuffer(addUploadBufferRequest);
 		    }
@@ -3105,11 +3202,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddUploadBufferRequest addUploadBufferRequest,
             final AsyncHandler<AddUploadBufferRequest, AddUploadBufferResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddUploadBufferResult>() {
+        return submit(new Callable<AddUploadBufferResult>() {
             public AddUploadBufferResult call() throws Exception {
             	AddUploadBufferResult result;
                 try {
             		result = addUploadBuffer(addUploadBufferRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3152,7 +3251,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListVolumeRecoveryPointsResult> listVolumeRecoveryPointsAsync(final ListVolumeRecoveryPointsRequest listVolumeRecoveryPointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumeRecoveryPointsResult>() {
+        return submit(new Callable<ListVolumeRecoveryPointsResult>() {
             public ListVolumeRecoveryPointsResult call() throws Exception {
                 return listVolumeRecoveryPoints(listVolumeRecoveryPointsRequest);
 		    }
@@ -3198,11 +3297,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumeRecoveryPointsRequest listVolumeRecoveryPointsRequest,
             final AsyncHandler<ListVolumeRecoveryPointsRequest, ListVolumeRecoveryPointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumeRecoveryPointsResult>() {
+        return submit(new Callable<ListVolumeRecoveryPointsResult>() {
             public ListVolumeRecoveryPointsResult call() throws Exception {
             	ListVolumeRecoveryPointsResult result;
                 try {
             		result = listVolumeRecoveryPoints(listVolumeRecoveryPointsRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3242,7 +3343,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeUploadBufferResult> describeUploadBufferAsync(final DescribeUploadBufferRequest describeUploadBufferRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUploadBufferResult>() {
+        return submit(new Callable<DescribeUploadBufferResult>() {
             public DescribeUploadBufferResult call() throws Exception {
                 return describeUploadBuffer(describeUploadBufferRequest);
 		    }
@@ -3285,11 +3386,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeUploadBufferRequest describeUploadBufferRequest,
             final AsyncHandler<DescribeUploadBufferRequest, DescribeUploadBufferResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUploadBufferResult>() {
+        return submit(new Callable<DescribeUploadBufferResult>() {
             public DescribeUploadBufferResult call() throws Exception {
             	DescribeUploadBufferResult result;
                 try {
             		result = describeUploadBuffer(describeUploadBufferRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3333,7 +3436,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<AddWorkingStorageResult> addWorkingStorageAsync(final AddWorkingStorageRequest addWorkingStorageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddWorkingStorageResult>() {
+        return submit(new Callable<AddWorkingStorageResult>() {
             public AddWorkingStorageResult call() throws Exception {
                 return addWorkingStorage(addWorkingStorageRequest);
 		    }
@@ -3380,11 +3483,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddWorkingStorageRequest addWorkingStorageRequest,
             final AsyncHandler<AddWorkingStorageRequest, AddWorkingStorageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddWorkingStorageResult>() {
+        return submit(new Callable<AddWorkingStorageResult>() {
             public AddWorkingStorageResult call() throws Exception {
             	AddWorkingStorageResult result;
                 try {
             		result = addWorkingStorage(addWorkingStorageRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3425,7 +3530,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeCachediSCSIVolumesResult> describeCachediSCSIVolumesAsync(final DescribeCachediSCSIVolumesRequest describeCachediSCSIVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCachediSCSIVolumesResult>() {
+        return submit(new Callable<DescribeCachediSCSIVolumesResult>() {
             public DescribeCachediSCSIVolumesResult call() throws Exception {
                 return describeCachediSCSIVolumes(describeCachediSCSIVolumesRequest);
 		    }
@@ -3469,11 +3574,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCachediSCSIVolumesRequest describeCachediSCSIVolumesRequest,
             final AsyncHandler<DescribeCachediSCSIVolumesRequest, DescribeCachediSCSIVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCachediSCSIVolumesResult>() {
+        return submit(new Callable<DescribeCachediSCSIVolumesResult>() {
             public DescribeCachediSCSIVolumesResult call() throws Exception {
             	DescribeCachediSCSIVolumesResult result;
                 try {
             		result = describeCachediSCSIVolumes(describeCachediSCSIVolumesRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
@@ -3510,7 +3617,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeGatewayInformationResult> describeGatewayInformationAsync(final DescribeGatewayInformationRequest describeGatewayInformationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGatewayInformationResult>() {
+        return submit(new Callable<DescribeGatewayInformationResult>() {
             public DescribeGatewayInformationResult call() throws Exception {
                 return describeGatewayInformation(describeGatewayInformationRequest);
 		    }
@@ -3550,11 +3657,13 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeGatewayInformationRequest describeGatewayInformationRequest,
             final AsyncHandler<DescribeGatewayInformationRequest, DescribeGatewayInformationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGatewayInformationResult>() {
+        return submit(new Callable<DescribeGatewayInformationResult>() {
             public DescribeGatewayInformationResult call() throws Exception {
             	DescribeGatewayInformationResult result;
                 try {
             		result = describeGatewayInformation(describeGatewayInformationRequest);
+            	} catch (DeferredRetryException dre) {
+            	    throw dre;
             	} catch (Exception ex) {
             	    asyncHandler.onError(ex);
     				throw ex;
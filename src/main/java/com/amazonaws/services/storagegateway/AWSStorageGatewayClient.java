@@ -83,6 +83,9 @@ public class AWSStorageGatewayClient extends AmazonWebServiceClient implements A
      */
     protected List<Unmarshaller<AmazonServiceException, JSONObject>> exceptionUnmarshallers;
 
+    /** Error response handler shared by all requests to this client. */
+    private JsonErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS4Signer signer;
@@ -217,6 +220,7 @@ public class AWSStorageGatewayClient extends AmazonWebServiceClient implements A
         exceptionUnmarshallers.add(new InternalServerErrorExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new JsonErrorUnmarshaller());
+        errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("storagegateway.us-east-1.amazonaws.com");
 
         signer = new AWS4Signer();
@@ -2205,7 +2209,6 @@ public class AWSStorageGatewayClient extends AmazonWebServiceClient implements A
         executionContext.setCredentials(credentials);
 
         
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(exceptionUnmarshallers);
 
         awsRequestMetrics.startEvent(Field.ClientExecuteTime.name());
         X result = (X) client.execute(request, responseHandler, errorResponseHandler, executionContext);
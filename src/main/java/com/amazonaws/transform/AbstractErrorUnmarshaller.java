@@ -27,6 +27,9 @@ public abstract class AbstractErrorUnmarshaller<T> implements Unmarshaller<Amazo
      */
     protected final Class<? extends AmazonServiceException> exceptionClass;
 
+    /** The exceptionClass constructor taking a message, looked up on first use. */
+    private volatile Constructor<? extends AmazonServiceException> messageConstructor;
+
     /**
      * Constructs a new error unmarshaller that will unmarshall error responses
      * into AmazonServiceException objects.
@@ -62,7 +65,11 @@ public abstract class AbstractErrorUnmarshaller<T> implements Unmarshaller<Amazo
      *             exception class's constructor.
      */
     protected AmazonServiceException newException(String message) throws Exception {
-        Constructor<? extends AmazonServiceException> constructor = exceptionClass.getConstructor(String.class);
+        Constructor<? extends AmazonServiceException> constructor = messageConstructor;
+        if (constructor == null) {
+            constructor = exceptionClass.getConstructor(String.class);
+            messageConstructor = constructor;
+        }
         return constructor.newInstance(message);
     }
 
@@ -34,6 +34,9 @@ public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceExcept
      */
     private final Class<? extends AmazonServiceException> exceptionClass;
 
+    /** The exceptionClass constructor taking a message, looked up on first use. */
+    private volatile Constructor<? extends AmazonServiceException> messageConstructor;
+
     /**
      * Constructs a new unmarshaller that will unmarshall AWS error responses as
      * a generic AmazonServiceException object.
@@ -64,7 +67,42 @@ public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceExcept
         String requestId = XpathUtils.asString("Response/RequestID", in);
         String errorType = XpathUtils.asString("Response/Errors/Error/Type", in);
 
-        Constructor<? extends AmazonServiceException> constructor = exceptionClass.getConstructor(String.class);
+        return newException(errorCode, errorType, requestId, message);
+    }
+
+    /**
+     * Unmarshalls the specified error response fields, read without building
+     * a DOM tree, exactly as {@link #unmarshall(Node)} unmarshalls the same
+     * error response. Only this class itself can do so; subclasses, which
+     * typically read additional fields from the error response, return null
+     * unless they override this method.
+     *
+     * @param in
+     *            The fields of the error response.
+     *
+     * @return The unmarshalled exception, or null if this unmarshaller needs
+     *         the DOM tree of the error response.
+     *
+     * @throws Exception
+     *             If any problems were encountered creating the exception.
+     */
+    public AmazonServiceException unmarshall(XmlErrorResponse in) throws Exception {
+        if (getClass() != LegacyErrorUnmarshaller.class) return null;
+
+        return newException(
+                in.get("Response/Errors/Error/Code"),
+                in.get("Response/Errors/Error/Type"),
+                in.get("Response/RequestID"),
+                in.get("Response/Errors/Error/Message"));
+    }
+
+    private AmazonServiceException newException(String errorCode, String errorType,
+            String requestId, String message) throws Exception {
+        Constructor<? extends AmazonServiceException> constructor = messageConstructor;
+        if (constructor == null) {
+            constructor = exceptionClass.getConstructor(String.class);
+            messageConstructor = constructor;
+        }
         AmazonServiceException ase = constructor.newInstance(message);
         ase.setErrorCode(errorCode);
         ase.setRequestId(requestId);
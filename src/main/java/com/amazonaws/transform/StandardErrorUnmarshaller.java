@@ -14,6 +14,9 @@
  */
 package com.amazonaws.transform;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
 import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonServiceException;
@@ -29,6 +32,13 @@ import com.amazonaws.util.XpathUtils;
  */
 public class StandardErrorUnmarshaller extends AbstractErrorUnmarshaller<Node> {
 
+    /**
+     * Whether the standard error fields are all that this unmarshaller reads,
+     * so that {@link #unmarshall(XmlErrorResponse)} may be used; computed on
+     * first use.
+     */
+    private volatile Boolean standardFieldsOnly;
+
     /**
      * Constructs a new unmarshaller that will unmarshall a standard AWS error
      * message as a generic AmazonServiceException object.
@@ -57,6 +67,94 @@ public class StandardErrorUnmarshaller extends AbstractErrorUnmarshaller<Node> {
         String requestId = XpathUtils.asString("ErrorResponse/RequestId", in);
         String message = XpathUtils.asString("ErrorResponse/Error/Message", in);
 
+        return newException(errorCode, errorType, requestId, message);
+    }
+
+    /**
+     * Unmarshalls the specified error response fields, read without building
+     * a DOM tree, exactly as {@link #unmarshall(Node)} unmarshalls the same
+     * error response, except that the error code is not checked. Callers must
+     * only use this once {@link #unmarshall(Node)} has accepted an error
+     * response with the same error code.
+     * <p>
+     * Subclasses get this for free only when they can't read more than the
+     * standard error fields: they keep the standard error code and property
+     * paths, and their exception class adds no properties of its own.
+     * Otherwise this returns null, so that callers fall back to the DOM tree,
+     * unless the subclass overrides this method to read its extra fields too.
+     *
+     * @param in
+     *            The fields of the error response.
+     *
+     * @return The unmarshalled exception, or null if this unmarshaller needs
+     *         the DOM tree of the error response.
+     *
+     * @throws Exception
+     *             If any problems were encountered creating the exception.
+     */
+    public AmazonServiceException unmarshall(XmlErrorResponse in) throws Exception {
+        if (!isStandardFieldsOnly()) return null;
+        return unmarshallStandardFields(in);
+    }
+
+    /**
+     * Unmarshalls the standard error fields of the specified error response
+     * fields, for subclasses overriding {@link #unmarshall(XmlErrorResponse)}
+     * to add their own.
+     *
+     * @param in
+     *            The fields of the error response.
+     *
+     * @return The unmarshalled exception.
+     *
+     * @throws Exception
+     *             If any problems were encountered creating the exception.
+     */
+    protected AmazonServiceException unmarshallStandardFields(XmlErrorResponse in) throws Exception {
+        return newException(
+                in.get("ErrorResponse/Error/Code"),
+                in.get("ErrorResponse/Error/Type"),
+                in.get("ErrorResponse/RequestId"),
+                in.get("ErrorResponse/Error/Message"));
+    }
+
+    private boolean isStandardFieldsOnly() {
+        Boolean result = standardFieldsOnly;
+        if (result == null) {
+            result = !overrides("parseErrorCode", Node.class)
+                    && !overrides("getErrorPropertyPath", String.class)
+                    && !hasOwnProperties(exceptionClass);
+            standardFieldsOnly = result;
+        }
+        return result;
+    }
+
+    private boolean overrides(String methodName, Class<?> parameterType) {
+        try {
+            return getClass().getMethod(methodName, parameterType).getDeclaringClass() != StandardErrorUnmarshaller.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Returns whether the specified exception class declares setters beyond
+     * those of AmazonServiceException, which unmarshall(Node) may fill in.
+     */
+    private static boolean hasOwnProperties(Class<?> exceptionClass) {
+        for (Class<?> c = exceptionClass; c != null && c != AmazonServiceException.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())
+                        && method.getName().startsWith("set") && method.getParameterTypes().length == 1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private AmazonServiceException newException(String errorCode, String errorType,
+            String requestId, String message) throws Exception {
         AmazonServiceException ase = newException(message);
         ase.setErrorCode(errorCode);
         ase.setRequestId(requestId);
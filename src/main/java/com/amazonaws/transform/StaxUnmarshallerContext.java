@@ -15,6 +15,7 @@
 package com.amazonaws.transform;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -41,11 +42,29 @@ public class StaxUnmarshallerContext {
     private final XMLEventReader eventReader;
 
     public final Stack<String> stack = new Stack<String>();
-    private String stackString = "";
+
+    /**
+     * The path to the current position in the document, in the form
+     * "/Element/Element" or "/Element/Element/@attribute", maintained
+     * incrementally as elements are entered and left.
+     */
+    private final StringBuilder path = new StringBuilder();
+
+    /** The length of the path for each open element, indexed by depth */
+    private int[] pathOffsets = new int[16];
+
+    /** The length of the path, not including any trailing attribute */
+    private int elementPathLength;
 
     private Map<String, String> metadata = new HashMap<String, String>();
     private List<MetadataExpression> metadataExpressions = new ArrayList<MetadataExpression>();
 
+    /**
+     * True if the metadata expressions list is shared with other contexts and
+     * has to be copied before it's modified.
+     */
+    private boolean sharedMetadataExpressions;
+
     private Iterator<?> attributeIterator;
     private final Map<String, String> headers;
 
@@ -138,7 +157,7 @@ public class StaxUnmarshallerContext {
      */
     public boolean testExpression(String expression) {
         if (expression.equals(".")) return true;
-        return stackString.endsWith(expression);
+        return pathEndsWith(expression);
     }
 
     /**
@@ -158,17 +177,11 @@ public class StaxUnmarshallerContext {
     public boolean testExpression(String expression, int startingStackDepth) {
         if (expression.equals(".")) return true;
 
-        int index = -1;
-        while ((index = expression.indexOf("/", index + 1)) > -1) {
-            // Don't consider attributes a new depth level
-            if (expression.charAt(index + 1) != '@') {
-                startingStackDepth++;
-            }
-        }
-
+        // Don't consider attributes a new depth level
+        startingStackDepth += countDepthSeparators(expression);
 
         return (startingStackDepth == getCurrentDepth()
-                && stackString.endsWith("/" + expression));
+                && pathEndsWithElement(expression));
     }
 
     /**
@@ -207,7 +220,8 @@ public class StaxUnmarshallerContext {
             XMLEvent nextEvent = eventReader.peek();
             if (nextEvent != null && nextEvent.isCharacters()) {
                 for (MetadataExpression metadataExpression : metadataExpressions) {
-                    if (testExpression(metadataExpression.expression, metadataExpression.targetDepth)) {
+                    if (metadataExpression.matchDepth == getCurrentDepth()
+                            && pathEndsWithElement(metadataExpression.expression)) {
                         metadata.put(metadataExpression.key, nextEvent.asCharacters().getData());
                     }
                 }
@@ -243,28 +257,135 @@ public class StaxUnmarshallerContext {
      *            The key under which to store the matching element's data.
      */
     public void registerMetadataExpression(String expression, int targetDepth, String storageKey) {
-        metadataExpressions.add(new MetadataExpression(expression, targetDepth, storageKey));
+        registerMetadataExpression(new MetadataExpression(expression, targetDepth, storageKey));
     }
 
+    /**
+     * Registers a precompiled metadata expression, which if matched, will
+     * cause the data for the matching element to be stored in the metadata
+     * map under the expression's key.
+     *
+     * @param metadataExpression
+     *            The metadata expression to register.
+     */
+    public void registerMetadataExpression(MetadataExpression metadataExpression) {
+        if (sharedMetadataExpressions) {
+            metadataExpressions = new ArrayList<MetadataExpression>(metadataExpressions);
+            sharedMetadataExpressions = false;
+        }
+        metadataExpressions.add(metadataExpression);
+    }
 
-    /*
-     * Private Interface
+    /**
+     * Registers a list of precompiled metadata expressions. If no other
+     * expressions have been registered yet, the list is shared rather than
+     * copied, so response handlers can build it once and hand it to every
+     * context they create; it must not be modified afterwards.
+     *
+     * @param expressions
+     *            The metadata expressions to register.
      */
+    public void registerMetadataExpressions(List<MetadataExpression> expressions) {
+        if (metadataExpressions.isEmpty()) {
+            metadataExpressions = expressions;
+            sharedMetadataExpressions = true;
+        } else {
+            for (MetadataExpression metadataExpression : expressions) {
+                registerMetadataExpression(metadataExpression);
+            }
+        }
+    }
 
     /**
-     * Simple container for the details of a metadata expression this
-     * unmarshaller context is looking for.
+     * Returns the metadata expressions registered with this context.
+     *
+     * @return An unmodifiable view of the metadata expressions registered
+     *         with this context.
      */
-    private class MetadataExpression {
-        public String expression;
-        public int targetDepth;
-        public String key;
+    public List<MetadataExpression> getMetadataExpressions() {
+        return Collections.unmodifiableList(metadataExpressions);
+    }
 
+    /**
+     * The details of a metadata expression an unmarshaller context is looking
+     * for. The depth at which the expression matches is computed once, when
+     * the expression is created, so instances can be built ahead of time and
+     * shared between contexts.
+     */
+    public static final class MetadataExpression {
+        private final String expression;
+        private final int matchDepth;
+        private final String key;
+
+        /**
+         * Constructs a new metadata expression.
+         *
+         * @param expression
+         *            The expression an element must match in order for it's
+         *            data to be pulled out and stored in the metadata map.
+         * @param targetDepth
+         *            The depth in the XML document where the expression match
+         *            must start.
+         * @param key
+         *            The key under which to store the matching element's data.
+         */
         public MetadataExpression(String expression, int targetDepth, String key) {
             this.expression = expression;
-            this.targetDepth = targetDepth;
+            this.matchDepth = targetDepth + countDepthSeparators(expression);
             this.key = key;
         }
+
+        public String getExpression() {
+            return expression;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+
+    /*
+     * Private Interface
+     */
+
+    /**
+     * Returns the number of element levels the specified expression descends
+     * past its first element (attributes aren't a new depth level).
+     */
+    private static int countDepthSeparators(String expression) {
+        int depth = 0;
+        int index = -1;
+        while ((index = expression.indexOf('/', index + 1)) > -1) {
+            if (index + 1 < expression.length() && expression.charAt(index + 1) != '@') {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Returns true if the current path ends with the specified suffix,
+     * without allocating.
+     */
+    private boolean pathEndsWith(String suffix) {
+        int offset = path.length() - suffix.length();
+        if (offset < 0) return false;
+        for (int i = 0; i < suffix.length(); i++) {
+            if (path.charAt(offset + i) != suffix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the current path ends with "/" followed by the
+     * specified expression, without allocating.
+     */
+    private boolean pathEndsWithElement(String expression) {
+        int separator = path.length() - expression.length() - 1;
+        return separator >= 0
+            && path.charAt(separator) == '/'
+            && pathEndsWith(expression);
     }
 
     private void updateContext(XMLEvent event) {
@@ -272,20 +393,27 @@ public class StaxUnmarshallerContext {
 
         if (event.isEndElement()) {
             stack.pop();
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
+            path.setLength(pathOffsets[stack.size()]);
+            elementPathLength = path.length();
         } else if (event.isStartElement()) {
-            stack.push(event.asStartElement().getName().getLocalPart());
-            stackString += "/" + event.asStartElement().getName().getLocalPart();
+            String name = event.asStartElement().getName().getLocalPart();
+            int depth = stack.size();
+            if (depth == pathOffsets.length) {
+                int[] newOffsets = new int[depth * 2];
+                System.arraycopy(pathOffsets, 0, newOffsets, 0, depth);
+                pathOffsets = newOffsets;
+            }
+
+            // Drop any attribute of the parent element before descending
+            path.setLength(elementPathLength);
+            pathOffsets[depth] = path.length();
+            path.append('/').append(name);
+            elementPathLength = path.length();
+            stack.push(name);
         } else if (event.isAttribute()) {
             Attribute attribute = (Attribute)event;
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
-            stackString += "/@" + attribute.getName().getLocalPart();
+            path.setLength(elementPathLength);
+            path.append("/@").append(attribute.getName().getLocalPart());
         }
     }
 
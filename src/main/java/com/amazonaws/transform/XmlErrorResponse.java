@@ -0,0 +1,148 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The fields of an XML error response, read in a single streaming pass instead
+ * of through a DOM tree.
+ * <p>
+ * Error responses are small and shallow, so this records the text of every
+ * element in the first few levels of the document by its slash separated path
+ * from the document root (ex: "ErrorResponse/Error/Code"). As with the XPath
+ * expressions evaluated by the DOM based error unmarshallers, the text of an
+ * element includes the text of its descendants and is trimmed, the first
+ * occurrence of a path wins, and a path that is not present has a null value.
+ */
+public class XmlErrorResponse {
+
+    /** Element nesting depth below which element text is not recorded. */
+    private static final int MAX_DEPTH = 4;
+
+    /** Shared factory for creating XML stream readers */
+    private static XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+
+    /** The name of the document's root element. */
+    private final String rootElementName;
+
+    /** Element text by element path. */
+    private final Map<String, String> fields;
+
+    private XmlErrorResponse(String rootElementName, Map<String, String> fields) {
+        this.rootElementName = rootElementName;
+        this.fields = fields;
+    }
+
+    /**
+     * Reads the fields of the specified XML error response.
+     *
+     * @param content
+     *            The complete content of the error response.
+     *
+     * @return The fields of the error response.
+     *
+     * @throws XMLStreamException
+     *             If the content is not well formed XML.
+     */
+    public static XmlErrorResponse parse(byte[] content) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new ByteArrayInputStream(content));
+
+        try {
+            Map<String, String> fields = new HashMap<String, String>();
+            String rootElementName = null;
+            String[] paths = new String[MAX_DEPTH];
+            StringBuilder[] text = new StringBuilder[MAX_DEPTH];
+            int depth = 0;
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    String name = elementName(reader);
+                    if (depth == 0) rootElementName = name;
+                    if (depth < MAX_DEPTH) {
+                        paths[depth] = (depth == 0) ? name : paths[depth - 1] + "/" + name;
+                        text[depth] = fields.containsKey(paths[depth]) ? null : new StringBuilder();
+                    }
+                    depth++;
+                    break;
+
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    if (depth < MAX_DEPTH && text[depth] != null) {
+                        fields.put(paths[depth], text[depth].toString().trim());
+                        text[depth] = null;
+                    }
+                    break;
+
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    for (int i = Math.min(depth, MAX_DEPTH) - 1; i >= 0; i--) {
+                        if (text[i] != null) {
+                            text[i].append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                    break;
+                }
+            }
+
+            return new XmlErrorResponse(rootElementName, fields);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Returns the name of the error response's document element.
+     *
+     * @return The name of the error response's document element.
+     */
+    public String getRootElementName() {
+        return rootElementName;
+    }
+
+    /**
+     * Returns the trimmed text of the first element at the specified path from
+     * the document root, or null if no such element is present.
+     *
+     * @param path
+     *            The slash separated path of the element, starting with the
+     *            name of the document element.
+     *
+     * @return The trimmed text of the element, or null if it is not present.
+     */
+    public String get(String path) {
+        return fields.get(path);
+    }
+
+    /**
+     * Element names as seen by the DOM based unmarshallers, which parse error
+     * responses without namespace awareness.
+     */
+    private static String elementName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        if (prefix == null || prefix.length() == 0) return reader.getLocalName();
+        return prefix + ":" + reader.getLocalName();
+    }
+
+}
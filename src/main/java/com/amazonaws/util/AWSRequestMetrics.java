@@ -16,6 +16,7 @@
 package com.amazonaws.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.RequestMetricCollector;
 
 public class AWSRequestMetrics {
 
@@ -59,6 +62,15 @@ public class AWSRequestMetrics {
     
     /* A map to store events that are being profiled. */
     private final Map<String, Long> eventsBeingProfiled = new HashMap<String, Long>();
+    /* Collector that receives the metrics once the request completes; null if none is registered */
+    private final RequestMetricCollector collector;
+    /* Start times of the Field events being timed, indexed by ordinal; null unless a collector is registered */
+    private final long[] fieldStartTimes;
+    /* Accumulated nanoseconds of timed Fields or values of counter Fields, indexed by ordinal; -1 if not recorded */
+    private final long[] fieldValues;
+
+    private static final Field[] FIELDS = Field.values();
+
     /* Latency Logger */
     private static final Log latencyLogger = LogFactory.getLog("com.amazonaws.latency");
     private static final Object KEY_VALUE_SEPARATOR = "=";
@@ -68,6 +80,15 @@ public class AWSRequestMetrics {
     public AWSRequestMetrics() {
         this.timingInfo = new TimingInfo();
         this.profilingSystemPropertyEnabled = isProfilingEnabled();
+        this.collector = AwsSdkMetrics.getRequestMetricCollector();
+        if (collector != null) {
+            fieldStartTimes = new long[FIELDS.length];
+            fieldValues = new long[FIELDS.length];
+            Arrays.fill(fieldValues, -1);
+        } else {
+            fieldStartTimes = null;
+            fieldValues = null;
+        }
     }
 
     /* Check the profiling system property and return true if set */
@@ -133,6 +154,78 @@ public class AWSRequestMetrics {
         }
     }
     
+    /**
+     * Start timing one of the predefined metrics. Unlike
+     * {@link #startEvent(String)}, the timing is also recorded for the
+     * {@link RequestMetricCollector} registered with {@link AwsSdkMetrics},
+     * without any allocation.
+     *
+     * @param field - The metric to start timing
+     */
+    public void startEvent(Field field) {
+        if (fieldStartTimes != null) {
+            fieldStartTimes[field.ordinal()] = System.nanoTime();
+        }
+        if (profilingSystemPropertyEnabled) {
+            startEvent(field.name());
+        }
+    }
+
+    /**
+     * End timing one of the predefined metrics previously started with
+     * {@link #startEvent(Field)}. If the same metric is timed more than once,
+     * for example once per retry, the recorded durations are added up.
+     *
+     * @param field - The metric to end timing
+     */
+    public void endEvent(Field field) {
+        if (fieldStartTimes != null) {
+            int index = field.ordinal();
+            long elapsed = System.nanoTime() - fieldStartTimes[index];
+            fieldValues[index] = Math.max(fieldValues[index], 0) + elapsed;
+        }
+        if (profilingSystemPropertyEnabled) {
+            endEvent(field.name());
+        }
+    }
+
+    /**
+     * Set the value of one of the predefined counter metrics.
+     *
+     * @param field - The counter metric to set
+     * @param count - The counter value
+     */
+    public void setCounter(Field field, long count) {
+        if (fieldValues != null) {
+            fieldValues[field.ordinal()] = count;
+        }
+        if (profilingSystemPropertyEnabled) {
+            setCounter(field.name(), count);
+        }
+    }
+
+    /**
+     * Returns the value recorded for the given metric through the
+     * {@link Field} based methods: the total nanoseconds of a timed metric,
+     * or the value of a counter.
+     *
+     * @param field - The metric to return
+     * @return The recorded value, or -1 if the metric was not recorded or no
+     *         {@link RequestMetricCollector} is registered.
+     */
+    public long getMetric(Field field) {
+        return fieldValues == null ? -1 : fieldValues[field.ordinal()];
+    }
+
+    /**
+     * Returns the collector that receives these metrics once the request
+     * completes, or null if no collector was registered when the request
+     * started.
+     */
+    public RequestMetricCollector getRequestMetricCollector() {
+        return collector;
+    }
+
     /**
      * Add a property. If you add the same property more than once, it stores all values a list.
      * 
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Request content held in a byte array, which the HTTP client writes out
+ * directly from the array instead of copying it through an intermediate
+ * buffer. Like any {@link ByteArrayInputStream}, it supports mark and reset,
+ * so the content can be signed and resent on retries.
+ */
+public class ByteArrayContentInputStream extends ByteArrayInputStream implements WritableContent {
+
+    /**
+     * Creates an input stream over the given bytes of the array given, which
+     * is used without being copied.
+     */
+    public ByteArrayContentInputStream(byte[] buf, int offset, int length) {
+        super(buf, offset, length);
+    }
+
+    /**
+     * Writes all bytes that haven't been read yet to the output stream given
+     * with a single write, and marks them as read.
+     */
+    public synchronized void writeRemainingTo(OutputStream output) throws IOException {
+        output.write(buf, pos, count - pos);
+        pos = count;
+    }
+
+    public synchronized long writeContentTo(OutputStream output, long length) throws IOException {
+        int toWrite = (int)Math.min(length, count - pos);
+        output.write(buf, pos, toWrite);
+        pos += toWrite;
+        return toWrite;
+    }
+}
@@ -26,24 +26,67 @@ import java.util.SimpleTimeZone;
 /**
  * Utilities for parsing and formatting dates.
  * <p>
- * Note that this class doesn't use static methods because of the
- * synchronization issues with SimpleDateFormat. This lets synchronization be
- * done on a per-object level, instead of on a per-class level.
+ * The exact formats used by the SDK are parsed and formatted by a dedicated
+ * fixed-format codec that doesn't need any synchronization. Input the codec
+ * doesn't handle falls back to SimpleDateFormat instances that are kept per
+ * thread, so instances of this class can be shared freely between threads.
  */
 public class DateUtils {
 
-    /** ISO 8601 format */
+    /**
+     * ISO 8601 format
+     *
+     * @deprecated No longer used by this class, which parses and formats
+     *             dates without locking. Kept for subclasses only.
+     */
+    @Deprecated
     protected final SimpleDateFormat iso8601DateFormat =
         new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 
-    /** Alternate ISO 8601 format without fractional seconds */
+    /**
+     * Alternate ISO 8601 format without fractional seconds
+     *
+     * @deprecated No longer used by this class, which parses and formats
+     *             dates without locking. Kept for subclasses only.
+     */
+    @Deprecated
     protected final SimpleDateFormat alternateIso8601DateFormat =
         new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
 
-    /** RFC 822 format */
+    /**
+     * RFC 822 format
+     *
+     * @deprecated No longer used by this class, which parses and formats
+     *             dates without locking. Kept for subclasses only.
+     */
+    @Deprecated
     protected final SimpleDateFormat rfc822DateFormat =
         new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
 
+    /** ISO 8601 format, per thread */
+    private static final ThreadLocal<SimpleDateFormat> threadIso8601DateFormat =
+        newDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", null);
+
+    /** Alternate ISO 8601 format without fractional seconds, per thread */
+    private static final ThreadLocal<SimpleDateFormat> threadAlternateIso8601DateFormat =
+        newDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", null);
+
+    /** RFC 822 format, per thread */
+    private static final ThreadLocal<SimpleDateFormat> threadRfc822DateFormat =
+        newDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+
+    private static ThreadLocal<SimpleDateFormat> newDateFormat(final String pattern, final Locale locale) {
+        return new ThreadLocal<SimpleDateFormat>() {
+            @Override
+            protected SimpleDateFormat initialValue() {
+                SimpleDateFormat format = locale == null
+                        ? new SimpleDateFormat(pattern)
+                        : new SimpleDateFormat(pattern, locale);
+                format.setTimeZone(new SimpleTimeZone(0, "GMT"));
+                return format;
+            }
+        };
+    }
 
     /**
      * Constructs a new DateUtils object, ready to parse/format dates.
@@ -67,16 +110,16 @@ public class DateUtils {
      *             If the date string could not be parsed.
      */
     public Date parseIso8601Date(String dateString) throws ParseException {
+        long time = FixedFormatDateCodec.parseIso8601(dateString);
+        if (time != FixedFormatDateCodec.INVALID) {
+            return new Date(time);
+        }
         try {
-            synchronized (iso8601DateFormat) {
-                return iso8601DateFormat.parse(dateString);
-            }
+            return threadIso8601DateFormat.get().parse(dateString);
         } catch (ParseException e) {
             // If the first ISO 8601 parser didn't work, try the alternate
             // version which doesn't include fractional seconds
-            synchronized (alternateIso8601DateFormat) {
-                return alternateIso8601DateFormat.parse(dateString);
-            }
+            return threadAlternateIso8601DateFormat.get().parse(dateString);
         }
     }
 
@@ -89,9 +132,11 @@ public class DateUtils {
      * @return The ISO 8601 string representing the specified date.
      */
     public String formatIso8601Date(Date date) {
-        synchronized (iso8601DateFormat) {
-            return iso8601DateFormat.format(date);
+        String result = FixedFormatDateCodec.formatIso8601(date.getTime());
+        if (result != null) {
+            return result;
         }
+        return threadIso8601DateFormat.get().format(date);
     }
 
     /**
@@ -107,9 +152,11 @@ public class DateUtils {
      *             If the date string could not be parsed.
      */
     public Date parseRfc822Date(String dateString) throws ParseException {
-        synchronized (rfc822DateFormat) {
-            return rfc822DateFormat.parse(dateString);
+        long time = FixedFormatDateCodec.parseRfc822(dateString);
+        if (time != FixedFormatDateCodec.INVALID) {
+            return new Date(time);
         }
+        return threadRfc822DateFormat.get().parse(dateString);
     }
 
     /**
@@ -121,9 +168,11 @@ public class DateUtils {
      * @return The RFC 822 string representing the specified date.
      */
     public String formatRfc822Date(Date date) {
-        synchronized (rfc822DateFormat) {
-            return rfc822DateFormat.format(date);
+        String result = FixedFormatDateCodec.formatRfc822(date.getTime());
+        if (result != null) {
+            return result;
         }
+        return threadRfc822DateFormat.get().format(date);
     }
 
 }
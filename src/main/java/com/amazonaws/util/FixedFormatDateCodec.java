@@ -0,0 +1,264 @@
+/*
+ * Copyright 2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+/**
+ * Stateless, and therefore thread safe, parser and formatter for the exact
+ * GMT date formats used by the SDK:
+ * <ul>
+ * <li>ISO 8601 <code>yyyy-MM-dd'T'HH:mm:ss.SSS'Z'</code> and
+ * <code>yyyy-MM-dd'T'HH:mm:ss'Z'</code></li>
+ * <li>RFC 822 <code>EEE, dd MMM yyyy HH:mm:ss 'GMT'</code></li>
+ * </ul>
+ * Only years 1600 to 9999 of the Gregorian calendar are handled. Parse
+ * methods return {@link #INVALID} and format methods return null for
+ * anything else, and callers fall back to SimpleDateFormat, which keeps its
+ * lenient behavior for unusual input.
+ */
+final class FixedFormatDateCodec {
+
+    /** Returned by the parse methods for input they don't handle. */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * MILLIS_PER_SECOND;
+
+    private static final int MIN_YEAR = 1600;
+    private static final int MAX_YEAR = 9999;
+
+    /** Milliseconds since the epoch of 1600-01-01T00:00:00Z and 10000-01-01T00:00:00Z. */
+    private static final long MIN_MILLIS = daysFromCivil(MIN_YEAR, 1, 1) * MILLIS_PER_DAY;
+    private static final long MAX_MILLIS = daysFromCivil(MAX_YEAR + 1, 1, 1) * MILLIS_PER_DAY;
+
+    private static final String[] MONTHS = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+
+    /** Indexed by days since the epoch modulo 7; the epoch was a Thursday. */
+    private static final String[] DAYS_OF_WEEK = {
+        "Thu", "Fri", "Sat", "Sun", "Mon", "Tue", "Wed"
+    };
+
+    private FixedFormatDateCodec() {}
+
+    /**
+     * Parses <code>yyyy-MM-dd'T'HH:mm:ss.SSS'Z'</code> or
+     * <code>yyyy-MM-dd'T'HH:mm:ss'Z'</code>.
+     *
+     * @return milliseconds since the epoch, or {@link #INVALID}
+     */
+    static long parseIso8601(String s) {
+        int length = s.length();
+        if (length != 20 && length != 24) {
+            return INVALID;
+        }
+        if (s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(13) != ':'
+                || s.charAt(16) != ':' || s.charAt(length - 1) != 'Z') {
+            return INVALID;
+        }
+        int millis = 0;
+        if (length == 24) {
+            if (s.charAt(19) != '.') {
+                return INVALID;
+            }
+            millis = digits(s, 20, 3);
+        }
+        return toMillis(digits(s, 0, 4), digits(s, 5, 2), digits(s, 8, 2),
+                digits(s, 11, 2), digits(s, 14, 2), digits(s, 17, 2), millis);
+    }
+
+    /**
+     * Formats as <code>yyyy-MM-dd'T'HH:mm:ss.SSS'Z'</code>.
+     *
+     * @return the formatted date, or null if the date is out of range
+     */
+    static String formatIso8601(long time) {
+        if (time < MIN_MILLIS || time >= MAX_MILLIS) {
+            return null;
+        }
+        long days = floorDiv(time, MILLIS_PER_DAY);
+        int millisOfDay = (int)(time - days * MILLIS_PER_DAY);
+        int[] date = civilFromDays(days);
+
+        char[] buffer = new char[24];
+        put(buffer, 0, date[0], 4);
+        buffer[4] = '-';
+        put(buffer, 5, date[1], 2);
+        buffer[7] = '-';
+        put(buffer, 8, date[2], 2);
+        buffer[10] = 'T';
+        putTime(buffer, 11, millisOfDay);
+        buffer[19] = '.';
+        put(buffer, 20, millisOfDay % 1000, 3);
+        buffer[23] = 'Z';
+        return new String(buffer);
+    }
+
+    /**
+     * Parses <code>EEE, dd MMM yyyy HH:mm:ss 'GMT'</code>. Like
+     * SimpleDateFormat, the day of the week isn't checked against the date.
+     *
+     * @return milliseconds since the epoch, or {@link #INVALID}
+     */
+    static long parseRfc822(String s) {
+        if (s.length() != 29) {
+            return INVALID;
+        }
+        if (indexOf(DAYS_OF_WEEK, s, 0) < 0 || s.charAt(3) != ',' || s.charAt(4) != ' ' || s.charAt(7) != ' '
+                || s.charAt(11) != ' ' || s.charAt(16) != ' ' || s.charAt(19) != ':' || s.charAt(22) != ':'
+                || !s.regionMatches(25, " GMT", 0, 4)) {
+            return INVALID;
+        }
+        int month = indexOf(MONTHS, s, 8) + 1;
+        if (month == 0) {
+            return INVALID;
+        }
+        return toMillis(digits(s, 12, 4), month, digits(s, 5, 2),
+                digits(s, 17, 2), digits(s, 20, 2), digits(s, 23, 2), 0);
+    }
+
+    /**
+     * Formats as <code>EEE, dd MMM yyyy HH:mm:ss 'GMT'</code>.
+     *
+     * @return the formatted date, or null if the date is out of range
+     */
+    static String formatRfc822(long time) {
+        if (time < MIN_MILLIS || time >= MAX_MILLIS) {
+            return null;
+        }
+        long days = floorDiv(time, MILLIS_PER_DAY);
+        int millisOfDay = (int)(time - days * MILLIS_PER_DAY);
+        int[] date = civilFromDays(days);
+
+        char[] buffer = new char[29];
+        DAYS_OF_WEEK[(int)(((days % 7) + 7) % 7)].getChars(0, 3, buffer, 0);
+        buffer[3] = ',';
+        buffer[4] = ' ';
+        put(buffer, 5, date[2], 2);
+        buffer[7] = ' ';
+        MONTHS[date[1] - 1].getChars(0, 3, buffer, 8);
+        buffer[11] = ' ';
+        put(buffer, 12, date[0], 4);
+        buffer[16] = ' ';
+        putTime(buffer, 17, millisOfDay);
+        "GMT".getChars(0, 3, buffer, 26);
+        buffer[25] = ' ';
+        return new String(buffer);
+    }
+
+    private static long toMillis(int year, int month, int day, int hour, int minute, int second, int millis) {
+        if (year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > 12 || day < 1
+                || day > daysInMonth(year, month) || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || second < 0 || second > 59 || millis < 0) {
+            return INVALID;
+        }
+        long days = daysFromCivil(year, month, day);
+        return ((days * 24 + hour) * 60 + minute) * 60 * MILLIS_PER_SECOND + second * MILLIS_PER_SECOND + millis;
+    }
+
+    /**
+     * @return the value of the given number of decimal digits starting at
+     *         offset, or -1 if any of them isn't a digit
+     */
+    private static int digits(String s, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int indexOf(String[] names, String s, int offset) {
+        for (int i = 0; i < names.length; i++) {
+            if (s.regionMatches(offset, names[i], 0, 3)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void putTime(char[] buffer, int offset, int millisOfDay) {
+        int seconds = millisOfDay / 1000;
+        put(buffer, offset, seconds / 3600, 2);
+        buffer[offset + 2] = ':';
+        put(buffer, offset + 3, seconds / 60 % 60, 2);
+        buffer[offset + 5] = ':';
+        put(buffer, offset + 6, seconds % 60, 2);
+    }
+
+    private static void put(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char)('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+            return leap ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        if ((x % y != 0) && ((x < 0) != (y < 0))) {
+            q--;
+        }
+        return q;
+    }
+
+    /**
+     * Days since the epoch of the given proleptic Gregorian date, after
+     * http://howardhinnant.github.io/date_algorithms.html
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * @return year, month (1-12) and day of month of the given number of days
+     *         since the epoch
+     */
+    private static int[] civilFromDays(long days) {
+        long z = days + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int)(dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int)(mp < 10 ? mp + 3 : mp - 9);
+        int year = (int)(yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return new int[] {year, month, day};
+    }
+}
@@ -14,10 +14,10 @@
  */
 package com.amazonaws.util;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.amazonaws.ResponseMetadata;
 
@@ -25,11 +25,28 @@ import com.amazonaws.ResponseMetadata;
  * Cache of response metadata for recently executed requests for diagnostic
  * purposes. This cache has a max size and as entries are added, the oldest
  * entry is aged out once the max size has been reached.
+ * <p>
+ * The cache is safe for concurrent use without locking: entries are stored in
+ * a concurrent map, and a ring buffer of the most recently added entries
+ * determines which entry is evicted, in constant time, when a new entry
+ * overwrites the oldest slot of the ring.
  */
 public class ResponseMetadataCache {
+
+    private static final class Entry {
+        private final Integer key;
+        private final ResponseMetadata metadata;
+
+        Entry(Integer key, ResponseMetadata metadata) {
+            this.key = key;
+            this.metadata = metadata;
+        }
+    }
+
     private final int maxEntries;
-    private Map<Integer, ResponseMetadata> map;
-    private List<Object> objectList;
+    private final ConcurrentMap<Integer, ResponseMetadata> map;
+    private final AtomicReferenceArray<Entry> ring;
+    private final AtomicLong nextSlot = new AtomicLong();
 
     /**
      * Creates a new cache that will contain, at most the specified number of
@@ -39,10 +56,13 @@ public class ResponseMetadataCache {
      *            The maximum size of this cache.
      */
     public ResponseMetadataCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
         this.maxEntries = maxEntries;
 
-        objectList = new ArrayList<Object>(maxEntries);
-        map = new HashMap<Integer, ResponseMetadata>();
+        ring = new AtomicReferenceArray<Entry>(maxEntries);
+        map = new ConcurrentHashMap<Integer, ResponseMetadata>(maxEntries * 2);
     }
 
     /**
@@ -54,11 +74,17 @@ public class ResponseMetadataCache {
      * @param metadata
      *            The metadata for this entry.
      */
-    public synchronized void add(Object obj, ResponseMetadata metadata) {
-        if (obj == null) return;
+    public void add(Object obj, ResponseMetadata metadata) {
+        if (obj == null || metadata == null) return;
 
-        if (map.size() >= maxEntries) evictOldest();
-        store(System.identityHashCode(obj), metadata);
+        Integer key = System.identityHashCode(obj);
+        map.put(key, metadata);
+        int slot = (int)(nextSlot.getAndIncrement() % maxEntries);
+        Entry evicted = ring.getAndSet(slot, new Entry(key, metadata));
+        if (evicted != null) {
+            // Only removes the mapping if it wasn't replaced by a newer entry for the same key
+            map.remove(evicted.key, evicted.metadata);
+        }
     }
 
     /**
@@ -78,13 +104,4 @@ public class ResponseMetadataCache {
         // to our own unique IDs if needed.
         return map.get(System.identityHashCode(obj));
     }
-
-    private void evictOldest() {
-        map.remove(objectList.remove(0));
-    }
-
-    private void store(int id, ResponseMetadata metadata) {
-        map.put(id, metadata);
-        objectList.add(id);
-    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Request content that can write itself to the HTTP connection, instead of
+ * being read through the HTTP client's small copy buffer. The HTTP client
+ * writes out content streams implementing this interface with
+ * {@link #writeContentTo(OutputStream, long)}.
+ */
+public interface WritableContent {
+
+    /**
+     * Writes the content not read yet to the output stream given, stopping
+     * after the number of bytes given or at the end of the content, whichever
+     * comes first. The bytes written count as read.
+     *
+     * @return the number of bytes written
+     */
+    long writeContentTo(OutputStream output, long length) throws IOException;
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A filter input stream that passes writing out its content on to the stream
+ * it wraps when that stream is {@link WritableContent}, so that wrapping
+ * doesn't force content back through an intermediate buffer. Subclasses that
+ * look at the content as it is read see the written bytes through
+ * {@link #wrapOutput(OutputStream)}.
+ */
+public class WritableContentFilterInputStream extends FilterInputStream implements WritableContent {
+
+    /** Size of the buffer used when the wrapped stream can't write itself */
+    private static final int COPY_BUFFER_SIZE = 4 * 1024;
+
+    protected WritableContentFilterInputStream(InputStream in) {
+        super(in);
+    }
+
+    public long writeContentTo(OutputStream output, long length) throws IOException {
+        if (in instanceof WritableContent) {
+            return ((WritableContent)in).writeContentTo(wrapOutput(output), length);
+        }
+
+        // read through this stream, so that subclasses see the content
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long written = 0;
+        while (written < length) {
+            int bytesRead = read(buffer, 0, (int)Math.min(buffer.length, length - written));
+            if (bytesRead == -1) break;
+            output.write(buffer, 0, bytesRead);
+            written += bytesRead;
+        }
+        return written;
+    }
+
+    /**
+     * Returns the output stream the wrapped stream writes its content to.
+     * Subclasses that inspect the content as it is read override this to
+     * inspect the written content too; by default, the content goes to the
+     * output stream given unchanged.
+     */
+    protected OutputStream wrapOutput(OutputStream output) {
+        return output;
+    }
+}
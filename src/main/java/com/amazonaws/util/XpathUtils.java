@@ -49,7 +49,15 @@ public class XpathUtils {
 
     private static XPathFactory xpathFactory = XPathFactory.newInstance();
 
-    private static XPath xpath = xpathFactory.newXPath();
+    /** XPath objects are not thread safe, so each thread uses its own */
+    private static ThreadLocal<XPath> xpath = new ThreadLocal<XPath>() {
+        @Override
+        protected XPath initialValue() {
+            synchronized (xpathFactory) {
+                return xpathFactory.newXPath();
+            }
+        }
+    };
 
     /** Shared DateUtils object for parsing and formatting dates */
     private static DateUtils dateUtils = new DateUtils();
@@ -316,7 +324,7 @@ public class XpathUtils {
     public static Node asNode(String nodeName, Node node)
             throws XPathExpressionException {
         if (node == null) return null;
-        return (Node) xpath.evaluate(nodeName, node, XPathConstants.NODE);
+        return (Node) xpath.get().evaluate(nodeName, node, XPathConstants.NODE);
     }
 
     /**
@@ -363,7 +371,7 @@ public class XpathUtils {
             if (asNode(expression, node) == null) return null;
         }
 
-        String s = xpath.evaluate(expression, node);
+        String s = xpath.get().evaluate(expression, node);
 
         return s.trim();
     }
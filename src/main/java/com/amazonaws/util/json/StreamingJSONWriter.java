@@ -0,0 +1,220 @@
+/*
+ * Copyright 2010-2013 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Date;
+
+import org.codehaus.jackson.JsonEncoding;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonGenerator;
+
+import com.amazonaws.Request;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.ByteArrayContentInputStream;
+
+/**
+ * Drop-in replacement for {@link JSONWriter} in request marshallers, which
+ * encodes the JSON text as UTF-8 bytes as it is written with a Jackson
+ * {@link JsonGenerator}, and then hands those bytes to the request as its
+ * content without copying them.
+ * <p>
+ * Writing through a {@link JSONWriter} into a {@link java.io.StringWriter}
+ * keeps three copies of every request payload: the string writer's buffer,
+ * the resulting string and its UTF-8 encoding. This writer only keeps one,
+ * and Jackson recycles its own encoding buffers across the requests
+ * marshalled by a thread.
+ * <p>
+ * As with {@link JSONWriter}, each instance produces a single JSON text.
+ */
+public class StreamingJSONWriter {
+
+    /** Thread-safe, and shared so that its buffer recycling takes effect. */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /** Exposes its buffer so that the content can be sent without copying it. */
+    private static final class ContentOutputStream extends ByteArrayOutputStream {
+
+        ContentOutputStream() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        ByteArrayContentInputStream toInputStream() {
+            return new ByteArrayContentInputStream(buf, 0, count);
+        }
+    }
+
+    private final ContentOutputStream content = new ContentOutputStream();
+
+    private final JsonGenerator generator;
+
+    public StreamingJSONWriter() {
+        try {
+            generator = JSON_FACTORY.createJsonGenerator(content, JsonEncoding.UTF8);
+        } catch (IOException e) {
+            // Not expected when writing to memory
+            throw new IllegalStateException("Unable to create JSON generator", e);
+        }
+    }
+
+    public StreamingJSONWriter object() throws JSONException {
+        try {
+            generator.writeStartObject();
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter endObject() throws JSONException {
+        try {
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter array() throws JSONException {
+        try {
+            generator.writeStartArray();
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter endArray() throws JSONException {
+        try {
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter key(String key) throws JSONException {
+        if (key == null) {
+            throw new JSONException("Null key.");
+        }
+        try {
+            generator.writeFieldName(key);
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter value(String s) throws JSONException {
+        try {
+            if (s == null) {
+                generator.writeNull();
+            } else {
+                generator.writeString(s);
+            }
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter value(boolean b) throws JSONException {
+        try {
+            generator.writeBoolean(b);
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter value(long l) throws JSONException {
+        try {
+            generator.writeNumber(l);
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    public StreamingJSONWriter value(double d) throws JSONException {
+        return value((Object) Double.valueOf(d));
+    }
+
+    /**
+     * Appends a date value, as epoch seconds.
+     */
+    public StreamingJSONWriter value(Date date) throws JSONException {
+        return value(date.getTime() / 1000);
+    }
+
+    /**
+     * Appends a ByteBuffer value, as base64.
+     */
+    public StreamingJSONWriter value(ByteBuffer b) throws JSONException {
+        b.mark();
+        byte[] bytes = new byte[b.remaining()];
+        b.get(bytes, 0, bytes.length);
+        b.reset();
+        return value(BinaryUtils.toBase64(bytes));
+    }
+
+    /**
+     * Appends an object value, which can be null, or a Boolean, Number,
+     * String, Date or ByteBuffer.
+     */
+    public StreamingJSONWriter value(Object o) throws JSONException {
+        try {
+            if (o == null) {
+                generator.writeNull();
+            } else if (o instanceof String) {
+                generator.writeString((String) o);
+            } else if (o instanceof Boolean) {
+                generator.writeBoolean((Boolean) o);
+            } else if (o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) {
+                generator.writeNumber(((Number) o).longValue());
+            } else if (o instanceof Number) {
+                // Same textual form as JSONWriter
+                generator.writeNumber(JSONObject.numberToString((Number) o));
+            } else if (o instanceof Date) {
+                value((Date) o);
+            } else if (o instanceof ByteBuffer) {
+                value((ByteBuffer) o);
+            } else {
+                generator.writeString(o.toString());
+            }
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Completes the JSON text and sets it as the content of the request
+     * given, along with its Content-Length header.
+     */
+    public void writeContentTo(Request<?> request) throws JSONException {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+        request.setContent(content.toInputStream());
+        request.addHeader("Content-Length", Integer.toString(content.size()));
+    }
+}